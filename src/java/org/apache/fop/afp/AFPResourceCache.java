@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.afp;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of encoded AFP image data that outlives a single document. A job that uses the same
+ * images as an earlier one (logos, signatures, form backgrounds) can take the encoded IOCA data
+ * from the cache instead of converting and encoding the images again.
+ * <p>
+ * The cache stores the image data and the encoding parameters only, not the MO:DCA objects
+ * themselves, because object names are assigned per document. The objects are still created
+ * for every document, which only wraps the cached data.</p>
+ * <p>
+ * The cache is bounded by the total size of the cached image data. The least recently used
+ * images are evicted first. This class is thread-safe.</p>
+ */
+public class AFPResourceCache {
+
+    /** the default maximum size of the cached image data, in bytes */
+    public static final long DEFAULT_MAXIMUM_SIZE = 16 * 1024 * 1024;
+
+    private final Map<Object, EncodedImage> images
+            = new LinkedHashMap<Object, EncodedImage>(16, 0.75f, true);
+
+    private long maximumSize;
+
+    private long size;
+
+    /** Creates a new cache with the default maximum size. */
+    public AFPResourceCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new cache.
+     * @param maximumSize the maximum size of the cached image data in bytes, 0 disables the cache
+     */
+    public AFPResourceCache(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Sets the maximum size of the cached image data. Images are evicted if the cache holds
+     * more than that.
+     * @param maximumSize the maximum size in bytes, 0 disables the cache
+     */
+    public synchronized void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+        evict();
+    }
+
+    /**
+     * Returns the maximum size of the cached image data.
+     * @return the maximum size in bytes
+     */
+    public synchronized long getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Returns the total size of the cached image data.
+     * @return the size in bytes
+     */
+    public synchronized long getSize() {
+        return this.size;
+    }
+
+    /**
+     * Stores the encoded data of an image. The image data must not be modified afterwards.
+     * @param key the cache key, it must identify the image source and all the parameters the
+     *          encoding depends on, and implement equals() and hashCode()
+     * @param imageObjectInfo the image object info holding the encoded data
+     */
+    public synchronized void putImage(Object key, AFPImageObjectInfo imageObjectInfo) {
+        byte[] data = imageObjectInfo.getData();
+        if (data == null || data.length > maximumSize) {
+            return;
+        }
+        EncodedImage previous = images.put(key, new EncodedImage(imageObjectInfo));
+        if (previous != null) {
+            size -= previous.data.length;
+        }
+        size += data.length;
+        evict();
+    }
+
+    /**
+     * Looks up the encoded data of an image and sets it on an image object info, along with
+     * the encoding parameters.
+     * @param key the cache key
+     * @param imageObjectInfo the image object info to update
+     * @return true if the image was found in the cache, false otherwise
+     */
+    public synchronized boolean restoreImage(Object key, AFPImageObjectInfo imageObjectInfo) {
+        EncodedImage image = images.get(key);
+        if (image == null) {
+            return false;
+        }
+        image.restore(imageObjectInfo);
+        return true;
+    }
+
+    /** Removes all images from the cache. */
+    public synchronized void clear() {
+        images.clear();
+        size = 0;
+    }
+
+    private void evict() {
+        Iterator<EncodedImage> iter = images.values().iterator();
+        while (size > maximumSize && iter.hasNext()) {
+            size -= iter.next().data.length;
+            iter.remove();
+        }
+    }
+
+    /** The encoded data of an image and the encoding parameters that go with it. */
+    private static final class EncodedImage {
+
+        private final byte[] data;
+
+        private final String mimeType;
+
+        private final int bitsPerPixel;
+
+        private final boolean color;
+
+        private final int compression;
+
+        private final boolean subtractive;
+
+        private final boolean createPageSegment;
+
+        private EncodedImage(AFPImageObjectInfo imageObjectInfo) {
+            this.data = imageObjectInfo.getData();
+            this.mimeType = imageObjectInfo.getMimeType();
+            this.bitsPerPixel = imageObjectInfo.getBitsPerPixel();
+            this.color = imageObjectInfo.isColor();
+            this.compression = imageObjectInfo.getCompression();
+            this.subtractive = imageObjectInfo.isSubtractive();
+            this.createPageSegment = imageObjectInfo.isCreatePageSegment();
+        }
+
+        private void restore(AFPImageObjectInfo imageObjectInfo) {
+            imageObjectInfo.setData(data);
+            imageObjectInfo.setMimeType(mimeType);
+            imageObjectInfo.setBitsPerPixel(bitsPerPixel);
+            imageObjectInfo.setColor(color);
+            imageObjectInfo.setCompression(compression);
+            imageObjectInfo.setSubtractive(subtractive);
+            imageObjectInfo.setCreatePageSegment(createPageSegment);
+        }
+    }
+}
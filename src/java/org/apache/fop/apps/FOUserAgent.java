@@ -21,10 +21,12 @@ package org.apache.fop.apps;
 
 // Java
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URISyntaxException;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 import javax.xml.transform.Source;
@@ -45,6 +47,7 @@ import org.apache.fop.Version;
 import org.apache.fop.accessibility.Accessibility;
 import org.apache.fop.accessibility.DummyStructureTreeEventHandler;
 import org.apache.fop.accessibility.StructureTreeEventHandler;
+import org.apache.fop.afp.AFPResourceCache;
 import org.apache.fop.apps.io.InternalResourceResolver;
 import org.apache.fop.events.DefaultEventBroadcaster;
 import org.apache.fop.events.Event;
@@ -52,10 +55,14 @@ import org.apache.fop.events.EventBroadcaster;
 import org.apache.fop.events.EventListener;
 import org.apache.fop.events.FOPEventListenerProxy;
 import org.apache.fop.events.LoggingEventListener;
+import org.apache.fop.events.model.EventSeverity;
 import org.apache.fop.fo.ElementMappingRegistry;
 import org.apache.fop.fo.FOEventHandler;
+import org.apache.fop.fonts.EmbedFontInfo;
+import org.apache.fop.fonts.FontConfigurator;
 import org.apache.fop.fonts.FontManager;
 import org.apache.fop.layoutmgr.LayoutManagerMaker;
+import org.apache.fop.pdf.StreamCacheFactory;
 import org.apache.fop.render.ImageHandlerRegistry;
 import org.apache.fop.render.Renderer;
 import org.apache.fop.render.RendererConfig;
@@ -103,6 +110,8 @@ public class FOUserAgent {
     private FOEventHandler foEventHandlerOverride;
     private boolean locatorEnabled = true; // true by default (for error messages).
     private boolean conserveMemoryPolicy;
+    private int pageWindowSize = -1;
+    private boolean pipelinedLayout;
     private EventBroadcaster eventBroadcaster = new FOPEventBroadcaster();
     private StructureTreeEventHandler structureTreeEventHandler
             = DummyStructureTreeEventHandler.INSTANCE;
@@ -133,6 +142,8 @@ public class FOUserAgent {
 
     private final ImageSessionContext imageSessionContext;
 
+    private RenderingSession renderingSession;
+
     /**
      * Main constructor. <b>This constructor should not be called directly. Please use the
      * methods from FopFactory to construct FOUserAgent instances!</b>
@@ -158,6 +169,24 @@ public class FOUserAgent {
             public Source resolveURI(String uri) {
                 return FOUserAgent.this.resolveURI(uri);
             }
+
+            // the source cache may be shared by the layout and the parsing thread
+            // (see setPipelinedLayout(boolean))
+            public synchronized Source newSource(String uri) {
+                return super.newSource(uri);
+            }
+
+            public synchronized Source getSource(String uri) {
+                return super.getSource(uri);
+            }
+
+            public synchronized Source needSource(String uri) throws FileNotFoundException {
+                return super.needSource(uri);
+            }
+
+            public synchronized void returnSource(String uri, Source src) {
+                super.returnSource(uri, src);
+            }
         };
     }
 
@@ -197,6 +226,18 @@ public class FOUserAgent {
     }
 
 
+    /**
+     * Returns the rendering session this rendering run is part of.
+     * @return the rendering session or null if the user agent was created outside of a session
+     */
+    public RenderingSession getRenderingSession() {
+        return renderingSession;
+    }
+
+    void setRenderingSession(RenderingSession renderingSession) {
+        this.renderingSession = renderingSession;
+    }
+
     /**
      * Returns the resource resolver.
      *
@@ -584,6 +625,11 @@ public class FOUserAgent {
 
         private EventListener rootListener;
 
+        /** Receives the events when no other listener has been registered */
+        private final Log eventLog = LogFactory.getLog(FOUserAgent.class);
+        private LoggingEventListener defaultListener;
+        private volatile boolean customListeners;
+
         public FOPEventBroadcaster() {
             //Install a temporary event listener that catches the first event to
             //do some initialization.
@@ -592,8 +638,8 @@ public class FOUserAgent {
                     if (!listeners.hasEventListeners()) {
                         //Backwards-compatibility: Make sure at least the LoggingEventListener is
                         //plugged in so no events are just silently swallowed.
-                        addEventListener(
-                                new LoggingEventListener(LogFactory.getLog(FOUserAgent.class)));
+                        defaultListener = new LoggingEventListener(eventLog);
+                        addEventListener(defaultListener);
                     }
                     //Replace with final event listener
                     rootListener = new FOPEventListenerProxy(
@@ -603,11 +649,35 @@ public class FOUserAgent {
             };
         }
 
+        /** {@inheritDoc} */
+        public void addEventListener(EventListener listener) {
+            if (listener != defaultListener) {
+                customListeners = true;
+            }
+            super.addEventListener(listener);
+        }
+
         /** {@inheritDoc} */
         public void broadcastEvent(Event event) {
             rootListener.processEvent(event);
         }
 
+        /** {@inheritDoc} */
+        protected boolean isBroadcastRequired(EventSeverity severity) {
+            if (severity == EventSeverity.FATAL || customListeners) {
+                return true;
+            }
+            //Without other listeners, events only go to the logging listener. Severities are
+            //only ever lowered on the way, so an event that wouldn't be logged now won't be.
+            if (severity == EventSeverity.INFO) {
+                return eventLog.isInfoEnabled();
+            } else if (severity == EventSeverity.WARN) {
+                return eventLog.isWarnEnabled();
+            } else {
+                return eventLog.isErrorEnabled();
+            }
+        }
+
     }
 
     /**
@@ -628,6 +698,59 @@ public class FOUserAgent {
         this.conserveMemoryPolicy = conserveMemoryPolicy;
     }
 
+    /**
+     * Returns the maximum number of pages that are kept in memory while they wait to be
+     * rendered.
+     *
+     * @return the page window size, or -1 if the number of pending pages is not bounded
+     * @see #setPageWindowSize(int)
+     */
+    public int getPageWindowSize() {
+        return this.pageWindowSize;
+    }
+
+    /**
+     * Bounds the number of pages held in memory while they cannot be rendered yet, for
+     * example because they contain forward references or a
+     * <code>page-number-citation-last</code>. Once more pages than this are pending, the
+     * oldest ones are written to temporary files and reloaded when they become renderable.
+     * A value of 0 spills every pending page, which is what the memory-conservation policy
+     * does by default. A negative value (the default) keeps all pending pages in memory
+     * unless the memory-conservation policy is enabled.
+     *
+     * @param pageWindowSize the maximum number of pending pages kept in memory
+     */
+    public void setPageWindowSize(int pageWindowSize) {
+        this.pageWindowSize = pageWindowSize;
+    }
+
+    /**
+     * Check whether parsing and layout are pipelined.
+     *
+     * @return true if layout runs on a separate thread while the FO tree is being built
+     * @see #setPipelinedLayout(boolean)
+     */
+    public boolean isPipelinedLayoutEnabled() {
+        return this.pipelinedLayout;
+    }
+
+    /**
+     * Controls whether parsing and layout run as a two-stage pipeline. When enabled, each
+     * page-sequence is handed to a single layout thread as soon as its FO subtree is
+     * complete, so the layout (and rendering) of one page-sequence overlaps with parsing
+     * the next one. This does not lay out page-sequences in parallel: they are still laid
+     * out one after the other in document order, since page numbering depends on the
+     * preceding page-sequence. Once the document is found to use markers, the remaining
+     * page-sequences are laid out on the parsing thread again. Event listeners may be
+     * notified from the layout thread. The setting is ignored when accessibility is
+     * enabled.
+     *
+     * @param pipelinedLayout true to lay out page-sequences while parsing continues
+     */
+    public void setPipelinedLayout(boolean pipelinedLayout) {
+        this.pipelinedLayout = pipelinedLayout;
+    }
+
     /**
      * Check whether complex script features are enabled.
      *
@@ -650,6 +773,24 @@ public class FOUserAgent {
         return factory.getRendererConfig(this, getRendererConfiguration(mimeType), configCreator);
     }
 
+    /**
+     * Returns the list of fonts configured for a particular renderer. The list is built on the
+     * first request for the renderer's configuration MIME type and shared by all subsequent
+     * rendering runs of the same {@link FopFactory}.
+     *
+     * @param mimeType the config MIME type
+     * @param configCreator the parser for creating the renderer config
+     * @param fontConfigurator the configurator building the font list on the first request
+     * @return the font list
+     * @throws FOPException if an error occurs when creating the font list
+     */
+    public List<EmbedFontInfo> getRendererFontList(String mimeType, RendererConfigParser configCreator,
+            FontConfigurator<EmbedFontInfo> fontConfigurator) throws FOPException {
+        RendererConfig config = getRendererConfig(mimeType, configCreator);
+        return factory.getRendererFontList(configCreator.getMimeType(), config.getFontInfoConfig(),
+                fontConfigurator);
+    }
+
     /**
      * Returns a {@link Configuration} object for which contains renderer configuration for a given
      * MIME type.
@@ -791,8 +932,18 @@ public class FOUserAgent {
         return factory.getColorSpaceCache();
     }
 
+    /** @see FopFactory#getAFPResourceCache() */
+    public AFPResourceCache getAFPResourceCache() {
+        return factory.getAFPResourceCache();
+    }
+
     /** @see FopFactory#getHyphenationPatternNames() */
     public Map<String, String> getHyphenationPatternNames() {
         return factory.getHyphenationPatternNames();
     }
+
+    /** @see FopFactory#getStreamCacheFactory() */
+    public StreamCacheFactory getStreamCacheFactory() {
+        return factory.getStreamCacheFactory();
+    }
 }
@@ -55,6 +55,8 @@ public class FopConfParser {
 
     private static final String PREFER_RENDERER = "prefer-renderer";
 
+    private static final String STREAM_CACHE = "stream-cache";
+
     private final Log log = LogFactory.getLog(FopConfParser.class);
 
     private final FopFactoryBuilder fopFactoryBuilder;
@@ -250,6 +252,15 @@ public class FopConfParser {
 
         setHyphPatNames(cfg, fopFactoryBuilder, strict);
 
+        if (cfg.getChild(STREAM_CACHE, false) != null) {
+            try {
+                fopFactoryBuilder.setStreamCacheThreshold(
+                        cfg.getChild(STREAM_CACHE).getAttributeAsInteger("threshold"));
+            } catch (ConfigurationException e) {
+                LogUtil.handleException(log, e, strict);
+            }
+        }
+
         // prefer Renderer over IFDocumentHandler
         if (cfg.getChild(PREFER_RENDERER, false) != null) {
             try {
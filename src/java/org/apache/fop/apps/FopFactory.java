@@ -25,6 +25,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -39,12 +40,18 @@ import org.apache.xmlgraphics.image.loader.ImageManager;
 import org.apache.xmlgraphics.image.loader.impl.AbstractImageSessionContext.FallbackResolver;
 import org.apache.xmlgraphics.util.UnitConv;
 
+import org.apache.fop.afp.AFPResourceCache;
 import org.apache.fop.apps.io.InternalResourceResolver;
 import org.apache.fop.apps.io.ResourceResolverFactory;
 import org.apache.fop.fo.ElementMapping;
 import org.apache.fop.fo.ElementMappingRegistry;
+import org.apache.fop.fonts.EmbedFontInfo;
+import org.apache.fop.fonts.FontConfig;
+import org.apache.fop.fonts.FontConfigurator;
 import org.apache.fop.fonts.FontManager;
+import org.apache.fop.hyphenation.Hyphenator;
 import org.apache.fop.layoutmgr.LayoutManagerMaker;
+import org.apache.fop.pdf.StreamCacheFactory;
 import org.apache.fop.render.ImageHandlerRegistry;
 import org.apache.fop.render.RendererConfig;
 import org.apache.fop.render.RendererConfig.RendererConfigParser;
@@ -88,6 +95,12 @@ public final class FopFactory implements ImageContext {
 
     private final Map<String, RendererConfig> rendererConfig;
 
+    private final Map<String, List<EmbedFontInfo>> rendererFontLists;
+
+    private final StreamCacheFactory streamCacheFactory;
+
+    private final AFPResourceCache afpResourceCache;
+
     private FopFactory(FopFactoryConfig config) {
         this.config = config;
         this.resolver = ResourceResolverFactory.createInternalResourceResolver(config.getBaseURI(),
@@ -98,6 +111,9 @@ public final class FopFactory implements ImageContext {
         this.xmlHandlers = new XMLHandlerRegistry();
         this.imageHandlers = new ImageHandlerRegistry();
         rendererConfig = new HashMap<String, RendererConfig>();
+        rendererFontLists = new HashMap<String, List<EmbedFontInfo>>();
+        this.streamCacheFactory = StreamCacheFactory.getInstance(config.getStreamCacheThreshold());
+        this.afpResourceCache = new AFPResourceCache();
     }
 
     /**
@@ -170,6 +186,16 @@ public final class FopFactory implements ImageContext {
         return userAgent;
     }
 
+    /**
+     * Returns a new {@link RenderingSession} instance. Use a session instead of creating user
+     * agents directly if you render many documents one after the other and want them to share
+     * the font setup.
+     * @return the newly created rendering session
+     */
+    public RenderingSession newRenderingSession() {
+        return new RenderingSession(this);
+    }
+
     boolean isComplexScriptFeaturesEnabled() {
         return config.isComplexScriptFeaturesEnabled();
     }
@@ -310,6 +336,27 @@ public final class FopFactory implements ImageContext {
         return config;
     }
 
+    /**
+     * Returns the list of fonts configured for a specific renderer. The list is built by the given
+     * font configurator the first time it is requested and then kept, so font directories and
+     * auto-detected fonts are only searched once per factory.
+     *
+     * @param mimeType the MIME type of the renderer configuration
+     * @param fontConfig the font configuration of the renderer
+     * @param fontConfigurator the configurator building the font list on the first request
+     * @return the font list
+     * @throws FOPException when an error occurs while building the font list
+     */
+    synchronized List<EmbedFontInfo> getRendererFontList(String mimeType, FontConfig fontConfig,
+            FontConfigurator<EmbedFontInfo> fontConfigurator) throws FOPException {
+        List<EmbedFontInfo> fontList = rendererFontLists.get(mimeType);
+        if (fontList == null) {
+            fontList = fontConfigurator.configure(fontConfig);
+            rendererFontLists.put(mimeType, fontList);
+        }
+        return fontList;
+    }
+
     /**
      * Add the element mapping with the given class name.
      * @param elementMapping the class name representing the element mapping.
@@ -341,6 +388,29 @@ public final class FopFactory implements ImageContext {
         return config.getHyphenationPatternNames();
     }
 
+    /**
+     * Loads the hyphenation patterns for the given languages into the hyphenation tree cache,
+     * so that the first documents using them don't have to wait for the patterns to be read.
+     * Each language is given as a language code optionally followed by a country code, e.g.
+     * "de", "en_US" or "en-US". Patterns configured for this factory take precedence over the
+     * ones shipped with FOP, as they do during layout.
+     *
+     * @param languages the languages to load the hyphenation patterns for
+     * @return the number of languages for which hyphenation patterns were found
+     */
+    public int preloadHyphenationPatterns(String... languages) {
+        int found = 0;
+        for (String language : languages) {
+            String[] parts = language.split("[_-]", 2);
+            String country = (parts.length > 1 ? parts[1] : null);
+            if (Hyphenator.getHyphenationTree(parts[0], country, resolver,
+                    getHyphenationPatternNames()) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
     /** @see FopFactoryConfig#validateStrictly() */
     public boolean validateStrictly() {
         return config.validateStrictly();
@@ -419,6 +489,15 @@ public final class FopFactory implements ImageContext {
         return config.getFontManager();
     }
 
+    /**
+     * Returns the factory for the caches used to buffer output stream data, as configured
+     * by {@link FopFactoryConfig#getStreamCacheThreshold()}.
+     * @return the stream cache factory
+     */
+    public StreamCacheFactory getStreamCacheFactory() {
+        return streamCacheFactory;
+    }
+
     /** @see FopFactoryConfig#getFallbackResolver() */
     FallbackResolver getFallbackResolver() {
         return config.getFallbackResolver();
@@ -433,4 +512,13 @@ public final class FopFactory implements ImageContext {
     public ColorSpaceCache getColorSpaceCache() {
         return this.colorSpaceCache;
     }
+
+    /**
+     * Returns the cache of encoded AFP images, which is shared by all documents produced
+     * with this instance. Its maximum size can be changed, or set to 0 to disable it.
+     * @return the AFP resource cache
+     */
+    public AFPResourceCache getAFPResourceCache() {
+        return this.afpResourceCache;
+    }
 }
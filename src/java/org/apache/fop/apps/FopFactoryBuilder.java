@@ -317,6 +317,17 @@ public final class FopFactoryBuilder {
         return this;
     }
 
+    /**
+     * Sets the size above which buffered stream data is moved from memory to a temporary file.
+     *
+     * @param threshold the threshold in bytes; 0 always uses temporary files, -1 never does
+     * @return <code>this</code>
+     */
+    public FopFactoryBuilder setStreamCacheThreshold(int threshold) {
+        fopFactoryConfigBuilder.setStreamCacheThreshold(threshold);
+        return this;
+    }
+
     public static class FopFactoryConfigImpl implements FopFactoryConfig {
 
         private final EnvironmentProfile enviro;
@@ -354,6 +365,8 @@ public final class FopFactoryBuilder {
 
         private Map<String, String> hyphPatNames;
 
+        private int streamCacheThreshold = FopFactoryConfig.DEFAULT_STREAM_CACHE_THRESHOLD;
+
         private static final class ImageContextImpl implements ImageContext {
 
             private final FopFactoryConfig config;
@@ -466,6 +479,11 @@ public final class FopFactoryBuilder {
             return hyphPatNames;
         }
 
+        /** {@inheritDoc} */
+        public int getStreamCacheThreshold() {
+            return streamCacheThreshold;
+        }
+
         public FallbackResolver getFallbackResolver() {
             return enviro.getFallbackResolver();
         }
@@ -504,6 +522,8 @@ public final class FopFactoryBuilder {
         void setComplexScriptFeaturesEnabled(boolean csf);
 
         void setHyphPatNames(Map<String, String> hyphPatNames);
+
+        void setStreamCacheThreshold(int threshold);
     }
 
     private static final class CompletedFopFactoryConfigBuilder implements FopFactoryConfigBuilder {
@@ -581,6 +601,10 @@ public final class FopFactoryBuilder {
             throwIllegalStateException();
         }
 
+        public void setStreamCacheThreshold(int threshold) {
+            throwIllegalStateException();
+        }
+
     }
 
     private static final class ActiveFopFactoryConfigBuilder implements FopFactoryConfigBuilder {
@@ -657,6 +681,10 @@ public final class FopFactoryBuilder {
         public void setHyphPatNames(Map<String, String> hyphPatNames) {
             config.hyphPatNames = hyphPatNames;
         }
+
+        public void setStreamCacheThreshold(int threshold) {
+            config.streamCacheThreshold = threshold;
+        }
     }
 
 }
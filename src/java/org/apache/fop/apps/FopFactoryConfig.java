@@ -61,6 +61,9 @@ public interface FopFactoryConfig {
     /** Defines the default target resolution (72dpi) for FOP */
     float DEFAULT_TARGET_RESOLUTION = 72.0f; //dpi
 
+    /** Defines the default stream cache threshold (-1: stream data is always kept in memory) */
+    int DEFAULT_STREAM_CACHE_THRESHOLD = -1;
+
     /**
      * Whether accessibility features are switched on.
      *
@@ -165,6 +168,14 @@ public interface FopFactoryConfig {
     /** @return the hyphenation pattern names */
     Map<String, String> getHyphenationPatternNames();
 
+    /**
+     * Returns the size, in bytes, above which buffered output stream data (for example the
+     * content of PDF streams and images) is moved from memory to a temporary file. A value of 0
+     * stores all such data in temporary files, -1 keeps it in memory.
+     * @return the stream cache threshold
+     */
+    int getStreamCacheThreshold();
+
     /**
      * Controls the mechanisms that are used in the event that {@link javax.xml.transform.Source}
      * used for resources couldn't be read.
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+/* $Id$ */
+
+package org.apache.fop.apps;
+
+import java.io.OutputStream;
+import java.util.Map;
+
+import org.apache.fop.fonts.FontEventAdapter;
+import org.apache.fop.fonts.FontInfo;
+import org.apache.fop.render.intermediate.IFDocumentHandler;
+import org.apache.fop.render.intermediate.IFUtil;
+
+/**
+ * A rendering session renders a series of documents, one after the other, with the same
+ * {@link FopFactory}. Unlike user agents obtained directly from the factory, the user agents
+ * created by a session share the font setup of the output formats they render to: the fonts are
+ * set up once per output format (including the evaluation of the renderer's font configuration,
+ * such as font directories and auto-detection) and the font metrics loaded for one document are
+ * kept for the following ones. For a high rate of small documents that setup would otherwise
+ * dominate the processing time.
+ * <p>
+ * The font objects are shared, but the glyphs they record as used are discarded when the next
+ * document is set up, so each document only embeds the glyphs it uses itself.
+ * Call {@link #reset()} to start over with a fresh font setup.
+ * <p>
+ * A session must only be used by one thread at a time. Use a {@link RenderingSessionPool} to share
+ * sessions between threads. The font setup is only shared by output formats that are rendered
+ * through an {@link IFDocumentHandler}.
+ */
+public class RenderingSession {
+
+    private final FopFactory factory;
+
+    /** The fonts set up so far (key: MIME type) */
+    private final Map<String, FontInfo> fontInfos = new java.util.HashMap<String, FontInfo>();
+
+    /**
+     * Main constructor. Use {@link FopFactory#newRenderingSession()} to create sessions.
+     * @param factory the factory
+     */
+    RenderingSession(FopFactory factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the factory this session renders documents with.
+     * @return the factory
+     */
+    public FopFactory getFopFactory() {
+        return this.factory;
+    }
+
+    /**
+     * Returns a new {@link FOUserAgent} instance for a rendering run that is part of this session.
+     * As with {@link FopFactory#newFOUserAgent()}, don't reuse user agents over multiple rendering
+     * runs.
+     * @return the newly created FOUserAgent instance
+     */
+    public FOUserAgent newFOUserAgent() {
+        FOUserAgent userAgent = factory.newFOUserAgent();
+        userAgent.setRenderingSession(this);
+        return userAgent;
+    }
+
+    /**
+     * Returns a new {@link Fop} instance for a rendering run that is part of this session.
+     * @param outputFormat the MIME type of the output format to use (ex. "application/pdf").
+     * @param stream the output stream
+     * @return the new Fop instance
+     * @throws FOPException when the constructor fails
+     * @see FopFactory#newFop(String, OutputStream)
+     */
+    public Fop newFop(String outputFormat, OutputStream stream) throws FOPException {
+        return newFOUserAgent().newFop(outputFormat, stream);
+    }
+
+    /**
+     * Sets up the fonts for an output format ahead of the first document rendered to it.
+     * The font metrics themselves are still loaded when a document first uses a font.
+     * @param outputFormat the MIME type of the output format
+     * @throws FOPException if an error occurs while setting up the fonts
+     * @throws UnsupportedOperationException if the output format has no IF document handler
+     */
+    public void prepare(String outputFormat) throws FOPException {
+        if (getFontInfo(outputFormat) == null) {
+            FOUserAgent userAgent = newFOUserAgent();
+            IFDocumentHandler documentHandler = factory.getRendererFactory().createDocumentHandler(
+                    userAgent, outputFormat);
+            FontInfo fontInfo = new FontInfo();
+            fontInfo.setEventListener(new FontEventAdapter(userAgent.getEventBroadcaster()));
+            IFUtil.setupFonts(documentHandler, fontInfo);
+        }
+    }
+
+    /**
+     * Returns the fonts that were set up for an output format in this session.
+     * @param mimeType the MIME type of the output format
+     * @return the fonts or null if they have not been set up, yet
+     */
+    public FontInfo getFontInfo(String mimeType) {
+        return fontInfos.get(mimeType);
+    }
+
+    /**
+     * Registers the fonts that were set up for an output format so they can be reused by the
+     * following documents of this session.
+     * @param mimeType the MIME type of the output format
+     * @param fontInfo the fonts
+     */
+    public void setFontInfo(String mimeType, FontInfo fontInfo) {
+        fontInfos.put(mimeType, fontInfo);
+    }
+
+    /**
+     * Discards the fonts set up so far. The next document of each output format will set up and
+     * load its fonts from scratch.
+     */
+    public void reset() {
+        fontInfos.clear();
+    }
+}
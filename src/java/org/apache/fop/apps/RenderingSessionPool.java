@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+/* $Id$ */
+
+package org.apache.fop.apps;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * A pool of {@link RenderingSession} instances that allows several threads to render documents
+ * with a shared {@link FopFactory} while each of them benefits from the font setup kept by a
+ * session. A thread acquires a session, renders one or more documents with it and releases it
+ * again:
+ * <pre>
+ * RenderingSession session = pool.acquire();
+ * try {
+ *     Fop fop = session.newFop(MimeConstants.MIME_PDF, out);
+ *     ...
+ * } finally {
+ *     pool.release(session);
+ * }
+ * </pre>
+ */
+public class RenderingSessionPool {
+
+    private final FopFactory factory;
+
+    private final BlockingQueue<RenderingSession> idleSessions;
+
+    /**
+     * Creates a new pool.
+     * @param factory the factory to render documents with
+     * @param maxIdle the maximum number of idle sessions kept by the pool, usually the number of
+     *          threads rendering documents concurrently
+     */
+    public RenderingSessionPool(FopFactory factory, int maxIdle) {
+        if (maxIdle < 1) {
+            throw new IllegalArgumentException("maxIdle must be at least 1");
+        }
+        this.factory = factory;
+        this.idleSessions = new LinkedBlockingQueue<RenderingSession>(maxIdle);
+    }
+
+    /**
+     * Takes an idle session from the pool or creates a new one if there is none.
+     * @return the session, to be used by the calling thread only
+     */
+    public RenderingSession acquire() {
+        RenderingSession session = idleSessions.poll();
+        if (session == null) {
+            session = factory.newRenderingSession();
+        }
+        return session;
+    }
+
+    /**
+     * Returns a session to the pool. If the pool already holds the maximum number of idle
+     * sessions, the session is discarded.
+     * @param session the session which must not be used by the caller anymore
+     */
+    public void release(RenderingSession session) {
+        if (session.getFopFactory() != factory) {
+            throw new IllegalArgumentException("The session does not belong to this pool's factory");
+        }
+        idleSessions.offer(session);
+    }
+
+    /**
+     * Discards all idle sessions, for example after the fonts available to the factory changed.
+     * Sessions currently in use are not affected.
+     */
+    public void clear() {
+        idleSessions.clear();
+    }
+}
@@ -103,6 +103,17 @@ public class InternalResourceResolver {
         return resourceResolver.getOutputStream(resolveFromBase(uri));
     }
 
+    /**
+     * Indicates whether resources are resolved by the default resource resolver, which reads
+     * "file" URIs straight from the local file system. Only then may a local file be read
+     * without going through this resolver.
+     *
+     * @return true if the default resource resolver is used
+     */
+    public boolean isDefaultResourceResolver() {
+        return resourceResolver == ResourceResolverFactory.createDefaultResourceResolver();
+    }
+
     /**
      * Resolves a URI against the base URI.
      *
@@ -21,8 +21,16 @@ package org.apache.fop.area;
 
 // Java
 import java.io.OutputStream;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.xml.sax.SAXException;
 
@@ -89,6 +97,18 @@ public class AreaTreeHandler extends FOEventHandler {
 
     private int idGen;
 
+    // Lays out page-sequences in document order while the FO tree is being built
+    // (null unless pipelined layout is enabled). A single thread is used on purpose: the
+    // initial page number, force-page-count and the resolution of forward ID references
+    // of a page-sequence all depend on the layout of the preceding ones, so page-sequences
+    // are not laid out concurrently with each other.
+    private ThreadPoolExecutor layoutExecutor;
+
+    // Layout tasks submitted to layoutExecutor, in submission order
+    private final List<Future<?>> pendingLayouts = new LinkedList<Future<?>>();
+
+    private volatile boolean layoutFailed;
+
     /**
      * Constructor.
      *
@@ -116,6 +136,12 @@ public class AreaTreeHandler extends FOEventHandler {
         if (log.isDebugEnabled()) {
             statistics = new Statistics();
         }
+
+        if (userAgent.isPipelinedLayoutEnabled() && !userAgent.isAccessibilityEnabled()) {
+            // the single thread expires when idle so an aborted run leaves nothing behind
+            layoutExecutor = new ThreadPoolExecutor(0, 1, 1, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), new LayoutThreadFactory());
+        }
     }
 
     /**
@@ -129,7 +155,7 @@ public class AreaTreeHandler extends FOEventHandler {
      */
     protected void setupModel(FOUserAgent userAgent, String outputFormat,
             OutputStream stream) throws FOPException {
-        if (userAgent.isConserveMemoryPolicyEnabled()) {
+        if (userAgent.isConserveMemoryPolicyEnabled() || userAgent.getPageWindowSize() >= 0) {
             this.model = new CachedRenderPagesModel(userAgent, outputFormat, fontInfo, stream);
         } else {
             this.model = new RenderPagesModel(userAgent, outputFormat, fontInfo, stream);
@@ -222,22 +248,27 @@ public class AreaTreeHandler extends FOEventHandler {
         startAbstractPageSequence(pageSequence);
     }
 
-    private void startAbstractPageSequence(AbstractPageSequence pageSequence) {
+    private void startAbstractPageSequence(final AbstractPageSequence pageSequence) {
         rootFObj = pageSequence.getRoot();
 
-        //Before the first page-sequence...
-        if (this.prevPageSeqLM == null) {
-            // extension attachments from fo:root
-            wrapAndAddExtensionAttachments(rootFObj.getExtensionAttachments());
-            // extension attachments from fo:declarations
-            if (rootFObj.getDeclarations() != null) {
-                wrapAndAddExtensionAttachments(
-                        rootFObj.getDeclarations().getExtensionAttachments());
-            }
-        }
+        final Numeric initialPageNumber = pageSequence.getInitialPageNumber();
+        layout(new Runnable() {
+            public void run() {
+                //Before the first page-sequence...
+                if (prevPageSeqLM == null) {
+                    // extension attachments from fo:root
+                    wrapAndAddExtensionAttachments(rootFObj.getExtensionAttachments());
+                    // extension attachments from fo:declarations
+                    if (rootFObj.getDeclarations() != null) {
+                        wrapAndAddExtensionAttachments(
+                                rootFObj.getDeclarations().getExtensionAttachments());
+                    }
+                }
 
-        finishPrevPageSequence(pageSequence.getInitialPageNumber());
-        pageSequence.initPageNumber();
+                finishPrevPageSequence(initialPageNumber);
+                pageSequence.initPageNumber();
+            }
+        });
     }
 
     private void wrapAndAddExtensionAttachments(List<ExtensionAttachment> list) {
@@ -253,7 +284,7 @@ public class AreaTreeHandler extends FOEventHandler {
      * @param pageSequence the page sequence ending
      */
     @Override
-    public void endPageSequence(PageSequence pageSequence) {
+    public void endPageSequence(final PageSequence pageSequence) {
 
         if (statistics != null) {
             statistics.end();
@@ -261,13 +292,17 @@ public class AreaTreeHandler extends FOEventHandler {
 
         // If no main flow, nothing to layout!
         if (pageSequence.getMainFlow() != null) {
-            PageSequenceLayoutManager pageSLM;
-            pageSLM = getLayoutManagerMaker().makePageSequenceLayoutManager(
-                    this, pageSequence);
-            pageSLM.activateLayout();
-            // preserve the current PageSequenceLayoutManger for the
-            // force-page-count check at the beginning of the next PageSequence
-            prevPageSeqLM = pageSLM;
+            layout(new Runnable() {
+                public void run() {
+                    PageSequenceLayoutManager pageSLM;
+                    pageSLM = getLayoutManagerMaker().makePageSequenceLayoutManager(
+                            AreaTreeHandler.this, pageSequence);
+                    pageSLM.activateLayout();
+                    // preserve the current PageSequenceLayoutManger for the
+                    // force-page-count check at the beginning of the next PageSequence
+                    prevPageSeqLM = pageSLM;
+                }
+            });
         }
     }
 
@@ -279,18 +314,85 @@ public class AreaTreeHandler extends FOEventHandler {
 
     /** {@inheritDoc} */
     @Override
-    public void endExternalDocument(ExternalDocument document) {
+    public void endExternalDocument(final ExternalDocument document) {
         if (statistics != null) {
             statistics.end();
         }
 
-        ExternalDocumentLayoutManager edLM;
-        edLM = getLayoutManagerMaker().makeExternalDocumentLayoutManager(this, document);
-        edLM.activateLayout();
-        // preserve the current PageSequenceLayoutManger for the
-        // force-page-count check at the beginning of the next PageSequence
-        prevPageSeqLM = edLM;
+        layout(new Runnable() {
+            public void run() {
+                ExternalDocumentLayoutManager edLM;
+                edLM = getLayoutManagerMaker().makeExternalDocumentLayoutManager(
+                        AreaTreeHandler.this, document);
+                edLM.activateLayout();
+                // preserve the current PageSequenceLayoutManger for the
+                // force-page-count check at the beginning of the next PageSequence
+                prevPageSeqLM = edLM;
+            }
+        });
+    }
+
+    /**
+     * Runs a layout step. With pipelined layout the step is queued behind the previous
+     * ones, otherwise (or once the document retrieves markers) it runs on the calling
+     * thread after all queued steps have completed.
+     */
+    private void layout(final Runnable step) {
+        if (layoutExecutor == null
+                || (rootFObj != null && rootFObj.isMarkerRetrievalFound())) {
+            waitForLayout();
+            step.run();
+        } else {
+            checkLayout();
+            pendingLayouts.add(layoutExecutor.submit(new Runnable() {
+                public void run() {
+                    // skip the remaining steps once one has failed
+                    if (!layoutFailed) {
+                        try {
+                            step.run();
+                        } catch (RuntimeException re) {
+                            layoutFailed = true;
+                            throw re;
+                        } catch (Error e) {
+                            layoutFailed = true;
+                            throw e;
+                        }
+                    }
+                }
+            }));
+        }
+    }
+
+    /** Rethrows the failure of any layout step that has already completed. */
+    private void checkLayout() {
+        while (!pendingLayouts.isEmpty() && pendingLayouts.get(0).isDone()) {
+            getLayoutResult(pendingLayouts.remove(0));
+        }
+    }
 
+    /** Waits for all queued layout steps and rethrows the first failure. */
+    private void waitForLayout() {
+        while (!pendingLayouts.isEmpty()) {
+            getLayoutResult(pendingLayouts.remove(0));
+        }
+    }
+
+    private void getLayoutResult(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for layout", ie);
+        } catch (ExecutionException ee) {
+            pendingLayouts.clear();
+            Throwable cause = ee.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
     }
 
     /**
@@ -316,6 +418,13 @@ public class AreaTreeHandler extends FOEventHandler {
     @Override
     public void endDocument() throws SAXException {
 
+        if (layoutExecutor != null) {
+            try {
+                waitForLayout();
+            } finally {
+                layoutExecutor.shutdown();
+            }
+        }
         finishPrevPageSequence(null);
         // process fox:destination elements
         if (rootFObj != null) {
@@ -528,4 +637,16 @@ public class AreaTreeHandler extends FOEventHandler {
             }
         }
     }
+
+    private static final class LayoutThreadFactory implements ThreadFactory {
+
+        private final ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+
+        public Thread newThread(Runnable r) {
+            Thread thread = defaultFactory.newThread(r);
+            thread.setName("FOP layout " + thread.getName());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
@@ -29,7 +29,11 @@ import java.io.OutputStream;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 import org.xml.sax.SAXException;
 
@@ -46,11 +50,23 @@ import org.apache.fop.fonts.FontInfo;
  * If the page is prepared for later rendering then this saves
  * the page contents to a file and once the page is resolved
  * the contents are reloaded.
+ * <p>
+ * Up to {@link FOUserAgent#getPageWindowSize()} pending pages are kept in
+ * memory; once the window is full the page that has been waiting longest
+ * is saved. Saved pages are deflate-compressed.
  */
 public class CachedRenderPagesModel extends RenderPagesModel {
 
     private Map<PageViewport, URI> pageMap = new HashMap<PageViewport, URI>();
 
+    /** Pending pages whose contents are still in memory, oldest first. */
+    private final LinkedList<PageViewport> pagesInMemory = new LinkedList<PageViewport>();
+
+    /** Maximum number of pending pages kept in memory. */
+    private final int pageWindowSize;
+
+    private final FontInfo fontInfo;
+
     /** Base directory to save temporary file in, typically points to the user's temp dir. */
     private final URI tempBaseURI;
     private static final TempResourceURIGenerator TEMP_URI_GENERATOR
@@ -68,6 +84,8 @@ public class CachedRenderPagesModel extends RenderPagesModel {
             FontInfo fontInfo, OutputStream stream) throws FOPException {
         super(userAgent, outputFormat, fontInfo, stream);
         tempBaseURI = TEMP_URI_GENERATOR.generate();
+        pageWindowSize = Math.max(0, userAgent.getPageWindowSize());
+        this.fontInfo = fontInfo;
     }
 
     /** {@inheritDoc} */
@@ -76,25 +94,14 @@ public class CachedRenderPagesModel extends RenderPagesModel {
         for (Iterator iter = prepared.iterator(); iter.hasNext();) {
             PageViewport pageViewport = (PageViewport)iter.next();
             if (pageViewport.isResolved() || renderUnresolved) {
-                if (pageViewport != newpage) {
-                    try {
-                        // load page from cache
-                        URI tempURI = pageMap.get(pageViewport);
-                        log.debug("Loading page from: " + tempURI);
-                        InputStream inStream = renderer.getUserAgent().getResourceResolver().getResource(tempURI);
-                        ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(inStream));
-                        try {
-                            pageViewport.loadPage(in);
-                        } finally {
-                            IOUtils.closeQuietly(inStream);
-                            IOUtils.closeQuietly(in);
-                        }
-                        pageMap.remove(pageViewport);
-                    } catch (Exception e) {
-                        AreaEventProducer eventProducer = AreaEventProducer.Provider.get(
-                                renderer.getUserAgent().getEventBroadcaster());
-                        eventProducer.pageLoadError(this, pageViewport.getPageNumberString(), e);
-                    }
+                if (pageMap.containsKey(pageViewport)) {
+                    loadPage(pageViewport);
+                } else {
+                    pagesInMemory.remove(pageViewport);
+                }
+                if (!renderer.supportsOutOfOrder()
+                        && pageViewport.getPageSequence().isFirstPage(pageViewport)) {
+                    renderer.startPageSequence(pageViewport.getPageSequence());
                 }
 
                 renderPage(pageViewport);
@@ -107,12 +114,45 @@ public class CachedRenderPagesModel extends RenderPagesModel {
             }
         }
         if (newpage != null && newpage.getPage() != null) {
-            savePage(newpage);
-            newpage.clear();
+            pagesInMemory.add(newpage);
+            while (pagesInMemory.size() > pageWindowSize) {
+                // spill the page that has been waiting longest
+                PageViewport oldest = pagesInMemory.removeFirst();
+                savePage(oldest);
+                oldest.clear();
+            }
         }
         return renderer.supportsOutOfOrder() || prepared.isEmpty();
     }
 
+    /**
+     * Load a page.
+     * It reloads the contents of the page from the file it was saved to.
+     *
+     * @param pageViewport the page to load
+     */
+    protected void loadPage(PageViewport pageViewport) {
+        try {
+            // load page from cache
+            URI tempURI = pageMap.get(pageViewport);
+            log.debug("Loading page from: " + tempURI);
+            InputStream inStream = renderer.getUserAgent().getResourceResolver().getResource(tempURI);
+            ObjectInputStream in = new PageInputStream(new BufferedInputStream(
+                    new InflaterInputStream(inStream)), fontInfo);
+            try {
+                pageViewport.loadPage(in);
+            } finally {
+                IOUtils.closeQuietly(inStream);
+                IOUtils.closeQuietly(in);
+            }
+            pageMap.remove(pageViewport);
+        } catch (Exception e) {
+            AreaEventProducer eventProducer = AreaEventProducer.Provider.get(
+                    renderer.getUserAgent().getEventBroadcaster());
+            eventProducer.pageLoadError(this, pageViewport.getPageNumberString(), e);
+        }
+    }
+
     /**
      * Save a page.
      * It saves the contents of the page to a file.
@@ -126,7 +166,8 @@ public class CachedRenderPagesModel extends RenderPagesModel {
             String fname = "fop-page-" + page.getPageIndex() + ".ser";
             URI tempURI = tempBaseURI.resolve(fname);
             OutputStream outStream = renderer.getUserAgent().getResourceResolver().getOutputStream(tempURI);
-            tempstream = new ObjectOutputStream(new BufferedOutputStream(outStream));
+            tempstream = new ObjectOutputStream(new BufferedOutputStream(
+                    new DeflaterOutputStream(outStream, new Deflater(Deflater.BEST_SPEED))));
             try {
                 page.savePage(tempstream);
             } finally {
@@ -144,6 +185,28 @@ public class CachedRenderPagesModel extends RenderPagesModel {
         }
     }
 
+    /**
+     * The stream saved pages are read from. It gives areas that hold on to fonts, such as
+     * unresolved page numbers, access to the fonts of the document.
+     */
+    public static class PageInputStream extends ObjectInputStream {
+
+        private final FontInfo fontInfo;
+
+        PageInputStream(InputStream in, FontInfo fontInfo) throws IOException {
+            super(in);
+            this.fontInfo = fontInfo;
+        }
+
+        /**
+         * Returns the fonts of the document the pages belong to.
+         * @return the font info
+         */
+        public FontInfo getFontInfo() {
+            return fontInfo;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void endDocument() throws SAXException {
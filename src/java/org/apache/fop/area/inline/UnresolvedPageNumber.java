@@ -21,12 +21,17 @@ package org.apache.fop.area.inline;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.List;
 
+import org.apache.fop.area.CachedRenderPagesModel;
 import org.apache.fop.area.PageViewport;
 import org.apache.fop.area.Resolvable;
 import org.apache.fop.complexscripts.bidi.InlineRun;
 import org.apache.fop.fonts.Font;
+import org.apache.fop.fonts.FontInfo;
+import org.apache.fop.fonts.FontMetrics;
+import org.apache.fop.fonts.FontTriplet;
 
 /**
  * Unresolvable page number area.
@@ -80,8 +85,31 @@ public class UnresolvedPageNumber extends TextArea implements Resolvable {
         pageType = type;
     }
 
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        // the font itself is not serializable, so store what is needed to look it up again
+        oos.writeBoolean(font != null);
+        if (font != null) {
+            oos.writeUTF(font.getFontName());
+            oos.writeObject(font.getFontTriplet());
+            oos.writeInt(font.getFontSize());
+        }
+    }
+
     private void readObject(ObjectInputStream ois) throws ClassNotFoundException, IOException {
         ois.defaultReadObject();
+        if (ois.readBoolean()) {
+            String fontName = ois.readUTF();
+            FontTriplet triplet = (FontTriplet) ois.readObject();
+            int fontSize = ois.readInt();
+            if (ois instanceof CachedRenderPagesModel.PageInputStream) {
+                FontInfo fontInfo = ((CachedRenderPagesModel.PageInputStream) ois).getFontInfo();
+                FontMetrics metrics = fontInfo.getMetricsFor(fontName);
+                if (metrics != null) {
+                    font = new Font(fontName, triplet, metrics, fontSize);
+                }
+            }
+        }
     }
 
     /**
@@ -51,6 +51,7 @@ import org.apache.fop.pdf.PDFEncryptionParams;
 import org.apache.fop.pdf.PDFXMode;
 import org.apache.fop.render.Renderer;
 import org.apache.fop.render.awt.AWTRenderer;
+import org.apache.fop.render.intermediate.IFBinarySerializer;
 import org.apache.fop.render.intermediate.IFContext;
 import org.apache.fop.render.intermediate.IFDocumentHandler;
 import org.apache.fop.render.intermediate.IFSerializer;
@@ -122,6 +123,10 @@ public class CommandLineOptions {
     private boolean strictValidation = true;
     /* control memory-conservation policy */
     private boolean conserveMemoryPolicy;
+    /* maximum number of pending pages kept in memory, -1 for no limit */
+    private int pageWindowSize = -1;
+    /* lay out page-sequences on a background thread */
+    private boolean pipelinedLayout;
     /* true if a complex script features are enabled */
     private boolean useComplexScriptFeatures = true;
     /* set to true if -dpi used in command line */
@@ -180,6 +185,8 @@ public class CommandLineOptions {
                 addXSLTParameter("fop-output-format", getOutputFormat());
                 addXSLTParameter("fop-version", Version.getVersion());
                 foUserAgent.setConserveMemoryPolicy(conserveMemoryPolicy);
+                foUserAgent.setPageWindowSize(pageWindowSize);
+                foUserAgent.setPipelinedLayout(pipelinedLayout);
                 // TODO: Handle this!!
                 //if (!useComplexScriptFeatures) {
                 //    foUserAgent.setComplexScriptFeaturesEnabled(false);
@@ -220,10 +227,16 @@ public class CommandLineOptions {
 
             //Make sure the prepared XMLRenderer is used
             foUserAgent.setRendererOverride(xmlRenderer);
-        } else if (MimeConstants.MIME_FOP_IF.equals(outputmode)
+        } else if ((MimeConstants.MIME_FOP_IF.equals(outputmode)
+                    || MimeConstants.MIME_FOP_IF_BINARY.equals(outputmode))
                 && mimicRenderer != null) {
             // render from FO to Intermediate Format
-            IFSerializer serializer = new IFSerializer(new IFContext(foUserAgent));
+            IFSerializer serializer;
+            if (MimeConstants.MIME_FOP_IF_BINARY.equals(outputmode)) {
+                serializer = new IFBinarySerializer(new IFContext(foUserAgent));
+            } else {
+                serializer = new IFSerializer(new IFContext(foUserAgent));
+            }
             IFDocumentHandler targetHandler
                 = foUserAgent.getRendererFactory().createDocumentHandler(
                         foUserAgent, mimicRenderer);
@@ -287,6 +300,10 @@ public class CommandLineOptions {
                 strictValidation = false;
             } else if (args[i].equals("-conserve")) {
                 conserveMemoryPolicy = true;
+            } else if (args[i].equals("-pagewindow")) {
+                i = i + parsePageWindowOption(args, i);
+            } else if (args[i].equals("-pipelinelayout")) {
+                pipelinedLayout = true;
             } else if (args[i].equals("-flush")) {
                 flushCache = true;
             } else if (args[i].equals("-cache")) {
@@ -349,7 +366,9 @@ public class CommandLineOptions {
             } else if (args[i].equals("-at")) {
                 i = i + parseAreaTreeOption(args, i);
             } else if (args[i].equals("-if")) {
-                i = i + parseIntermediateFormatOption(args, i);
+                i = i + parseIntermediateFormatOption(args, i, MimeConstants.MIME_FOP_IF);
+            } else if (args[i].equals("-ifb")) {
+                i = i + parseIntermediateFormatOption(args, i, MimeConstants.MIME_FOP_IF_BINARY);
             } else if (args[i].equals("-a")) {
                 this.renderingOptions.put(Accessibility.ACCESSIBILITY, Boolean.TRUE);
             } else if (args[i].equals("-v")) {
@@ -450,6 +469,21 @@ public class CommandLineOptions {
         }
     }
 
+    private int parsePageWindowOption(String[] args, int i) throws FOPException {
+        if ((i + 1 == args.length)
+                || (isOption(args[i + 1]))) {
+            throw new FOPException(
+                    "if you use '-pagewindow', you must specify the number of pages");
+        } else {
+            try {
+                this.pageWindowSize = Integer.parseInt(args[i + 1]);
+            } catch (NumberFormatException nfe) {
+                throw new FOPException("invalid page count for '-pagewindow': " + args[i + 1]);
+            }
+            return 1;
+        }
+    }
+
     private int parseFOInputOption(String[] args, int i) throws FOPException {
         setInputFormat(FO_INPUT);
         if ((i + 1 == args.length)
@@ -758,8 +792,9 @@ public class CommandLineOptions {
         }
     }
 
-    private int parseIntermediateFormatOption(String[] args, int i) throws FOPException {
-        setOutputMode(MimeConstants.MIME_FOP_IF);
+    private int parseIntermediateFormatOption(String[] args, int i, String mime)
+            throws FOPException {
+        setOutputMode(mime);
         if ((i + 1 == args.length)
                 || (args[i + 1].charAt(0) == '-')) {
             throw new FOPException("you must specify the intermediate format output file");
@@ -985,7 +1020,8 @@ public class CommandLineOptions {
                 throw new FOPException(
                     "Area Tree Output is not available if Intermediate Format"
                     + " is used as input!");
-            } else if (outputmode.equals(MimeConstants.MIME_FOP_IF)) {
+            } else if (outputmode.equals(MimeConstants.MIME_FOP_IF)
+                    || outputmode.equals(MimeConstants.MIME_FOP_IF_BINARY)) {
                 throw new FOPException(
                     "Intermediate Output is not available if Intermediate Format"
                     + " is used as input!");
@@ -1216,7 +1252,11 @@ public class CommandLineOptions {
             + "  -conserve         enable memory-conservation policy (trades memory-consumption"
             + " for disk I/O)\n"
             + "                    (Note: currently only influences whether the area tree is"
-            + " serialized.)\n\n"
+            + " serialized.)\n"
+            + "  -pagewindow n     keep at most n pages waiting on unresolved references in"
+            + " memory, spill the rest to disk\n"
+            + "  -pipelinelayout   lay out each page-sequence on a second thread while the"
+            + " FO file is parsed further\n\n"
 
             + "  -cache            specifies a file/directory path location"
             + " for the font cache file\n"
@@ -1255,6 +1295,8 @@ public class CommandLineOptions {
             + " (outfile req'd)\n"
             + "                    specify optional mime output to allow the IF to be converted\n"
             + "                    to final format later\n"
+            + "  -ifb [mime] out   same as -if, but the intermediate format is written in a\n"
+            + "                    compact binary encoding (read back with -ifin)\n"
             + "  -print            input file will be rendered and sent to the printer \n"
             + "                    see options with \"-print help\" \n"
             + "  -out mime outfile input will be rendered using the given MIME type\n"
@@ -1372,7 +1414,8 @@ public class CommandLineOptions {
             } else {
                 log.info("output file: " + outfile.toString());
             }
-        } else if (MimeConstants.MIME_FOP_IF.equals(outputmode)) {
+        } else if (MimeConstants.MIME_FOP_IF.equals(outputmode)
+                || MimeConstants.MIME_FOP_IF_BINARY.equals(outputmode)) {
             log.info("intermediate format");
             log.info("output file: " + outfile.toString());
         } else {
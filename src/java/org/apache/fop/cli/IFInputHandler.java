@@ -20,6 +20,9 @@
 package org.apache.fop.cli;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Vector;
 
@@ -27,8 +30,11 @@ import javax.xml.transform.Result;
 import javax.xml.transform.sax.SAXResult;
 import javax.xml.transform.stream.StreamResult;
 
+import org.apache.commons.io.IOUtils;
+
 import org.apache.fop.apps.FOPException;
 import org.apache.fop.apps.FOUserAgent;
+import org.apache.fop.render.intermediate.IFBinaryParser;
 import org.apache.fop.render.intermediate.IFDocumentHandler;
 import org.apache.fop.render.intermediate.IFException;
 import org.apache.fop.render.intermediate.IFParser;
@@ -68,6 +74,17 @@ public class IFInputHandler extends InputHandler {
             documentHandler.setResult(new StreamResult(out));
             IFUtil.setupFonts(documentHandler);
 
+            if (sourcefile != null && IFBinaryParser.isBinaryIF(sourcefile)) {
+                //Binary IF is replayed directly, without XML parsing
+                InputStream in = new FileInputStream(sourcefile);
+                try {
+                    new IFBinaryParser().parse(in, documentHandler, userAgent);
+                } finally {
+                    IOUtils.closeQuietly(in);
+                }
+                return;
+            }
+
             //Create IF parser
             IFParser parser = new IFParser();
 
@@ -77,6 +94,8 @@ public class IFInputHandler extends InputHandler {
             transformTo(res);
         } catch (IFException ife) {
             throw new FOPException(ife);
+        } catch (IOException ioe) {
+            throw new FOPException(ioe);
         }
     }
 
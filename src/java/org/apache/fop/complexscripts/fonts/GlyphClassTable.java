@@ -31,6 +31,8 @@ import java.util.List;
  */
 public final class GlyphClassTable extends GlyphMappingTable implements GlyphClassMapping {
 
+    private static final long serialVersionUID = 8336397608130309348L;
+
     /** empty mapping table */
     public static final int GLYPH_CLASS_TYPE_EMPTY = GLYPH_MAPPING_TYPE_EMPTY;
 
@@ -136,6 +138,9 @@ public final class GlyphClassTable extends GlyphMappingTable implements GlyphCla
     }
 
     private static class EmptyClassTable extends GlyphMappingTable.EmptyMappingTable implements GlyphClassMapping {
+
+        private static final long serialVersionUID = -4460465089257561557L;
+
         public EmptyClassTable(List entries) {
             super(entries);
         }
@@ -150,6 +155,9 @@ public final class GlyphClassTable extends GlyphMappingTable implements GlyphCla
     }
 
     private static class MappedClassTable extends GlyphMappingTable.MappedMappingTable implements GlyphClassMapping {
+
+        private static final long serialVersionUID = -3596861007565883689L;
+
         private int firstGlyph;
         private int[] gca;
         private int gcMax = -1;
@@ -240,6 +248,9 @@ public final class GlyphClassTable extends GlyphMappingTable implements GlyphCla
     }
 
     private static class RangeClassTable extends GlyphMappingTable.RangeMappingTable implements GlyphClassMapping {
+
+        private static final long serialVersionUID = -3376298567916291740L;
+
         public RangeClassTable(List entries) {
             super(entries);
         }
@@ -258,6 +269,9 @@ public final class GlyphClassTable extends GlyphMappingTable implements GlyphCla
     }
 
     private static class CoverageSetClassTable extends GlyphMappingTable.EmptyMappingTable implements GlyphClassMapping {
+
+        private static final long serialVersionUID = -2659818646012057447L;
+
         public CoverageSetClassTable(List entries) {
             throw new UnsupportedOperationException("coverage set class table not yet supported");
         }
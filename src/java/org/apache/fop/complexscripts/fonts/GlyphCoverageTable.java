@@ -35,6 +35,8 @@ import org.apache.commons.logging.LogFactory;
  */
 public final class GlyphCoverageTable extends GlyphMappingTable implements GlyphCoverageMapping {
 
+    private static final long serialVersionUID = -5281728078067311034L;
+
     /* logging instance */
     private static final Log log = LogFactory.getLog(GlyphCoverageTable.class);
 
@@ -124,6 +126,9 @@ public final class GlyphCoverageTable extends GlyphMappingTable implements Glyph
     }
 
     private static class EmptyCoverageTable extends GlyphMappingTable.EmptyMappingTable implements GlyphCoverageMapping {
+
+        private static final long serialVersionUID = 2646074648273134185L;
+
         public EmptyCoverageTable(List entries) {
             super(entries);
         }
@@ -138,6 +143,9 @@ public final class GlyphCoverageTable extends GlyphMappingTable implements Glyph
     }
 
     private static class MappedCoverageTable extends GlyphMappingTable.MappedMappingTable implements GlyphCoverageMapping {
+
+        private static final long serialVersionUID = -84336336541145589L;
+
         private int[] map;
         public MappedCoverageTable(List entries) {
             populate(entries);
@@ -216,6 +224,9 @@ public final class GlyphCoverageTable extends GlyphMappingTable implements Glyph
     }
 
     private static class RangeCoverageTable extends GlyphMappingTable.RangeMappingTable implements GlyphCoverageMapping {
+
+        private static final long serialVersionUID = -3249415556448661730L;
+
         public RangeCoverageTable(List entries) {
             super(entries);
         }
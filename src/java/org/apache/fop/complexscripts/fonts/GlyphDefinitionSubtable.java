@@ -29,6 +29,8 @@ package org.apache.fop.complexscripts.fonts;
  */
 public abstract class GlyphDefinitionSubtable extends GlyphSubtable implements GlyphDefinition {
 
+    private static final long serialVersionUID = 7834183830290292799L;
+
     /**
      * Instantiate a <code>GlyphDefinitionSubtable</code>.
      * @param id subtable identifier
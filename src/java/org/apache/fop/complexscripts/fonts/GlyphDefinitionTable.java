@@ -39,6 +39,8 @@ import org.apache.fop.complexscripts.util.GlyphSequence;
  */
 public class GlyphDefinitionTable extends GlyphTable {
 
+    private static final long serialVersionUID = -2788685042654590678L;
+
     /** logging instance */
     private static final Log log = LogFactory.getLog(GlyphDefinitionTable.class);
 
@@ -260,6 +262,9 @@ public class GlyphDefinitionTable extends GlyphTable {
     }
 
     private abstract static class GlyphClassSubtable extends GlyphDefinitionSubtable {
+
+        private static final long serialVersionUID = -7372555276498562384L;
+
         GlyphClassSubtable(String id, int sequence, int flags, int format, GlyphMappingTable mapping, List entries) {
             super(id, sequence, flags, format, mapping);
         }
@@ -290,6 +295,9 @@ public class GlyphDefinitionTable extends GlyphTable {
     }
 
     private static class GlyphClassSubtableFormat1 extends GlyphClassSubtable {
+
+        private static final long serialVersionUID = -2975620792158539212L;
+
         GlyphClassSubtableFormat1(String id, int sequence, int flags, int format, GlyphMappingTable mapping, List entries) {
             super(id, sequence, flags, format, mapping, entries);
         }
@@ -322,6 +330,9 @@ public class GlyphDefinitionTable extends GlyphTable {
     }
 
     private abstract static class AttachmentPointSubtable extends GlyphDefinitionSubtable {
+
+        private static final long serialVersionUID = 1513874918851291603L;
+
         AttachmentPointSubtable(String id, int sequence, int flags, int format, GlyphMappingTable mapping, List entries) {
             super(id, sequence, flags, format, mapping);
         }
@@ -339,6 +350,9 @@ public class GlyphDefinitionTable extends GlyphTable {
     }
 
     private static class AttachmentPointSubtableFormat1 extends AttachmentPointSubtable {
+
+        private static final long serialVersionUID = -8299479291771263871L;
+
         AttachmentPointSubtableFormat1(String id, int sequence, int flags, int format, GlyphMappingTable mapping, List entries) {
             super(id, sequence, flags, format, mapping, entries);
         }
@@ -353,6 +367,9 @@ public class GlyphDefinitionTable extends GlyphTable {
     }
 
     private abstract static class LigatureCaretSubtable extends GlyphDefinitionSubtable {
+
+        private static final long serialVersionUID = -4692071126194470750L;
+
         LigatureCaretSubtable(String id, int sequence, int flags, int format, GlyphMappingTable mapping, List entries) {
             super(id, sequence, flags, format, mapping);
         }
@@ -370,6 +387,9 @@ public class GlyphDefinitionTable extends GlyphTable {
     }
 
     private static class LigatureCaretSubtableFormat1 extends LigatureCaretSubtable {
+
+        private static final long serialVersionUID = -3325288568685095123L;
+
         LigatureCaretSubtableFormat1(String id, int sequence, int flags, int format, GlyphMappingTable mapping, List entries) {
             super(id, sequence, flags, format, mapping, entries);
         }
@@ -384,6 +404,9 @@ public class GlyphDefinitionTable extends GlyphTable {
     }
 
     private abstract static class MarkAttachmentSubtable extends GlyphDefinitionSubtable {
+
+        private static final long serialVersionUID = 115285210647542092L;
+
         MarkAttachmentSubtable(String id, int sequence, int flags, int format, GlyphMappingTable mapping, List entries) {
             super(id, sequence, flags, format, mapping);
         }
@@ -414,6 +437,9 @@ public class GlyphDefinitionTable extends GlyphTable {
     }
 
     private static class MarkAttachmentSubtableFormat1 extends MarkAttachmentSubtable {
+
+        private static final long serialVersionUID = 9011539470921361210L;
+
         MarkAttachmentSubtableFormat1(String id, int sequence, int flags, int format, GlyphMappingTable mapping, List entries) {
             super(id, sequence, flags, format, mapping, entries);
         }
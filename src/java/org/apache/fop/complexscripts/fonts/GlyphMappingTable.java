@@ -19,6 +19,7 @@
 
 package org.apache.fop.complexscripts.fonts;
 
+import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -32,7 +33,9 @@ import java.util.List;
  *
  * <p>This work was originally authored by Glenn Adams (gadams@apache.org).</p>
  */
-public class GlyphMappingTable {
+public class GlyphMappingTable implements Serializable {
+
+    private static final long serialVersionUID = -2554363518784074295L;
 
     /** empty mapping table */
     public static final int GLYPH_MAPPING_TYPE_EMPTY = 0;
@@ -80,6 +83,9 @@ public class GlyphMappingTable {
 
     /** empty mapping table base class */
     protected static class EmptyMappingTable extends GlyphMappingTable {
+
+        private static final long serialVersionUID = 4340970437142063629L;
+
         /**
          * Construct empty mapping table.
          */
@@ -112,6 +118,9 @@ public class GlyphMappingTable {
 
     /** mapped mapping table base class */
     protected static class MappedMappingTable extends GlyphMappingTable {
+
+        private static final long serialVersionUID = -7956884835045936251L;
+
         /**
          * Construct mapped mapping table.
          */
@@ -125,6 +134,9 @@ public class GlyphMappingTable {
 
     /** range mapping table base class */
     protected abstract static class RangeMappingTable extends GlyphMappingTable {
+
+        private static final long serialVersionUID = -4419000262244845593L;
+
         private int[] sa;                                                // array of range (inclusive) starts
         private int[] ea;                                                // array of range (inclusive) ends
         private int[] ma;                                                // array of range mapped values
@@ -249,7 +261,9 @@ public class GlyphMappingTable {
      * The <code>MappingRange</code> class encapsulates a glyph [start,end] range and
      * a mapping index.
      */
-    public static class MappingRange {
+    public static class MappingRange implements Serializable {
+
+        private static final long serialVersionUID = 2254029335633802901L;
 
         private final int gidStart;                     // first glyph in range (inclusive)
         private final int gidEnd;                       // last glyph in range (inclusive)
@@ -32,6 +32,8 @@ import org.apache.fop.complexscripts.util.ScriptContextTester;
  */
 public abstract class GlyphPositioningSubtable extends GlyphSubtable implements GlyphPositioning {
 
+    private static final long serialVersionUID = 4625640984840300237L;
+
     private static final GlyphPositioningState STATE = new GlyphPositioningState();
 
     /**
@@ -19,6 +19,7 @@
 
 package org.apache.fop.complexscripts.fonts;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -42,6 +43,8 @@ import org.apache.fop.complexscripts.util.GlyphTester;
  */
 public class GlyphPositioningTable extends GlyphTable {
 
+    private static final long serialVersionUID = -4234862271332704302L;
+
     /** logging instance */
     private static final Log log = LogFactory.getLog(GlyphPositioningTable.class);
 
@@ -243,6 +246,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private abstract static class SingleSubtable extends GlyphPositioningSubtable {
+
+        private static final long serialVersionUID = -4805832197537245395L;
+
         SingleSubtable(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage);
         }
@@ -290,6 +296,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private static class SingleSubtableFormat1 extends SingleSubtable {
+
+        private static final long serialVersionUID = -999041422860841487L;
+
         private Value value;
         private int ciMax;
         SingleSubtableFormat1(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
@@ -333,6 +342,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private static class SingleSubtableFormat2 extends SingleSubtable {
+
+        private static final long serialVersionUID = -1813615604668846339L;
+
         private Value[] values;
         SingleSubtableFormat2(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage, entries);
@@ -381,6 +393,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private abstract static class PairSubtable extends GlyphPositioningSubtable {
+
+        private static final long serialVersionUID = 7957997127857826419L;
+
         PairSubtable(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage);
         }
@@ -468,6 +483,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private static class PairSubtableFormat1 extends PairSubtable {
+
+        private static final long serialVersionUID = -5793753340247448663L;
+
         private PairValues[][] pvm;                     // pair values matrix
         PairSubtableFormat1(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage, entries);
@@ -520,6 +538,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private static class PairSubtableFormat2 extends PairSubtable {
+
+        private static final long serialVersionUID = 1299280051829586269L;
+
         private GlyphClassTable cdt1;                   // class def table 1
         private GlyphClassTable cdt2;                   // class def table 2
         private int nc1;                                // class 1 count
@@ -596,6 +617,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private abstract static class CursiveSubtable extends GlyphPositioningSubtable {
+
+        private static final long serialVersionUID = 7374219400232565038L;
+
         CursiveSubtable(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage);
         }
@@ -664,6 +688,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private static class CursiveSubtableFormat1 extends CursiveSubtable {
+
+        private static final long serialVersionUID = -2700470995398754254L;
+
         private Anchor[] aa;                            // anchor array, where even entries are entry anchors, and odd entries are exit anchors
         CursiveSubtableFormat1(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage, entries);
@@ -713,6 +740,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private abstract static class MarkToBaseSubtable extends GlyphPositioningSubtable {
+
+        private static final long serialVersionUID = -7045251704406630292L;
+
         MarkToBaseSubtable(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage);
         }
@@ -783,6 +813,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private static class MarkToBaseSubtableFormat1 extends MarkToBaseSubtable {
+
+        private static final long serialVersionUID = 8679804575137264169L;
+
         private GlyphCoverageTable bct;                 // base coverage table
         private int nmc;                                // mark class count
         private MarkAnchor[] maa;                       // mark anchor array, ordered by mark coverage index
@@ -857,6 +890,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private abstract static class MarkToLigatureSubtable extends GlyphPositioningSubtable {
+
+        private static final long serialVersionUID = -5997568196081771815L;
+
         MarkToLigatureSubtable(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage);
         }
@@ -928,6 +964,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private static class MarkToLigatureSubtableFormat1 extends MarkToLigatureSubtable {
+
+        private static final long serialVersionUID = 1306585530884185781L;
+
         private GlyphCoverageTable lct;                 // ligature coverage table
         private int nmc;                                // mark class count
         private int mxc;                                // maximum ligature component count
@@ -1016,6 +1055,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private abstract static class MarkToMarkSubtable extends GlyphPositioningSubtable {
+
+        private static final long serialVersionUID = 4542424935761706222L;
+
         MarkToMarkSubtable(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage);
         }
@@ -1073,6 +1115,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private static class MarkToMarkSubtableFormat1 extends MarkToMarkSubtable {
+
+        private static final long serialVersionUID = 1077305893792993212L;
+
         private GlyphCoverageTable mct2;                // mark 2 coverage table
         private int nmc;                                // mark class count
         private MarkAnchor[] maa;                       // mark1 anchor array, ordered by mark1 coverage index
@@ -1147,6 +1192,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private abstract static class ContextualSubtable extends GlyphPositioningSubtable {
+
+        private static final long serialVersionUID = -3793978771464222601L;
+
         ContextualSubtable(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage);
         }
@@ -1197,6 +1245,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private static class ContextualSubtableFormat1 extends ContextualSubtable {
+
+        private static final long serialVersionUID = -4051796255061307300L;
+
         private RuleSet[] rsa;                          // rule set array, ordered by glyph coverage index
         ContextualSubtableFormat1(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage, entries);
@@ -1281,6 +1332,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private static class ContextualSubtableFormat2 extends ContextualSubtable {
+
+        private static final long serialVersionUID = -7333255415056570882L;
+
         private GlyphClassTable cdt;                    // class def table
         private int ngc;                                // class set count
         private RuleSet[] rsa;                          // rule set array, ordered by class number [0...ngc - 1]
@@ -1387,6 +1441,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private static class ContextualSubtableFormat3 extends ContextualSubtable {
+
+        private static final long serialVersionUID = -3220524599952218023L;
+
         private RuleSet[] rsa;                          // rule set array, containing a single rule set
         ContextualSubtableFormat3(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage, entries);
@@ -1474,6 +1531,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private abstract static class ChainedContextualSubtable extends GlyphPositioningSubtable {
+
+        private static final long serialVersionUID = 2869675747894384792L;
+
         ChainedContextualSubtable(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage);
         }
@@ -1524,6 +1584,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private static class ChainedContextualSubtableFormat1 extends ChainedContextualSubtable {
+
+        private static final long serialVersionUID = -8359911053636576452L;
+
         private RuleSet[] rsa;                          // rule set array, ordered by glyph coverage index
         ChainedContextualSubtableFormat1(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage, entries);
@@ -1592,6 +1655,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private static class ChainedContextualSubtableFormat2 extends ChainedContextualSubtable {
+
+        private static final long serialVersionUID = 8233572714027434360L;
+
         private GlyphClassTable icdt;                   // input class def table
         private GlyphClassTable bcdt;                   // backtrack class def table
         private GlyphClassTable lcdt;                   // lookahead class def table
@@ -1691,6 +1757,9 @@ public class GlyphPositioningTable extends GlyphTable {
     }
 
     private static class ChainedContextualSubtableFormat3 extends ChainedContextualSubtable {
+
+        private static final long serialVersionUID = 917808755145680920L;
+
         private RuleSet[] rsa;                          // rule set array, containing a single rule set
         ChainedContextualSubtableFormat3(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage, entries);
@@ -1762,7 +1831,9 @@ public class GlyphPositioningTable extends GlyphTable {
      * The <code>DeviceTable</code> class implements a positioning device table record, comprising
      * adjustments to be made to scaled design units according to the scaled size.
      */
-    public static class DeviceTable {
+    public static class DeviceTable implements Serializable {
+
+        private static final long serialVersionUID = 4055926727395632401L;
 
         private final int startSize;
         private final int endSize;
@@ -1828,7 +1899,9 @@ public class GlyphPositioningTable extends GlyphTable {
      * and advancement information in X and Y axes, and optionally including device data used to
      * perform device (grid-fitted) specific fine grain adjustments.
      */
-    public static class Value {
+    public static class Value implements Serializable {
+
+        private static final long serialVersionUID = 6614670978053409287L;
 
         /** X_PLACEMENT value format flag */
         public static final int X_PLACEMENT             = 0x0001;
@@ -2075,7 +2148,9 @@ public class GlyphPositioningTable extends GlyphTable {
      * The <code>PairValues</code> class implements a pair value record, comprising a glyph id (or zero)
      * and two optional positioning values.
      */
-    public static class PairValues {
+    public static class PairValues implements Serializable {
+
+        private static final long serialVersionUID = -3415522302209710610L;
 
         private final int glyph;                        // glyph id (or 0)
         private final Value value1;                     // value for first glyph in pair (or null)
@@ -2148,7 +2223,9 @@ public class GlyphPositioningTable extends GlyphTable {
      * The <code>Anchor</code> class implements a anchor record, comprising an X,Y coordinate pair,
      * an optional anchor point index (or -1), and optional X or Y device tables (or null if absent).
      */
-    public static class Anchor {
+    public static class Anchor implements Serializable {
+
+        private static final long serialVersionUID = -15724183208766558L;
 
         private final int x;                            // xCoordinate (in design units)
         private final int y;                            // yCoordinate (in design units)
@@ -2266,6 +2343,8 @@ public class GlyphPositioningTable extends GlyphTable {
      */
     public static class MarkAnchor extends Anchor {
 
+        private static final long serialVersionUID = 65998927967102416L;
+
         private final int markClass;                            // mark class
 
         /**
@@ -32,6 +32,8 @@ import org.apache.fop.complexscripts.util.ScriptContextTester;
  */
 public abstract class GlyphSubstitutionSubtable extends GlyphSubtable implements GlyphSubstitution {
 
+    private static final long serialVersionUID = 1277348141993584978L;
+
     private static final GlyphSubstitutionState STATE = new GlyphSubstitutionState();
 
     /**
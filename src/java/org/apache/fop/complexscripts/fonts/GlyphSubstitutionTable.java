@@ -19,6 +19,7 @@
 
 package org.apache.fop.complexscripts.fonts;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -42,6 +43,8 @@ import org.apache.fop.complexscripts.util.GlyphTester;
  */
 public class GlyphSubstitutionTable extends GlyphTable {
 
+    private static final long serialVersionUID = -2061135912269631398L;
+
     /** logging instance */
     private static final Log log = LogFactory.getLog(GlyphSubstitutionTable.class);
 
@@ -231,6 +234,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private abstract static class SingleSubtable extends GlyphSubstitutionSubtable {
+
+        private static final long serialVersionUID = 3658494072434981234L;
+
         SingleSubtable(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage);
         }
@@ -278,6 +284,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private static class SingleSubtableFormat1 extends SingleSubtable {
+
+        private static final long serialVersionUID = -1639483879352170790L;
+
         private int delta;
         private int ciMax;
         SingleSubtableFormat1(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
@@ -316,6 +325,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private static class SingleSubtableFormat2 extends SingleSubtable {
+
+        private static final long serialVersionUID = 5079449183763783177L;
+
         private int[] glyphs;
         SingleSubtableFormat2(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage, entries);
@@ -363,6 +375,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private abstract static class MultipleSubtable extends GlyphSubstitutionSubtable {
+
+        private static final long serialVersionUID = 3470775518917480289L;
+
         public MultipleSubtable(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage);
         }
@@ -407,6 +422,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private static class MultipleSubtableFormat1 extends MultipleSubtable {
+
+        private static final long serialVersionUID = 8726037037210284920L;
+
         private int[][] gsa;                            // glyph sequence array, ordered by coverage index
         MultipleSubtableFormat1(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage, entries);
@@ -449,6 +467,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private abstract static class AlternateSubtable extends GlyphSubstitutionSubtable {
+
+        private static final long serialVersionUID = -5718869742830915815L;
+
         public AlternateSubtable(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage);
         }
@@ -501,6 +522,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private static class AlternateSubtableFormat1 extends AlternateSubtable {
+
+        private static final long serialVersionUID = 1396429961894273451L;
+
         private int[][] gaa;                            // glyph alternates array, ordered by coverage index
         AlternateSubtableFormat1(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage, entries);
@@ -543,6 +567,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private abstract static class LigatureSubtable extends GlyphSubstitutionSubtable {
+
+        private static final long serialVersionUID = -6000663096437207196L;
+
         public LigatureSubtable(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage);
         }
@@ -634,6 +661,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private static class LigatureSubtableFormat1 extends LigatureSubtable {
+
+        private static final long serialVersionUID = -1623301887812248044L;
+
         private LigatureSet[] ligatureSets;
         public LigatureSubtableFormat1(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage, entries);
@@ -676,6 +706,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private abstract static class ContextualSubtable extends GlyphSubstitutionSubtable {
+
+        private static final long serialVersionUID = 812308273341569861L;
+
         public ContextualSubtable(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage);
         }
@@ -726,6 +759,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private static class ContextualSubtableFormat1 extends ContextualSubtable {
+
+        private static final long serialVersionUID = -4532063873585873262L;
+
         private RuleSet[] rsa;                          // rule set array, ordered by glyph coverage index
         ContextualSubtableFormat1(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage, entries);
@@ -810,6 +846,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private static class ContextualSubtableFormat2 extends ContextualSubtable {
+
+        private static final long serialVersionUID = -2670964874924564228L;
+
         private GlyphClassTable cdt;                    // class def table
         private int ngc;                                // class set count
         private RuleSet[] rsa;                          // rule set array, ordered by class number [0...ngc - 1]
@@ -916,6 +955,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private static class ContextualSubtableFormat3 extends ContextualSubtable {
+
+        private static final long serialVersionUID = -1413261394282092750L;
+
         private RuleSet[] rsa;                          // rule set array, containing a single rule set
         ContextualSubtableFormat3(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage, entries);
@@ -1003,6 +1045,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private abstract static class ChainedContextualSubtable extends GlyphSubstitutionSubtable {
+
+        private static final long serialVersionUID = -6246385406759187319L;
+
         public ChainedContextualSubtable(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage);
         }
@@ -1054,6 +1099,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private static class ChainedContextualSubtableFormat1 extends ChainedContextualSubtable {
+
+        private static final long serialVersionUID = -9088579981238442931L;
+
         private RuleSet[] rsa;                          // rule set array, ordered by glyph coverage index
         ChainedContextualSubtableFormat1(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage, entries);
@@ -1122,6 +1170,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private static class ChainedContextualSubtableFormat2 extends ChainedContextualSubtable {
+
+        private static final long serialVersionUID = -1461904073128921653L;
+
         private GlyphClassTable icdt;                   // input class def table
         private GlyphClassTable bcdt;                   // backtrack class def table
         private GlyphClassTable lcdt;                   // lookahead class def table
@@ -1221,6 +1272,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private static class ChainedContextualSubtableFormat3 extends ChainedContextualSubtable {
+
+        private static final long serialVersionUID = -2662298760639697581L;
+
         private RuleSet[] rsa;                          // rule set array, containing a single rule set
         ChainedContextualSubtableFormat3(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage, entries);
@@ -1289,6 +1343,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private abstract static class ReverseChainedSingleSubtable extends GlyphSubstitutionSubtable {
+
+        private static final long serialVersionUID = -8947118981956271042L;
+
         public ReverseChainedSingleSubtable(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage);
         }
@@ -1314,6 +1371,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     }
 
     private static class ReverseChainedSingleSubtableFormat1 extends ReverseChainedSingleSubtable {
+
+        private static final long serialVersionUID = -5238486969328728235L;
+
         ReverseChainedSingleSubtableFormat1(String id, int sequence, int flags, int format, GlyphCoverageTable coverage, List entries) {
             super(id, sequence, flags, format, coverage, entries);
             populate(entries);
@@ -1332,7 +1392,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
      * where the <emph>Nth</emph> component was consumed in the coverage table lookup mapping to
      * this ligature instance.
      */
-    public static class Ligature {
+    public static class Ligature implements Serializable {
+
+        private static final long serialVersionUID = 2919911049863519334L;
 
         private final int ligature;                     // (resulting) ligature glyph
         private final int[] components;                 // component glyph codes (note that first component is implied)
@@ -1413,7 +1475,9 @@ public class GlyphSubstitutionTable extends GlyphTable {
     /**
      * The <code>LigatureSet</code> class implements a set of  ligatures.
      */
-    public static class LigatureSet {
+    public static class LigatureSet implements Serializable {
+
+        private static final long serialVersionUID = 8485563251264923610L;
 
         private final Ligature[] ligatures;                     // set of ligatures all of which share the first (implied) component
         private final int maxComponents;                        // maximum number of components (including first)
@@ -19,6 +19,10 @@
 
 package org.apache.fop.complexscripts.fonts;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.lang.ref.WeakReference;
 
 import java.util.List;
@@ -32,7 +36,9 @@ import java.util.Map;
  *
  * <p>This work was originally authored by Glenn Adams (gadams@apache.org).</p>
  */
-public abstract class GlyphSubtable implements Comparable {
+public abstract class GlyphSubtable implements Comparable, Serializable {
+
+    private static final long serialVersionUID = -5425118594581884496L;
 
     /** lookup flag - right to left */
     public static final int LF_RIGHT_TO_LEFT = 0x0001;
@@ -62,7 +68,7 @@ public abstract class GlyphSubtable implements Comparable {
     /** subtable mapping table */
     private GlyphMappingTable mapping;
     /** weak reference to parent (gsub or gpos) table */
-    private WeakReference table;
+    private transient WeakReference table;
 
     /**
      * Instantiate this glyph subtable.
@@ -188,6 +194,19 @@ public abstract class GlyphSubtable implements Comparable {
         }
     }
 
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(getTable());
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        GlyphTable t = (GlyphTable) in.readObject();
+        if (t != null) {
+            this.table = new WeakReference(t);
+        }
+    }
+
     /**
      * Resolve references to lookup tables, e.g., in RuleLookup, to the lookup tables themselves.
      * @param lookupTables map from lookup table identifers, e.g. "lu4", to lookup tables
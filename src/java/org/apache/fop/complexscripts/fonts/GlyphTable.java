@@ -19,6 +19,7 @@
 
 package org.apache.fop.complexscripts.fonts;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -44,7 +45,9 @@ import org.apache.fop.complexscripts.util.ScriptContextTester;
  *
  * <p>This work was originally authored by Glenn Adams (gadams@apache.org).</p>
  */
-public class GlyphTable {
+public class GlyphTable implements Serializable {
+
+    private static final long serialVersionUID = -65315633749131387L;
 
     /** logging instance */
     private static final Log log = LogFactory.getLog(GlyphTable.class);
@@ -346,7 +349,9 @@ public class GlyphTable {
     /**
      * A structure class encapsulating a lookup specification as a <script,language,feature> tuple.
      */
-    public static class LookupSpec implements Comparable {
+    public static class LookupSpec implements Comparable, Serializable {
+
+        private static final long serialVersionUID = 291212059065952930L;
 
         private final String script;
         private final String language;
@@ -464,7 +469,9 @@ public class GlyphTable {
      * The <code>LookupTable</code> class comprising an identifier and an ordered list
      * of glyph subtables, each of which employ the same lookup identifier.
      */
-    public static class LookupTable implements Comparable {
+    public static class LookupTable implements Comparable, Serializable {
+
+        private static final long serialVersionUID = 4093268297181178289L;
 
         private final String id;                                // lookup identifier
         private final int idOrdinal;                            // parsed lookup identifier ordinal
@@ -760,7 +767,9 @@ public class GlyphTable {
      * The <code>UseSpec</code> class comprises a lookup table reference
      * and the feature that selected the lookup table.
      */
-    public static class UseSpec implements Comparable {
+    public static class UseSpec implements Comparable, Serializable {
+
+        private static final long serialVersionUID = -7948571044518004523L;
 
         /** lookup table to apply */
         private final LookupTable lookupTable;
@@ -846,7 +855,9 @@ public class GlyphTable {
      * The <code>RuleLookup</code> class implements a rule lookup record, comprising
      * a glyph sequence index and a lookup table index (in an applicable lookup list).
      */
-    public static class RuleLookup {
+    public static class RuleLookup implements Serializable {
+
+        private static final long serialVersionUID = 1351558704127620485L;
 
         private final int sequenceIndex;                        // index into input glyph sequence
         private final int lookupIndex;                          // lookup list index
@@ -904,7 +915,9 @@ public class GlyphTable {
     /**
      * The <code>Rule</code> class implements an array of rule lookup records.
      */
-    public abstract static class Rule {
+    public abstract static class Rule implements Serializable {
+
+        private static final long serialVersionUID = 9074973535083829452L;
 
         private final RuleLookup[] lookups;                     // rule lookups
         private final int inputSequenceLength;                  // input sequence length
@@ -958,6 +971,8 @@ public class GlyphTable {
      */
     public static class GlyphSequenceRule extends Rule {
 
+        private static final long serialVersionUID = 4145414073326279577L;
+
         private final int[] glyphs;                             // glyphs
 
         /**
@@ -1011,6 +1026,8 @@ public class GlyphTable {
      */
     public static class ClassSequenceRule extends Rule {
 
+        private static final long serialVersionUID = -2331747710025129387L;
+
         private final int[] classes;                            // glyph classes
 
         /**
@@ -1064,6 +1081,8 @@ public class GlyphTable {
      */
     public static class CoverageSequenceRule extends Rule {
 
+        private static final long serialVersionUID = 6539767748278112817L;
+
         private final GlyphCoverageTable[] coverages;           // glyph coverages
 
         /**
@@ -1101,6 +1120,8 @@ public class GlyphTable {
      */
     public static class ChainedGlyphSequenceRule extends GlyphSequenceRule {
 
+        private static final long serialVersionUID = 5196900947234244028L;
+
         private final int[] backtrackGlyphs;                    // backtrack glyphs
         private final int[] lookaheadGlyphs;                    // lookahead glyphs
 
@@ -1150,6 +1171,8 @@ public class GlyphTable {
      */
     public static class ChainedClassSequenceRule extends ClassSequenceRule {
 
+        private static final long serialVersionUID = -9026928083614864121L;
+
         private final int[] backtrackClasses;                    // backtrack classes
         private final int[] lookaheadClasses;                    // lookahead classes
 
@@ -1199,6 +1222,8 @@ public class GlyphTable {
      */
     public static class ChainedCoverageSequenceRule extends CoverageSequenceRule {
 
+        private static final long serialVersionUID = -1626186204037628098L;
+
         private final GlyphCoverageTable[] backtrackCoverages;  // backtrack coverages
         private final GlyphCoverageTable[] lookaheadCoverages;  // lookahead coverages
 
@@ -1246,7 +1271,9 @@ public class GlyphTable {
      * The <code>RuleSet</code> class implements a collection of rules, which
      * may or may not be the same rule type.
      */
-    public static class RuleSet {
+    public static class RuleSet implements Serializable {
+
+        private static final long serialVersionUID = -3775840905603226044L;
 
         private final Rule[] rules;                             // set of rules
 
@@ -1296,6 +1323,8 @@ public class GlyphTable {
      */
     public static class HomogeneousRuleSet extends RuleSet {
 
+        private static final long serialVersionUID = -8229283523061129038L;
+
         /**
          * Instantiate a Homogeneous Rule Set.
          * @param rules the rules
@@ -23,10 +23,11 @@ import java.io.InputStream;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.MissingResourceException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.stream.StreamSource;
@@ -69,7 +70,13 @@ public class DefaultEventBroadcaster implements EventBroadcaster {
     }
 
     private static List/*<EventModel>*/ eventModels = new java.util.ArrayList();
-    private Map proxies = new java.util.HashMap();
+
+    /** Event metadata per EventProducer interface, shared by all broadcasters */
+    private static final ConcurrentMap<Class, ProducerMetadata> PRODUCER_METADATA
+            = new ConcurrentHashMap<Class, ProducerMetadata>();
+
+    private final ConcurrentMap<Class, EventProducer> proxies
+            = new ConcurrentHashMap<Class, EventProducer>();
 
     /**
      * Loads an event model and returns its instance.
@@ -116,6 +123,29 @@ public class DefaultEventBroadcaster implements EventBroadcaster {
         return model.getProducer(clazz);
     }
 
+    /**
+     * Returns the event metadata of an EventProducer interface. The event model is only
+     * consulted the first time an interface is requested, later lookups don't lock.
+     * @param clazz a descendant interface of EventProducer
+     * @return the event metadata
+     */
+    private static ProducerMetadata getProducerMetadata(Class clazz) {
+        ProducerMetadata metadata = PRODUCER_METADATA.get(clazz);
+        if (metadata == null) {
+            EventProducerModel producerModel = getEventProducerModel(clazz);
+            if (producerModel == null) {
+                throw new IllegalStateException("Event model doesn't contain the definition for "
+                        + clazz.getName());
+            }
+            metadata = new ProducerMetadata(clazz, producerModel);
+            ProducerMetadata existing = PRODUCER_METADATA.putIfAbsent(clazz, metadata);
+            if (existing != null) {
+                metadata = existing;
+            }
+        }
+        return metadata;
+    }
+
     /** {@inheritDoc} */
     public EventProducer getEventProducerFor(Class clazz) {
         if (!EventProducer.class.isAssignableFrom(clazz)) {
@@ -123,15 +153,29 @@ public class DefaultEventBroadcaster implements EventBroadcaster {
                     "Class must be an implementation of the EventProducer interface: "
                     + clazz.getName());
         }
-        EventProducer producer;
-        producer = (EventProducer)this.proxies.get(clazz);
+        EventProducer producer = this.proxies.get(clazz);
         if (producer == null) {
             producer = createProxyFor(clazz);
-            this.proxies.put(clazz, producer);
+            EventProducer existing = this.proxies.putIfAbsent(clazz, producer);
+            if (existing != null) {
+                producer = existing;
+            }
         }
         return producer;
     }
 
+    /**
+     * Indicates whether an event with the given severity has to be created and broadcast.
+     * By default, events are dropped without being created if there are no event listeners,
+     * unless they are fatal, in which case they are turned into an exception. Subclasses that
+     * process events without registered listeners must override this method.
+     * @param severity the severity of the event
+     * @return true if the event must be broadcast
+     */
+    protected boolean isBroadcastRequired(EventSeverity severity) {
+        return severity == EventSeverity.FATAL || hasEventListeners();
+    }
+
     /**
      * Creates a dynamic proxy for the given EventProducer interface that will handle the
      * conversion of the method call into the broadcasting of an event instance.
@@ -139,45 +183,90 @@ public class DefaultEventBroadcaster implements EventBroadcaster {
      * @return the EventProducer instance
      */
     protected EventProducer createProxyFor(Class clazz) {
-        final EventProducerModel producerModel = getEventProducerModel(clazz);
-        if (producerModel == null) {
-            throw new IllegalStateException("Event model doesn't contain the definition for "
-                    + clazz.getName());
-        }
+        final ProducerMetadata producerMetadata = getProducerMetadata(clazz);
         return (EventProducer)Proxy.newProxyInstance(clazz.getClassLoader(),
                 new Class[] {clazz},
                 new InvocationHandler() {
                     public Object invoke(Object proxy, Method method, Object[] args)
                             throws Throwable {
-                        String methodName = method.getName();
-                        EventMethodModel methodModel = producerModel.getMethod(methodName);
-                        String eventID = producerModel.getInterfaceName() + "." + methodName;
-                        if (methodModel == null) {
-                            throw new IllegalStateException(
-                                    "Event model isn't consistent"
-                                    + " with the EventProducer interface. Please rebuild FOP!"
-                                    + " Affected method: "
-                                    + eventID);
+                        EventMetadata eventMetadata = producerMetadata.getEvent(method);
+                        if (!isBroadcastRequired(eventMetadata.severity)) {
+                            return null;
                         }
+                        String[] paramNames = eventMetadata.paramNames;
                         Map params = new java.util.HashMap();
-                        int i = 1;
-                        Iterator iter = methodModel.getParameters().iterator();
-                        while (iter.hasNext()) {
-                            EventMethodModel.Parameter param
-                                = (EventMethodModel.Parameter)iter.next();
-                            params.put(param.getName(), args[i]);
-                            i++;
+                        for (int i = 0; i < paramNames.length; i++) {
+                            params.put(paramNames[i], args[i + 1]);
                         }
-                        Event ev = new Event(args[0], eventID, methodModel.getSeverity(), params);
+                        Event ev = new Event(args[0], eventMetadata.eventID,
+                                eventMetadata.severity, params);
                         broadcastEvent(ev);
 
                         if (ev.getSeverity() == EventSeverity.FATAL) {
                             EventExceptionManager.throwException(ev,
-                                    methodModel.getExceptionClass());
+                                    eventMetadata.exceptionClass);
                         }
                         return null;
                     }
                 });
     }
 
+    /**
+     * The events of an EventProducer interface, indexed by the interface methods. It is resolved
+     * once from the event model so that producing an event doesn't involve a model lookup.
+     */
+    private static final class ProducerMetadata {
+
+        private final String interfaceName;
+
+        private final Map<Method, EventMetadata> events
+                = new java.util.HashMap<Method, EventMetadata>();
+
+        ProducerMetadata(Class clazz, EventProducerModel producerModel) {
+            this.interfaceName = producerModel.getInterfaceName();
+            Method[] methods = clazz.getMethods();
+            for (int i = 0; i < methods.length; i++) {
+                EventMethodModel methodModel = producerModel.getMethod(methods[i].getName());
+                if (methodModel != null) {
+                    events.put(methods[i], new EventMetadata(interfaceName, methodModel));
+                }
+            }
+        }
+
+        EventMetadata getEvent(Method method) {
+            EventMetadata event = events.get(method);
+            if (event == null) {
+                throw new IllegalStateException(
+                        "Event model isn't consistent"
+                        + " with the EventProducer interface. Please rebuild FOP!"
+                        + " Affected method: "
+                        + interfaceName + "." + method.getName());
+            }
+            return event;
+        }
+    }
+
+    /** The event ID, severity, parameter names and exception class of one event method. */
+    private static final class EventMetadata {
+
+        private final String eventID;
+
+        private final EventSeverity severity;
+
+        private final String[] paramNames;
+
+        private final String exceptionClass;
+
+        EventMetadata(String interfaceName, EventMethodModel methodModel) {
+            this.eventID = interfaceName + "." + methodModel.getMethodName();
+            this.severity = methodModel.getSeverity();
+            List parameters = methodModel.getParameters();
+            this.paramNames = new String[parameters.size()];
+            for (int i = 0; i < paramNames.length; i++) {
+                paramNames[i] = ((EventMethodModel.Parameter)parameters.get(i)).getName();
+            }
+            this.exceptionClass = methodModel.getExceptionClass();
+        }
+    }
+
 }
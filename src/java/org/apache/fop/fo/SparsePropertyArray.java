@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.fo;
+
+import org.apache.fop.fo.properties.Property;
+
+/**
+ * A sparse array of properties, indexed by property ID. Only the properties that are set
+ * take up space, so an FO that specifies a handful of properties doesn't need an array
+ * spanning all {@link Constants#PROPERTY_COUNT} properties.
+ * <p>
+ * The properties are kept in an open-addressing hash table with linear probing. Property
+ * IDs are small consecutive numbers, so they are used as their own hash code.</p>
+ */
+final class SparsePropertyArray {
+
+    /** marks an empty slot, property IDs start at 1 */
+    private static final short EMPTY = 0;
+
+    private short[] ids;
+
+    private Property[] properties;
+
+    private int size;
+
+    /**
+     * Creates a sparse property array.
+     * @param initialCapacity the number of slots to start with, must be a power of 2
+     */
+    SparsePropertyArray(int initialCapacity) {
+        assert Integer.bitCount(initialCapacity) == 1;
+        ids = new short[initialCapacity];
+        properties = new Property[initialCapacity];
+    }
+
+    /**
+     * Returns the property set for a property ID.
+     * @param propId the property ID
+     * @return the property, or null if none has been set
+     */
+    Property get(int propId) {
+        int mask = ids.length - 1;
+        for (int i = propId & mask;; i = (i + 1) & mask) {
+            int id = ids[i];
+            if (id == propId) {
+                return properties[i];
+            } else if (id == EMPTY) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Sets the property for a property ID.
+     * @param propId the property ID, between 1 and {@link Constants#PROPERTY_COUNT}
+     * @param property the property
+     */
+    void put(int propId, Property property) {
+        assert propId > 0 && propId <= Constants.PROPERTY_COUNT;
+        int mask = ids.length - 1;
+        int i = propId & mask;
+        while (ids[i] != EMPTY) {
+            if (ids[i] == propId) {
+                properties[i] = property;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        ids[i] = (short) propId;
+        properties[i] = property;
+        // keep the load factor at 3/4 at most
+        if (++size * 4 > ids.length * 3) {
+            grow();
+        }
+    }
+
+    /**
+     * Returns the number of property IDs for which a property has been set.
+     * @return the number of properties
+     */
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        short[] oldIds = ids;
+        Property[] oldProperties = properties;
+        ids = new short[oldIds.length * 2];
+        properties = new Property[oldIds.length * 2];
+        int mask = ids.length - 1;
+        for (int j = 0; j < oldIds.length; j++) {
+            if (oldIds[j] != EMPTY) {
+                int i = oldIds[j] & mask;
+                while (ids[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                ids[i] = oldIds[j];
+                properties[i] = oldProperties[j];
+            }
+        }
+    }
+}
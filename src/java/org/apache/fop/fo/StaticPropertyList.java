@@ -23,12 +23,14 @@ import org.apache.fop.fo.expr.PropertyException;
 import org.apache.fop.fo.properties.Property;
 
 /**
- * A very fast implementation of PropertyList that uses arrays to store
- * the explicit set properties and another array to store cached values.
+ * A very fast implementation of PropertyList that stores the explicitly set
+ * properties and the cached values in sparse arrays. Most FOs set only a few
+ * properties and look up a fraction of all properties, so this takes far less
+ * memory than arrays spanning all properties.
  */
 public class StaticPropertyList extends PropertyList {
-    private final Property[] explicit;
-    private final Property[] values;
+    private final SparsePropertyArray explicit;
+    private final SparsePropertyArray values;
 
     /**
      * Construct a StaticPropertyList.
@@ -37,8 +39,8 @@ public class StaticPropertyList extends PropertyList {
      */
     public StaticPropertyList(FObj fObjToAttach, PropertyList parentPropertyList) {
         super(fObjToAttach, parentPropertyList);
-        explicit = new Property[Constants.PROPERTY_COUNT + 1];
-        values = new Property[Constants.PROPERTY_COUNT + 1];
+        explicit = new SparsePropertyArray(8);
+        values = new SparsePropertyArray(32);
     }
 
     /**
@@ -47,7 +49,7 @@ public class StaticPropertyList extends PropertyList {
      * @return The value if the property is explicitly set, otherwise null.
      */
     public Property getExplicit(int propId) {
-        return explicit[propId];
+        return explicit.get(propId);
     }
 
     /**
@@ -56,9 +58,9 @@ public class StaticPropertyList extends PropertyList {
      * @param value The value of the property to set.
      */
     public void putExplicit(int propId, Property value) {
-        explicit[propId] = value;
-        if (values[propId] != null) { // if the cached value is set overwrite it
-            values[propId] = value;
+        explicit.put(propId, value);
+        if (values.get(propId) != null) { // if the cached value is set overwrite it
+            values.put(propId, value);
         }
     }
 
@@ -69,10 +71,12 @@ public class StaticPropertyList extends PropertyList {
      */
     public Property get(int propId, boolean bTryInherit, boolean bTryDefault)
         throws PropertyException {
-        Property p = values[propId];
+        Property p = values.get(propId);
         if (p == null) {
             p = super.get(propId, bTryInherit, bTryDefault);
-            values[propId] = p;
+            if (p != null) {
+                values.put(propId, p);
+            }
         }
         return p;
     }
@@ -87,6 +87,7 @@ public abstract class AbstractRetrieveMarker extends FObjMixed {
             missingPropertyError("retrieve-class-name");
         }
         this.propertyList = pList.getParentPropertyList();
+        getRoot().notifyMarkerRetrievalFound();
     }
 
     @Override
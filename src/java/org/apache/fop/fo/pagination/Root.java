@@ -70,6 +70,9 @@ public class Root extends FObj implements CommonAccessibilityHolder {
      */
     private FOTreeBuilderContext builderContext;
 
+    /** set once the first fo:retrieve-marker or fo:retrieve-table-marker has been parsed */
+    private volatile boolean markerRetrievalFound;
+
     /**
      * FOEventHandler object for this FO Tree
      */
@@ -209,6 +212,21 @@ public class Root extends FObj implements CommonAccessibilityHolder {
         return this.builderContext;
     }
 
+    /**
+     * Indicates whether the document retrieves markers. Marker retrieval clones FO nodes
+     * during layout through the shared builder context, so layout must not overlap with
+     * building the FO tree once this returns true.
+     * @return true if a retrieve-marker or retrieve-table-marker has been parsed
+     */
+    public boolean isMarkerRetrievalFound() {
+        return markerRetrievalFound;
+    }
+
+    /** Notifies that a retrieve-marker or retrieve-table-marker has been parsed. */
+    public void notifyMarkerRetrievalFound() {
+        this.markerRetrievalFound = true;
+    }
+
     /**
     * Gets the last page number generated by the previous page-sequence
     * @return the last page number, 0 if no page sequences yet generated
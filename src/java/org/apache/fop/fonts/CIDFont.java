@@ -28,6 +28,8 @@ import org.apache.fop.apps.io.InternalResourceResolver;
  */
 public abstract class CIDFont extends CustomFont {
 
+    private static final long serialVersionUID = -279771911713347561L;
+
     /** Contains the character widths for all characters in the font */
     protected int[] width;
 
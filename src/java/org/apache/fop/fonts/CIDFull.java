@@ -19,6 +19,7 @@
 
 package org.apache.fop.fonts;
 
+import java.io.Serializable;
 import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,7 +36,9 @@ import org.apache.fop.util.CharUtilities;
  * Unicode index: The Unicode codepoint of a character.
  * Glyph name: the Adobe glyph name (as found in Glyphs.java)
  */
-public class CIDFull implements CIDSet {
+public class CIDFull implements CIDSet, Serializable {
+
+    private static final long serialVersionUID = 8296617853434617313L;
 
     private BitSet glyphIndices;
     private final MultiByteFont font;
@@ -44,7 +47,7 @@ public class CIDFull implements CIDSet {
         font = mbf;
     }
 
-    private void initGlyphIndices() {
+    private synchronized void initGlyphIndices() {
         // this cannot be called in the constructor since the font is not ready...
         if (glyphIndices == null) {
             glyphIndices = font.getGlyphIndices();
@@ -19,6 +19,7 @@
 
 package org.apache.fop.fonts;
 
+import java.io.Serializable;
 import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,7 +36,9 @@ import org.apache.fop.util.CharUtilities;
  * Unicode index: The Unicode codepoint of a character.
  * Glyph name: the Adobe glyph name (as found in Glyphs.java)
  */
-public class CIDSubset implements CIDSet {
+public class CIDSubset implements CIDSet, Serializable {
+
+    private static final long serialVersionUID = -3425233196208617893L;
 
     /**
      * usedGlyphs contains orginal, new glyph index (glyph index -> char selector)
@@ -57,14 +60,29 @@ public class CIDSubset implements CIDSet {
 
     public CIDSubset(MultiByteFont mbf) {
         font = mbf;
+        reserveNotDef();
+    }
+
+    private void reserveNotDef() {
         // The zeroth value is reserved for .notdef
         usedGlyphs.put(0, 0);
         usedGlyphsIndex.put(0, 0);
         usedGlyphsCount++;
     }
 
+    /**
+     * Discards the glyphs used so far.
+     */
+    synchronized void clear() {
+        usedGlyphs.clear();
+        usedGlyphsIndex.clear();
+        usedCharsIndex.clear();
+        usedGlyphsCount = 0;
+        reserveNotDef();
+    }
+
     /** {@inheritDoc} */
-    public int getOriginalGlyphIndex(int index) {
+    public synchronized int getOriginalGlyphIndex(int index) {
         Integer glyphIndex = usedGlyphsIndex.get(index);
         if (glyphIndex != null) {
             return glyphIndex;
@@ -74,7 +92,7 @@ public class CIDSubset implements CIDSet {
     }
 
     /** {@inheritDoc} */
-    public char getUnicode(int index) {
+    public synchronized char getUnicode(int index) {
         Character mapValue = usedCharsIndex.get(index);
         if (mapValue != null) {
             return mapValue.charValue();
@@ -84,7 +102,7 @@ public class CIDSubset implements CIDSet {
     }
 
     /** {@inheritDoc} */
-    public int mapChar(int glyphIndex, char unicode) {
+    public synchronized int mapChar(int glyphIndex, char unicode) {
         // Reencode to a new subset font or get the reencoded value
         // IOW, accumulate the accessed characters and build a character map for them
         Integer subsetCharSelector = usedGlyphs.get(glyphIndex);
@@ -101,12 +119,12 @@ public class CIDSubset implements CIDSet {
     }
 
     /** {@inheritDoc} */
-    public Map<Integer, Integer> getGlyphs() {
+    public synchronized Map<Integer, Integer> getGlyphs() {
         return Collections.unmodifiableMap(this.usedGlyphs);
     }
 
     /** {@inheritDoc} */
-    public char[] getChars() {
+    public synchronized char[] getChars() {
         char[] charArray = new char[usedGlyphsCount];
         for (int i = 0; i < usedGlyphsCount; i++) {
             charArray[i] = getUnicode(i);
@@ -115,12 +133,12 @@ public class CIDSubset implements CIDSet {
     }
 
     /** {@inheritDoc} */
-    public int getNumberOfGlyphs() {
+    public synchronized int getNumberOfGlyphs() {
         return this.usedGlyphsCount;
     }
 
     /** {@inheritDoc} */
-    public BitSet getGlyphIndices() {
+    public synchronized BitSet getGlyphIndices() {
         BitSet bitset = new BitSet();
         for (Integer cid : usedGlyphs.keySet()) {
             bitset.set(cid);
@@ -129,7 +147,7 @@ public class CIDSubset implements CIDSet {
     }
 
     /** {@inheritDoc} */
-    public int[] getWidths() {
+    public synchronized int[] getWidths() {
         int[] widths = font.getWidths();
         int[] tmpWidth = new int[getNumberOfGlyphs()];
         for (int i = 0, c = getNumberOfGlyphs(); i < c; i++) {
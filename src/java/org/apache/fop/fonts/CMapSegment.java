@@ -19,12 +19,16 @@
 
 package org.apache.fop.fonts;
 
+import java.io.Serializable;
+
 /**
  * A segment in a cmap table of format 4. Unicode code points between
  * {@link #getUnicodeStart()} and {@link #getUnicodeEnd()} map to contiguous glyph indices
  * starting from {@link #getGlyphStartIndex()}.
  */
-public final class CMapSegment {
+public final class CMapSegment implements Serializable {
+
+    private static final long serialVersionUID = 4207913585290163934L;
 
     private final int unicodeStart;
     private final int unicodeEnd;
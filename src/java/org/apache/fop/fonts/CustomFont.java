@@ -19,8 +19,10 @@
 
 package org.apache.fop.fonts;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -31,13 +33,19 @@ import java.util.Map;
 import java.util.Set;
 
 import org.apache.fop.apps.io.InternalResourceResolver;
+import org.apache.fop.fonts.truetype.FontFileReader;
+import org.apache.fop.fonts.truetype.FontFileRegistry;
 
 
 /**
  * Abstract base class for custom fonts loaded from files, for example.
+ * Loaded fonts may be serialized by the {@link FontMetricsCache}; the state of the
+ * {@link Typeface} superclass is not serialized.
  */
 public abstract class CustomFont extends Typeface
-            implements FontDescriptor, MutableFont {
+            implements FontDescriptor, MutableFont, Serializable {
+
+    private static final long serialVersionUID = 2552993478839306616L;
 
     /** Fallback thickness for underline and strikeout when not provided by the font. */
     private static final int DEFAULT_LINE_THICKNESS = 50;
@@ -49,7 +57,7 @@ public abstract class CustomFont extends Typeface
     private String fontSubName;
     private URI embedFileURI;
     private String embedResourceName;
-    private final InternalResourceResolver resourceResolver;
+    private transient InternalResourceResolver resourceResolver;
     private EmbeddingMode embeddingMode = EmbeddingMode.AUTO;
 
     private int capHeight;
@@ -88,6 +96,14 @@ public abstract class CustomFont extends Typeface
         this.resourceResolver = resourceResolver;
     }
 
+    /**
+     * Sets the resource resolver of a font restored from the {@link FontMetricsCache}.
+     * @param resourceResolver the URI resource resolver for controlling file access
+     */
+    void setResourceResolver(InternalResourceResolver resourceResolver) {
+        this.resourceResolver = resourceResolver;
+    }
+
 
     /** {@inheritDoc} */
     public URI getFontURI() {
@@ -143,6 +159,18 @@ public abstract class CustomFont extends Typeface
         return embedFileURI;
     }
 
+    /**
+     * Returns the embeddable font file if it is a local file.
+     *
+     * @return the font file or null if the font is not embeddable or not read from a file
+     */
+    File getEmbedFile() {
+        if (resourceResolver == null) {
+            return null;
+        }
+        return FontMetricsCache.getFontFile(embedFileURI, resourceResolver);
+    }
+
     /**
 
      * Returns the embedding mode for this font.
@@ -162,6 +190,17 @@ public abstract class CustomFont extends Typeface
         return resourceResolver.getResource(embedFileURI);
     }
 
+    /**
+     * Returns a {@link FontFileReader} on the embeddable font file. The file is shared with
+     * other readers if possible, see {@link FontFileRegistry}.
+     *
+     * @return a reader on the embeddable font file
+     * @throws IOException if the font file cannot be read
+     */
+    public FontFileReader getFontFileReader() throws IOException {
+        return FontFileRegistry.getReader(resourceResolver, embedFileURI);
+    }
+
     /**
      * Returns the lookup name to an embeddable font file available as a
      * resource.
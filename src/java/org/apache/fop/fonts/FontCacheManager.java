@@ -52,4 +52,10 @@ public interface FontCacheManager {
      * @throws FOPException if an error occurs deleting the font cache
      */
     void delete() throws FOPException;
+
+    /**
+     * Returns the cache of loaded font metrics, kept next to the font cache file.
+     * @return the font metrics cache, or null if caching is disabled
+     */
+    FontMetricsCache getMetricsCache();
 }
@@ -56,6 +56,8 @@ public final class FontCacheManagerFactory {
 
         private FontCache fontCache;
 
+        private FontMetricsCache metricsCache;
+
         public FontCache load() {
             if (fontCache == null) {
                 fontCache = FontCache.loadFrom(getCacheFile(false));
@@ -73,11 +75,21 @@ public final class FontCacheManagerFactory {
         }
 
         public void delete() throws FOPException {
+            getMetricsCache().clear();
             if (!getCacheFile(true).delete()) {
                 throw new FOPException("Failed to flush the font cache file '" + cacheFile + "'.");
             }
         }
 
+        public FontMetricsCache getMetricsCache() {
+            if (metricsCache == null) {
+                File directory = getCacheFile(false).getAbsoluteFile().getParentFile();
+                metricsCache = new FontMetricsCache(
+                        new File(directory, FontMetricsCache.DEFAULT_DIRECTORY_NAME));
+            }
+            return metricsCache;
+        }
+
         private File getCacheFile(boolean forWriting) {
             if (cacheFile != null) {
                 return cacheFile;
@@ -87,6 +99,7 @@ public final class FontCacheManagerFactory {
 
         public void setCacheFile(URI fontCacheURI) {
             cacheFile = new File(fontCacheURI);
+            metricsCache = null;
         }
     }
 
@@ -107,5 +120,9 @@ public final class FontCacheManagerFactory {
         public void setCacheFile(URI fontCacheURI) {
             // nop
         }
+
+        public FontMetricsCache getMetricsCache() {
+            return null;
+        }
     }
 }
@@ -182,6 +182,21 @@ public class FontInfo {
         this.fonts.put(internalFontKey, (Typeface)metrics);
     }
 
+    /**
+     * Registers the fonts and font triplets set up on another font info object with this one.
+     * The font objects are shared and report their events to this object's event listener from
+     * now on.
+     * @param fontInfo the font info object to take the font setup from
+     */
+    public void addFonts(FontInfo fontInfo) {
+        for (Map.Entry<String, Typeface> entry : fontInfo.fonts.entrySet()) {
+            addMetrics(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<FontTriplet, String> entry : fontInfo.triplets.entrySet()) {
+            addFontProperties(entry.getValue(), entry.getKey());
+        }
+    }
+
     /**
      * Lookup a font.
      * <br>
@@ -298,7 +313,7 @@ public class FontInfo {
      * @param fontSize the font size
      * @return the requested Font instance
      */
-    public Font getFontInstance(FontTriplet triplet, int fontSize) {
+    public synchronized Font getFontInstance(FontTriplet triplet, int fontSize) {
         Map<Integer, Font> sizes = getFontInstanceCache().get(triplet);
         if (sizes == null) {
             sizes = new HashMap<Integer, Font>();
@@ -52,6 +52,9 @@ public class FontManager {
     /** FontTriplet matcher for fonts that shall be referenced rather than embedded. */
     private FontTriplet.Matcher referencedFontsMatcher;
 
+    /** The font subsets created for earlier documents */
+    private final FontSubsetCache fontSubsetCache = new FontSubsetCache();
+
     /**
      * Main constructor
      *
@@ -133,6 +136,14 @@ public class FontManager {
         return fontCacheManager.load();
     }
 
+    /**
+     * Returns the cache of font subsets shared by the documents using this font manager.
+     * @return the font subset cache
+     */
+    public FontSubsetCache getFontSubsetCache() {
+        return fontSubsetCache;
+    }
+
     /**
      * Saves the FontCache as necessary
      *
@@ -162,6 +173,14 @@ public class FontManager {
         for (int i = 0, c = fontCollections.length; i < c; i++) {
             startNum = fontCollections[i].setup(startNum, fontInfo);
         }
+        FontMetricsCache metricsCache = fontCacheManager.getMetricsCache();
+        if (metricsCache != null) {
+            for (Typeface font : fontInfo.getFonts().values()) {
+                if (font instanceof LazyFont) {
+                    ((LazyFont) font).setMetricsCache(metricsCache);
+                }
+            }
+        }
         // Make any defined substitutions in the font info
         getFontSubstitutions().adjustFontInfo(fontInfo);
     }
@@ -115,6 +115,15 @@ public class FontManagerConfigurator {
                 LogUtil.handleException(log, e, true);
             }
         }
+        // reuse of font subsets containing more glyphs than a document uses
+        if (cfg.getChild("font-subset-supersets", false) != null) {
+            try {
+                fontManager.getFontSubsetCache().setSupersetsEnabled(
+                        cfg.getChild("font-subset-supersets").getValueAsBoolean());
+            } catch (ConfigurationException e) {
+                LogUtil.handleException(log, e, true);
+            }
+        }
 
         // global font configuration
         Configuration fontsCfg = cfg.getChild("fonts", false);
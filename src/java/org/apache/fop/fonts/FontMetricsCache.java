@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.fonts;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.apache.fop.Version;
+import org.apache.fop.apps.io.InternalResourceResolver;
+
+/**
+ * On-disk cache of fonts loaded from TrueType and OpenType files. Each entry holds a
+ * serialized {@link MultiByteFont} (widths, cmap, kerning and the GDEF/GSUB/GPOS tables)
+ * so later runs skip parsing the font file. Entries are keyed by the font URI, the load
+ * options and the FOP version, and are discarded when the cache format version, or the font
+ * file's modification time or size, changes. Only fonts in local files read by the default
+ * resource resolver are cached.
+ */
+public final class FontMetricsCache {
+
+    /** name of the cache directory created next to the font cache file */
+    public static final String DEFAULT_DIRECTORY_NAME = "fop-metrics";
+
+    private static Log log = LogFactory.getLog(FontMetricsCache.class);
+
+    private static final String ENTRY_SUFFIX = ".metrics";
+
+    /**
+     * The version of the entry format. The serialVersionUIDs of the cached classes are fixed
+     * and development builds all report the same FOP version, so this must be incremented
+     * whenever a serialized field is added, removed or changes meaning in {@link CustomFont}
+     * or any class it refers to. Entries of another version are discarded without being
+     * deserialized.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    private final File directory;
+
+    /**
+     * Creates a cache storing its entries in the given directory. The directory is created
+     * when the first entry is written.
+     * @param directory the cache directory
+     */
+    public FontMetricsCache(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the directory holding the cache entries.
+     * @return the cache directory
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Loads a font, from the cache if possible. The arguments are those of
+     * {@link FontLoader#loadFont(FontUris, String, boolean, EmbeddingMode, EncodingMode,
+     * boolean, boolean, InternalResourceResolver)}.
+     * @param fontUris the URIs of the font
+     * @param subFontName the sub-fontname of a font (for TrueType Collections, null otherwise)
+     * @param embedded indicates whether the font is embedded or referenced
+     * @param embeddingMode the embedding mode of the font
+     * @param encodingMode the requested encoding mode
+     * @param useKerning indicates whether kerning information should be loaded if available
+     * @param useAdvanced indicates whether advanced typographic information shall be loaded if
+     * available
+     * @param resourceResolver the font resolver to use when resolving URIs
+     * @return the loaded font
+     * @throws IOException In case of an I/O error
+     */
+    public CustomFont loadFont(FontUris fontUris, String subFontName, boolean embedded,
+            EmbeddingMode embeddingMode, EncodingMode encodingMode, boolean useKerning,
+            boolean useAdvanced, InternalResourceResolver resourceResolver) throws IOException {
+        // the entry is validated against the file, so it is only used if that file is what
+        // the resolver reads
+        File fontFile = null;
+        if (resourceResolver.isDefaultResourceResolver()) {
+            fontFile = getFontFile(fontUris.getEmbed(), resourceResolver);
+        }
+        if (fontFile == null) {
+            return FontLoader.loadFont(fontUris, subFontName, embedded, embeddingMode,
+                    encodingMode, useKerning, useAdvanced, resourceResolver);
+        }
+        String key = Version.getVersion() + '\n' + fontFile.toURI().toASCIIString() + '\n'
+                + subFontName + '\n' + embedded + ',' + embeddingMode + ',' + encodingMode
+                + ',' + useKerning + ',' + useAdvanced;
+        long lastModified = fontFile.lastModified();
+        long length = fontFile.length();
+        File entry = new File(directory, getEntryName(key));
+
+        CustomFont font = readEntry(entry, key, lastModified, length);
+        if (font != null) {
+            font.setResourceResolver(resourceResolver);
+            return font;
+        }
+        font = FontLoader.loadFont(fontUris, subFontName, embedded, embeddingMode,
+                encodingMode, useKerning, useAdvanced, resourceResolver);
+        if (font instanceof MultiByteFont) {
+            writeEntry(entry, key, lastModified, length, font);
+        }
+        return font;
+    }
+
+    static File getFontFile(URI fontURI, InternalResourceResolver resourceResolver) {
+        if (fontURI == null) {
+            return null;
+        }
+        URI resolved = resourceResolver.resolveFromBase(fontURI);
+        if (!"file".equals(resolved.getScheme()) || resolved.isOpaque()) {
+            return null;
+        }
+        File file = new File(resolved);
+        return file.isFile() ? file : null;
+    }
+
+    private static String getEntryName(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(key.getBytes("UTF-8"));
+            StringBuilder name = new StringBuilder();
+            for (byte b : digest) {
+                name.append(Character.forDigit((b >> 4) & 0xF, 16));
+                name.append(Character.forDigit(b & 0xF, 16));
+            }
+            return name.append(ENTRY_SUFFIX).toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static CustomFont readEntry(File entry, String key, long lastModified, long length) {
+        if (!entry.isFile()) {
+            return null;
+        }
+        ObjectInputStream in = null;
+        try {
+            // a single read of the whole entry; deserializing from memory is much faster
+            // than from a file stream
+            in = new ObjectInputStream(new ByteArrayInputStream(
+                    FileUtils.readFileToByteArray(entry)));
+            if (in.readInt() != FORMAT_VERSION) {
+                log.debug("Font metrics cache entry has another format version: " + entry);
+                return null;
+            }
+            if (!key.equals(in.readUTF()) || in.readLong() != lastModified
+                    || in.readLong() != length) {
+                log.debug("Font metrics cache entry is out of date: " + entry);
+                return null;
+            }
+            return (CustomFont) in.readObject();
+        } catch (IOException ioe) {
+            // incompatible classes (InvalidClassException) or a damaged entry
+            log.debug("Discarding font metrics cache entry " + entry + ": " + ioe.getMessage());
+        } catch (ClassNotFoundException cnfe) {
+            log.debug("Discarding font metrics cache entry " + entry + ": " + cnfe.getMessage());
+        } catch (ClassCastException cce) {
+            log.debug("Discarding font metrics cache entry " + entry + ": " + cce.getMessage());
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+        return null;
+    }
+
+    private void writeEntry(File entry, String key, long lastModified, long length,
+            CustomFont font) {
+        File temp = null;
+        try {
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                log.warn("Unable to create font metrics cache directory " + directory);
+                return;
+            }
+            // write to a temporary file first so concurrent readers never see partial entries
+            temp = File.createTempFile("fop", ".tmp", directory);
+            OutputStream out = new java.io.BufferedOutputStream(new FileOutputStream(temp));
+            ObjectOutputStream oout = new ObjectOutputStream(out);
+            try {
+                oout.writeInt(FORMAT_VERSION);
+                oout.writeUTF(key);
+                oout.writeLong(lastModified);
+                oout.writeLong(length);
+                oout.writeObject(font);
+            } finally {
+                IOUtils.closeQuietly(oout);
+            }
+            if (!temp.renameTo(entry)) {
+                entry.delete();
+                if (!temp.renameTo(entry)) {
+                    log.warn("Unable to write font metrics cache entry " + entry);
+                }
+            }
+        } catch (IOException ioe) {
+            log.warn("Unable to write font metrics cache entry " + entry + ": " + ioe.getMessage());
+        } finally {
+            if (temp != null && temp.exists()) {
+                temp.delete();
+            }
+        }
+    }
+
+    /**
+     * Deletes all entries of this cache.
+     */
+    public void clear() {
+        File[] entries = directory.listFiles();
+        if (entries != null) {
+            for (File entry : entries) {
+                if (entry.getName().endsWith(ENTRY_SUFFIX)) {
+                    entry.delete();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.fonts;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.fop.fonts.truetype.FontFileReader;
+import org.apache.fop.fonts.truetype.OTFSubSetFile;
+import org.apache.fop.fonts.truetype.TTFSubSetFile;
+import org.apache.fop.fonts.type1.Type1SubsetFile;
+
+/**
+ * Creates font subsets for embedding and keeps them for later documents. A subset is
+ * identified by the font file, the sub-font or embedded name, and the mapping of the used
+ * glyphs to their indexes in the subset, so documents using the same glyphs in the same
+ * order get the same font program without subsetting the font again. For local font files,
+ * the size and modification time are part of the identity too, so a font file replaced under
+ * the same name is subsetted again. For TrueType fonts, a cached subset that maps a few more
+ * glyphs may be used instead, if the caller allows it and supersets have been enabled with
+ * {@link #setSupersetsEnabled(boolean)}. Supersets are off by default: with them, the font
+ * program embedded in a document depends on the documents produced before it, so the same
+ * input doesn't always give the same output. The glyph names the subsetters record
+ * on the font are kept with the subset and restored on a cache hit.
+ * <p>
+ * The cache is bounded by the total size of the subsets; the least recently used subsets
+ * are dropped first. A {@link FontManager} holds one instance, so it is shared by all
+ * documents of a {@link org.apache.fop.apps.FopFactory}. This class is thread-safe.
+ */
+public final class FontSubsetCache {
+
+    /** the default limit for the total size of the cached subsets, in bytes */
+    public static final int DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+
+    private static final String TRUETYPE = "truetype";
+    private static final String CFF = "cff";
+    private static final String TYPE1 = "type1";
+
+    /** a superset may contain up to one extra glyph for every eight glyphs used */
+    private static final int MAX_EXTRA_GLYPHS_DIVISOR = 8;
+
+    private final int maxSize;
+
+    private int size;
+
+    private volatile boolean supersetsEnabled;
+
+    private final LinkedHashMap<Key, Subset> subsets
+            = new LinkedHashMap<Key, Subset>(16, 0.75f, true);
+
+    /**
+     * Creates a cache with the default size limit.
+     */
+    public FontSubsetCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a cache.
+     * @param maxSize the limit for the total size of the cached subsets in bytes,
+     *                0 to disable caching
+     */
+    public FontSubsetCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Enables or disables the reuse of cached TrueType subsets that contain a few glyphs more
+     * than a document uses. This saves subsetting the font again, but makes the embedded font
+     * program depend on the documents produced earlier.
+     * @param enabled true to allow supersets to be returned
+     */
+    public void setSupersetsEnabled(boolean enabled) {
+        this.supersetsEnabled = enabled;
+    }
+
+    /**
+     * Indicates whether cached TrueType subsets containing additional glyphs may be returned.
+     * @return true if supersets are enabled
+     * @see #setSupersetsEnabled(boolean)
+     */
+    public boolean isSupersetsEnabled() {
+        return supersetsEnabled;
+    }
+
+    /**
+     * Returns a TrueType subset of the glyphs used in a font, as created by
+     * {@link TTFSubSetFile}. If allowed by the caller and if supersets are enabled, a cached
+     * subset may be returned that contains a few glyphs more than the ones used, mapped after
+     * them.
+     * @param font the font
+     * @param reader the reader for the font file
+     * @param header the font file header
+     * @param allowSuperset true if a subset containing additional glyphs may be returned
+     * @return the subset font program
+     * @throws IOException in case of an I/O problem
+     */
+    public byte[] getTrueTypeSubset(MultiByteFont font, FontFileReader reader, String header,
+            boolean allowSuperset) throws IOException {
+        Key key = createKey(TRUETYPE, font, font.getTTCName(), font.getUsedGlyphs());
+        Subset subset = get(key, allowSuperset && supersetsEnabled);
+        if (subset != null) {
+            return subset.data;
+        }
+        TTFSubSetFile subsetFile = new TTFSubSetFile();
+        subsetFile.readFont(reader, font.getTTCName(), header, font.getUsedGlyphs());
+        byte[] data = subsetFile.getFontSubset();
+        put(key, new Subset(data, null));
+        return data;
+    }
+
+    /**
+     * Returns a subset of the glyphs used in an OpenType CFF font, as created by
+     * {@link OTFSubSetFile}.
+     * @param font the font
+     * @param reader the reader for the font file
+     * @param header the font file header
+     * @param embeddedName the name of the font in the subset
+     * @return the subset CFF data
+     * @throws IOException in case of an I/O problem
+     */
+    public byte[] getCFFSubset(MultiByteFont font, FontFileReader reader, String header,
+            String embeddedName) throws IOException {
+        Key key = createKey(CFF, font, embeddedName, font.getUsedGlyphs());
+        Subset subset = get(key, false);
+        if (subset != null) {
+            for (Map.Entry<Integer, String> entry : subset.glyphNames.entrySet()) {
+                font.mapUsedGlyphName(entry.getKey(), entry.getValue());
+            }
+            return subset.data;
+        }
+        OTFSubSetFile subsetFile = new OTFSubSetFile();
+        subsetFile.readFont(reader, embeddedName, header, font);
+        byte[] data = subsetFile.getFontSubset();
+        put(key, new Subset(data, font.getUsedGlyphNames()));
+        return data;
+    }
+
+    /**
+     * Returns a subset of the glyphs used in a Type 1 font, as created by
+     * {@link Type1SubsetFile}.
+     * @param font the font
+     * @param in the stream of the PFB file, only read if the subset is not cached
+     * @return the subset PFB data
+     * @throws IOException in case of an I/O problem
+     */
+    public byte[] getType1Subset(SingleByteFont font, InputStream in) throws IOException {
+        Key key = createKey(TYPE1, font, null, font.getUsedGlyphs());
+        Subset subset = get(key, false);
+        if (subset != null) {
+            for (Map.Entry<Integer, String> entry : subset.glyphNames.entrySet()) {
+                font.mapUsedGlyphName(entry.getKey(), entry.getValue());
+            }
+            return subset.data;
+        }
+        byte[] data = new Type1SubsetFile().createSubset(in, font);
+        put(key, new Subset(data, font.getUsedGlyphNames()));
+        return data;
+    }
+
+    /**
+     * Removes all subsets from the cache.
+     */
+    public synchronized void clear() {
+        subsets.clear();
+        size = 0;
+    }
+
+    private Key createKey(String format, CustomFont font, String name,
+            Map<Integer, Integer> usedGlyphs) {
+        URI fontURI = font.getEmbedFileURI();
+        if (maxSize <= 0 || fontURI == null) {
+            return null;
+        }
+        List<Map.Entry<Integer, Integer>> entries
+                = new ArrayList<Map.Entry<Integer, Integer>>(usedGlyphs.entrySet());
+        Collections.sort(entries, new Comparator<Map.Entry<Integer, Integer>>() {
+            public int compare(Map.Entry<Integer, Integer> e1, Map.Entry<Integer, Integer> e2) {
+                int c = e1.getValue().compareTo(e2.getValue());
+                return c != 0 ? c : e1.getKey().compareTo(e2.getKey());
+            }
+        });
+        int[] glyphs = new int[entries.size() * 2];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> entry : entries) {
+            glyphs[i++] = entry.getValue();
+            glyphs[i++] = entry.getKey();
+        }
+        String fontKey = format + '\n' + fontURI.toASCIIString() + '\n' + name;
+        File fontFile = font.getEmbedFile();
+        if (fontFile != null) {
+            fontKey += "\n" + fontFile.length() + "," + fontFile.lastModified();
+        }
+        return new Key(fontKey, glyphs);
+    }
+
+    private synchronized Subset get(Key key, boolean allowSuperset) {
+        if (key == null) {
+            return null;
+        }
+        Subset subset = subsets.get(key);
+        if (subset != null || !allowSuperset) {
+            return subset;
+        }
+        // a superset is only worth serving if it contains few glyphs the document doesn't use
+        int glyphCount = key.glyphs.length / 2;
+        int maxGlyphCount = glyphCount + glyphCount / MAX_EXTRA_GLYPHS_DIVISOR;
+        Key best = null;
+        for (Key candidate : subsets.keySet()) {
+            if (candidate.font.equals(key.font) && candidate.glyphs.length / 2 <= maxGlyphCount
+                    && (best == null || candidate.glyphs.length < best.glyphs.length)
+                    && candidate.contains(key)) {
+                best = candidate;
+            }
+        }
+        return best != null ? subsets.get(best) : null;
+    }
+
+    private synchronized void put(Key key, Subset subset) {
+        if (key == null || subset.data.length > maxSize) {
+            return;
+        }
+        Subset previous = subsets.put(key, subset);
+        if (previous != null) {
+            size -= previous.data.length;
+        }
+        size += subset.data.length;
+        Iterator<Subset> iter = subsets.values().iterator();
+        while (size > maxSize) {
+            size -= iter.next().data.length;
+            iter.remove();
+        }
+    }
+
+    private static final class Key {
+
+        private final String font;
+
+        /** pairs of subset index and original glyph index, sorted by subset index */
+        private final int[] glyphs;
+
+        private final int hash;
+
+        Key(String font, int[] glyphs) {
+            this.font = font;
+            this.glyphs = glyphs;
+            this.hash = font.hashCode() * 31 + Arrays.hashCode(glyphs);
+        }
+
+        /** Returns true if this key maps all glyphs of the given key in the same way. */
+        boolean contains(Key key) {
+            int i = 0;
+            for (int j = 0; j < key.glyphs.length; j += 2) {
+                while (i < glyphs.length && (glyphs[i] < key.glyphs[j]
+                        || (glyphs[i] == key.glyphs[j] && glyphs[i + 1] < key.glyphs[j + 1]))) {
+                    i += 2;
+                }
+                if (i == glyphs.length || glyphs[i] != key.glyphs[j]
+                        || glyphs[i + 1] != key.glyphs[j + 1]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return font.equals(other.font) && Arrays.equals(glyphs, other.glyphs);
+        }
+    }
+
+    private static final class Subset {
+
+        private final byte[] data;
+
+        private final Map<Integer, String> glyphNames;
+
+        Subset(byte[] data, Map<Integer, String> glyphNames) {
+            this.data = data;
+            this.glyphNames = glyphNames == null ? Collections.<Integer, String>emptyMap()
+                    : new LinkedHashMap<Integer, String>(glyphNames);
+        }
+    }
+}
@@ -19,10 +19,15 @@
 
 package org.apache.fop.fonts;
 
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+
 /**
  * This class enumerates all supported font types.
  */
-public class FontType {
+public class FontType implements Serializable {
+
+    private static final long serialVersionUID = -4618917416404735593L;
 
     /**
      * Collective identifier for "other" font types
@@ -139,4 +144,15 @@ public class FontType {
         return name;
     }
 
+    private Object readResolve() throws ObjectStreamException {
+        // font types are compared by identity
+        FontType[] types = {OTHER, TYPE0, TYPE1, MMTYPE1, TYPE3, TRUETYPE, TYPE1C, CIDTYPE0};
+        for (FontType type : types) {
+            if (type.value == value) {
+                return type;
+            }
+        }
+        return this;
+    }
+
 }
@@ -53,7 +53,9 @@ public class LazyFont extends Typeface implements FontDescriptor, Substitutable,
     private final boolean embedded;
     private final InternalResourceResolver resourceResolver;
 
-    private boolean isMetricsLoaded;
+    private FontMetricsCache metricsCache;
+
+    private volatile boolean isMetricsLoaded;
     private Typeface realFont;
     private FontDescriptor realFontDescriptor;
 
@@ -81,6 +83,33 @@ public class LazyFont extends Typeface implements FontDescriptor, Substitutable,
         this.resourceResolver = resourceResolver;
     }
 
+    /**
+     * Sets the cache used to avoid parsing the font file when the font is loaded.
+     * @param metricsCache the font metrics cache (may be null)
+     */
+    void setMetricsCache(FontMetricsCache metricsCache) {
+        this.metricsCache = metricsCache;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setEventListener(FontEventListener listener) {
+        super.setEventListener(listener);
+        //The font may be shared by several documents of a rendering session
+        if (isMetricsLoaded) {
+            realFont.setEventListener(listener);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetUsage() {
+        super.resetUsage();
+        if (isMetricsLoaded) {
+            realFont.resetUsage();
+        }
+    }
+
     /** {@inheritDoc} */
     public String toString() {
         StringBuffer sbuf = new StringBuffer(super.toString());
@@ -94,10 +123,16 @@ public class LazyFont extends Typeface implements FontDescriptor, Substitutable,
     }
 
     private void load(boolean fail) {
+        if (!isMetricsLoaded) {
+            loadMetrics(fail);
+        }
+    }
+
+    private synchronized void loadMetrics(boolean fail) {
+        //Checked again now that the lock is held, another thread may have loaded the metrics
         if (!isMetricsLoaded) {
             try {
                 if (fontUris.getMetrics() != null) {
-                    /**@todo Possible thread problem here */
                     FontReader reader = null;
                     InputStream in = resourceResolver.getResource(fontUris.getMetrics());
                     InputSource src = new InputSource(in);
@@ -113,8 +148,15 @@ public class LazyFont extends Typeface implements FontDescriptor, Substitutable,
                     if (fontUris.getEmbed() == null) {
                         throw new RuntimeException("Cannot load font. No font URIs available.");
                     }
-                    realFont = FontLoader.loadFont(fontUris, subFontName, embedded,
-                            embeddingMode, encodingMode, useKerning, useAdvanced, resourceResolver);
+                    if (metricsCache != null) {
+                        realFont = metricsCache.loadFont(fontUris, subFontName, embedded,
+                                embeddingMode, encodingMode, useKerning, useAdvanced,
+                                resourceResolver);
+                    } else {
+                        realFont = FontLoader.loadFont(fontUris, subFontName, embedded,
+                                embeddingMode, encodingMode, useKerning, useAdvanced,
+                                resourceResolver);
+                    }
                 }
                 if (realFont instanceof FontDescriptor) {
                     realFontDescriptor = (FontDescriptor) realFont;
@@ -20,7 +20,10 @@
 package org.apache.fop.fonts;
 
 import java.awt.Rectangle;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.nio.CharBuffer;
 import java.nio.IntBuffer;
 import java.util.BitSet;
@@ -48,6 +51,8 @@ import org.apache.fop.util.CharUtilities;
  */
 public class MultiByteFont extends CIDFont implements Substitutable, Positionable {
 
+    private static final long serialVersionUID = 7113283410524925307L;
+
     /** logging instance */
     private static final Log log
         = LogFactory.getLog(MultiByteFont.class);
@@ -56,7 +61,7 @@ public class MultiByteFont extends CIDFont implements Substitutable, Positionabl
     private String encoding = "Identity-H";
 
     private int defaultWidth;
-    private CIDFontType cidType = CIDFontType.CIDTYPE2;
+    private transient CIDFontType cidType = CIDFontType.CIDTYPE2;
 
     protected final CIDSet cidSet;
 
@@ -182,6 +187,16 @@ public class MultiByteFont extends CIDFont implements Substitutable, Positionabl
         return usedGlyphNames;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void resetUsage() {
+        super.resetUsage();
+        if (cidSet instanceof CIDSubset) {
+            ((CIDSubset) cidSet).clear();
+        }
+        usedGlyphNames.clear();
+    }
+
     /** {@inheritDoc} */
     @Override
     public String getEncodingName() {
@@ -782,5 +797,15 @@ public class MultiByteFont extends CIDFont implements Substitutable, Positionabl
     public InputStream getCmapStream() {
         return null;
     }
-}
 
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        // CIDFontType is not serializable
+        out.writeInt(cidType.getValue());
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        cidType = CIDFontType.byValue(in.readInt());
+    }
+}
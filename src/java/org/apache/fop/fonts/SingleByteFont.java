@@ -43,6 +43,8 @@ import org.apache.fop.util.CharUtilities;
  */
 public class SingleByteFont extends CustomFont {
 
+    private static final long serialVersionUID = 6119497476031858329L;
+
     /** logger */
     private  static Log log = LogFactory.getLog(SingleByteFont.class);
 
@@ -76,10 +78,27 @@ public class SingleByteFont extends CustomFont {
             usedGlyphNames = new LinkedHashMap<Integer, String>();
             usedGlyphs = new HashMap<Integer, Integer>();
             usedCharsIndex = new HashMap<Integer, Character>();
+            reserveNotDef();
+        }
+    }
 
-            // The zeroth value is reserved for .notdef
-            usedGlyphs.put(0, 0);
-            usedGlyphsCount++;
+    private void reserveNotDef() {
+        // The zeroth value is reserved for .notdef
+        usedGlyphs.put(0, 0);
+        usedGlyphsCount++;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void resetUsage() {
+        super.resetUsage();
+        this.additionalEncodings = null;
+        if (usedGlyphs != null) {
+            usedGlyphNames.clear();
+            usedGlyphs.clear();
+            usedCharsIndex.clear();
+            usedGlyphsCount = 0;
+            reserveNotDef();
         }
     }
 
@@ -114,14 +133,18 @@ public class SingleByteFont extends CustomFont {
             if (idx >= 0 && idx < width.length) {
                 return size * width[idx];
             }
-        } else if (this.additionalEncodings != null) {
-            int encodingIndex = (i / 256) - 1;
-            SimpleSingleByteEncoding encoding = getAdditionalEncoding(encodingIndex);
-            int codePoint = i % 256;
-            NamedCharacter nc = encoding.getCharacterForIndex(codePoint);
-            UnencodedCharacter uc
-                = this.unencodedCharacters.get(Character.valueOf(nc.getSingleUnicodeValue()));
-            return size * uc.getWidth();
+        } else {
+            synchronized (this) {
+                if (this.additionalEncodings != null) {
+                    int encodingIndex = (i / 256) - 1;
+                    SimpleSingleByteEncoding encoding = getAdditionalEncoding(encodingIndex);
+                    int codePoint = i % 256;
+                    NamedCharacter nc = encoding.getCharacterForIndex(codePoint);
+                    UnencodedCharacter uc = this.unencodedCharacters.get(
+                            Character.valueOf(nc.getSingleUnicodeValue()));
+                    return size * uc.getWidth();
+                }
+            }
         }
         return 0;
     }
@@ -140,13 +163,18 @@ public class SingleByteFont extends CustomFont {
             if (idx >= 0 && idx < boundingBoxes.length) {
                 bbox =  boundingBoxes[idx];
             }
-        } else if (this.additionalEncodings != null) {
-            int encodingIndex = (glyphIndex / 256) - 1;
-            SimpleSingleByteEncoding encoding = getAdditionalEncoding(encodingIndex);
-            int codePoint = glyphIndex % 256;
-            NamedCharacter nc = encoding.getCharacterForIndex(codePoint);
-            UnencodedCharacter uc = this.unencodedCharacters.get(Character.valueOf(nc.getSingleUnicodeValue()));
-            bbox = uc.getBBox();
+        } else {
+            synchronized (this) {
+                if (this.additionalEncodings != null) {
+                    int encodingIndex = (glyphIndex / 256) - 1;
+                    SimpleSingleByteEncoding encoding = getAdditionalEncoding(encodingIndex);
+                    int codePoint = glyphIndex % 256;
+                    NamedCharacter nc = encoding.getCharacterForIndex(codePoint);
+                    UnencodedCharacter uc = this.unencodedCharacters.get(
+                            Character.valueOf(nc.getSingleUnicodeValue()));
+                    bbox = uc.getBBox();
+                }
+            }
         }
         return bbox == null ? null : new Rectangle(bbox.x * size, bbox.y * size, bbox.width * size, bbox.height * size);
     }
@@ -207,7 +235,7 @@ public class SingleByteFont extends CustomFont {
 
     /** {@inheritDoc} */
     @Override
-    public char mapChar(char c) {
+    public synchronized char mapChar(char c) {
         notifyMapOperation();
         char d = lookupChar(c);
         if (d == SingleByteEncoding.NOT_FOUND_CODE_POINT) {
@@ -285,7 +313,7 @@ public class SingleByteFont extends CustomFont {
 
     /** {@inheritDoc} */
     @Override
-    public boolean hasChar(char c) {
+    public synchronized boolean hasChar(char c) {
         char d = mapping.mapChar(c);
         if (d != SingleByteEncoding.NOT_FOUND_CODE_POINT) {
             return true;
@@ -407,7 +435,7 @@ public class SingleByteFont extends CustomFont {
      * Indicates whether the encoding has additional encodings besides the primary encoding.
      * @return true if there are additional encodings.
      */
-    public boolean hasAdditionalEncodings() {
+    public synchronized boolean hasAdditionalEncodings() {
         return (this.additionalEncodings != null) && (this.additionalEncodings.size() > 0);
     }
 
@@ -415,7 +443,7 @@ public class SingleByteFont extends CustomFont {
      * Returns the number of additional encodings this single-byte font maintains.
      * @return the number of additional encodings
      */
-    public int getAdditionalEncodingCount() {
+    public synchronized int getAdditionalEncodingCount() {
         if (hasAdditionalEncodings()) {
             return this.additionalEncodings.size();
         } else {
@@ -429,7 +457,7 @@ public class SingleByteFont extends CustomFont {
      * @return the additional encoding
      * @throws IndexOutOfBoundsException if the index is out of bounds
      */
-    public SimpleSingleByteEncoding getAdditionalEncoding(int index)
+    public synchronized SimpleSingleByteEncoding getAdditionalEncoding(int index)
             throws IndexOutOfBoundsException {
         if (hasAdditionalEncodings()) {
             return this.additionalEncodings.get(index);
@@ -443,7 +471,7 @@ public class SingleByteFont extends CustomFont {
      * @param index the index of the additional encoding
      * @return the width array
      */
-    public int[] getAdditionalWidths(int index) {
+    public synchronized int[] getAdditionalWidths(int index) {
         SimpleSingleByteEncoding enc = getAdditionalEncoding(index);
         int[] arr = new int[enc.getLastChar() - enc.getFirstChar() + 1];
         for (int i = 0, c = arr.length; i < c; i++) {
@@ -515,7 +543,7 @@ public class SingleByteFont extends CustomFont {
         return Collections.unmodifiableMap(usedGlyphs);
     }
 
-    public char getUnicodeFromSelector(int selector) {
+    public synchronized char getUnicodeFromSelector(int selector) {
         return getUnicode(selector);
     }
 
@@ -527,7 +555,7 @@ public class SingleByteFont extends CustomFont {
         return usedGlyphNames;
     }
 
-    public String getGlyphName(int idx) {
+    public synchronized String getGlyphName(int idx) {
         if (idx < mapping.getCharNameMap().length) {
             return mapping.getCharNameMap()[idx];
         } else {
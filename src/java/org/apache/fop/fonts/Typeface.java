@@ -83,6 +83,16 @@ public abstract class Typeface implements FontMetrics {
         return (this.charMapOps > 0);
     }
 
+    /**
+     * Discards what has been recorded about the characters mapped so far: the mapping operations,
+     * the missing glyphs that have been reported and, for fonts that are subset or re-encoded,
+     * the glyphs used. Called when a font is reused for another document.
+     */
+    public synchronized void resetUsage() {
+        this.charMapOps = 0;
+        this.warnedChars = null;
+    }
+
     /**
      * Determines whether this font contains a particular character/glyph.
      * @param c character to check
@@ -123,7 +133,7 @@ public abstract class Typeface implements FontMetrics {
      * @param c
      *            the character which is missing.
      */
-    protected void warnMissingGlyph(char c) {
+    protected synchronized void warnMissingGlyph(char c) {
         // Give up, character is not available
         Character ch = new Character(c);
         if (warnedChars == null) {
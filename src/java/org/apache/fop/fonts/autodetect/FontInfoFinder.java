@@ -19,14 +19,12 @@
 
 package org.apache.fop.fonts.autodetect;
 
-import java.io.InputStream;
 import java.net.URI;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -44,6 +42,7 @@ import org.apache.fop.fonts.FontUris;
 import org.apache.fop.fonts.FontUtil;
 import org.apache.fop.fonts.MultiByteFont;
 import org.apache.fop.fonts.truetype.FontFileReader;
+import org.apache.fop.fonts.truetype.FontFileRegistry;
 import org.apache.fop.fonts.truetype.OFFontLoader;
 import org.apache.fop.fonts.truetype.TTFFile;
 
@@ -198,11 +197,9 @@ public class FontInfoFinder {
         if (fontURI.toASCIIString().toLowerCase().endsWith(".ttc")) {
             // Get a list of the TTC Font names
             List<String> ttcNames = null;
-            InputStream in = null;
             try {
-                in = resourceResolver.getResource(fontURI);
                 TTFFile ttf = new TTFFile(false, false);
-                FontFileReader reader = new FontFileReader(in);
+                FontFileReader reader = FontFileRegistry.getReader(resourceResolver, fontURI);
                 ttcNames = ttf.getTTCnames(reader);
             } catch (Exception e) {
                 if (this.eventListener != null) {
@@ -210,8 +207,6 @@ public class FontInfoFinder {
                             fontURI.toASCIIString(), e);
                 }
                 return null;
-            } finally {
-                IOUtils.closeQuietly(in);
             }
 
             List<EmbedFontInfo> embedFontInfoList = new java.util.ArrayList<EmbedFontInfo>();
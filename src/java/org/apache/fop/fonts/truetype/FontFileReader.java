@@ -21,18 +21,19 @@ package org.apache.fop.fonts.truetype;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import org.apache.commons.io.IOUtils;
 
 /**
- * Reads a TrueType font file into a byte array and
- * provides file like functions for array access.
+ * Reads a TrueType font file into a byte buffer and
+ * provides file like functions for buffer access.
  */
 public class FontFileReader {
 
     private final int fsize; // file size
     private int current;    // current position in file
-    private final byte[] file;
+    private final ByteBuffer file;
 
     /**
      * Constructor
@@ -41,8 +42,19 @@ public class FontFileReader {
      * @throws IOException In case of an I/O problem
      */
     public FontFileReader(InputStream in) throws IOException {
-        this.file = IOUtils.toByteArray(in);
-        this.fsize = this.file.length;
+        this(ByteBuffer.wrap(IOUtils.toByteArray(in)));
+    }
+
+    /**
+     * Constructor for a font file that is already held in a buffer, for example a
+     * memory-mapped file (see {@link FontFileRegistry}). The content is not copied, so the
+     * buffer may be shared by several readers.
+     *
+     * @param buffer the buffer holding the font file from index 0 up to its limit
+     */
+    public FontFileReader(ByteBuffer buffer) {
+        this.file = buffer.duplicate();
+        this.fsize = this.file.limit();
         this.current = 0;
     }
 
@@ -100,7 +112,7 @@ public class FontFileReader {
             throw new java.io.EOFException("Reached EOF, file size=" + fsize);
         }
 
-        final byte ret = file[current++];
+        final byte ret = file.get(current++);
         return ret;
     }
 
@@ -153,24 +165,6 @@ public class FontFileReader {
         return ret;
     }
 
-    /**
-     * Write a USHort at a given position.
-     *
-     * @param pos The absolute position to write to
-     * @param val The value to write
-     * @throws IOException If EOF is reached
-     */
-    public final void writeTTFUShort(long pos, int val) throws IOException {
-        if ((pos + 2) > fsize) {
-            throw new java.io.EOFException("Reached EOF");
-        }
-        final byte b1 = (byte)((val >> 8) & 0xff);
-        final byte b2 = (byte)(val & 0xff);
-        final int fileIndex = (int) pos;
-        file[fileIndex] = b1;
-        file[fileIndex + 1] = b2;
-    }
-
     /**
      * Read 2 bytes signed at position pos without changing current position.
      *
@@ -239,15 +233,14 @@ public class FontFileReader {
      */
     public final String readTTFString() throws IOException {
         int i = current;
-        while (file[i++] != 0) {
+        while (file.get(i++) != 0) {
             if (i >= fsize) {
                 throw new java.io.EOFException("Reached EOF, file size="
                                                + fsize);
             }
         }
 
-        byte[] tmp = new byte[i - current - 1];
-        System.arraycopy(file, current, tmp, 0, i - current - 1);
+        byte[] tmp = getBytes(current, i - current - 1);
         return new String(tmp, "ISO-8859-1");
     }
 
@@ -264,8 +257,7 @@ public class FontFileReader {
             throw new java.io.EOFException("Reached EOF, file size=" + fsize);
         }
 
-        byte[] tmp = new byte[len];
-        System.arraycopy(file, current, tmp, 0, len);
+        byte[] tmp = getBytes(current, len);
         current += len;
         final String encoding;
         if ((tmp.length > 0) && (tmp[0] == 0)) {
@@ -289,8 +281,7 @@ public class FontFileReader {
             throw new java.io.EOFException("Reached EOF, file size=" + fsize);
         }
 
-        byte[] tmp = new byte[len];
-        System.arraycopy(file, current, tmp, 0, len);
+        byte[] tmp = getBytes(current, len);
         current += len;
         final String encoding;
         encoding = "UTF-16BE"; //Use this for all known encoding IDs for now
@@ -298,7 +289,7 @@ public class FontFileReader {
     }
 
     /**
-     * Return a copy of the internal array
+     * Return a copy of a part of the file
      *
      * @param offset The absolute offset to start reading from
      * @param length The number of bytes to read
@@ -312,14 +303,23 @@ public class FontFileReader {
         }
 
         byte[] ret = new byte[length];
-        System.arraycopy(file, offset, ret, 0, length);
+        file.position(offset);
+        file.get(ret);
         return ret;
     }
+
     /**
-     * Returns the full byte array representation of the file.
+     * Returns the full byte array representation of the file. Unless the file was read from
+     * an input stream, this is a copy of the buffer's content.
      * @return byte array.
      */
     public byte[] getAllBytes() {
-        return file;
+        if (file.hasArray() && file.arrayOffset() == 0 && file.array().length == fsize) {
+            return file.array();
+        }
+        byte[] ret = new byte[fsize];
+        file.position(0);
+        file.get(ret);
+        return ret;
     }
 }
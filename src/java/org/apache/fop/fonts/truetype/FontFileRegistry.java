@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+/* $Id$ */
+
+package org.apache.fop.fonts.truetype;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.io.IOUtils;
+
+import org.apache.fop.apps.io.InternalResourceResolver;
+
+/**
+ * Provides {@link FontFileReader} instances for font files. When fonts are resolved by the
+ * default resource resolver, font files on the local file system are memory-mapped read-only
+ * once and the mapping is shared by all readers of the file, so
+ * loading, subsetting and embedding a font does not copy the file onto the heap for every use.
+ * Since a mapping belongs to the file rather than to a particular configuration, the mappings
+ * are shared by all {@link org.apache.fop.apps.FopFactory} instances of the process. A file is
+ * mapped again if its size or modification time changes. Other font files, and all font files
+ * if a custom resource resolver is configured, are read through the resource resolver.
+ * <p>
+ * Note: a mapping reads the live file. A font file must therefore not be truncated or
+ * rewritten in place while it is in use; replace it with a new file (for instance by renaming
+ * one over it) instead. Reading a mapped file that has been truncated fails with an
+ * {@link InternalError} or, on some platforms, terminates the process (SIGBUS). On some
+ * platforms, a memory-mapped file cannot be deleted until the mapping has been garbage
+ * collected after {@link #clear()}.
+ */
+public final class FontFileRegistry {
+
+    private static final ConcurrentMap<File, MappedFontFile> MAPPED_FILES
+            = new ConcurrentHashMap<File, MappedFontFile>();
+
+    private FontFileRegistry() {
+    }
+
+    /**
+     * Returns a reader for a font file.
+     * @param resourceResolver the resolver used for font files that are not mapped
+     * @param uri the URI of the font file
+     * @return a new reader, positioned at the start of the file
+     * @throws IOException if the font file cannot be read
+     */
+    public static FontFileReader getReader(InternalResourceResolver resourceResolver, URI uri)
+            throws IOException {
+        File file = null;
+        if (resourceResolver.isDefaultResourceResolver()) {
+            file = toFile(resourceResolver.resolveFromBase(uri));
+        }
+        if (file != null) {
+            ByteBuffer buffer = getMappedFile(file);
+            if (buffer != null) {
+                return new FontFileReader(buffer);
+            }
+        }
+        InputStream in = resourceResolver.getResource(uri);
+        try {
+            return new FontFileReader(in);
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+    }
+
+    /**
+     * Drops all mappings. Readers created earlier remain usable.
+     */
+    public static void clear() {
+        MAPPED_FILES.clear();
+    }
+
+    private static File toFile(URI uri) {
+        if (!"file".equals(uri.getScheme())) {
+            return null;
+        }
+        try {
+            return new File(uri);
+        } catch (IllegalArgumentException iae) {
+            //e.g. a UNC path with an authority component, left to the resource resolver
+            return null;
+        }
+    }
+
+    private static ByteBuffer getMappedFile(File file) throws IOException {
+        long length = file.length();
+        long lastModified = file.lastModified();
+        if (!file.isFile() || length > Integer.MAX_VALUE) {
+            return null;
+        }
+        MappedFontFile mapped = MAPPED_FILES.get(file);
+        if (mapped == null || mapped.length != length || mapped.lastModified != lastModified) {
+            RandomAccessFile raf = new RandomAccessFile(file, "r");
+            try {
+                ByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, length);
+                mapped = new MappedFontFile(buffer, length, lastModified);
+            } finally {
+                raf.close();
+            }
+            MAPPED_FILES.put(file, mapped);
+        }
+        return mapped.buffer;
+    }
+
+    private static final class MappedFontFile {
+
+        private final ByteBuffer buffer;
+        private final long length;
+        private final long lastModified;
+
+        MappedFontFile(ByteBuffer buffer, long length, long lastModified) {
+            this.buffer = buffer;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+    }
+}
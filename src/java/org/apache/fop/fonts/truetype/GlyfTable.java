@@ -35,8 +35,6 @@ public class GlyfTable {
 
     private final long tableOffset;
 
-    private final Set<Long> remappedComposites;
-
     protected final Map<Integer, Integer> subset;
 
     private final FontFileReader in;
@@ -51,7 +49,6 @@ public class GlyfTable {
                         Map<Integer, Integer> glyphs) throws IOException {
         mtxTab = metrics;
         tableOffset = dirTableEntry.getOffset();
-        remappedComposites = new HashSet<Long>();
         this.subset = glyphs;
         this.in = in;
     }
@@ -117,7 +114,8 @@ public class GlyfTable {
 
     /**
      * Populates the map of subset glyphs with all the glyphs that compose the glyphs in the subset.
-     * This also re-maps the indices of composed glyphs to their new index in the subset font.
+     * The indices of the composed glyphs are re-mapped when the glyphs are copied to the subset
+     * font, see {@link #remapComposite(byte[], Map)}.
      *
      * @throws IOException an I/O error
      */
@@ -127,13 +125,6 @@ public class GlyfTable {
         }
 
         addAllComposedGlyphsToSubset();
-
-        for (int compositeGlyph : compositeGlyphs) {
-            long offset = tableOffset + mtxTab[compositeGlyph].getOffset() + 10;
-            if (!remappedComposites.contains(offset)) {
-                remapComposite(offset);
-            }
-        }
     }
 
     /**
@@ -174,34 +165,38 @@ public class GlyfTable {
     }
 
     /**
-     * Re-maps the index of composed glyphs in the original font to the index of the same glyph in
-     * the subset font.
+     * Re-maps the indices of the glyphs a composite glyph is composed of to the indices of the
+     * same glyphs in the subset font. This is done on a copy of the glyph data, so the font the
+     * subset is created from is left untouched and can be shared.
      *
-     * @param glyphOffset the offset of the composite glyph
-     * @throws IOException an I/O error
+     * @param glyphData the data of a glyph copied from the original font, changed in place
+     * @param subset the map of glyph indices in the original font to indices in the subset
      */
-    private void remapComposite(long glyphOffset) throws IOException {
-        long currentGlyphOffset = glyphOffset;
-
-        remappedComposites.add(currentGlyphOffset);
-
-        int flags = 0;
+    static void remapComposite(byte[] glyphData, Map<Integer, Integer> subset) {
+        if (glyphData.length < 10 || readShort(glyphData, 0) >= 0) {
+            return; // empty or simple glyph
+        }
+        int offset = 10;
+        int flags;
         do {
-            flags = in.readTTFUShort(currentGlyphOffset);
-            int glyphIndex = in.readTTFUShort(currentGlyphOffset + 2);
+            flags = readUShort(glyphData, offset);
+            int glyphIndex = readUShort(glyphData, offset + 2);
             Integer indexInSubset = subset.get(glyphIndex);
             assert indexInSubset != null;
-            /*
-             * TODO: this should not be done here!! We're writing to the stream we're reading from,
-             * this is asking for trouble! What should happen is when the glyph data is copied from
-             * subset, the remapping should be done there. So the original stream is left untouched.
-             */
-            in.writeTTFUShort(currentGlyphOffset + 2, indexInSubset);
-
-            currentGlyphOffset += 4 + GlyfFlags.getOffsetToNextComposedGlyf(flags);
+            glyphData[offset + 2] = (byte) (indexInSubset >> 8);
+            glyphData[offset + 3] = (byte) (int) indexInSubset;
+            offset += 4 + GlyfFlags.getOffsetToNextComposedGlyf(flags);
         } while (GlyfFlags.hasMoreComposites(flags));
     }
 
+    private static short readShort(byte[] data, int offset) {
+        return (short) readUShort(data, offset);
+    }
+
+    private static int readUShort(byte[] data, int offset) {
+        return ((data[offset] & 0xff) << 8) | (data[offset + 1] & 0xff);
+    }
+
     private boolean isComposite(int indexInOriginal) throws IOException {
         int numberOfContours = in.readTTFShort(tableOffset + mtxTab[indexInOriginal].getOffset());
         return numberOfContours < 0;
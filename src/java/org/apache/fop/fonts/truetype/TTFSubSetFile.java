@@ -20,6 +20,7 @@
 package org.apache.fop.fonts.truetype;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.SortedSet;
@@ -361,6 +362,7 @@ public class TTFSubSetFile extends TTFFile {
                 byte[] glyphData = in.getBytes(
                         (int)entry.getOffset() + glyphOffset,
                         glyphLength);
+                GlyfTable.remapComposite(glyphData, glyphs);
                 int endOffset1 = endOffset;
                 // Copy glyph
                 writeBytes(glyphData);
@@ -515,6 +517,42 @@ public class TTFSubSetFile extends TTFFile {
         createCheckSumAdjustment();
     }
 
+    /**
+     * Reads a subset created earlier by {@link #readFont(FontFileReader, String, String, Map)}
+     * so it can be streamed again without subsetting the original font.
+     *
+     * @param subset the bytes returned by {@link #getFontSubset()}
+     * @throws IOException in case of an I/O problem
+     */
+    public void readSubset(byte[] subset) throws IOException {
+        fontFile = new FontFileReader(ByteBuffer.wrap(subset));
+        readDirTabs();
+        readFontHeader();
+        getNumGlyphs();
+        readHorizontalHeader();
+        readHorizontalMetrics();
+        readIndexToLocation();
+
+        output = subset;
+        realSize = subset.length;
+        newDirTabs = new HashMap<OFTableName, OFDirTabEntry>();
+        for (Map.Entry<OFTableName, OFDirTabEntry> entry : dirTabs.entrySet()) {
+            OFDirTabEntry dirTab = entry.getValue();
+            if (entry.getKey().equals(OFTableName.TABLE_DIRECTORY)) {
+                newDirTabs.put(entry.getKey(), dirTab);
+            } else {
+                int end = (int) (dirTab.getOffset() + dirTab.getLength());
+                newDirTabs.put(entry.getKey(), new OFDirTabEntry(dirTab.getOffset(),
+                        dirTab.getLength() + getPadSize(end)));
+            }
+        }
+        int glyfOffset = (int) dirTabs.get(OFTableName.GLYF).getOffset();
+        glyphOffsets = new int[numberOfGlyphs];
+        for (int i = 0; i < numberOfGlyphs; i++) {
+            glyphOffsets[i] = glyfOffset + (int) mtxTab[i].getOffset();
+        }
+    }
+
     /**
      * Returns a subset of the fonts (readFont() MUST be called first in order to create the
      * subset).
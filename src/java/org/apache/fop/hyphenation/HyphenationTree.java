@@ -44,7 +44,7 @@ import org.apache.commons.io.IOUtils;
  *
  * <p>This work was authored by Carlos Villegas (cav@uniscope.co.jp).</p>
  */
-public class HyphenationTree extends TernaryTree implements PatternConsumer {
+public class HyphenationTree extends TernaryTree implements PatternConsumer, HyphenationPatterns {
 
     private static final long serialVersionUID = -7842107987915665573L;
 
@@ -108,6 +108,15 @@ public class HyphenationTree extends TernaryTree implements PatternConsumer {
         return offset;
     }
 
+    /**
+     * Returns a byte of the value space, holding two packed interletter values.
+     * @param k an index into the value space
+     * @return the packed values
+     */
+    protected byte getPackedValues(int k) {
+        return vspace.get(k);
+    }
+
     /**
      * Unpack values.
      * @param k an integer
@@ -115,7 +124,7 @@ public class HyphenationTree extends TernaryTree implements PatternConsumer {
      */
     protected String unpackValues(int k) {
         StringBuffer buf = new StringBuffer();
-        byte v = vspace.get(k++);
+        byte v = getPackedValues(k++);
         while (v != 0) {
             char c = (char)((v >>> 4) - 1 + '0');
             buf.append(c);
@@ -125,7 +134,7 @@ public class HyphenationTree extends TernaryTree implements PatternConsumer {
             }
             c = (char)(c - 1 + '0');
             buf.append(c);
-            v = vspace.get(k++);
+            v = getPackedValues(k++);
         }
         return buf.toString();
     }
@@ -208,7 +217,7 @@ public class HyphenationTree extends TernaryTree implements PatternConsumer {
      */
     protected byte[] getValues(int k) {
         StringBuffer buf = new StringBuffer();
-        byte v = vspace.get(k++);
+        byte v = getPackedValues(k++);
         while (v != 0) {
             char c = (char)((v >>> 4) - 1);
             buf.append(c);
@@ -218,7 +227,7 @@ public class HyphenationTree extends TernaryTree implements PatternConsumer {
             }
             c = (char)(c - 1);
             buf.append(c);
-            v = vspace.get(k++);
+            v = getPackedValues(k++);
         }
         byte[] res = new byte[buf.length()];
         for (int i = 0; i < res.length; i++) {
@@ -19,19 +19,31 @@
 
 package org.apache.fop.hyphenation;
 
-import java.util.Hashtable;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 /**
- * <p>This is a cache for HyphenationTree instances.</p>
+ * <p>This is a cache for hyphenation trees ({@link HyphenationPatterns} instances).</p>
+ *
+ * <p>The cache is safe for use by concurrent threads. Looking up a tree that is already
+ * cached never blocks; when several threads need the same tree that is not cached yet,
+ * only one of them loads it while the others wait for that tree only.</p>
  */
 public class HyphenationTreeCache {
 
     /** Contains the cached hyphenation trees */
-    private Hashtable hyphenTrees = new Hashtable();
+    private final ConcurrentMap<String, HyphenationPatterns> hyphenTrees
+            = new ConcurrentHashMap<String, HyphenationPatterns>();
     /** Used to avoid multiple error messages for the same language if a pattern file is missing. */
-    private Set missingHyphenationTrees;
+    private final ConcurrentMap<String, Boolean> missingHyphenationTrees
+            = new ConcurrentHashMap<String, Boolean>();
+    /** The hyphenation trees that are being loaded */
+    private final ConcurrentMap<String, FutureTask<HyphenationPatterns>> pendingTrees
+            = new ConcurrentHashMap<String, FutureTask<HyphenationPatterns>>();
 
     /**
      * Looks in the cache if a hyphenation tree is available and returns it if it is found.
@@ -39,16 +51,69 @@ public class HyphenationTreeCache {
      * @param country the country (may be null or "none")
      * @return the HyhenationTree instance or null if it's not in the cache
      */
-    public HyphenationTree getHyphenationTree(String lang, String country) {
-        String key = constructLlccKey(lang, country);
-
-        // first try to find it in the cache
-        if (hyphenTrees.containsKey(key)) {
-            return (HyphenationTree)hyphenTrees.get(key);
-        } else if (hyphenTrees.containsKey(lang)) {
-            return (HyphenationTree)hyphenTrees.get(lang);
+    public HyphenationPatterns getHyphenationTree(String lang, String country) {
+        HyphenationPatterns hTree = hyphenTrees.get(constructLlccKey(lang, country));
+        if (hTree == null) {
+            hTree = hyphenTrees.get(lang);
+        }
+        return hTree;
+    }
+
+    /**
+     * Returns the hyphenation tree cached under the given key.
+     * @param key the key (ex. "de_CH" or "en")
+     * @return the HyhenationTree instance or null if it's not in the cache
+     * @see #constructCacheKey(String, String, Map)
+     */
+    public HyphenationPatterns getHyphenationTree(String key) {
+        return hyphenTrees.get(key);
+    }
+
+    /**
+     * Returns the hyphenation tree cached under the given key, loading it if it is not
+     * cached yet. If another thread is already loading the tree, this waits for it instead
+     * of loading the tree a second time.
+     * @param key the key (ex. "de_CH" or "en")
+     * @param loader loads the tree, returns null if it is not available
+     * @return the HyhenationTree instance or null if it is not available
+     */
+    public HyphenationPatterns getHyphenationTree(String key, Callable<HyphenationPatterns> loader) {
+        HyphenationPatterns hTree = hyphenTrees.get(key);
+        if (hTree != null) {
+            return hTree;
+        }
+        FutureTask<HyphenationPatterns> task = new FutureTask<HyphenationPatterns>(loader);
+        FutureTask<HyphenationPatterns> pending = pendingTrees.putIfAbsent(key, task);
+        if (pending == null) {
+            try {
+                task.run();
+                hTree = getResult(task);
+                if (hTree != null) {
+                    cache(key, hTree);
+                }
+            } finally {
+                pendingTrees.remove(key, task);
+            }
+            return hTree;
         } else {
+            return getResult(pending);
+        }
+    }
+
+    private static HyphenationPatterns getResult(FutureTask<HyphenationPatterns> task) {
+        try {
+            return task.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
             return null;
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
         }
     }
 
@@ -67,6 +132,22 @@ public class HyphenationTreeCache {
         return key;
     }
 
+    /**
+     * Constructs the key under which the hyphenation tree for a (lang,country) value is
+     * cached. Trees loaded from user-configured pattern files are cached separately from
+     * the ones shipped with FOP, so that configurations using different pattern files
+     * don't share their trees.
+     * @param lang the language
+     * @param country the country (may be null or "none")
+     * @param hyphPatNames the map of user-configured hyphenation pattern file names
+     * @return the resulting key
+     */
+    public static String constructCacheKey(String lang, String country, Map hyphPatNames) {
+        String llccKey = constructLlccKey(lang, country);
+        String userKey = constructUserKey(lang, country, hyphPatNames);
+        return (userKey != null ? llccKey + "|" + userKey : llccKey);
+    }
+
     /**
      * If the user configured a hyphenation pattern file name
      * for this (lang,country) value, return it. If not, return null.
@@ -90,7 +171,7 @@ public class HyphenationTreeCache {
      * @param key the key (ex. "de_CH" or "en")
      * @param hTree the hyphenation tree
      */
-    public void cache(String key, HyphenationTree hTree) {
+    public void cache(String key, HyphenationPatterns hTree) {
         hyphenTrees.put(key, hTree);
     }
 
@@ -101,10 +182,7 @@ public class HyphenationTreeCache {
      * @param key the key (ex. "de_CH" or "en")
      */
     public void noteMissing(String key) {
-        if (missingHyphenationTrees == null) {
-            missingHyphenationTrees = new java.util.HashSet();
-        }
-        missingHyphenationTrees.add(key);
+        missingHyphenationTrees.put(key, Boolean.TRUE);
     }
 
     /**
@@ -115,7 +193,7 @@ public class HyphenationTreeCache {
      * @return true if the hyphenation tree is unavailable
      */
     public boolean isMissing(String key) {
-        return (missingHyphenationTrees != null && missingHyphenationTrees.contains(key));
+        return missingHyphenationTrees.containsKey(key);
     }
 
 }
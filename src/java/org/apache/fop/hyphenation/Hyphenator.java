@@ -20,11 +20,15 @@
 package org.apache.fop.hyphenation;
 
 import java.io.BufferedInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
+import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.URL;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import org.xml.sax.InputSource;
 
@@ -45,7 +49,7 @@ public final class Hyphenator {
     /** logging instance */
     private static final Log log = LogFactory.getLog(Hyphenator.class);
 
-    private static HyphenationTreeCache hTreeCache;
+    private static final HyphenationTreeCache hTreeCache = new HyphenationTreeCache();
 
     /** Enables a dump of statistics. Note: If activated content is sent to System.out! */
     private static boolean statisticsDump;
@@ -56,10 +60,7 @@ public final class Hyphenator {
     private Hyphenator() { }
 
     /** @return the default (static) hyphenation tree cache */
-    public static synchronized HyphenationTreeCache getHyphenationTreeCache() {
-        if (hTreeCache == null) {
-            hTreeCache = new HyphenationTreeCache();
-        }
+    public static HyphenationTreeCache getHyphenationTreeCache() {
         return hTreeCache;
     }
 
@@ -73,21 +74,27 @@ public final class Hyphenator {
      * @param hyphPatNames the map with user-configured hyphenation pattern file names
      * @return the hyphenation tree
      */
-    public static HyphenationTree getHyphenationTree(String lang,
+    public static HyphenationPatterns getHyphenationTree(String lang,
             String country, InternalResourceResolver resolver, Map hyphPatNames) {
-        String llccKey = HyphenationTreeCache.constructLlccKey(lang, country);
+        String key = HyphenationTreeCache.constructCacheKey(lang, country, hyphPatNames);
         HyphenationTreeCache cache = getHyphenationTreeCache();
 
+        // first try to find it in the cache
+        HyphenationPatterns hTree = cache.getHyphenationTree(key);
+        if (hTree != null) {
+            return hTree;
+        }
+
         // If this hyphenation tree has been registered as missing, return immediately
-        if (cache.isMissing(llccKey)) {
+        if (cache.isMissing(key)) {
             return null;
         }
 
-        HyphenationTree hTree = getHyphenationTree2(lang, country, resolver, hyphPatNames);
+        hTree = getHyphenationTree2(lang, country, resolver, hyphPatNames);
 
         // fallback to lang only
         if (hTree == null && country != null && !country.equals("none")) {
-            String llKey = HyphenationTreeCache.constructLlccKey(lang, null);
+            String llKey = HyphenationTreeCache.constructCacheKey(lang, null, hyphPatNames);
             if (!cache.isMissing(llKey)) {
                 hTree = getHyphenationTree2(lang, null, resolver, hyphPatNames);
                 if (hTree != null && log.isDebugEnabled()) {
@@ -101,14 +108,14 @@ public final class Hyphenator {
                     cache.noteMissing(llKey);
                 } else {
                     // also register for (lang,country)
-                    cache.cache(llccKey, hTree);
+                    cache.cache(key, hTree);
                 }
             }
         }
 
-        if (hTree == null) {
+        if (hTree == null && !cache.isMissing(key)) {
             // (lang,country) and (lang) tried; register as missing
-            cache.noteMissing(llccKey);
+            cache.noteMissing(key);
             log.error("Couldn't find hyphenation pattern "
                       + "for lang=\"" + lang + "\""
                       + (country != null && !country.equals("none")
@@ -129,40 +136,44 @@ public final class Hyphenator {
      * @param hyphPatNames the map with user-configured hyphenation pattern file names
      * @return the hyphenation tree
      */
-    public static HyphenationTree getHyphenationTree2(String lang,
-            String country, InternalResourceResolver resourceResolver, Map hyphPatNames) {
-        String llccKey = HyphenationTreeCache.constructLlccKey(lang, country);
+    public static HyphenationPatterns getHyphenationTree2(String lang,
+            String country, final InternalResourceResolver resourceResolver, Map hyphPatNames) {
+        String cacheKey = HyphenationTreeCache.constructCacheKey(lang, country, hyphPatNames);
         HyphenationTreeCache cache = getHyphenationTreeCache();
 
-        HyphenationTree hTree;
         // first try to find it in the cache
-        hTree = getHyphenationTreeCache().getHyphenationTree(lang, country);
+        HyphenationPatterns hTree = cache.getHyphenationTree(cacheKey);
+        if (hTree == null) {
+            hTree = cache.getHyphenationTree(
+                    HyphenationTreeCache.constructCacheKey(lang, null, hyphPatNames));
+        }
         if (hTree != null) {
             return hTree;
         }
 
         String key = HyphenationTreeCache.constructUserKey(lang, country, hyphPatNames);
         if (key == null) {
-            key = llccKey;
-        }
-
-        if (resourceResolver != null) {
-            hTree = getUserHyphenationTree(key, resourceResolver);
-        }
-        if (hTree == null) {
-            hTree = getFopHyphenationTree(key);
+            key = HyphenationTreeCache.constructLlccKey(lang, country);
         }
-
-        // put it into the pattern cache
-        if (hTree != null) {
-            cache.cache(llccKey, hTree);
-        }
-
-        return hTree;
+        final String fileKey = key;
+
+        // load it unless another thread is already doing so, and put it into the pattern cache
+        return cache.getHyphenationTree(cacheKey, new Callable<HyphenationPatterns>() {
+            public HyphenationPatterns call() {
+                HyphenationPatterns hTree = null;
+                if (resourceResolver != null) {
+                    hTree = getUserHyphenationTree(fileKey, resourceResolver);
+                }
+                if (hTree == null) {
+                    hTree = getFopHyphenationTree(fileKey);
+                }
+                return hTree;
+            }
+        });
     }
 
-    private static InputStream getResourceStream(String key) {
-        InputStream is = null;
+    private static URL getResource(String key) {
+        URL url = null;
         // Try to use Context Class Loader to load the properties file.
         try {
             java.lang.reflect.Method getCCL = Thread.class.getMethod(
@@ -171,8 +182,8 @@ public final class Hyphenator {
                 ClassLoader contextClassLoader = (ClassLoader)getCCL.invoke(
                         Thread.currentThread(),
                         new Object[0]);
-                is = contextClassLoader.getResourceAsStream("hyph/" + key
-                                                            + ".hyp");
+                url = contextClassLoader.getResource("hyph/" + key
+                                                     + ".hyp");
             }
         } catch (NoSuchMethodException e) {
             //ignore, fallback further down
@@ -182,19 +193,44 @@ public final class Hyphenator {
             //ignore, fallback further down
         }
 
-        if (is == null) {
-            is = Hyphenator.class.getResourceAsStream("/hyph/" + key
-                                                      + ".hyp");
+        if (url == null) {
+            url = Hyphenator.class.getResource("/hyph/" + key
+                                               + ".hyp");
         }
 
-        return is;
+        return url;
     }
 
-    private static HyphenationTree readHyphenationTree(InputStream in) {
-        HyphenationTree hTree = null;
+    /**
+     * Reads a precompiled hyphenation tree, either in the compact binary format written by
+     * {@link SerializeHyphPattern} or as a serialized {@link HyphenationTree} object.
+     * Compact pattern files are memory-mapped if they are available as a local file.
+     * @param in the stream to read the tree from
+     * @param file the file the stream reads from, or null if it isn't a local file
+     * @return the hyphenation tree or null if it could not be read
+     */
+    private static HyphenationPatterns readHyphenationTree(InputStream in, File file) {
+        HyphenationPatterns hTree = null;
         try {
-            ObjectInputStream ois = new ObjectInputStream(in);
-            hTree = (HyphenationTree)ois.readObject();
+            InputStream bin = new BufferedInputStream(in);
+            byte[] header = new byte[4];
+            bin.mark(header.length);
+            int len = 0;
+            int count;
+            while (len < header.length && (count = bin.read(header, len, header.length - len)) > 0) {
+                len += count;
+            }
+            bin.reset();
+            if (MappedHyphenationTree.isCompactFormat(header, len)) {
+                if (file != null) {
+                    hTree = MappedHyphenationTree.map(file);
+                } else {
+                    hTree = MappedHyphenationTree.load(bin);
+                }
+            } else {
+                ObjectInputStream ois = new ObjectInputStream(bin);
+                hTree = (HyphenationTree)ois.readObject();
+            }
         } catch (IOException ioe) {
             log.error("I/O error while loading precompiled hyphenation pattern file", ioe);
         } catch (ClassNotFoundException cnfe) {
@@ -203,30 +239,47 @@ public final class Hyphenator {
         return hTree;
     }
 
+    private static File toFile(URI uri) {
+        if (uri != null && "file".equals(uri.getScheme()) && uri.getAuthority() == null) {
+            File file = new File(uri);
+            if (file.isFile()) {
+                return file;
+            }
+        }
+        return null;
+    }
+
     /**
-     * Returns a hyphenation tree. This method looks in the resources (getResourceStream) for
+     * Returns a hyphenation tree. This method looks in the resources (getResource) for
      * the hyphenation patterns.
      * @param key the language/country key
      * @return the hyphenation tree or null if it wasn't found in the resources
      */
-    public static HyphenationTree getFopHyphenationTree(String key) {
-        HyphenationTree hTree = null;
-        ObjectInputStream ois = null;
+    public static HyphenationPatterns getFopHyphenationTree(String key) {
+        URL url = getResource(key);
+        if (url == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Couldn't find precompiled hyphenation pattern "
+                          + key + " in resources");
+            }
+            return null;
+        }
         InputStream is = null;
         try {
-            is = getResourceStream(key);
-            if (is == null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Couldn't find precompiled hyphenation pattern "
-                              + key + " in resources");
-                }
-                return null;
+            File file = null;
+            try {
+                file = toFile(url.toURI());
+            } catch (URISyntaxException use) {
+                //not a local file
             }
-            hTree = readHyphenationTree(is);
+            is = url.openStream();
+            return readHyphenationTree(is, file);
+        } catch (IOException ioe) {
+            log.error("I/O error while loading precompiled hyphenation pattern file", ioe);
+            return null;
         } finally {
-            IOUtils.closeQuietly(ois);
+            IOUtils.closeQuietly(is);
         }
-        return hTree;
     }
 
     /**
@@ -236,9 +289,9 @@ public final class Hyphenator {
      * @param resourceResolver resource resolver to find the hyphenation files
      * @return the requested HypenationTree or null if it is not available
      */
-    public static HyphenationTree getUserHyphenationTree(String key,
+    public static HyphenationPatterns getUserHyphenationTree(String key,
             InternalResourceResolver resourceResolver) {
-        HyphenationTree hTree = null;
+        HyphenationPatterns hTree = null;
         // I use here the following convention. The file name specified in
         // the configuration is taken as the base name. First we try
         // name + ".hyp" assuming a serialized HyphenationTree. If that fails
@@ -249,7 +302,7 @@ public final class Hyphenator {
         try {
             InputStream in = getHyphenationTreeStream(name, resourceResolver);
             try {
-                hTree = readHyphenationTree(in);
+                hTree = readHyphenationTree(in, getLocalFile(name, resourceResolver));
             } finally {
                 IOUtils.closeQuietly(in);
             }
@@ -262,21 +315,21 @@ public final class Hyphenator {
 
         // try the raw XML file
         name = key + ".xml";
-        hTree = new HyphenationTree();
+        HyphenationTree patterns = new HyphenationTree();
         try {
             InputStream in = getHyphenationTreeStream(name, resourceResolver);
             try {
                 InputSource src = new InputSource(in);
                 src.setSystemId(name);
-                hTree.loadPatterns(src);
+                patterns.loadPatterns(src);
             } finally {
                 IOUtils.closeQuietly(in);
             }
             if (statisticsDump) {
                 System.out.println("Stats: ");
-                hTree.printStats();
+                patterns.printStats();
             }
-            return hTree;
+            return patterns;
         } catch (HyphenationException ex) {
             log.error("Can't load user patterns from XML file " + name + ": " + ex.getMessage());
             return null;
@@ -288,6 +341,16 @@ public final class Hyphenator {
         }
     }
 
+    private static File getLocalFile(String name, InternalResourceResolver resourceResolver) {
+        try {
+            return toFile(resourceResolver.resolveFromBase(InternalResourceResolver.cleanURI(name)));
+        } catch (URISyntaxException use) {
+            return null;
+        } catch (IllegalArgumentException iae) {
+            return null;
+        }
+    }
+
     private static InputStream getHyphenationTreeStream(String name,
             InternalResourceResolver resourceResolver) throws IOException {
         try {
@@ -312,7 +375,8 @@ public final class Hyphenator {
     public static Hyphenation hyphenate(String lang, String country,
             InternalResourceResolver resourceResolver, Map hyphPatNames, String word, int leftMin,
             int rightMin) {
-        HyphenationTree hTree = getHyphenationTree(lang, country, resourceResolver, hyphPatNames);
+        HyphenationPatterns hTree = getHyphenationTree(lang, country, resourceResolver,
+                hyphPatNames);
         if (hTree == null) {
             return null;
         }
@@ -0,0 +1,449 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.hyphenation;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * <p>A read-only hyphenation tree that works directly on the compact binary pattern format
+ * written by {@link #write(HyphenationTree, OutputStream)}.</p>
+ *
+ * <p>The pattern trie and the interletter values, which make up nearly all of a pattern
+ * file, are not copied into Java arrays but accessed in the buffer they were loaded into.
+ * When the patterns come from a file, the buffer is memory-mapped, so loading is
+ * practically free and the pages are shared with every other user of the file.
+ * Only the small character class map and the exception list are kept on the heap.</p>
+ *
+ * <p>The tree is read-only: unlike {@link HyphenationTree}, it cannot be extended with
+ * further patterns, and it is not serializable.</p>
+ */
+public class MappedHyphenationTree implements HyphenationPatterns {
+
+    /** The magic number at the start of a compact pattern file ("FHYP"). */
+    static final int MAGIC = 0x46485950;
+
+    private static final int VERSION = 1;
+
+    private static final byte EXCEPTION_STRING = 0;
+    private static final byte EXCEPTION_HYPHEN = 1;
+
+    /** Runs the hyphenation algorithm on the buffer; never handed out, so never modified */
+    private final BufferTree tree;
+
+    /**
+     * Creates a hyphenation tree on a buffer holding a compact pattern file.
+     * @param buffer the buffer, positioned at the start of the pattern file
+     * @throws IOException if the buffer does not hold a compact pattern file
+     */
+    public MappedHyphenationTree(ByteBuffer buffer) throws IOException {
+        ByteBuffer buf = buffer.slice();
+        if (buf.remaining() < 8 || buf.getInt() != MAGIC) {
+            throw new IOException("Not a compact hyphenation pattern file");
+        }
+        int version = buf.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported compact hyphenation pattern file version: "
+                    + version);
+        }
+        tree = new BufferTree(buf);
+    }
+
+    /**
+     * Indicates whether the given bytes are the start of a compact pattern file.
+     * @param header the first bytes of a pattern file
+     * @param len the number of valid bytes in header
+     * @return true if the header denotes a compact pattern file
+     */
+    public static boolean isCompactFormat(byte[] header, int len) {
+        return len >= 4 && ByteBuffer.wrap(header, 0, 4).getInt() == MAGIC;
+    }
+
+    /**
+     * Loads a compact pattern file by memory-mapping it.
+     * @param file the pattern file
+     * @return the hyphenation tree
+     * @throws IOException if the file cannot be read or is not a compact pattern file
+     */
+    public static MappedHyphenationTree map(File file) throws IOException {
+        FileInputStream in = new FileInputStream(file);
+        try {
+            FileChannel channel = in.getChannel();
+            // the mapping stays valid after the channel is closed
+            return new MappedHyphenationTree(channel.map(FileChannel.MapMode.READ_ONLY,
+                    0, channel.size()));
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+    }
+
+    /**
+     * Loads a compact pattern file from a stream, e.g. for a pattern file in a JAR. The
+     * content is read into a buffer outside the Java heap.
+     * @param in the stream to read the pattern file from
+     * @return the hyphenation tree
+     * @throws IOException if the stream cannot be read or is not a compact pattern file
+     */
+    public static MappedHyphenationTree load(InputStream in) throws IOException {
+        byte[] data = IOUtils.toByteArray(in);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+        buffer.put(data);
+        buffer.flip();
+        return new MappedHyphenationTree(buffer);
+    }
+
+    /**
+     * Writes a hyphenation tree in the compact binary pattern format.
+     * @param hTree the hyphenation tree, with its patterns loaded
+     * @param out the stream to write to
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(HyphenationTree hTree, OutputStream out) throws IOException {
+        DataOutputStream dout = new DataOutputStream(out);
+        dout.writeInt(MAGIC);
+        dout.writeInt(VERSION);
+        int count = hTree.freenode;
+        dout.writeInt(count);
+        dout.writeInt(hTree.root);
+        dout.writeInt(hTree.length);
+        dout.writeInt(hTree.kv.length());
+        dout.writeInt(hTree.vspace.length());
+        writeChars(dout, hTree.lo, count);
+        writeChars(dout, hTree.hi, count);
+        writeChars(dout, hTree.eq, count);
+        writeChars(dout, hTree.sc, count);
+        writeChars(dout, hTree.kv.getArray(), hTree.kv.length());
+        dout.write(hTree.vspace.getArray(), 0, hTree.vspace.length());
+        writeTernaryTree(dout, hTree.classmap);
+        writeExceptions(dout, hTree.stoplist);
+        dout.flush();
+    }
+
+    private static void writeChars(DataOutputStream out, char[] chars, int count)
+            throws IOException {
+        for (int i = 0; i < count; i++) {
+            out.writeChar(chars[i]);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String str) throws IOException {
+        if (str == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(str.length());
+            out.writeChars(str);
+        }
+    }
+
+    private static void writeTernaryTree(DataOutputStream out, TernaryTree tree)
+            throws IOException {
+        int count = tree.freenode;
+        out.writeInt(count);
+        out.writeInt(tree.root);
+        out.writeInt(tree.length);
+        out.writeInt(tree.kv.length());
+        writeChars(out, tree.lo, count);
+        writeChars(out, tree.hi, count);
+        writeChars(out, tree.eq, count);
+        writeChars(out, tree.sc, count);
+        writeChars(out, tree.kv.getArray(), tree.kv.length());
+    }
+
+    private static void writeExceptions(DataOutputStream out, Map<?, ?> exceptions)
+            throws IOException {
+        out.writeInt(exceptions.size());
+        for (Map.Entry<?, ?> entry : exceptions.entrySet()) {
+            writeString(out, (String) entry.getKey());
+            List<?> parts = (List<?>) entry.getValue();
+            out.writeInt(parts.size());
+            for (int i = 0; i < parts.size(); i++) {
+                Object part = parts.get(i);
+                if (part instanceof Hyphen) {
+                    Hyphen hyphen = (Hyphen) part;
+                    out.writeByte(EXCEPTION_HYPHEN);
+                    writeString(out, hyphen.preBreak);
+                    writeString(out, hyphen.noBreak);
+                    writeString(out, hyphen.postBreak);
+                } else {
+                    out.writeByte(EXCEPTION_STRING);
+                    writeString(out, (String) part);
+                }
+            }
+        }
+    }
+
+    private static CharBuffer charSection(ByteBuffer buf, int count) {
+        ByteBuffer section = buf.slice();
+        section.limit(count * 2);
+        buf.position(buf.position() + count * 2);
+        return section.asCharBuffer();
+    }
+
+    private static char[] readChars(ByteBuffer buf, int count) {
+        char[] chars = new char[count];
+        buf.asCharBuffer().get(chars);
+        buf.position(buf.position() + count * 2);
+        return chars;
+    }
+
+    private static String readString(ByteBuffer buf) {
+        int len = buf.getInt();
+        return (len < 0 ? null : new String(readChars(buf, len)));
+    }
+
+    private static TernaryTree readTernaryTree(ByteBuffer buf) {
+        TernaryTree tree = new TernaryTree();
+        int count = buf.getInt();
+        tree.root = (char) buf.getInt();
+        tree.length = buf.getInt();
+        tree.freenode = (char) count;
+        int keyLength = buf.getInt();
+        tree.lo = readChars(buf, count);
+        tree.hi = readChars(buf, count);
+        tree.eq = readChars(buf, count);
+        tree.sc = readChars(buf, count);
+        tree.kv = new CharVector(readChars(buf, keyLength));
+        return tree;
+    }
+
+    private static HashMap<String, ArrayList<Object>> readExceptions(ByteBuffer buf) {
+        int count = buf.getInt();
+        HashMap<String, ArrayList<Object>> exceptions
+                = new HashMap<String, ArrayList<Object>>(count * 2 + 1);
+        for (int i = 0; i < count; i++) {
+            String word = readString(buf);
+            int parts = buf.getInt();
+            ArrayList<Object> hyphenatedWord = new ArrayList<Object>(parts);
+            for (int j = 0; j < parts; j++) {
+                if (buf.get() == EXCEPTION_HYPHEN) {
+                    String preBreak = readString(buf);
+                    String noBreak = readString(buf);
+                    String postBreak = readString(buf);
+                    hyphenatedWord.add(new Hyphen(preBreak, noBreak, postBreak));
+                } else {
+                    hyphenatedWord.add(readString(buf));
+                }
+            }
+            exceptions.put(word, hyphenatedWord);
+        }
+        return exceptions;
+    }
+
+    /** {@inheritDoc} */
+    public Hyphenation hyphenate(String word, int remainCharCount, int pushCharCount) {
+        return tree.hyphenate(word, remainCharCount, pushCharCount);
+    }
+
+    /** {@inheritDoc} */
+    public Hyphenation hyphenate(char[] w, int offset, int len, int remainCharCount,
+            int pushCharCount) {
+        return tree.hyphenate(w, offset, len, remainCharCount, pushCharCount);
+    }
+
+    /** {@inheritDoc} */
+    public String findPattern(String pat) {
+        return tree.findPattern(pat);
+    }
+
+    /** {@inheritDoc} */
+    public void printStats() {
+        tree.printStats();
+    }
+
+    /** @return the number of patterns */
+    public int size() {
+        return tree.size();
+    }
+
+    /**
+     * The hyphenation algorithm of {@link HyphenationTree}, with the pattern trie and the
+     * value space read from the buffer instead of the arrays.
+     */
+    private static final class BufferTree extends HyphenationTree {
+
+        private static final long serialVersionUID = 4139253410424519393L;
+
+        private final transient CharBuffer nodeLo;
+        private final transient CharBuffer nodeHi;
+        private final transient CharBuffer nodeEq;
+        private final transient CharBuffer nodeSc;
+        private final transient CharBuffer keys;
+        private final transient ByteBuffer values;
+        private final int nodeCount;
+
+        private BufferTree(ByteBuffer buf) {
+            // release what the superclass constructors set up for building a tree
+            lo = null;
+            hi = null;
+            eq = null;
+            sc = null;
+            kv = null;
+            vspace = null;
+
+            nodeCount = buf.getInt();
+            root = (char) buf.getInt();
+            length = buf.getInt();
+            freenode = (char) nodeCount;
+            int keyLength = buf.getInt();
+            int valueLength = buf.getInt();
+            nodeLo = charSection(buf, nodeCount);
+            nodeHi = charSection(buf, nodeCount);
+            nodeEq = charSection(buf, nodeCount);
+            nodeSc = charSection(buf, nodeCount);
+            keys = charSection(buf, keyLength);
+            values = buf.slice();
+            values.limit(valueLength);
+            buf.position(buf.position() + valueLength);
+
+            classmap = readTernaryTree(buf);
+            stoplist = readExceptions(buf);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected byte getPackedValues(int k) {
+            return values.get(k);
+        }
+
+        private int compareKey(char[] s, int si, int ki) {
+            for (; s[si] == keys.get(ki); si++, ki++) {
+                if (s[si] == 0) {
+                    return 0;
+                }
+            }
+            return s[si] - keys.get(ki);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void searchPatterns(char[] word, int index, byte[] il) {
+            int i = index;
+            char p;
+            char q;
+            char sp = word[i];
+            p = root;
+
+            while (p > 0 && p < nodeCount) {
+                if (nodeSc.get(p) == 0xFFFF) {
+                    // like hstrcmp: the key may also be a prefix of the rest of the word
+                    if (matchesKey(word, i, nodeLo.get(p))) {
+                        updateValues(getValues(nodeEq.get(p)), index, il);    // data pointer is in eq
+                    }
+                    return;
+                }
+                int d = sp - nodeSc.get(p);
+                if (d == 0) {
+                    if (sp == 0) {
+                        break;
+                    }
+                    sp = word[++i];
+                    p = nodeEq.get(p);
+                    q = p;
+
+                    // look for a pattern ending at this position by searching for
+                    // the null char ( splitchar == 0 )
+                    while (q > 0 && q < nodeCount) {
+                        if (nodeSc.get(q) == 0xFFFF) {        // stop at compressed branch
+                            break;
+                        }
+                        if (nodeSc.get(q) == 0) {
+                            updateValues(getValues(nodeEq.get(q)), index, il);
+                            break;
+                        } else {
+                            q = nodeLo.get(q);
+                        }
+                    }
+                } else {
+                    p = d < 0 ? nodeLo.get(p) : nodeHi.get(p);
+                }
+            }
+        }
+
+        private boolean matchesKey(char[] word, int wi, int ki) {
+            for (; word[wi] == keys.get(ki); wi++, ki++) {
+                if (word[wi] == 0) {
+                    return true;
+                }
+            }
+            return keys.get(ki) == 0;
+        }
+
+        private static void updateValues(byte[] vals, int index, byte[] il) {
+            int j = index;
+            for (int k = 0; k < vals.length; k++) {
+                if (j < il.length && vals[k] > il[j]) {
+                    il[j] = vals[k];
+                }
+                j++;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int find(char[] key, int start) {
+            int d;
+            char p = root;
+            int i = start;
+            char c;
+
+            while (p != 0) {
+                if (nodeSc.get(p) == 0xFFFF) {
+                    return (compareKey(key, i, nodeLo.get(p)) == 0 ? nodeEq.get(p) : -1);
+                }
+                c = key[i];
+                d = c - nodeSc.get(p);
+                if (d == 0) {
+                    if (c == 0) {
+                        return nodeEq.get(p);
+                    }
+                    i++;
+                    p = nodeEq.get(p);
+                } else if (d < 0) {
+                    p = nodeLo.get(p);
+                } else {
+                    p = nodeHi.get(p);
+                }
+            }
+            return -1;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void printStats() {
+            System.out.println("Value space size = " + values.limit());
+            System.out.println("Number of keys = " + length);
+            System.out.println("Node count = " + nodeCount);
+            System.out.println("Key Array length = " + keys.limit());
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 
 /**
  * <p>Serialize hyphenation patterns.</p>
@@ -33,6 +34,8 @@ public class SerializeHyphPattern {
 
     private boolean errorDump;
 
+    private boolean compactFormat;
+
     /**
      * Controls the amount of error information dumped.
      * @param errorDump True if more error info should be provided
@@ -41,6 +44,16 @@ public class SerializeHyphPattern {
         this.errorDump = errorDump;
     }
 
+    /**
+     * Controls the format of the pattern files. By default, the {@link HyphenationTree}
+     * objects are serialized. The compact binary format can be memory-mapped by
+     * {@link MappedHyphenationTree}, but can only be read by FOP versions that know it.
+     * @param compactFormat true to write compact pattern files
+     */
+    public void setCompactFormat(boolean compactFormat) {
+        this.compactFormat = compactFormat;
+    }
+
     /**
      * Compile all xml files in sourceDir, and write output hyp files in targetDir
      * @param sourceDir Directory with pattern xml files
@@ -71,13 +84,21 @@ public class SerializeHyphPattern {
         startProcess = rebuild(infile, outfile);
         if (startProcess) {
             HyphenationTree hTree = buildPatternFile(infile);
-            // serialize class
+            // write the tree in the compact format, or serialize the class
             try {
-                ObjectOutputStream out = new ObjectOutputStream(
-                        new java.io.BufferedOutputStream(
-                        new java.io.FileOutputStream(outfile)));
-                out.writeObject(hTree);
-                out.close();
+                OutputStream out = new java.io.BufferedOutputStream(
+                        new java.io.FileOutputStream(outfile));
+                try {
+                    if (compactFormat) {
+                        MappedHyphenationTree.write(hTree, out);
+                    } else {
+                        ObjectOutputStream oout = new ObjectOutputStream(out);
+                        oout.writeObject(hTree);
+                        oout.flush();
+                    }
+                } finally {
+                    out.close();
+                }
             } catch (IOException ioe) {
                 System.err.println("Can't write compiled pattern file: "
                                    + outfile);
@@ -128,10 +149,11 @@ public class SerializeHyphPattern {
 
     /**
      * Entry point for ant java task
-     * @param args sourceDir, targetDir
+     * @param args sourceDir, targetDir, optionally "-compact" to write compact pattern files
      */
     public static void main(String[] args) {
         SerializeHyphPattern ser = new SerializeHyphPattern();
+        ser.setCompactFormat(args.length > 2 && "-compact".equals(args[2]));
         ser.serializeDir(new File(args[0]), new File(args[1]));
     }
 
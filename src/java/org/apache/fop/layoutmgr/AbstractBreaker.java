@@ -259,6 +259,17 @@ public abstract class AbstractBreaker {
         return false;
     }
 
+    /**
+     * Indicates whether the elements of a part may be released as soon as its areas have been
+     * added. This is only possible if the element list is never used to add areas again, as is
+     * the case for the main flow. Releasing the elements allows the layout managers and
+     * positions of content on finished pages to be garbage collected.
+     * @return true if the elements of finished parts may be released
+     */
+    protected boolean isReleasingFinishedParts() {
+        return false;
+    }
+
     /**
      * Returns the PageProvider if any. PageBreaker overrides this method because each
      * page may have a different available BPD which needs to be accessible to the breaking
@@ -490,6 +501,7 @@ public abstract class AbstractBreaker {
         int startElementIndex = 0;
         int endElementIndex = 0;
         int lastBreak = -1;
+        int releaseStartIndex = 0;
         for (int p = startPart; p < startPart + partCount; p++) {
             PageBreakPosition pbp = alg.getPageBreaks().get(p);
 
@@ -579,6 +591,11 @@ public abstract class AbstractBreaker {
 
             finishPart(alg, pbp);
 
+            if (isReleasingFinishedParts()) {
+                releaseElements(effectiveList, releaseStartIndex, endElementIndex);
+                releaseStartIndex = Math.max(releaseStartIndex, endElementIndex);
+            }
+
             lastBreak = endElementIndex;
             startElementIndex = pbp.getLeafPos() + 1;
         }
@@ -587,6 +604,21 @@ public abstract class AbstractBreaker {
                     startElementIndex, endElementIndex);
         }
     }
+
+    /**
+     * Releases the elements of parts whose areas have been added. The first element of the list
+     * and the last element of the part are kept, as the breaking algorithm and the following
+     * part still look at them.
+     * @param list the element list
+     * @param startIndex index of the first element to release
+     * @param endIndex index of the last element of the part, which is kept
+     */
+    private void releaseElements(BlockSequence list, int startIndex, int endIndex) {
+        for (int i = Math.max(startIndex, 1); i < endIndex; i++) {
+            list.set(i, null);
+        }
+    }
+
     /**
      * Notifies the layout managers about the space and conditional length situation based on
      * the break decisions.
@@ -449,31 +449,38 @@ public abstract class AbstractLayoutManager extends AbstractBaseLayoutManager im
             && this.isLast(pos)) {
 
             notifyEndOfLayout();
+            releaseChildren();
+        }
+    }
 
-            if (!preserveChildrenAtEndOfLayout) {
-                // References to the child LMs are no longer needed
-                childLMs = null;
-                curChildLM = null;
-                childLMiter = null;
-            }
+    /**
+     * Releases the references to the child LMs and, if this LM is a descendant of the
+     * FlowLM, to the FO's children. Called once all areas of this LM have been added.
+     */
+    protected void releaseChildren() {
+        if (!preserveChildrenAtEndOfLayout) {
+            // References to the child LMs are no longer needed
+            childLMs = null;
+            curChildLM = null;
+            childLMiter = null;
+        }
 
-            /* markers that qualify have been transferred to the page
-             */
-            markers = null;
-
-            /* References to the FO's children can be released if the
-             * LM is a descendant of the FlowLM. For static-content
-             * the FO may still be needed on following pages.
-             */
-            LayoutManager lm = this.parentLayoutManager;
-            while (!(lm instanceof FlowLayoutManager
-                        || lm instanceof PageSequenceLayoutManager)) {
-                lm = lm.getParent();
-            }
-            if (lm instanceof FlowLayoutManager && !preserveChildrenAtEndOfLayout) {
-                fobj.clearChildNodes();
-                fobjIter = null;
-            }
+        /* markers that qualify have been transferred to the page
+         */
+        markers = null;
+
+        /* References to the FO's children can be released if the
+         * LM is a descendant of the FlowLM. For static-content
+         * the FO may still be needed on following pages.
+         */
+        LayoutManager lm = this.parentLayoutManager;
+        while (!(lm instanceof FlowLayoutManager
+                    || lm instanceof PageSequenceLayoutManager)) {
+            lm = lm.getParent();
+        }
+        if (lm instanceof FlowLayoutManager && !preserveChildrenAtEndOfLayout) {
+            fobj.clearChildNodes();
+            fobjIter = null;
         }
     }
 
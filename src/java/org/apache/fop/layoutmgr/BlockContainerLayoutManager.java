@@ -833,6 +833,7 @@ public class BlockContainerLayoutManager extends SpacedBorderedPaddedBlockLayout
         flush();
 
         viewportBlockArea = null;
+        setCurrentArea(null);
         referenceArea = null;
         resetSpaces();
 
@@ -334,6 +334,7 @@ public class BlockLayoutManager extends SpacedBorderedPaddedBlockLayoutManager
         flush();
 
         curBlockArea = null;
+        setCurrentArea(null);
         resetSpaces();
 
         //Notify end of block layout manager to the PSLM
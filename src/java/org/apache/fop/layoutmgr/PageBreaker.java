@@ -294,6 +294,12 @@ public class PageBreaker extends AbstractBreaker {
         return !childFLM.isFinished();
     }
 
+    /** {@inheritDoc} */
+    protected boolean isReleasingFinishedParts() {
+        // observers may still inspect the element list after layout
+        return !ElementListObserver.isObservationActive();
+    }
+
     /**
      * Adds an area to the flow layout manager
      * @param posIter the position iterator
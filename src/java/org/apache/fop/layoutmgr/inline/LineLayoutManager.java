@@ -21,10 +21,12 @@ package org.apache.fop.layoutmgr.inline;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -193,7 +195,7 @@ public class LineLayoutManager extends InlineStackingLayoutManager
     }
 
     // this class represents a paragraph
-    private static class Paragraph extends InlineKnuthSequence {
+    static class Paragraph extends InlineKnuthSequence {
 
         private static final long serialVersionUID = 5862072380375189105L;
 
@@ -210,6 +212,8 @@ public class LineLayoutManager extends InlineStackingLayoutManager
         private final int lastLineEndIndent;
         // the LM which created the paragraph
         private final LineLayoutManager layoutManager;
+        // line breaks already found for this paragraph
+        private transient Map<LineBreakingKey, LineLayoutPossibilities> lineBreaks;
 
         Paragraph(LineLayoutManager llm, int alignment, int alignmentLast,
                          int indent, int endIndent) {
@@ -291,6 +295,29 @@ public class LineLayoutManager extends InlineStackingLayoutManager
             }
         }
 
+        /**
+         * Returns the line breaks previously found for this paragraph under the given
+         * conditions.
+         * @param key the conditions the line breaks were found for
+         * @return the line layout possibilities, or null if the paragraph has not been broken
+         *          under these conditions yet
+         */
+        LineLayoutPossibilities getLineBreaks(LineBreakingKey key) {
+            return (lineBreaks != null ? lineBreaks.get(key) : null);
+        }
+
+        void addLineBreaks(LineBreakingKey key, LineLayoutPossibilities llPoss) {
+            if (lineBreaks == null) {
+                lineBreaks = new HashMap<LineBreakingKey, LineLayoutPossibilities>();
+            }
+            lineBreaks.put(key, llPoss);
+        }
+
+        /** Discards the line breaks found so far, after the content has changed. */
+        void clearLineBreaks() {
+            lineBreaks = null;
+        }
+
         /**
          * @return true if the sequence contains a box
          */
@@ -305,6 +332,49 @@ public class LineLayoutManager extends InlineStackingLayoutManager
         }
     }
 
+    /**
+     * The conditions that determine the line breaks of a paragraph, besides its content.
+     * The paragraph index is included since it is recorded in the break positions.
+     */
+    static final class LineBreakingKey {
+        private final int ipd;
+        private final int alignment;
+        private final int parIndex;
+        private final boolean isFirstInBlock;
+        private final boolean isLastPar;
+        private final int size;
+
+        LineBreakingKey(int ipd, int alignment, int parIndex, boolean isFirstInBlock,
+                boolean isLastPar, int size) {
+            this.ipd = ipd;
+            this.alignment = alignment;
+            this.parIndex = parIndex;
+            this.isFirstInBlock = isFirstInBlock;
+            this.isLastPar = isLastPar;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof LineBreakingKey)) {
+                return false;
+            }
+            LineBreakingKey other = (LineBreakingKey) obj;
+            return ipd == other.ipd && alignment == other.alignment
+                    && parIndex == other.parIndex && isFirstInBlock == other.isFirstInBlock
+                    && isLastPar == other.isLastPar && size == other.size;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = ipd;
+            hash = 31 * hash + alignment;
+            hash = 31 * hash + parIndex;
+            hash = 31 * hash + size;
+            return 4 * hash + (isFirstInBlock ? 2 : 0) + (isLastPar ? 1 : 0);
+        }
+    }
+
     private class LineBreakingAlgorithm extends BreakingAlgorithm {
         private final LineLayoutManager thisLLM;
         private final int pageAlignment;
@@ -658,6 +728,7 @@ public class LineLayoutManager extends InlineStackingLayoutManager
         KnuthSequence paragraph = knuthParagraphs.get(parIndex);
         if (paragraph instanceof Paragraph) {
             ((Paragraph) paragraph).ignoreAtStart = 0;
+            ((Paragraph) paragraph).clearLineBreaks();
             isFirstInBlock = false;
         }
         paragraph.subList(0, restartPosition.getIndex() + 1).clear();
@@ -823,8 +894,23 @@ public class LineLayoutManager extends InlineStackingLayoutManager
                 // we only need an entry in lineLayoutsList.
                 llPoss = new LineLayoutPossibilities();
             } else {
-                llPoss = findOptimalBreakingPoints(alignment, (Paragraph) seq,
-                                                   !paragraphsIterator.hasNext());
+                // reuse the line breaks if this paragraph has already been broken under the
+                // same conditions (e.g. when layout is restarted after a change of IPD)
+                Paragraph par = (Paragraph) seq;
+                boolean isLastPar = !paragraphsIterator.hasNext();
+                LineBreakingKey key = new LineBreakingKey(ipd, alignment, i, isFirstInBlock,
+                        isLastPar, par.size());
+                llPoss = par.getLineBreaks(key);
+                if (llPoss == null) {
+                    llPoss = findOptimalBreakingPoints(alignment, par, isLastPar);
+                    // hyphenation and overflow recovery may have added elements
+                    key = new LineBreakingKey(ipd, alignment, i, isFirstInBlock,
+                            isLastPar, par.size());
+                    par.addLineBreaks(key, llPoss);
+                } else {
+                    llPoss.resetChosenLayout();
+                    ElementListObserver.observe(par, "line-reused", fobj.getId());
+                }
             }
             lineLayoutsList[i] = llPoss;
         }
@@ -268,6 +268,14 @@ public class LineLayoutPossibilities {
         }
     }
 
+    /**
+     * Chooses the optimum layout again, undoing any line count adjustments.
+     * @see #applyLineCountAdjustment(int)
+     */
+    public void resetChosenLayout() {
+        chosenIndex = optimumIndex;
+    }
+
     /** print all */
     public void printAll() {
         System.out.println("++++++++++");
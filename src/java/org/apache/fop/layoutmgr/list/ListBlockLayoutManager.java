@@ -194,6 +194,7 @@ public class ListBlockLayoutManager extends SpacedBorderedPaddedBlockLayoutManag
         flush();
 
         curBlockArea = null;
+        setCurrentArea(null);
         resetSpaces();
 
         checkEndOfLayout(lastPos);
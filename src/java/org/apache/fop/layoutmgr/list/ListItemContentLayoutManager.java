@@ -155,6 +155,7 @@ public class ListItemContentLayoutManager extends BlockStackingLayoutManager imp
         flush();
 
         curBlockArea = null;
+        setCurrentArea(null);
 
         checkEndOfLayout(lastPos);
     }
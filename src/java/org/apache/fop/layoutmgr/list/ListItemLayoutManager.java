@@ -692,6 +692,7 @@ public class ListItemLayoutManager extends SpacedBorderedPaddedBlockLayoutManage
         flush();
 
         curBlockArea = null;
+        setCurrentArea(null);
         resetSpaces();
 
         checkEndOfLayout(lastPos);
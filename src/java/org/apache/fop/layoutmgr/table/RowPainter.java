@@ -141,6 +141,36 @@ class RowPainter {
         return currentRowOffset;
     }
 
+    /**
+     * Returns the state of this painter that determines the borders of the next rows:
+     * for each column whether no cell has been painted in it yet on the current page,
+     * followed by whether no row at all has been painted yet.
+     *
+     * @return a copy of the state
+     */
+    boolean[] getPageState() {
+        boolean[] state = new boolean[colCount + 1];
+        System.arraycopy(firstCellOnPage, 0, state, 0, colCount);
+        state[colCount] = firstRowOnPageIndex < 0;
+        return state;
+    }
+
+    /**
+     * Accounts for a whole table part whose areas have been added without this painter,
+     * as if it had been painted by {@link #startTablePart(TablePart)},
+     * {@link #handleTableContentPosition(TableContentPosition)} and
+     * {@link #endTablePart(boolean, boolean)}.
+     *
+     * @param bpd the block-progression-dimension of the table part
+     * @param state the state of this painter after the table part, as returned by
+     * {@link #getPageState()}
+     */
+    void skipTablePart(int bpd, boolean[] state) {
+        currentRowOffset += bpd;
+        System.arraycopy(state, 0, firstCellOnPage, 0, colCount);
+        firstRowOnPageIndex = state[colCount] ? -1 : Integer.MAX_VALUE;
+    }
+
     /**
      * Records the fragment of row represented by the given position. If it belongs to
      * another (grid) row than the current one, that latter is painted and flushed first.
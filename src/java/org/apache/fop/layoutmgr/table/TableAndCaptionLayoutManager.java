@@ -161,6 +161,7 @@ public class TableAndCaptionLayoutManager extends BlockStackingLayoutManager {
 
         //childBreaks.clear();
         curBlockArea = null;
+        setCurrentArea(null);
     }
 
     /**
@@ -157,6 +157,7 @@ public class TableCaptionLayoutManager extends BlockStackingLayoutManager {
 
         //childBreaks.clear();
         curBlockArea = null;
+        setCurrentArea(null);
     }
 
     /**
@@ -308,6 +308,21 @@ public class TableCellLayoutManager extends BlockStackingLayoutManager {
         return (isDescendantOfTableFooter || isDescendantOfTableHeader);
     }
 
+    /**
+     * Checks whether the areas of this cell may be added again, that is, whether the cell
+     * or one of its ancestor cells is in a table header or footer.
+     * @return true if the areas of this cell may be added on several pages
+     */
+    private boolean isRepeatable() {
+        for (LayoutManager lm = this; lm != null; lm = lm.getParent()) {
+            if (lm instanceof TableCellLayoutManager
+                    && ((TableCellLayoutManager) lm).isDescendantOfTableHeaderOrFooter()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void saveAddAreasArguments(PositionIterator parentIter, LayoutContext layoutContext,
             int[] spannedGridRowHeights, int startRow, int endRow, int borderBeforeWhich,
             int borderAfterWhich, boolean firstOnPage, boolean lastOnPage, RowPainter painter,
@@ -563,8 +578,15 @@ public class TableCellLayoutManager extends BlockStackingLayoutManager {
         }
 
         curBlockArea = null;
+        setCurrentArea(null);
 
         notifyEndOfLayout();
+
+        // the content of a body cell is no longer needed once its last part has been added
+        if (isLastTrait && !isRepeatable()) {
+            releaseChildren();
+            primaryGridUnit.setElements(null);
+        }
     }
 
     /** Adds background areas for the column, body and row, if any. */
@@ -19,6 +19,8 @@
 
 package org.apache.fop.layoutmgr.table;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -28,10 +30,20 @@ import java.util.Map;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.apache.fop.area.Area;
+import org.apache.fop.area.Block;
 import org.apache.fop.datatypes.PercentBaseContext;
 import org.apache.fop.fo.Constants;
+import org.apache.fop.fo.FONode;
+import org.apache.fop.fo.FONode.FONodeIterator;
 import org.apache.fop.fo.FObj;
+import org.apache.fop.fo.flow.AbstractPageNumberCitation;
+import org.apache.fop.fo.flow.AbstractRetrieveMarker;
+import org.apache.fop.fo.flow.BasicLink;
+import org.apache.fop.fo.flow.Float;
+import org.apache.fop.fo.flow.Footnote;
 import org.apache.fop.fo.flow.Marker;
+import org.apache.fop.fo.flow.PageNumber;
 import org.apache.fop.fo.flow.table.EffRow;
 import org.apache.fop.fo.flow.table.PrimaryGridUnit;
 import org.apache.fop.fo.flow.table.Table;
@@ -79,6 +91,11 @@ public class TableContentLayoutManager implements PercentBaseContext {
 
     private boolean headerIsBeingRepeated;
 
+    /** The areas of the table-header, added again on the following pages if possible. */
+    private RepeatedPartAreas headerAreas;
+    /** The areas of the table-footer, added again on the following pages if possible. */
+    private RepeatedPartAreas footerAreas;
+
     /**
      * Main constructor
      * @param parent Parent layout manager
@@ -459,8 +476,10 @@ public class TableContentLayoutManager implements PercentBaseContext {
             }
             //header positions for the last part are the second-to-last element and need to
             //be handled first before all other TableContentPositions
-            addHeaderFooterAreas(headerElements, tableLM.getTable().getTableHeader(), painter,
-                    false);
+            if (headerAreas == null) {
+                headerAreas = new RepeatedPartAreas(tableLM.getTable().getTableHeader());
+            }
+            addHeaderFooterAreas(headerElements, headerAreas, painter, false, layoutContext);
             if (!ancestorTreatAsArtifact) {
                 headerIsBeingRepeated = true;
             }
@@ -484,7 +503,10 @@ public class TableContentLayoutManager implements PercentBaseContext {
             boolean ancestorTreatAsArtifact = layoutContext.treatAsArtifact();
             layoutContext.setTreatAsArtifact(treatFooterAsArtifact);
             //Positions for footers are simply added at the end
-            addHeaderFooterAreas(footerElements, tableLM.getTable().getTableFooter(), painter, true);
+            if (footerAreas == null) {
+                footerAreas = new RepeatedPartAreas(tableLM.getTable().getTableFooter());
+            }
+            addHeaderFooterAreas(footerElements, footerAreas, painter, true, layoutContext);
             if (lastPos instanceof TableHFPenaltyPosition && !tableLM.getFooterFootnotes().isEmpty()) {
                 tableLM.getPSLM().addTableFooterFootnotes(getTableLM().getFooterFootnotes());
             }
@@ -499,8 +521,19 @@ public class TableContentLayoutManager implements PercentBaseContext {
         }
     }
 
-    private void addHeaderFooterAreas(List elements, TablePart part, RowPainter painter,
-            boolean lastOnPage) {
+    private void addHeaderFooterAreas(List elements, RepeatedPartAreas partAreas,
+            RowPainter painter, boolean lastOnPage, LayoutContext layoutContext) {
+        boolean treatAsArtifact = layoutContext.treatAsArtifact();
+        boolean[] stateBefore = painter.getPageState();
+        int yOffset = painter.getAccumulatedBPD();
+        if (partAreas.canBeReused(elements, treatAsArtifact, stateBefore)) {
+            partAreas.addAreas(yOffset);
+            painter.skipTablePart(partAreas.bpd, partAreas.stateAfter);
+            return;
+        }
+        List<Area> tableAreas = tableLM.getCurrentChildAreas();
+        int firstArea = tableAreas.size();
+
         List lst = new java.util.ArrayList(elements.size());
         for (Iterator iter = new KnuthPossPosIter(elements); iter.hasNext();) {
             Position pos = (Position) iter.next();
@@ -512,7 +545,127 @@ public class TableContentLayoutManager implements PercentBaseContext {
                 lst.add((TableContentPosition) pos);
             }
         }
-        addTablePartAreas(lst, painter, part, true, true, true, lastOnPage);
+        addTablePartAreas(lst, painter, partAreas.part, true, true, true, lastOnPage);
+
+        if (partAreas.invariant) {
+            tableAreas = tableLM.getCurrentChildAreas();
+            partAreas.areas = new ArrayList<Area>(tableAreas.subList(firstArea, tableAreas.size()));
+            partAreas.elements = elements;
+            partAreas.treatAsArtifact = treatAsArtifact;
+            partAreas.startXOffset = startXOffset;
+            partAreas.stateBefore = stateBefore;
+            partAreas.stateAfter = painter.getPageState();
+            partAreas.yOffset = yOffset;
+            partAreas.bpd = painter.getAccumulatedBPD() - yOffset;
+        }
+    }
+
+    /**
+     * The areas generated for a table-header or table-footer on a page. Unless the content
+     * of the part depends on the page it ends up on, the same areas may be added again on
+     * the following pages instead of being generated anew from the part's element list.
+     * Only the top-level areas are copied, their descendants are shared.
+     */
+    private final class RepeatedPartAreas {
+
+        private final TablePart part;
+
+        /** true if the part generates the same areas on every page */
+        private final boolean invariant;
+
+        /** the areas added to the table area for the part, null if none are recorded */
+        private List<Area> areas;
+
+        private List elements;
+
+        private boolean treatAsArtifact;
+
+        private int startXOffset;
+
+        private boolean[] stateBefore;
+
+        private boolean[] stateAfter;
+
+        private int yOffset;
+
+        private int bpd;
+
+        private RepeatedPartAreas(TablePart part) {
+            this.part = part;
+            this.invariant = !hasColumnBackgrounds() && isInvariant(part);
+        }
+
+        /**
+         * Returns true if the recorded areas are the ones that would be generated for the
+         * part in the given circumstances.
+         */
+        private boolean canBeReused(List elements, boolean treatAsArtifact,
+                boolean[] stateBefore) {
+            return areas != null
+                    && elements == this.elements
+                    && treatAsArtifact == this.treatAsArtifact
+                    && startXOffset == TableContentLayoutManager.this.startXOffset
+                    && Arrays.equals(stateBefore, this.stateBefore);
+        }
+
+        /**
+         * Adds copies of the recorded areas to the current table area, moved to the given
+         * offset.
+         */
+        private void addAreas(int yOffset) {
+            for (Area area : areas) {
+                Block copy;
+                try {
+                    copy = (Block) area.clone();
+                } catch (CloneNotSupportedException e) {
+                    throw new IllegalStateException(e);
+                }
+                copy.setYOffset(copy.getYOffset() + yOffset - this.yOffset);
+                tableLM.addChildArea(copy);
+            }
+        }
+    }
+
+    /**
+     * The background of a column is set on the areas registered by its cells only once the
+     * height of the whole table fragment is known, so these areas differ from page to page.
+     */
+    private boolean hasColumnBackgrounds() {
+        ColumnSetup columns = getColumns();
+        for (int i = 1; i <= columns.getColumnCount(); i++) {
+            if (columns.getColumn(i).getCommonBorderPaddingBackground().hasBackground()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the areas generated for the given node don't depend on the page they
+     * end up on, and generating them has no other effect on the page. This excludes nodes
+     * with an id, markers, page numbers, references to other pages, table markers, footnotes
+     * and floats.
+     */
+    private static boolean isInvariant(FONode node) {
+        if (node instanceof PageNumber || node instanceof AbstractPageNumberCitation
+                || node instanceof AbstractRetrieveMarker || node instanceof Footnote
+                || node instanceof Float
+                || node instanceof BasicLink && ((BasicLink) node).hasInternalDestination()) {
+            return false;
+        }
+        if (node instanceof FObj) {
+            FObj fobj = (FObj) node;
+            String id = fobj.getId();
+            if (fobj.hasMarkers() || id != null && id.length() > 0) {
+                return false;
+            }
+            for (FONodeIterator iter = fobj.getChildNodes(); iter != null && iter.hasNext();) {
+                if (!isInvariant(iter.nextNode())) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
     /**
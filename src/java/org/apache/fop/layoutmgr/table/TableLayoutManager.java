@@ -418,6 +418,7 @@ public class TableLayoutManager extends SpacedBorderedPaddedBlockLayoutManager
 
         resetSpaces();
         curBlockArea = null;
+        setCurrentArea(null);
 
         notifyEndOfLayout();
     }
@@ -462,6 +463,16 @@ public class TableLayoutManager extends SpacedBorderedPaddedBlockLayoutManager
         }
     }
 
+    /**
+     * Returns the areas added so far to the area of the current table fragment.
+     *
+     * @return the child areas, an empty list if there are none
+     */
+    List<Area> getCurrentChildAreas() {
+        List<Area> children = curBlockArea.getChildAreas();
+        return children != null ? children : Collections.<Area>emptyList();
+    }
+
     /**
      * Adds the given area to this layout manager's area, without updating the used bpd.
      *
@@ -38,6 +38,9 @@ public abstract class AbstractPDFStream extends PDFObject {
 
     private final boolean encodeOnTheFly;
 
+    /** The encoded stream data if it was prepared ahead of output, null otherwise */
+    private StreamCache encodedAhead;
+
     protected AbstractPDFStream() {
         this(true);
     }
@@ -126,6 +129,17 @@ public abstract class AbstractPDFStream extends PDFObject {
      */
     protected abstract int getSizeHint() throws IOException;
 
+    /**
+     * Returns the factory for the stream caches used to buffer this stream's data. This is
+     * the factory configured on the document, or the default in-memory factory if the stream
+     * has not been added to a document.
+     * @return the stream cache factory
+     */
+    protected StreamCacheFactory getStreamCacheFactory() {
+        PDFDocument doc = getDocument();
+        return doc == null ? StreamCacheFactory.getInstance() : doc.getStreamCacheFactory();
+    }
+
     /**
      * Sends the raw stream data to the target OutputStream.
      * @param out OutputStream to write to
@@ -163,7 +177,7 @@ public abstract class AbstractPDFStream extends PDFObject {
      */
     protected StreamCache encodeStream() throws IOException {
         //Allocate a temporary buffer to find out the size of the encoded stream
-        final StreamCache encodedStream = StreamCacheFactory.getInstance()
+        final StreamCache encodedStream = getStreamCacheFactory()
                 .createStreamCache(getSizeHint());
         OutputStream filteredOutput
                 = getFilterList().applyFilters(encodedStream.getOutputStream());
@@ -207,6 +221,27 @@ public abstract class AbstractPDFStream extends PDFObject {
         return bytesWritten;
     }
 
+    /**
+     * Indicates whether the stream data can be encoded before {@link #output(OutputStream)}
+     * is called, possibly on a different thread. This is only the case for streams whose data
+     * is complete by the time they are registered with the document.
+     * @return true if the stream can be encoded ahead of output
+     */
+    protected boolean isEncodingAheadSupported() {
+        return false;
+    }
+
+    /**
+     * Encodes the stream data ahead of output. The encoded data is then written when the
+     * stream is output, with a direct /Length entry. This method may be called from a thread
+     * other than the one writing the document, but it must complete before output starts.
+     * @throws IOException in case of an I/O problem
+     */
+    void encodeAhead() throws IOException {
+        setupFilterList();
+        encodedAhead = encodeStream();
+    }
+
     /**
      * Overload the base object method so we don't have to copy
      * byte arrays around so much
@@ -214,7 +249,9 @@ public abstract class AbstractPDFStream extends PDFObject {
      */
     @Override
     public int output(OutputStream stream) throws IOException {
-        setupFilterList();
+        if (encodedAhead == null) {
+            setupFilterList();
+        }
 
         CountingOutputStream cout = new CountingOutputStream(stream);
         StringBuilder textBuffer = new StringBuilder(64);
@@ -222,7 +259,11 @@ public abstract class AbstractPDFStream extends PDFObject {
         StreamCache encodedStream = null;
         PDFNumber refLength = null;
         final Object lengthEntry;
-        if (encodeOnTheFly) {
+        if (encodedAhead != null) {
+            encodedStream = encodedAhead;
+            encodedAhead = null;
+            lengthEntry = Integer.valueOf(encodedStream.getSize() + 1);
+        } else if (encodeOnTheFly) {
             refLength = new PDFNumber();
             getDocumentSafely().registerObject(refLength);
             lengthEntry = refLength;
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.pdf;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A list of the file offsets of indirect objects, indexed by object number minus one.
+ * Offsets are kept in a primitive array rather than as boxed {@link Long} instances, so
+ * that the memory needed for the cross-reference information stays small even for
+ * documents with millions of objects. Objects that have not been written yet have a
+ * <code>null</code> entry.
+ */
+final class ObjectOffsetList extends AbstractList<Long> implements RandomAccess {
+
+    private static final long UNKNOWN = -1;
+
+    private long[] offsets = new long[256];
+
+    private int size;
+
+    /**
+     * Records the offset of the given object, growing the list as necessary.
+     *
+     * @param objectNumber the object number (1-based)
+     * @param offset the offset of the object in the file
+     */
+    void setOffset(int objectNumber, long offset) {
+        int index = objectNumber - 1;
+        if (index >= offsets.length) {
+            int newLength = Math.max(offsets.length * 2, index + 1);
+            long[] newOffsets = new long[newLength];
+            System.arraycopy(offsets, 0, newOffsets, 0, size);
+            offsets = newOffsets;
+        }
+        if (index >= size) {
+            Arrays.fill(offsets, size, index, UNKNOWN);
+            size = index + 1;
+        }
+        offsets[index] = offset;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        long offset = offsets[index];
+        return offset == UNKNOWN ? null : Long.valueOf(offset);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return size;
+    }
+}
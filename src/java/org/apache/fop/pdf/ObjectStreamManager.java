@@ -28,6 +28,10 @@ import org.apache.fop.pdf.xref.CompressedObjectReference;
  * Manages a collection of object streams, creating new streams as necessary to keep the
  * number of objects in each stream at the recommended value. Streams are related to each
  * other through the use of the Extends entry in the stream dictionary.
+ * <p>
+ * By default, the object streams are added to the document as trailer objects. Object
+ * streams can also be written as soon as they are full, so that the compressed objects
+ * don't have to be kept in memory until the end of the document.</p>
  */
 class ObjectStreamManager {
 
@@ -41,8 +45,20 @@ class ObjectStreamManager {
 
     private ObjectStream currentObjectStream;
 
+    private final boolean writeFullStreams;
+
     ObjectStreamManager(PDFDocument pdfDocument) {
+        this(pdfDocument, false);
+    }
+
+    /**
+     * @param pdfDocument the document the object streams belong to
+     * @param writeFullStreams true if an object stream is to be added to the document's
+     * pending objects as soon as it is full, false to add it as a trailer object
+     */
+    ObjectStreamManager(PDFDocument pdfDocument, boolean writeFullStreams) {
         this.pdfDocument = pdfDocument;
+        this.writeFullStreams = writeFullStreams;
         createObjectStream();
         compressedObjectReferences = new ArrayList<CompressedObjectReference>();
     }
@@ -53,6 +69,26 @@ class ObjectStreamManager {
             numObjectsInStream = 1;
         }
         compressedObjectReferences.add(currentObjectStream.addObject(compressedObject));
+        if (writeFullStreams && numObjectsInStream == OBJECT_STREAM_CAPACITY) {
+            pdfDocument.addObject(currentObjectStream);
+        }
+    }
+
+    /**
+     * Adds the current object stream to the document's pending objects if it isn't full.
+     * Objects added afterwards go into a new object stream. Only applicable if object
+     * streams are written as soon as they are full.
+     *
+     * @return true if an object stream was added, false if there was nothing to add
+     */
+    boolean flush() {
+        assert writeFullStreams;
+        if (numObjectsInStream == 0 || numObjectsInStream == OBJECT_STREAM_CAPACITY) {
+            return false;
+        }
+        pdfDocument.addObject(currentObjectStream);
+        numObjectsInStream = OBJECT_STREAM_CAPACITY;
+        return true;
     }
 
     private void createObjectStream() {
@@ -60,7 +96,9 @@ class ObjectStreamManager {
                 ? new ObjectStream()
                 : new ObjectStream(currentObjectStream);
         pdfDocument.assignObjectNumber(currentObjectStream);
-        pdfDocument.addTrailerObject(currentObjectStream);
+        if (!writeFullStreams) {
+            pdfDocument.addTrailerObject(currentObjectStream);
+        }
     }
 
     List<CompressedObjectReference> getCompressedObjectReferences() {
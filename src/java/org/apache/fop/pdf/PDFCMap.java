@@ -422,6 +422,13 @@ public class PDFCMap extends PDFStream {
         return new CMapBuilder(writer, this.name);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isEncodingAheadSupported() {
+        //The CMap is only written to the buffer when the stream is output
+        return false;
+    }
+
     /** {@inheritDoc} */
     public int output(OutputStream stream) throws IOException {
         CMapBuilder builder = createCMapBuilder(getBufferWriter());
@@ -21,6 +21,7 @@ package org.apache.fop.pdf;
 
 // Java
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.security.NoSuchAlgorithmException;
@@ -29,14 +30,23 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.apache.fop.fonts.FontSubsetCache;
 import org.apache.fop.pdf.StandardStructureAttributes.Table.Scope;
 import org.apache.fop.pdf.xref.CrossReferenceStream;
 import org.apache.fop.pdf.xref.CrossReferenceTable;
@@ -71,6 +81,9 @@ public class PDFDocument {
     /** the encoding to use when converting strings to PDF commands */
     public static final String ENCODING = "ISO-8859-1";
 
+    /** seconds after which idle stream encoding threads end, e.g. if a document is aborted */
+    private static final long STREAM_ENCODING_KEEP_ALIVE = 10;
+
     /** the counter for object numbering */
     protected int objectcount;
 
@@ -81,7 +94,7 @@ public class PDFDocument {
     private long position;
 
     /** the character position of each object */
-    private List<Long> indirectObjectOffsets = new ArrayList<Long>();
+    private ObjectOffsetList indirectObjectOffsets = new ObjectOffsetList();
 
     private Collection<PDFStructElem> structureTreeElements;
 
@@ -135,25 +148,25 @@ public class PDFDocument {
 
     private Map<String, List<String>> filterMap = new HashMap<String, List<String>>();
 
-    private List<PDFGState> gstates = new ArrayList<PDFGState>();
+    private PDFObjectIndex<PDFGState> gstates = new PDFObjectIndex<PDFGState>();
 
-    private List<PDFFunction> functions = new ArrayList<PDFFunction>();
+    private PDFObjectIndex<PDFFunction> functions = new PDFObjectIndex<PDFFunction>();
 
-    private List<PDFShading> shadings = new ArrayList<PDFShading>();
+    private PDFObjectIndex<PDFShading> shadings = new PDFObjectIndex<PDFShading>();
 
-    private List<PDFPattern> patterns = new ArrayList<PDFPattern>();
+    private PDFObjectIndex<PDFPattern> patterns = new PDFObjectIndex<PDFPattern>();
 
-    private List<PDFLink> links = new ArrayList<PDFLink>();
+    private PDFObjectIndex<PDFLink> links = new PDFObjectIndex<PDFLink>();
 
     private List<PDFDestination> destinations;
 
-    private List<PDFFileSpec> filespecs = new ArrayList<PDFFileSpec>();
+    private PDFObjectIndex<PDFFileSpec> filespecs = new PDFObjectIndex<PDFFileSpec>();
 
-    private List<PDFGoToRemote> gotoremotes = new ArrayList<PDFGoToRemote>();
+    private PDFObjectIndex<PDFGoToRemote> gotoremotes = new PDFObjectIndex<PDFGoToRemote>();
 
-    private List<PDFGoTo> gotos = new ArrayList<PDFGoTo>();
+    private PDFObjectIndex<PDFGoTo> gotos = new PDFObjectIndex<PDFGoTo>();
 
-    private List<PDFLaunch> launches = new ArrayList<PDFLaunch>();
+    private PDFObjectIndex<PDFLaunch> launches = new PDFObjectIndex<PDFLaunch>();
 
     private List<PDFLayer> layers;
 
@@ -169,6 +182,22 @@ public class PDFDocument {
 
     private boolean mergeFontsEnabled;
 
+    private boolean streamingEnabled;
+
+    private boolean objectStreamsEnabled;
+
+    /** the object streams all eligible objects are written to if object streams are enabled */
+    private ObjectStreamManager objectStreams;
+
+    private StreamCacheFactory streamCacheFactory = StreamCacheFactory.getInstance();
+
+    private FontSubsetCache fontSubsetCache = new FontSubsetCache(0);
+
+    private ExecutorService streamEncodingExecutor;
+
+    /** the objects handed to the stream encoding executor that haven't been written yet */
+    private final LinkedList<PendingObject> pendingOutput = new LinkedList<PendingObject>();
+
     /**
      * Creates an empty PDF document.
      *
@@ -591,15 +620,6 @@ public class PDFDocument {
         return this.encryption;
     }
 
-    private Object findPDFObject(List<? extends PDFObject> list, PDFObject compare) {
-        for (PDFObject obj : list) {
-            if (compare.contentEquals(obj)) {
-                return obj;
-            }
-        }
-        return null;
-    }
-
     /**
      * Looks through the registered functions to see if one that is equal to
      * a reference object exists
@@ -608,7 +628,7 @@ public class PDFDocument {
      * @return the function if it was found, null otherwise
      */
     protected PDFFunction findFunction(PDFFunction compare) {
-        return (PDFFunction)findPDFObject(this.functions, compare);
+        return this.functions.find(compare);
     }
 
     /**
@@ -619,7 +639,7 @@ public class PDFDocument {
      * @return the shading if it was found, null otherwise
      */
     protected PDFShading findShading(PDFShading compare) {
-        return (PDFShading)findPDFObject(this.shadings, compare);
+        return this.shadings.find(compare);
     }
 
     /**
@@ -632,7 +652,7 @@ public class PDFDocument {
      * @return the shading if it was found, null otherwise
      */
     protected PDFPattern findPattern(PDFPattern compare) {
-        return (PDFPattern)findPDFObject(this.patterns, compare);
+        return this.patterns.find(compare);
     }
 
     /**
@@ -667,7 +687,7 @@ public class PDFDocument {
      * @return the link if found, null otherwise
      */
     protected PDFLink findLink(PDFLink compare) {
-        return (PDFLink)findPDFObject(this.links, compare);
+        return this.links.find(compare);
     }
 
     /**
@@ -677,7 +697,7 @@ public class PDFDocument {
      * @return the file spec if found, null otherwise
      */
     protected PDFFileSpec findFileSpec(PDFFileSpec compare) {
-        return (PDFFileSpec)findPDFObject(this.filespecs, compare);
+        return this.filespecs.find(compare);
     }
 
     /**
@@ -687,7 +707,7 @@ public class PDFDocument {
      * @return the goto remote if found, null otherwise
      */
     protected PDFGoToRemote findGoToRemote(PDFGoToRemote compare) {
-        return (PDFGoToRemote)findPDFObject(this.gotoremotes, compare);
+        return this.gotoremotes.find(compare);
     }
 
     /**
@@ -697,7 +717,7 @@ public class PDFDocument {
      * @return the goto if found, null otherwise
      */
     protected PDFGoTo findGoTo(PDFGoTo compare) {
-        return (PDFGoTo)findPDFObject(this.gotos, compare);
+        return this.gotos.find(compare);
     }
 
     /**
@@ -707,7 +727,7 @@ public class PDFDocument {
      * @return the launch if found, null otherwise
      */
     protected PDFLaunch findLaunch(PDFLaunch compare) {
-        return (PDFLaunch) findPDFObject(this.launches, compare);
+        return this.launches.find(compare);
     }
 
     /**
@@ -718,18 +738,18 @@ public class PDFDocument {
      * @return the GState if found, null otherwise
      */
     protected PDFGState findGState(PDFGState wanted, PDFGState current) {
-        PDFGState poss;
-        Iterator<PDFGState> iter = this.gstates.iterator();
-        while (iter.hasNext()) {
-            PDFGState avail = iter.next();
-            poss = new PDFGState();
-            poss.addValues(current);
-            poss.addValues(avail);
-            if (poss.equals(wanted)) {
-                return avail;
-            }
+        //A GState fits if it holds at least the values in which the current state differs
+        //from the wanted one, and no values that aren't wanted. Only the two extremes are
+        //looked up, which covers GStates created for the same settings.
+        PDFGState diff = wanted.getDifference(current);
+        if (diff == null) {
+            return null;
         }
-        return null;
+        PDFGState avail = this.gstates.find(diff);
+        if (avail == null) {
+            avail = this.gstates.find(wanted);
+        }
+        return avail;
     }
 
     /**
@@ -965,6 +985,14 @@ public class PDFDocument {
      * @throws IOException if there is an exception writing to the output stream
      */
     public void output(OutputStream stream) throws IOException {
+        output(stream, false);
+    }
+
+    private void output(OutputStream stream, boolean waitForEncoding) throws IOException {
+        if (streamEncodingExecutor != null || !this.pendingOutput.isEmpty()) {
+            outputEncodingAhead(stream, waitForEncoding || streamEncodingExecutor == null);
+            return;
+        }
         //Write out objects until the list is empty. This approach (used with a
         //LinkedList) allows for output() methods to create and register objects
         //on the fly even during serialization.
@@ -974,11 +1002,109 @@ public class PDFDocument {
         }
     }
 
+    /**
+     * Writes out the pending objects after handing the encoding of their streams to the
+     * stream encoding executor. Objects are still written one after the other in the order in
+     * which they were added, so the recorded offsets are the same as for sequential output.
+     * Unless all objects are to be written, writing stops at the first stream whose encoding
+     * hasn't finished yet. That stream and the objects after it are written by a later call,
+     * so their encoding goes on while the next pages are laid out.
+     */
+    private void outputEncodingAhead(OutputStream stream, boolean waitForEncoding)
+            throws IOException {
+        boolean completed = false;
+        try {
+            while (true) {
+                while (this.objects.size() > 0) {
+                    PDFObject object = this.objects.remove(0);
+                    this.pendingOutput.add(new PendingObject(object, submitEncoding(object)));
+                }
+                if (this.pendingOutput.isEmpty()) {
+                    break;
+                }
+                PendingObject next = this.pendingOutput.getFirst();
+                if (!waitForEncoding && next.encoding != null && !next.encoding.isDone()) {
+                    break;
+                }
+                this.pendingOutput.removeFirst();
+                waitForEncoding(next.encoding);
+                streamIndirectObject(next.object, stream);
+            }
+            completed = true;
+        } finally {
+            if (!completed) {
+                //The document won't be finished, so don't wait for the trailer to release the
+                //threads. Encodings still queued are dropped.
+                if (streamEncodingExecutor != null) {
+                    streamEncodingExecutor.shutdownNow();
+                    streamEncodingExecutor = null;
+                }
+                this.pendingOutput.clear();
+            }
+        }
+    }
+
+    private Future<?> submitEncoding(PDFObject object) {
+        if (streamEncodingExecutor != null && object instanceof AbstractPDFStream
+                && ((AbstractPDFStream) object).isEncodingAheadSupported()) {
+            final AbstractPDFStream pdfStream = (AbstractPDFStream) object;
+            return streamEncodingExecutor.submit(new Callable<Object>() {
+                public Object call() throws IOException {
+                    pdfStream.encodeAhead();
+                    return null;
+                }
+            });
+        }
+        return null;
+    }
+
+    private void waitForEncoding(Future<?> encoding) throws IOException {
+        if (encoding == null) {
+            return;
+        }
+        try {
+            encoding.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while encoding a PDF stream");
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+
     private void streamIndirectObject(PDFObject o, OutputStream stream) throws IOException {
+        if (objectStreamsEnabled && isCompressible(o)) {
+            getObjectStreams().add(o instanceof CompressedObject
+                    ? (CompressedObject) o
+                    : new CompressedIndirectObject(o));
+            return;
+        }
         recordObjectOffset(o);
         this.position += outputIndirectObject(o, stream);
     }
 
+    /**
+     * Indicates whether an object may be stored in an object stream. Streams and objects
+     * with a non-zero generation number must be written as regular indirect objects.
+     */
+    private static boolean isCompressible(PDFObject o) {
+        return !(o instanceof AbstractPDFStream) && o.getGeneration() == 0;
+    }
+
+    private ObjectStreamManager getObjectStreams() {
+        if (objectStreams == null) {
+            objectStreams = new ObjectStreamManager(this, true);
+        }
+        return objectStreams;
+    }
+
     private void streamIndirectObjects(Collection<? extends PDFObject> objects, OutputStream stream)
             throws IOException {
         for (PDFObject o : objects) {
@@ -987,11 +1113,7 @@ public class PDFDocument {
     }
 
     private void recordObjectOffset(PDFObject object) {
-        int index = object.getObjectNumber() - 1;
-        while (indirectObjectOffsets.size() <= index) {
-            indirectObjectOffsets.add(null);
-        }
-        indirectObjectOffsets.set(index, position);
+        indirectObjectOffsets.setOffset(object.getObjectNumber(), position);
     }
 
     /**
@@ -1052,8 +1174,12 @@ public class PDFDocument {
      * @throws IOException if there is an exception writing to the output stream
      */
     public void outputTrailer(OutputStream stream) throws IOException {
-        createDestinations();
-        output(stream);
+        try {
+            createDestinations();
+            output(stream, true);
+        } finally {
+            setStreamEncodingThreads(0);
+        }
         outputTrailerObjectsAndXref(stream);
     }
 
@@ -1069,9 +1195,14 @@ public class PDFDocument {
     }
 
     private void outputTrailerObjectsAndXref(OutputStream stream) throws IOException {
-        TrailerOutputHelper trailerOutputHelper = mayCompressStructureTreeElements()
-                ? new CompressedTrailerOutputHelper()
-                : new UncompressedTrailerOutputHelper();
+        TrailerOutputHelper trailerOutputHelper;
+        if (objectStreamsEnabled) {
+            trailerOutputHelper = new ObjectStreamsTrailerOutputHelper();
+        } else if (mayCompressStructureTreeElements()) {
+            trailerOutputHelper = new CompressedTrailerOutputHelper();
+        } else {
+            trailerOutputHelper = new UncompressedTrailerOutputHelper();
+        }
         if (structureTreeElements != null) {
             trailerOutputHelper.outputStructureTreeElements(stream);
         }
@@ -1110,6 +1241,173 @@ public class PDFDocument {
         }
     }
 
+    /**
+     * Returns the factory for the stream caches used to buffer the data of PDF streams.
+     * @return the stream cache factory
+     */
+    public StreamCacheFactory getStreamCacheFactory() {
+        return streamCacheFactory;
+    }
+
+    /**
+     * Sets the factory for the stream caches used to buffer the data of PDF streams.
+     * @param streamCacheFactory the stream cache factory
+     */
+    public void setStreamCacheFactory(StreamCacheFactory streamCacheFactory) {
+        this.streamCacheFactory = streamCacheFactory;
+    }
+
+    /**
+     * Returns the cache used to look up font subsets created for earlier documents.
+     * @return the font subset cache
+     */
+    public FontSubsetCache getFontSubsetCache() {
+        return fontSubsetCache;
+    }
+
+    /**
+     * Sets the cache used to look up font subsets created for earlier documents. By default,
+     * subsets are not cached.
+     * @param fontSubsetCache the font subset cache
+     */
+    public void setFontSubsetCache(FontSubsetCache fontSubsetCache) {
+        this.fontSubsetCache = fontSubsetCache;
+    }
+
+    /**
+     * Sets the number of threads used to encode (compress and encrypt) PDF streams. With
+     * more than zero threads, the streams of the objects that are written by
+     * {@link #output(OutputStream)} are encoded in parallel while earlier objects are being
+     * written. An object whose stream is still being encoded, and the objects after it, are
+     * then written by a later call to {@link #output(OutputStream)}, at the latest by
+     * {@link #outputTrailer(OutputStream)}. The threads are released when the trailer is written or when writing the
+     * objects fails. If the document is abandoned before that, the threads end once they
+     * have been idle for a few seconds.
+     * @param threads the number of threads, 0 to encode streams while writing them
+     */
+    public void setStreamEncodingThreads(int threads) {
+        if (streamEncodingExecutor != null) {
+            streamEncodingExecutor.shutdown();
+            streamEncodingExecutor = null;
+        }
+        if (threads > 0) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                    STREAM_ENCODING_KEEP_ALIVE, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), new StreamEncodingThreadFactory());
+            executor.allowCoreThreadTimeOut(true);
+            streamEncodingExecutor = executor;
+        }
+    }
+
+    /**
+     * Indicates whether streaming mode is enabled. In streaming mode, the bookkeeping for
+     * a page is released as soon as the page has been written so that memory usage does not
+     * grow with the number of pages in the document.
+     * @return true if streaming mode is enabled
+     */
+    public boolean isStreamingEnabled() {
+        return streamingEnabled;
+    }
+
+    /**
+     * Enables or disables streaming mode.
+     * @param streamingEnabled true to enable streaming mode
+     * @see #isStreamingEnabled()
+     */
+    public void setStreamingEnabled(boolean streamingEnabled) {
+        this.streamingEnabled = streamingEnabled;
+    }
+
+    /**
+     * Indicates whether object streams are enabled. If they are, every object that is not a
+     * stream is compressed into an object stream, and a cross-reference stream is written
+     * instead of a cross-reference table.
+     * @return true if object streams are enabled
+     */
+    public boolean isObjectStreamsEnabled() {
+        return objectStreamsEnabled;
+    }
+
+    /**
+     * Enables or disables object streams. Object streams require PDF 1.5, to which the
+     * version is raised if possible. They are not used if the version cannot be changed,
+     * if the active PDF/A or PDF/X profile requires PDF 1.4 or if encryption is active, as
+     * strings in object streams must not be encrypted on their own. This has to be set after
+     * the profile and before any object is written.
+     * @param objectStreamsEnabled true to enable object streams
+     * @see #isObjectStreamsEnabled()
+     */
+    public void setObjectStreamsEnabled(boolean objectStreamsEnabled) {
+        this.objectStreamsEnabled = false;
+        if (!objectStreamsEnabled) {
+            return;
+        }
+        if (isEncryptionActive()) {
+            log.warn("Object streams cannot be used together with encryption."
+                    + " They have been disabled.");
+            return;
+        }
+        Object profile = getProfile().isObjectStreamsAllowed();
+        if (profile != null) {
+            log.warn("Object streams require PDF version 1.5 but " + profile
+                    + " requires version 1.4. They have been disabled.");
+            return;
+        }
+        if (getPDFVersion().compareTo(Version.V1_5) < 0) {
+            try {
+                setPDFVersion(Version.V1_5);
+            } catch (IllegalStateException ise) {
+                log.warn("Object streams require PDF version 1.5 but version has been set to "
+                        + getPDFVersion() + ". They have been disabled.");
+                return;
+            }
+        }
+        this.objectStreamsEnabled = true;
+    }
+
+    /**
+     * Notifies the document that a page and the objects created for it have been registered
+     * and are about to be written. In streaming mode, the page's resource usage is merged into
+     * the document's /Resources object and registries that are only useful within a page are
+     * cleared, so that the page and its annotations can be garbage collected once written.
+     *
+     * @param page the finished page
+     */
+    public void notifyPageFinished(PDFPage page) {
+        if (streamingEnabled) {
+            page.getPDFResources().releaseContext(page);
+            //Links carry the rectangle of the page they are on, so they are never shared
+            //between pages
+            this.links.clear();
+        }
+    }
+
+    /** An object waiting to be written, with the encoding of its stream if it has one. */
+    private static final class PendingObject {
+
+        private final PDFObject object;
+
+        private final Future<?> encoding;
+
+        PendingObject(PDFObject object, Future<?> encoding) {
+            this.object = object;
+            this.encoding = encoding;
+        }
+    }
+
+    /** Creates daemon threads so that an aborted document does not keep the VM alive. */
+    private static final class StreamEncodingThreadFactory implements ThreadFactory {
+
+        private final ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+
+        public Thread newThread(Runnable r) {
+            Thread thread = defaultFactory.newThread(r);
+            thread.setName("PDF stream encoder " + thread.getName());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
     private interface TrailerOutputHelper {
 
         void outputStructureTreeElements(OutputStream stream) throws IOException;
@@ -1161,6 +1459,46 @@ public class PDFDocument {
         }
     }
 
+    private class ObjectStreamsTrailerOutputHelper implements TrailerOutputHelper {
+
+        public void outputStructureTreeElements(OutputStream stream)
+                throws IOException {
+            streamIndirectObjects(structureTreeElements, stream);
+        }
+
+        public long outputCrossReferenceObject(OutputStream stream,
+                TrailerDictionary trailerDictionary) throws IOException {
+            //Writing the last object streams may register further objects, which in turn
+            //end up in a new object stream
+            output(stream);
+            while (getObjectStreams().flush()) {
+                output(stream);
+            }
+            new CrossReferenceStream(PDFDocument.this, ++objectcount, trailerDictionary, position,
+                    indirectObjectOffsets, objectStreams.getCompressedObjectReferences())
+                    .output(stream);
+            return position;
+        }
+    }
+
+    /** Adapts an indirect object for storage in an object stream. */
+    private static final class CompressedIndirectObject implements CompressedObject {
+
+        private final PDFObject object;
+
+        CompressedIndirectObject(PDFObject object) {
+            this.object = object;
+        }
+
+        public int getObjectNumber() {
+            return object.getObjectNumber();
+        }
+
+        public int output(OutputStream outputStream) throws IOException {
+            return object.output(outputStream);
+        }
+    }
+
     long getCurrentFileSize() {
         return position;
     }
@@ -19,7 +19,6 @@
 
 package org.apache.fop.pdf;
 
-import java.io.IOException;
 import java.util.Date;
 
 /**
@@ -51,12 +50,8 @@ public class PDFEmbeddedFile extends PDFStream {
     /** {@inheritDoc} */
     protected void populateStreamDict(Object lengthEntry) {
         super.populateStreamDict(lengthEntry);
-        try {
-            PDFDictionary dict = (PDFDictionary)get("Params");
-            dict.put("Size", new Integer(data.getSize()));
-        } catch (IOException ioe) {
-            //ignore and just skip this entry as it's optional
-        }
+        PDFDictionary dict = (PDFDictionary)get("Params");
+        dict.put("Size", new Integer(getDataLength()));
     }
 
 }
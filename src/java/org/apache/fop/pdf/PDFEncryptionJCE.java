@@ -811,8 +811,12 @@ public final class PDFEncryptionJCE extends PDFObject implements PDFEncryption {
         // Step 2
         byte[] md5Input = prepareMD5Input(objectNumber, generationNumber);
         // Step 3
-        digest.reset();
-        byte[] hash = digest.digest(md5Input);
+        byte[] hash;
+        synchronized (digest) {
+            //Streams may be encrypted on several threads, see PDFDocument.setStreamEncodingThreads()
+            digest.reset();
+            hash = digest.digest(md5Input);
+        }
         // Step 4
         int keyLength = Math.min(16, md5Input.length);
         byte[] key = new byte[keyLength];
@@ -48,6 +48,7 @@ import org.apache.fop.fonts.CustomFont;
 import org.apache.fop.fonts.EmbeddingMode;
 import org.apache.fop.fonts.FontDescriptor;
 import org.apache.fop.fonts.FontMetrics;
+import org.apache.fop.fonts.FontSubsetCache;
 import org.apache.fop.fonts.FontType;
 import org.apache.fop.fonts.LazyFont;
 import org.apache.fop.fonts.MultiByteFont;
@@ -57,11 +58,8 @@ import org.apache.fop.fonts.SingleByteFont;
 import org.apache.fop.fonts.Typeface;
 import org.apache.fop.fonts.truetype.FontFileReader;
 import org.apache.fop.fonts.truetype.OFFontLoader;
-import org.apache.fop.fonts.truetype.OTFSubSetFile;
-import org.apache.fop.fonts.truetype.TTFSubSetFile;
 import org.apache.fop.fonts.type1.PFBData;
 import org.apache.fop.fonts.type1.PFBParser;
-import org.apache.fop.fonts.type1.Type1SubsetFile;
 
 /**
  * This class provides method to create and register PDF objects.
@@ -1206,7 +1204,7 @@ public class PDFFactory {
             AbstractPDFStream embeddedFont = null;
             if (desc.getFontType() == FontType.TYPE0) {
                 MultiByteFont mbfont = (MultiByteFont) font;
-                FontFileReader reader = new FontFileReader(in);
+                FontFileReader reader = mbfont.getFontFileReader();
                 byte[] fontBytes;
                 String header = OFFontLoader.readHeader(reader);
                 boolean isCFF = mbfont.isOTFFile();
@@ -1227,8 +1225,8 @@ public class PDFFactory {
                 } else {
                     assert font instanceof SingleByteFont;
                     SingleByteFont sbfont = (SingleByteFont)font;
-                    Type1SubsetFile pfbFile = new Type1SubsetFile();
-                    byte[] subsetData = pfbFile.createSubset(in, sbfont);
+                    byte[] subsetData = getDocument().getFontSubsetCache().getType1Subset(sbfont,
+                            in);
                     InputStream subsetStream = new ByteArrayInputStream(subsetData);
                     PFBParser parser = new PFBParser();
                     PFBData pfb = parser.parsePFB(subsetStream);
@@ -1278,14 +1276,14 @@ public class PDFFactory {
 
     private byte[] getFontSubsetBytes(FontFileReader reader, MultiByteFont mbfont, String header,
             String fontPrefix, FontDescriptor desc, boolean isCFF) throws IOException {
+        FontSubsetCache subsetCache = getDocument().getFontSubsetCache();
         if (isCFF) {
-            OTFSubSetFile otfFile = new OTFSubSetFile();
-            otfFile.readFont(reader, fontPrefix + desc.getEmbedFontName(), header, mbfont);
-            return otfFile.getFontSubset();
+            return subsetCache.getCFFSubset(mbfont, reader, header,
+                    fontPrefix + desc.getEmbedFontName());
         } else {
-            TTFSubSetFile otfFile = new TTFSubSetFile();
-            otfFile.readFont(reader, mbfont.getTTCName(), header, mbfont.getUsedGlyphs());
-            return otfFile.getFontSubset();
+            //PDF/A requires the CIDSet to list all glyphs in the font program
+            boolean allowSuperset = !getDocument().getProfile().isPDFAActive();
+            return subsetCache.getTrueTypeSubset(mbfont, reader, header, allowSuperset);
         }
     }
 
@@ -76,5 +76,11 @@ public class PDFFileSpec extends PDFDictionary {
 
         return true;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int contentHashCode() {
+        return getFilename().hashCode();
+    }
 }
 
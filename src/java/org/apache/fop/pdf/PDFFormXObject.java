@@ -159,6 +159,12 @@ public class PDFFormXObject extends PDFXObject {
         contents.outputRawStreamData(out);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isEncodingAheadSupported() {
+        return true;
+    }
+
     /** {@inheritDoc} */
     public int output(OutputStream stream) throws IOException {
         final int len = super.output(stream);
@@ -194,4 +194,23 @@ public class PDFFunction extends PDFObject {
         return true;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected int contentHashCode() {
+        int hash = function.getFunctionType();
+        hash = 31 * hash + function.getBitsPerSample();
+        hash = 31 * hash + function.getOrder();
+        hash = 31 * hash + hashCode(function.getDomain());
+        hash = 31 * hash + hashCode(function.getRange());
+        hash = 31 * hash + hashCode(function.getEncode());
+        hash = 31 * hash + Arrays.hashCode(function.getCZero());
+        hash = 31 * hash + Arrays.hashCode(function.getCOne());
+        hash = 31 * hash + hashCode(function.getBounds());
+        return 31 * hash + pdfFunctions.hashCode();
+    }
+
+    private static int hashCode(Object obj) {
+        return obj == null ? 0 : obj.hashCode();
+    }
+
 }
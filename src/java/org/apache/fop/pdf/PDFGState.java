@@ -195,5 +195,31 @@ public class PDFGState extends PDFObject {
         }
         return true;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int contentHashCode() {
+        return values.hashCode();
+    }
+
+    /**
+     * Returns the values that have to be set on top of a base state to obtain this state.
+     * @param base the state the returned values are applied to
+     * @return the differing values, or null if the base state has values this state doesn't have
+     */
+    PDFGState getDifference(PDFGState base) {
+        for (Object key : base.values.keySet()) {
+            if (!values.containsKey(key)) {
+                return null;
+            }
+        }
+        PDFGState diff = new PDFGState();
+        for (Map.Entry<Object, Object> e : (Set<Map.Entry<Object, Object>>) values.entrySet()) {
+            if (!e.getValue().equals(base.values.get(e.getKey()))) {
+                diff.values.put(e.getKey(), e.getValue());
+            }
+        }
+        return diff;
+    }
 }
 
@@ -172,5 +172,17 @@ public class PDFGoTo extends PDFAction {
 
         return true;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int contentHashCode() {
+        int hash = (pageReference == null ? 0 : pageReference.hashCode());
+        if (destination == null) {
+            hash = 31 * hash + Float.floatToIntBits(xPosition);
+            return 31 * hash + Float.floatToIntBits(yPosition);
+        } else {
+            return 31 * hash + destination.hashCode();
+        }
+    }
 }
 
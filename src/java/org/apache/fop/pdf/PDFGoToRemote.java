@@ -165,5 +165,11 @@ public class PDFGoToRemote extends PDFAction {
 
         return (this.newWindow == remote.newWindow);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int contentHashCode() {
+        return 31 * pdfFileSpec.toString().hashCode() + (newWindow ? 1 : 0);
+    }
 }
 
@@ -71,6 +71,12 @@ public class PDFImageXObject extends PDFXObject {
         return length;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isEncodingAheadSupported() {
+        return true;
+    }
+
     /** {@inheritDoc} */
     protected void populateStreamDict(Object lengthEntry) {
         super.populateStreamDict(lengthEntry);
@@ -79,4 +79,10 @@ public class PDFLaunch extends PDFAction {
 
         return true;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int contentHashCode() {
+        return externalFileSpec.toString().hashCode();
+    }
 }
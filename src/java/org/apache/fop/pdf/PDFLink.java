@@ -142,5 +142,15 @@ public class PDFLink extends PDFObject {
 
         return true;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int contentHashCode() {
+        // the action may be set after the link is registered, so only the hotspot is hashed
+        int hash = Float.floatToIntBits(ulx);
+        hash = 31 * hash + Float.floatToIntBits(uly);
+        hash = 31 * hash + Float.floatToIntBits(brx);
+        return 31 * hash + Float.floatToIntBits(bry);
+    }
 }
 
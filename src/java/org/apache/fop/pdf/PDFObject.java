@@ -344,4 +344,17 @@ public abstract class PDFObject implements PDFWritable {
     protected boolean contentEquals(PDFObject o) {
         return this.equals(o);
     }
+
+    /**
+     * Returns a hash code for the content of this object. Objects for which
+     * {@link #contentEquals(PDFObject)} returns true must return the same value, so
+     * subclasses overriding that method should override this one as well. The default
+     * implementation returns a constant, which is always consistent but does not allow
+     * objects to be told apart by their hash.
+     *
+     * @return the hash code of the content
+     */
+    protected int contentHashCode() {
+        return 0;
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.pdf;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of PDF objects that can be looked up by content. Objects are bucketed by
+ * {@link PDFObject#contentHashCode()} and only the objects in the matching bucket are compared
+ * with {@link PDFObject#contentEquals(PDFObject)}, so lookups do not slow down as the
+ * document grows.
+ *
+ * @param <T> the type of the registered objects
+ */
+class PDFObjectIndex<T extends PDFObject> {
+
+    private final Map<Integer, List<T>> buckets = new HashMap<Integer, List<T>>();
+
+    private int size;
+
+    /**
+     * Registers an object.
+     * @param obj the object
+     */
+    public void add(T obj) {
+        Integer hash = Integer.valueOf(obj.contentHashCode());
+        List<T> bucket = buckets.get(hash);
+        if (bucket == null) {
+            bucket = new ArrayList<T>(1);
+            buckets.put(hash, bucket);
+        }
+        bucket.add(obj);
+        size++;
+    }
+
+    /**
+     * Finds the first registered object with the same content as a reference object.
+     * @param compare the reference object
+     * @return the registered object, or null if there is none
+     */
+    public T find(PDFObject compare) {
+        List<T> bucket = buckets.get(Integer.valueOf(compare.contentHashCode()));
+        if (bucket != null) {
+            for (T obj : bucket) {
+                if (compare.contentEquals(obj)) {
+                    return obj;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of registered objects.
+     * @return the number of objects
+     */
+    public int size() {
+        return size;
+    }
+
+    /** Removes all registered objects. */
+    public void clear() {
+        buckets.clear();
+        size = 0;
+    }
+}
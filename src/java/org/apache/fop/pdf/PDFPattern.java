@@ -418,4 +418,14 @@ public class PDFPattern extends PDFPathPaint {
         return true;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected int contentHashCode() {
+        int hash = patternType;
+        hash = 31 * hash + paintType;
+        hash = 31 * hash + tilingType;
+        hash = 31 * hash + (bBox == null ? 0 : bBox.hashCode());
+        return 31 * hash + (matrix == null ? 0 : matrix.hashCode());
+    }
+
 }
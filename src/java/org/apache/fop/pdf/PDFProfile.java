@@ -192,6 +192,23 @@ public class PDFProfile {
         return null;
     }
 
+    /**
+     * Returns {@code null} if object streams may be used, otherwise returns the profile that
+     * prevents it by requiring PDF 1.4.
+     *
+     * @return {@code null}, or an object whose {@code toString} method returns the name
+     * of the profile that disallows object streams
+     */
+    public Object isObjectStreamsAllowed() {
+        if (getPDFAMode().isPart1()) {
+            return getPDFAMode();
+        }
+        if (getPDFXMode() == PDFXMode.PDFX_3_2003) {
+            return getPDFXMode();
+        }
+        return null;
+    }
+
     /** Checks if the right PDF version is set. */
     public void verifyPDFVersion() {
         final String err = "PDF version must be 1.4 for {0}";
@@ -66,6 +66,11 @@ public class PDFResources extends PDFDictionary {
 
     protected Set<PDFResourceContext> contexts = new LinkedHashSet<PDFResourceContext>();
 
+    /** Patterns, shadings and GStates of contexts that have been released */
+    private Set<PDFPattern> releasedPatterns = new LinkedHashSet<PDFPattern>();
+    private Set<PDFShading> releasedShadings = new LinkedHashSet<PDFShading>();
+    private Set<PDFGState> releasedGStates = new LinkedHashSet<PDFGState>();
+
     /**
      * create a /Resources object.
      *
@@ -81,6 +86,22 @@ public class PDFResources extends PDFDictionary {
         contexts.add(c);
     }
 
+    /**
+     * Releases a resource context that will not receive any further resources. The resources
+     * used by the context are merged into this object so that the context itself no longer
+     * needs to be referenced until this object is written.
+     *
+     * @param c the resource context to release
+     */
+    public void releaseContext(PDFResourceContext c) {
+        if (contexts.remove(c)) {
+            xObjects.addAll(c.getXObjects());
+            releasedPatterns.addAll(c.getPatterns());
+            releasedShadings.addAll(c.getShadings());
+            releasedGStates.addAll(c.getGStates());
+        }
+    }
+
     public void setParentResources(PDFResources p) {
         parent = p;
     }
@@ -231,9 +252,9 @@ public class PDFResources extends PDFDictionary {
             put("Font", dict);
         }
 
-        Set<PDFPattern> patterns = new LinkedHashSet<PDFPattern>();
-        Set<PDFShading> shadings = new LinkedHashSet<PDFShading>();
-        Set<PDFGState> gstates = new LinkedHashSet<PDFGState>();
+        Set<PDFPattern> patterns = new LinkedHashSet<PDFPattern>(releasedPatterns);
+        Set<PDFShading> shadings = new LinkedHashSet<PDFShading>(releasedShadings);
+        Set<PDFGState> gstates = new LinkedHashSet<PDFGState>(releasedGStates);
         for (PDFResourceContext c : contexts) {
             xObjects.addAll(c.getXObjects());
             patterns.addAll(c.getPatterns());
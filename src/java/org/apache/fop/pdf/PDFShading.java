@@ -175,4 +175,12 @@ public class PDFShading extends PDFObject {
         return true;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected int contentHashCode() {
+        int hash = shading.getShadingType();
+        hash = 31 * hash + (shading.getCoords() == null ? 0 : shading.getCoords().hashCode());
+        return 31 * hash + (shading.getExtend() == null ? 0 : shading.getExtend().hashCode());
+    }
+
 }
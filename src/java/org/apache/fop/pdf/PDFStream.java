@@ -66,9 +66,10 @@ public class PDFStream extends AbstractPDFStream {
 
     private void setUp() {
         try {
-            data = StreamCacheFactory.getInstance().createStreamCache();
+            //The stream cache is created on first use so the document's stream cache
+            //factory can be used if the stream has been added to a document by then
             this.streamWriter = new OutputStreamWriter(
-                    getBufferOutputStream(), PDFDocument.ENCODING);
+                    new BufferOutputStream(), PDFDocument.ENCODING);
             //Buffer to minimize calls to the converter
             this.streamWriter = new java.io.BufferedWriter(this.streamWriter);
         } catch (IOException e) {
@@ -76,6 +77,13 @@ public class PDFStream extends AbstractPDFStream {
         }
     }
 
+    private StreamCache getData() throws IOException {
+        if (this.data == null) {
+            this.data = getStreamCacheFactory().createStreamCache();
+        }
+        return this.data;
+    }
+
     /**
      * Append data to the stream
      *
@@ -140,7 +148,7 @@ public class PDFStream extends AbstractPDFStream {
         if (this.streamWriter != null) {
             flush(); //Just to be sure
         }
-        return this.data.getOutputStream();
+        return getData().getOutputStream();
     }
 
     /**
@@ -149,8 +157,8 @@ public class PDFStream extends AbstractPDFStream {
      * @throws IOException in case of an I/O problem
      */
     public void setData(byte[] data) throws IOException {
-        this.data.clear();
-        this.data.write(data);
+        getData().clear();
+        getData().write(data);
     }
 
     /**
@@ -160,7 +168,7 @@ public class PDFStream extends AbstractPDFStream {
     public int getDataLength() {
         try {
             flush();
-            return data.getSize();
+            return getData().getSize();
         } catch (Exception e) {
             //TODO throw the exception and catch it elsewhere
             e.printStackTrace();
@@ -168,16 +176,22 @@ public class PDFStream extends AbstractPDFStream {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isEncodingAheadSupported() {
+        return true;
+    }
+
     /** {@inheritDoc} */
     protected int getSizeHint() throws IOException {
         flush();
-        return data.getSize();
+        return getData().getSize();
     }
 
     /** {@inheritDoc} */
     protected void outputRawStreamData(OutputStream out) throws IOException {
         flush();
-        data.outputContents(out);
+        getData().outputContents(out);
     }
 
     /**
@@ -187,8 +201,35 @@ public class PDFStream extends AbstractPDFStream {
         final int len = super.output(stream);
 
         //Now that the data has been written, it can be discarded.
-        this.data = null;
+        if (this.data != null) {
+            this.data.clear();
+            this.data = null;
+        }
         return len;
     }
 
+    /**
+     * OutputStream writing to the stream cache, which may only be created after the
+     * stream writer has been set up.
+     */
+    private class BufferOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            getData().getOutputStream().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            getData().getOutputStream().write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (data != null) {
+                data.getOutputStream().flush();
+            }
+        }
+    }
+
 }
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.pdf;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * StreamCache implementation that keeps its data in memory until it grows beyond a given
+ * threshold, and moves it to a temporary file from then on.
+ */
+public class SpillingStreamCache implements StreamCache {
+
+    private final int threshold;
+
+    private final int hintSize;
+
+    /** The cache currently holding the data. */
+    private StreamCache delegate;
+
+    private boolean spilled;
+
+    /** The output stream handed out to clients; it stays valid when the data is moved. */
+    private final OutputStream output = new SpillingOutputStream();
+
+    /**
+     * Creates a new SpillingStreamCache.
+     * @param threshold the size, in bytes, above which the data is moved to a temporary file
+     */
+    public SpillingStreamCache(int threshold) {
+        this(threshold, -1);
+    }
+
+    /**
+     * Creates a new SpillingStreamCache.
+     * @param threshold the size, in bytes, above which the data is moved to a temporary file
+     * @param hintSize a hint about the approximate expected size of the buffer
+     */
+    public SpillingStreamCache(int threshold, int hintSize) {
+        this.threshold = threshold;
+        this.hintSize = hintSize;
+        this.delegate = new InMemoryStreamCache(hintSize);
+    }
+
+    /**
+     * Indicates whether the data has been moved to a temporary file.
+     * @return true if the data is held in a temporary file
+     */
+    public boolean isSpilled() {
+        return spilled;
+    }
+
+    /** {@inheritDoc} */
+    public OutputStream getOutputStream() throws IOException {
+        return output;
+    }
+
+    /** {@inheritDoc} */
+    public void write(byte[] data) throws IOException {
+        output.write(data);
+    }
+
+    /** {@inheritDoc} */
+    public int outputContents(OutputStream out) throws IOException {
+        return delegate.outputContents(out);
+    }
+
+    /** {@inheritDoc} */
+    public int getSize() throws IOException {
+        return delegate.getSize();
+    }
+
+    /** {@inheritDoc} */
+    public void clear() throws IOException {
+        delegate.clear();
+        if (spilled) {
+            delegate = new InMemoryStreamCache(hintSize);
+            spilled = false;
+        }
+    }
+
+    private OutputStream prepareWrite(int len) throws IOException {
+        if (!spilled && delegate.getSize() + len > threshold) {
+            StreamCache fileCache = new TempFileStreamCache();
+            delegate.outputContents(fileCache.getOutputStream());
+            delegate.clear();
+            delegate = fileCache;
+            spilled = true;
+        }
+        return delegate.getOutputStream();
+    }
+
+    private class SpillingOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            prepareWrite(1).write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            prepareWrite(len).write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.getOutputStream().flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            //The underlying stream is closed when the contents are output
+            flush();
+        }
+    }
+}
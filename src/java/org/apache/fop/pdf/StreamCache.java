@@ -24,9 +24,9 @@ import java.io.OutputStream;
 
 /**
  * Interface used to store the bytes for a PDFStream. It's actually a generic
- * cached byte array. There's a factory that returns either an
- * in-memory or tempfile based implementation based on a
- * cacheToFile setting.
+ * cached byte array. There's a factory that returns an in-memory,
+ * tempfile based or mixed implementation based on a file threshold
+ * setting.
  */
 public interface StreamCache {
 
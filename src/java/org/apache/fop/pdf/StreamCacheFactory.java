@@ -22,45 +22,91 @@ package org.apache.fop.pdf;
 import java.io.IOException;
 
 /**
- * This class is serves as a factory from
+ * This class serves as a factory for {@link StreamCache} instances. Depending on its
+ * threshold, the stream caches it creates keep their data on the heap, in temporary files,
+ * or on the heap until they grow beyond the threshold and in a temporary file afterwards.
  */
 public final class StreamCacheFactory {
 
-    private static StreamCacheFactory memoryInstance = new StreamCacheFactory();
+    /** Threshold value indicating that stream data is never moved to a temporary file. */
+    public static final int NO_THRESHOLD = -1;
+
+    private static StreamCacheFactory memoryInstance = new StreamCacheFactory(NO_THRESHOLD);
+
+    private static StreamCacheFactory fileInstance = new StreamCacheFactory(0);
+
+    private final int fileThreshold;
 
     /**
-     * Returns an instance of a StreamCacheFactory with the requested features.
+     * Returns an instance of a StreamCacheFactory that keeps all data in memory.
      * @return StreamCacheFactory the requested factory
      */
     public static StreamCacheFactory getInstance() {
         return memoryInstance;
     }
 
+    /**
+     * Returns an instance of a StreamCacheFactory with the requested features.
+     * @param fileThreshold the size, in bytes, above which stream data is moved to a temporary
+     * file. 0 stores all streams in temporary files, {@link #NO_THRESHOLD} keeps them in memory.
+     * @return StreamCacheFactory the requested factory
+     */
+    public static StreamCacheFactory getInstance(int fileThreshold) {
+        if (fileThreshold < 0) {
+            return memoryInstance;
+        } else if (fileThreshold == 0) {
+            return fileInstance;
+        } else {
+            return new StreamCacheFactory(fileThreshold);
+        }
+    }
+
     /**
      * Creates a new StreamCacheFactory.
-     * @param cacheToFile True if file shall be cached using a temporary file
+     * @param fileThreshold the size above which data is cached using a temporary file
+     */
+    private StreamCacheFactory(int fileThreshold) {
+        this.fileThreshold = fileThreshold;
+    }
+
+    /**
+     * Returns the size, in bytes, above which stream data is moved to a temporary file.
+     * @return the threshold, or {@link #NO_THRESHOLD} if data always stays in memory
      */
-    private StreamCacheFactory() {
+    public int getFileThreshold() {
+        return fileThreshold;
     }
 
     /**
-     * Get the correct implementation (based on cacheToFile) of
+     * Get the correct implementation (based on the file threshold) of
      * StreamCache.
      * @throws IOException if there is an IO error
      * @return a new StreamCache for caching streams
      */
     public StreamCache createStreamCache() throws IOException {
-        return new InMemoryStreamCache();
+        if (fileThreshold < 0) {
+            return new InMemoryStreamCache();
+        } else if (fileThreshold == 0) {
+            return new TempFileStreamCache();
+        } else {
+            return new SpillingStreamCache(fileThreshold);
+        }
     }
 
     /**
-     * Get the correct implementation (based on cacheToFile) of
+     * Get the correct implementation (based on the file threshold) of
      * StreamCache.
      * @param hintSize a hint about the approximate expected size of the buffer
      * @throws IOException if there is an IO error
      * @return a new StreamCache for caching streams
      */
     public StreamCache createStreamCache(int hintSize) throws IOException {
-        return new InMemoryStreamCache(hintSize);
+        if (fileThreshold < 0) {
+            return new InMemoryStreamCache(hintSize);
+        } else if (fileThreshold == 0 || hintSize > fileThreshold) {
+            return new TempFileStreamCache();
+        } else {
+            return new SpillingStreamCache(fileThreshold, hintSize);
+        }
     }
 }
@@ -60,6 +60,9 @@ public class CrossReferenceStream extends CrossReferenceObject {
             objectReferences.add(offset == null ? null : new UncompressedObjectReference(offset));
         }
         for (CompressedObjectReference ref : compressedObjectReferences) {
+            while (objectReferences.size() < ref.getObjectNumber()) {
+                objectReferences.add(null);
+            }
             this.objectReferences.set(ref.getObjectNumber() - 1, ref);
         }
     }
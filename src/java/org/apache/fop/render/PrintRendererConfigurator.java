@@ -24,6 +24,7 @@ import java.util.List;
 
 import org.apache.fop.apps.FOPException;
 import org.apache.fop.apps.FOUserAgent;
+import org.apache.fop.apps.RenderingSession;
 import org.apache.fop.apps.io.InternalResourceResolver;
 import org.apache.fop.fonts.CustomFontCollection;
 import org.apache.fop.fonts.DefaultFontConfigurator;
@@ -33,6 +34,7 @@ import org.apache.fop.fonts.FontConfigurator;
 import org.apache.fop.fonts.FontEventAdapter;
 import org.apache.fop.fonts.FontInfo;
 import org.apache.fop.fonts.FontManager;
+import org.apache.fop.fonts.Typeface;
 import org.apache.fop.render.RendererConfig.RendererConfigParser;
 import org.apache.fop.render.intermediate.IFDocumentHandler;
 import org.apache.fop.render.intermediate.IFDocumentHandlerConfigurator;
@@ -122,6 +124,26 @@ public abstract class PrintRendererConfigurator extends AbstractRendererConfigur
 
     /** {@inheritDoc} */
     public void setupFontInfo(String mimeType, FontInfo fontInfo) throws FOPException {
+        RenderingSession session = userAgent.getRenderingSession();
+        if (session == null) {
+            setupFonts(mimeType, fontInfo);
+        } else {
+            FontInfo sessionFontInfo = session.getFontInfo(mimeType);
+            if (sessionFontInfo == null) {
+                sessionFontInfo = new FontInfo();
+                setupFonts(mimeType, sessionFontInfo);
+                session.setFontInfo(mimeType, sessionFontInfo);
+            } else {
+                //Don't carry the glyphs used by the previous documents over to this one
+                for (Typeface font : sessionFontInfo.getFonts().values()) {
+                    font.resetUsage();
+                }
+            }
+            fontInfo.addFonts(sessionFontInfo);
+        }
+    }
+
+    private void setupFonts(String mimeType, FontInfo fontInfo) throws FOPException {
         FontManager fontManager = userAgent.getFontManager();
         List<FontCollection> fontCollections = getDefaultFontCollection();
         fontCollections.add(getCustomFontCollection(fontManager.getResourceResolver(), mimeType));
@@ -144,7 +166,7 @@ public abstract class PrintRendererConfigurator extends AbstractRendererConfigur
         if (rendererConfigParser == null) {
             fontList = Collections.<EmbedFontInfo>emptyList();
         } else {
-            fontList = fontInfoConfigurator.configure(getRendererConfig(mimeType).getFontInfoConfig());
+            fontList = buildFontList(mimeType);
         }
         return createCollectionFromFontList(resolver, fontList);
     }
@@ -163,7 +185,7 @@ public abstract class PrintRendererConfigurator extends AbstractRendererConfigur
     }
 
     private List<EmbedFontInfo> buildFontList(String mimeType) throws FOPException {
-        return fontInfoConfigurator.configure(getRendererConfig(mimeType).getFontInfoConfig());
+        return userAgent.getRendererFontList(mimeType, rendererConfigParser, fontInfoConfigurator);
     }
 
     public static PrintRendererConfigurator createDefaultInstance(FOUserAgent userAgent) {
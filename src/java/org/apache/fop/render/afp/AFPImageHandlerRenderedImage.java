@@ -31,6 +31,7 @@ import java.awt.image.SampleModel;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Arrays;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -51,6 +52,7 @@ import org.apache.fop.afp.AFPDataObjectInfo;
 import org.apache.fop.afp.AFPImageObjectInfo;
 import org.apache.fop.afp.AFPObjectAreaInfo;
 import org.apache.fop.afp.AFPPaintingState;
+import org.apache.fop.afp.AFPResourceCache;
 import org.apache.fop.afp.AFPResourceInfo;
 import org.apache.fop.afp.AFPResourceManager;
 import org.apache.fop.afp.ioca.ImageContent;
@@ -126,14 +128,24 @@ public class AFPImageHandlerRenderedImage extends AFPImageHandler implements Ima
         RenderedImageEncoder encoder = new RenderedImageEncoder(imageRend, targetSize);
         encoder.prepareEncoding(imageObjectInfo, paintingState);
 
+        //Determine the cache key before the resource manager makes instream URIs unique
+        Object cacheKey = createCacheKey(image, imageObjectInfo, paintingState);
         boolean included = afpContext.getResourceManager().tryIncludeObject(imageObjectInfo);
         if (!included) {
-            long start = System.currentTimeMillis();
+            AFPResourceCache resourceCache = afpContext.getUserAgent().getAFPResourceCache();
             //encode only if the same image has not been encoded, yet
-            encoder.encodeImage(imageObjectInfo, paintingState);
-            if (log.isDebugEnabled()) {
-                long duration = System.currentTimeMillis() - start;
-                log.debug("Image encoding took " + duration + "ms.");
+            if (cacheKey == null || !resourceCache.restoreImage(cacheKey, imageObjectInfo)) {
+                long start = System.currentTimeMillis();
+                encoder.encodeImage(imageObjectInfo, paintingState);
+                if (log.isDebugEnabled()) {
+                    long duration = System.currentTimeMillis() - start;
+                    log.debug("Image encoding took " + duration + "ms.");
+                }
+                if (cacheKey != null) {
+                    resourceCache.putImage(cacheKey, imageObjectInfo);
+                }
+            } else if (log.isDebugEnabled()) {
+                log.debug("Using cached image data for " + image.getInfo().getOriginalURI());
             }
 
             // Create image
@@ -141,6 +153,33 @@ public class AFPImageHandlerRenderedImage extends AFPImageHandler implements Ima
         }
     }
 
+    /**
+     * Creates the key under which the encoded image data is stored in the
+     * {@link AFPResourceCache}. It covers the image source and all the settings that the
+     * encoding depends on.
+     * @param image the image
+     * @param imageObjectInfo the image object info, prepared for encoding
+     * @param paintingState the painting state
+     * @return the cache key, or null if the image cannot be cached because it has no URI
+     */
+    private static Object createCacheKey(Image image, AFPImageObjectInfo imageObjectInfo,
+            AFPPaintingState paintingState) {
+        ImageInfo info = image.getInfo();
+        String uri = info.getOriginalURI();
+        if (uri == null || uri.endsWith("/")) {
+            return null;
+        }
+        AFPResourceInfo resourceInfo = imageObjectInfo.getResourceInfo();
+        return Arrays.asList(uri, info.getMimeType(), info.getSize().getDimensionPx(),
+                resourceInfo.getName(), resourceInfo.getLevel(),
+                resourceInfo.getImageDimension(),
+                paintingState.getBitsPerPixel(), paintingState.isColorImages(),
+                paintingState.isCMYKImagesSupported(), paintingState.canEmbedJpeg(),
+                paintingState.getDitheringQuality(), paintingState.getBitmapEncodingQuality(),
+                paintingState.getResolution(), paintingState.getFS45(),
+                paintingState.getWrapPSeg());
+    }
+
     /** {@inheritDoc} */
     public boolean isCompatible(RenderingContext targetContext, Image image) {
         return (image == null || image instanceof ImageRendered)
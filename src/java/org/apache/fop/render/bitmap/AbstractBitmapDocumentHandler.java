@@ -21,12 +21,24 @@ package org.apache.fop.render.bitmap;
 
 import java.awt.Dimension;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.geom.Point2D;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.LinkedList;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.w3c.dom.Document;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.logging.Log;
@@ -43,6 +55,7 @@ import org.apache.fop.render.intermediate.IFContext;
 import org.apache.fop.render.intermediate.IFDocumentHandlerConfigurator;
 import org.apache.fop.render.intermediate.IFException;
 import org.apache.fop.render.intermediate.IFPainter;
+import org.apache.fop.render.intermediate.util.IFPainterRecorder;
 import org.apache.fop.render.java2d.Java2DPainter;
 import org.apache.fop.render.java2d.Java2DUtil;
 
@@ -68,10 +81,24 @@ public abstract class AbstractBitmapDocumentHandler extends AbstractBinaryWritin
     /** Helper class for generating multiple files */
     private MultiFileRenderingUtil multiFileUtil;
 
+    /** the number of pages written so far */
     private int pageCount;
     private Dimension currentPageDimensions;
     private BufferedImage currentImage;
 
+    /** Idle time after which a page painter thread ends, in seconds */
+    private static final long PAGE_PAINTER_KEEP_ALIVE = 10;
+
+    /** Paints recorded pages when rendering on multiple threads, null otherwise */
+    private ExecutorService pagePainter;
+    private IFPainterRecorder currentPageRecorder;
+    private PageGeometry currentPageGeometry;
+    /** Pages being painted, in page order */
+    private final LinkedList<Future<BufferedImage>> pendingPages
+            = new LinkedList<Future<BufferedImage>>();
+    /** Serializes image painting: the image session context isn't thread-safe */
+    private final Object imageLock = new Object();
+
     private BitmapRenderingSettings bitmapSettings = new BitmapRenderingSettings();
 
     private double scaleFactor = 1.0;
@@ -153,6 +180,11 @@ public abstract class AbstractBitmapDocumentHandler extends AbstractBinaryWritin
                         getUserAgent().getOutputFile());
             }
             this.pageCount = 0;
+            shutdownPagePainter();
+            int threads = getSettings().getRenderingThreads();
+            if (threads > 1) {
+                this.pagePainter = createPagePainter(threads);
+            }
         } catch (IOException e) {
             throw new IFException("I/O error in startDocument()", e);
         }
@@ -165,6 +197,7 @@ public abstract class AbstractBitmapDocumentHandler extends AbstractBinaryWritin
     /** {@inheritDoc} */
     public void endDocument() throws IFException {
         try {
+            writePaintedPages(0);
             if (this.multiImageWriter != null) {
                 this.multiImageWriter.close();
             }
@@ -172,10 +205,46 @@ public abstract class AbstractBitmapDocumentHandler extends AbstractBinaryWritin
             this.imageWriter = null;
         } catch (IOException ioe) {
             throw new IFException("I/O error in endDocument()", ioe);
+        } finally {
+            shutdownPagePainter();
         }
         super.endDocument();
     }
 
+    /**
+     * Creates the pool painting recorded pages. Idle threads end after a while so a rendering
+     * run that is abandoned before {@link #endDocument()} doesn't keep them alive.
+     * @param threads the number of painting threads
+     * @return the executor
+     */
+    private static ExecutorService createPagePainter(int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                PAGE_PAINTER_KEEP_ALIVE, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactory() {
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r, "FOP bitmap page painter");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /** Cancels the pages still being painted and stops the painting threads. */
+    private void shutdownPagePainter() {
+        for (Future<BufferedImage> page : this.pendingPages) {
+            page.cancel(true);
+        }
+        this.pendingPages.clear();
+        this.currentPageRecorder = null;
+        this.currentPageGeometry = null;
+        if (this.pagePainter != null) {
+            this.pagePainter.shutdownNow();
+            this.pagePainter = null;
+        }
+    }
+
     /** {@inheritDoc} */
     public void startPageSequence(String id) throws IFException {
         //nop
@@ -189,12 +258,28 @@ public abstract class AbstractBitmapDocumentHandler extends AbstractBinaryWritin
     /** {@inheritDoc} */
     public void startPage(int index, String name, String pageMasterName, Dimension size)
                 throws IFException {
-        this.pageCount++;
         this.currentPageDimensions = new Dimension(size);
     }
 
     /** {@inheritDoc} */
     public IFPainter startPageContent() throws IFException {
+        PageGeometry geometry = createPageGeometry();
+        if (this.pagePainter != null) {
+            this.currentPageGeometry = geometry;
+            this.currentPageRecorder = new IFPainterRecorder(getContext());
+            return this.currentPageRecorder;
+        }
+
+        //Set up bitmap to paint on
+        if (currentImage == null || currentImage.getWidth() != geometry.bitmapWidth
+                || currentImage.getHeight() != geometry.bitmapHeight) {
+            currentImage = createBufferedImage(geometry.bitmapWidth, geometry.bitmapHeight);
+        }
+        Graphics2D graphics2D = createPageGraphics(this.currentImage, geometry);
+        return new Java2DPainter(graphics2D, getContext(), getFontInfo());
+    }
+
+    private PageGeometry createPageGeometry() {
         int bitmapWidth;
         int bitmapHeight;
         double scale;
@@ -227,26 +312,24 @@ public abstract class AbstractBitmapDocumentHandler extends AbstractBinaryWritin
             bitmapWidth = (int) ((this.currentPageDimensions.width * scale / 1000f) + 0.5f);
             bitmapHeight = (int) ((this.currentPageDimensions.height * scale / 1000f) + 0.5f);
         }
+        return new PageGeometry(bitmapWidth, bitmapHeight, scale, offset);
+    }
 
-        //Set up bitmap to paint on
-        if (currentImage == null || currentImage.getWidth() != bitmapWidth
-                || currentImage.getHeight() != bitmapHeight) {
-            currentImage = createBufferedImage(bitmapWidth, bitmapHeight);
-        }
-        Graphics2D graphics2D = this.currentImage.createGraphics();
+    private Graphics2D createPageGraphics(BufferedImage image, PageGeometry geometry) {
+        Graphics2D graphics2D = image.createGraphics();
 
         // draw page background
         if (!getSettings().hasTransparentPageBackground()) {
             graphics2D.setBackground(getSettings().getPageBackgroundColor());
             graphics2D.setPaint(getSettings().getPageBackgroundColor());
-            graphics2D.fillRect(0, 0, bitmapWidth, bitmapHeight);
+            graphics2D.fillRect(0, 0, geometry.bitmapWidth, geometry.bitmapHeight);
         }
 
         //Set rendering hints
         graphics2D.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS,
                 RenderingHints.VALUE_FRACTIONALMETRICS_ON);
         if (getSettings().isAntiAliasingEnabled()
-                && this.currentImage.getColorModel().getPixelSize() > 1) {
+                && image.getColorModel().getPixelSize() > 1) {
             graphics2D.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
                     RenderingHints.VALUE_ANTIALIAS_ON);
             graphics2D.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
@@ -268,12 +351,11 @@ public abstract class AbstractBitmapDocumentHandler extends AbstractBinaryWritin
                 RenderingHints.VALUE_STROKE_PURE);
 
         //Set up initial coordinate system for the page
-        if (offset != null) {
-            graphics2D.translate(offset.getX(), offset.getY());
+        if (geometry.offset != null) {
+            graphics2D.translate(geometry.offset.getX(), geometry.offset.getY());
         }
-        graphics2D.scale(scale / 1000f, scale / 1000f);
-
-        return new Java2DPainter(graphics2D, getContext(), getFontInfo());
+        graphics2D.scale(geometry.scale / 1000f, geometry.scale / 1000f);
+        return graphics2D;
     }
 
     /**
@@ -288,12 +370,97 @@ public abstract class AbstractBitmapDocumentHandler extends AbstractBinaryWritin
 
     /** {@inheritDoc} */
     public void endPageContent() throws IFException {
+        if (this.pagePainter != null) {
+            final IFPainterRecorder recorder = this.currentPageRecorder;
+            final PageGeometry geometry = this.currentPageGeometry;
+            this.currentPageRecorder = null;
+            this.currentPageGeometry = null;
+            boolean success = false;
+            try {
+                pendingPages.add(pagePainter.submit(new Callable<BufferedImage>() {
+                    public BufferedImage call() throws IFException {
+                        return paintPage(recorder, geometry);
+                    }
+                }));
+                //Keep a few pages queued per thread, but don't hold on to all the bitmaps
+                writePaintedPages(2 * getSettings().getRenderingThreads());
+                success = true;
+            } finally {
+                if (!success) {
+                    //The document won't be completed: don't leave the threads running
+                    shutdownPagePainter();
+                }
+            }
+        } else {
+            writePage(this.currentImage);
+        }
+    }
+
+    private BufferedImage paintPage(IFPainterRecorder recorder, PageGeometry geometry)
+            throws IFException {
+        BufferedImage image = createBufferedImage(geometry.bitmapWidth, geometry.bitmapHeight);
+        Graphics2D graphics2D = createPageGraphics(image, geometry);
+        IFContext pageContext = new IFContext(getUserAgent());
+        Java2DPainter painter = new Java2DPainter(graphics2D, pageContext, getFontInfo()) {
+
+            public void drawImage(String uri, Rectangle rect) throws IFException {
+                synchronized (imageLock) {
+                    super.drawImage(uri, rect);
+                }
+            }
+
+            public void drawImage(Document doc, Rectangle rect) throws IFException {
+                synchronized (imageLock) {
+                    super.drawImage(doc, rect);
+                }
+            }
+        };
+        try {
+            recorder.replay(painter, pageContext);
+        } finally {
+            graphics2D.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Writes the pages that have been painted, in page order.
+     * @param maxPending the number of pages that may remain queued, waiting for pages to be
+     *          painted if there are more
+     * @throws IFException if an error occurs while painting or writing a page
+     */
+    private void writePaintedPages(int maxPending) throws IFException {
+        while (!pendingPages.isEmpty()
+                && (pendingPages.size() > maxPending || pendingPages.getFirst().isDone())) {
+            BufferedImage image;
+            try {
+                image = pendingPages.removeFirst().get();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new IFException("Interrupted while painting page", ie);
+            } catch (ExecutionException ee) {
+                Throwable cause = ee.getCause();
+                if (cause instanceof IFException) {
+                    throw (IFException) cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IFException("Error while painting page", (Exception) cause);
+            }
+            writePage(image);
+        }
+    }
+
+    private void writePage(BufferedImage image) throws IFException {
+        this.pageCount++;
         try {
             if (this.multiImageWriter == null) {
                 switch (this.pageCount) {
                 case 1:
                     this.imageWriter.writeImage(
-                            this.currentImage, this.outputStream,
+                            image, this.outputStream,
                             getSettings().getWriterParams());
                     IOUtils.closeQuietly(this.outputStream);
                     this.outputStream = null;
@@ -308,7 +475,7 @@ public abstract class AbstractBitmapDocumentHandler extends AbstractBinaryWritin
                     } else {
                         try {
                             this.imageWriter.writeImage(
-                                    this.currentImage, out,
+                                    image, out,
                                     getSettings().getWriterParams());
                         } finally {
                             IOUtils.closeQuietly(out);
@@ -316,7 +483,7 @@ public abstract class AbstractBitmapDocumentHandler extends AbstractBinaryWritin
                     }
                 }
             } else {
-                this.multiImageWriter.writeImage(this.currentImage,
+                this.multiImageWriter.writeImage(image,
                         getSettings().getWriterParams());
             }
         } catch (IOException ioe) {
@@ -335,4 +502,20 @@ public abstract class AbstractBitmapDocumentHandler extends AbstractBinaryWritin
                     + extension + " (" + extension.getClass().getName() + ")");
     }
 
+    /** The size of a page bitmap and the transformation from page to bitmap coordinates. */
+    private static final class PageGeometry {
+
+        private final int bitmapWidth;
+        private final int bitmapHeight;
+        private final double scale;
+        private final Point2D offset;
+
+        PageGeometry(int bitmapWidth, int bitmapHeight, double scale, Point2D offset) {
+            this.bitmapWidth = bitmapWidth;
+            this.bitmapHeight = bitmapHeight;
+            this.scale = scale;
+            this.offset = offset;
+        }
+    }
+
 }
@@ -26,6 +26,7 @@ import org.apache.fop.render.java2d.Java2DRenderingSettings;
 import static org.apache.fop.render.bitmap.BitmapRendererOption.ANTI_ALIASING;
 import static org.apache.fop.render.bitmap.BitmapRendererOption.COLOR_MODE;
 import static org.apache.fop.render.bitmap.BitmapRendererOption.RENDERING_QUALITY;
+import static org.apache.fop.render.bitmap.BitmapRendererOption.RENDERING_THREADS;
 
 /**
  * This class holds settings used when rendering to bitmaps.
@@ -44,6 +45,9 @@ public class BitmapRenderingSettings extends Java2DRenderingSettings {
     /** true if qualityRendering is set */
     private boolean qualityRendering = (Boolean) RENDERING_QUALITY.getDefaultValue();
 
+    /** number of threads pages are painted on */
+    private int renderingThreads = (Integer) RENDERING_THREADS.getDefaultValue();
+
     /**
      * Default constructor. Initializes the settings to their default values.
      */
@@ -107,6 +111,27 @@ public class BitmapRenderingSettings extends Java2DRenderingSettings {
         return this.qualityRendering;
     }
 
+    /**
+     * Sets the number of threads pages are painted on. With more than one thread, the painting
+     * calls for each page are recorded and the page bitmaps are painted concurrently. The
+     * bitmaps are still written in page order.
+     * @param threads the number of threads, 1 to paint every page as it is produced
+     */
+    public void setRenderingThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of rendering threads must be at least 1");
+        }
+        this.renderingThreads = threads;
+    }
+
+    /**
+     * Returns the number of threads pages are painted on.
+     * @return the number of threads
+     */
+    public int getRenderingThreads() {
+        return this.renderingThreads;
+    }
+
     /**
      * Sets the compression method for the image writer.
      * @param compressionMethod the compression method name
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.render.intermediate;
+
+import org.xml.sax.helpers.AttributesImpl;
+
+import org.apache.fop.util.XMLUtil;
+
+/**
+ * The attributes of an element read by {@link IFBinaryParser}. Integer and integer list values
+ * are kept as they were decoded, so {@link IFParser} gets them without formatting and parsing
+ * them again. Their string values are only created when they are asked for, e.g. when the
+ * events are converted back to IF XML.
+ */
+final class IFBinaryAttributes extends AttributesImpl {
+
+    private static final byte KIND_STRING = 0;
+    private static final byte KIND_INT = 1;
+    private static final byte KIND_INT_LIST = 2;
+
+    private byte[] kinds = new byte[8];
+
+    private int[] ints = new int[8];
+
+    private int[][] intLists = new int[8][];
+
+    /** Creates an empty attribute list. */
+    IFBinaryAttributes() {
+    }
+
+    /**
+     * Copies an attribute list, keeping the decoded values.
+     * @param atts the attributes to copy
+     */
+    IFBinaryAttributes(IFBinaryAttributes atts) {
+        for (int i = 0, c = atts.getLength(); i < c; i++) {
+            add(atts.getURI(i), atts.getLocalName(i), atts.getQName(i), atts.getType(i),
+                    atts.getDecodedValue(i), atts.kinds[i], atts.ints[i], atts.intLists[i]);
+        }
+    }
+
+    /**
+     * Adds an attribute with an integer value.
+     * @param uri the namespace URI
+     * @param localName the local name
+     * @param qName the qualified name
+     * @param type the attribute type
+     * @param value the value
+     */
+    void addInt(String uri, String localName, String qName, String type, int value) {
+        add(uri, localName, qName, type, null, KIND_INT, value, null);
+    }
+
+    /**
+     * Adds an attribute with a value that is a list of integers.
+     * @param uri the namespace URI
+     * @param localName the local name
+     * @param qName the qualified name
+     * @param type the attribute type
+     * @param values the values
+     */
+    void addIntList(String uri, String localName, String qName, String type, int[] values) {
+        add(uri, localName, qName, type, null, KIND_INT_LIST, 0, values);
+    }
+
+    private void add(String uri, String localName, String qName, String type, String value,
+            byte kind, int intValue, int[] intList) {
+        int index = getLength();
+        if (index == kinds.length) {
+            int capacity = index * 2;
+            kinds = copyOf(kinds, capacity);
+            int[] newInts = new int[capacity];
+            System.arraycopy(ints, 0, newInts, 0, index);
+            ints = newInts;
+            int[][] newIntLists = new int[capacity][];
+            System.arraycopy(intLists, 0, newIntLists, 0, index);
+            intLists = newIntLists;
+        }
+        kinds[index] = kind;
+        ints[index] = intValue;
+        intLists[index] = intList;
+        super.addAttribute(uri, localName, qName, type, value);
+    }
+
+    private static byte[] copyOf(byte[] array, int length) {
+        byte[] copy = new byte[length];
+        System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+        return copy;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addAttribute(String uri, String localName, String qName, String type,
+            String value) {
+        add(uri, localName, qName, type, value, KIND_STRING, 0, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setAttribute(int index, String uri, String localName, String qName,
+            String type, String value) {
+        super.setAttribute(index, uri, localName, qName, type, value);
+        setString(index);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setValue(int index, String value) {
+        super.setValue(index, value);
+        setString(index);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void removeAttribute(int index) {
+        int length = getLength();
+        super.removeAttribute(index);
+        int moved = length - index - 1;
+        System.arraycopy(kinds, index + 1, kinds, index, moved);
+        System.arraycopy(ints, index + 1, ints, index, moved);
+        System.arraycopy(intLists, index + 1, intLists, index, moved);
+        kinds[length - 1] = KIND_STRING;
+        intLists[length - 1] = null;
+    }
+
+    private void setString(int index) {
+        kinds[index] = KIND_STRING;
+        intLists[index] = null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        for (int i = 0, c = getLength(); i < c; i++) {
+            kinds[i] = KIND_STRING;
+            intLists[i] = null;
+        }
+        super.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getValue(int index) {
+        String value = super.getValue(index);
+        if (value == null && index >= 0 && index < getLength()) {
+            value = toString(index);
+            //the decoded value stays available to the typed getters
+            super.setValue(index, value);
+        }
+        return value;
+    }
+
+    private String getDecodedValue(int index) {
+        return super.getValue(index);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getValue(String qName) {
+        return getValue(getIndex(qName));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getValue(String uri, String localName) {
+        return getValue(getIndex(uri, localName));
+    }
+
+    private String toString(int index) {
+        switch (kinds[index]) {
+        case KIND_INT:
+            return Integer.toString(ints[index]);
+        case KIND_INT_LIST:
+            StringBuilder sb = new StringBuilder();
+            int[] values = intLists[index];
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    sb.append(' ');
+                }
+                sb.append(values[i]);
+            }
+            return sb.toString();
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Returns the value of an attribute as an integer.
+     * @param qName the qualified name of the attribute
+     * @return the value
+     * @throws NumberFormatException if the attribute is missing or not an integer
+     */
+    int getInt(String qName) {
+        int index = getIndex(qName);
+        if (index >= 0 && kinds[index] == KIND_INT) {
+            return ints[index];
+        }
+        return Integer.parseInt(getValue(index));
+    }
+
+    /**
+     * Returns the value of an attribute as an integer.
+     * @param qName the qualified name of the attribute
+     * @return the value, or null if the attribute is missing
+     * @throws NumberFormatException if the attribute is not an integer
+     */
+    Integer getInteger(String qName) {
+        int index = getIndex(qName);
+        if (index < 0) {
+            return null;
+        } else if (kinds[index] == KIND_INT) {
+            return Integer.valueOf(ints[index]);
+        }
+        return Integer.valueOf(getValue(index));
+    }
+
+    /**
+     * Returns the value of an attribute as an array of integers.
+     * @param qName the qualified name of the attribute
+     * @return the values, or null if the attribute is missing
+     */
+    int[] getIntArray(String qName) {
+        int index = getIndex(qName);
+        if (index < 0) {
+            return null;
+        } else if (kinds[index] == KIND_INT_LIST) {
+            return intLists[index].clone();
+        } else if (kinds[index] == KIND_INT) {
+            return new int[] {ints[index]};
+        }
+        return XMLUtil.getAttributeAsIntArray(this, qName);
+    }
+}
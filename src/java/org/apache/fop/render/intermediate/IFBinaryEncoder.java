@@ -0,0 +1,417 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.render.intermediate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+
+/**
+ * SAX ContentHandler that writes the intermediate format in a compact binary encoding instead of
+ * XML. The encoding is a plain sequence of SAX events, so every IF document, including extensions,
+ * foreign objects and the structure tree, survives the round trip through
+ * {@link IFBinaryParser} unchanged.
+ * <p>
+ * Element and attribute names, namespace URIs and short attribute values (font families,
+ * colors, border specifications and the like) are written once and referred to by index
+ * afterwards. Integer attribute values (coordinates, sizes) and lists of integers (dx
+ * adjustments) are written as variable-length integers. Text is written as length-prefixed
+ * UTF-8.</p>
+ */
+public class IFBinaryEncoder implements ContentHandler {
+
+    /** the bytes every binary IF document starts with */
+    static final byte[] MAGIC = {'F', 'I', 'F', 'B'};
+
+    /** the version of the encoding */
+    static final int VERSION = 1;
+
+    static final int START_DOCUMENT = 1;
+    static final int END_DOCUMENT = 2;
+    static final int START_PREFIX_MAPPING = 3;
+    static final int END_PREFIX_MAPPING = 4;
+    static final int START_ELEMENT = 5;
+    static final int END_ELEMENT = 6;
+    static final int CHARACTERS = 7;
+    static final int IGNORABLE_WHITESPACE = 8;
+    static final int PROCESSING_INSTRUCTION = 9;
+
+    /** attribute value kinds, stored in the lowest two bits of the value header */
+    static final int VALUE_INT = 0;
+    static final int VALUE_INT_LIST = 1;
+    static final int VALUE_STRING = 2;
+
+    /** interned string references: 0 is null, 1 introduces a new string */
+    static final int STRING_NULL = 0;
+    static final int STRING_NEW = 1;
+    static final int STRING_LITERAL = 2;
+    static final int STRING_FIRST_INDEX = 3;
+
+    /** attribute values longer than this are not interned */
+    private static final int MAX_INTERNED_LENGTH = 64;
+
+    private final OutputStream out;
+
+    private final boolean closeAtEnd;
+
+    private final Map<String, Integer> strings = new java.util.HashMap<String, Integer>();
+
+    private final NameTable elementNames = new NameTable(false);
+
+    private final NameTable attributeNames = new NameTable(true);
+
+    private byte[] buffer = new byte[256];
+
+    /**
+     * Creates a new encoder.
+     * @param out the output stream to write to, it should be buffered
+     * @param closeAtEnd true if the output stream shall be closed at the end of the document,
+     *          false if it is only flushed
+     */
+    public IFBinaryEncoder(OutputStream out, boolean closeAtEnd) {
+        this.out = out;
+        this.closeAtEnd = closeAtEnd;
+    }
+
+    /** {@inheritDoc} */
+    public void setDocumentLocator(Locator locator) {
+        //not recorded
+    }
+
+    /** {@inheritDoc} */
+    public void startDocument() throws SAXException {
+        try {
+            out.write(MAGIC);
+            out.write(VERSION);
+            out.write(START_DOCUMENT);
+        } catch (IOException ioe) {
+            throw new SAXException(ioe);
+        }
+    }
+
+    /** {@inheritDoc} */
+    public void endDocument() throws SAXException {
+        try {
+            out.write(END_DOCUMENT);
+            if (closeAtEnd) {
+                out.close();
+            } else {
+                out.flush();
+            }
+        } catch (IOException ioe) {
+            throw new SAXException(ioe);
+        }
+    }
+
+    /** {@inheritDoc} */
+    public void startPrefixMapping(String prefix, String uri) throws SAXException {
+        try {
+            out.write(START_PREFIX_MAPPING);
+            writeInternedString(prefix);
+            writeInternedString(uri);
+        } catch (IOException ioe) {
+            throw new SAXException(ioe);
+        }
+    }
+
+    /** {@inheritDoc} */
+    public void endPrefixMapping(String prefix) throws SAXException {
+        try {
+            out.write(END_PREFIX_MAPPING);
+            writeInternedString(prefix);
+        } catch (IOException ioe) {
+            throw new SAXException(ioe);
+        }
+    }
+
+    /** {@inheritDoc} */
+    public void startElement(String uri, String localName, String qName, Attributes atts)
+            throws SAXException {
+        try {
+            out.write(START_ELEMENT);
+            writeName(elementNames, uri, localName, qName, null);
+            int count = atts.getLength();
+            writeVarInt(count);
+            for (int i = 0; i < count; i++) {
+                writeName(attributeNames, atts.getURI(i), atts.getLocalName(i), atts.getQName(i),
+                        atts.getType(i));
+                writeValue(atts.getValue(i));
+            }
+        } catch (IOException ioe) {
+            throw new SAXException(ioe);
+        }
+    }
+
+    /** {@inheritDoc} */
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+        try {
+            out.write(END_ELEMENT);
+        } catch (IOException ioe) {
+            throw new SAXException(ioe);
+        }
+    }
+
+    /** {@inheritDoc} */
+    public void characters(char[] ch, int start, int length) throws SAXException {
+        try {
+            out.write(CHARACTERS);
+            writeString(new String(ch, start, length));
+        } catch (IOException ioe) {
+            throw new SAXException(ioe);
+        }
+    }
+
+    /** {@inheritDoc} */
+    public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+        try {
+            out.write(IGNORABLE_WHITESPACE);
+            writeString(new String(ch, start, length));
+        } catch (IOException ioe) {
+            throw new SAXException(ioe);
+        }
+    }
+
+    /** {@inheritDoc} */
+    public void processingInstruction(String target, String data) throws SAXException {
+        try {
+            out.write(PROCESSING_INSTRUCTION);
+            writeInternedString(target);
+            writeInternedString(data);
+        } catch (IOException ioe) {
+            throw new SAXException(ioe);
+        }
+    }
+
+    /** {@inheritDoc} */
+    public void skippedEntity(String name) throws SAXException {
+        //not recorded
+    }
+
+    /**
+     * Writes an element or attribute name. A name is written in full the first time only,
+     * afterwards its index in the name table is written.
+     */
+    private void writeName(NameTable table, String uri, String localName,
+            String qName, String type) throws IOException {
+        //Fill in what an XML parser would report for names that were generated incompletely
+        if (uri == null) {
+            uri = "";
+        }
+        if (qName == null || qName.length() == 0) {
+            qName = localName;
+        } else if (localName == null || localName.length() == 0) {
+            localName = qName.substring(qName.indexOf(':') + 1);
+        }
+        if (table.withType && type == null) {
+            type = "CDATA";
+        }
+        List<Name> candidates = table.names.get(qName);
+        if (candidates != null) {
+            for (int i = 0, c = candidates.size(); i < c; i++) {
+                Name name = candidates.get(i);
+                if (equal(name.uri, uri) && equal(name.localName, localName)
+                        && equal(name.type, type)) {
+                    writeVarInt(name.index + 1);
+                    return;
+                }
+            }
+        } else {
+            candidates = new java.util.ArrayList<Name>(1);
+            table.names.put(qName, candidates);
+        }
+        candidates.add(new Name(uri, localName, type, table.size++));
+        writeVarInt(0);
+        writeInternedString(uri);
+        writeInternedString(localName);
+        writeInternedString(qName);
+        if (table.withType) {
+            writeInternedString(type);
+        }
+    }
+
+    /**
+     * Writes an attribute value. The value header holds the kind of value in its lowest two
+     * bits and an integer, a list length or an interned string reference in the others.
+     */
+    private void writeValue(String value) throws IOException {
+        if (isInteger(value, 0, value.length())) {
+            writeValueHeader(VALUE_INT, zigZag(Integer.parseInt(value)));
+        } else if (isIntegerList(value)) {
+            int count = 1;
+            for (int i = 0, c = value.length(); i < c; i++) {
+                if (value.charAt(i) == ' ') {
+                    count++;
+                }
+            }
+            writeValueHeader(VALUE_INT_LIST, count);
+            int start = 0;
+            for (int i = 0; i < count; i++) {
+                int end = value.indexOf(' ', start);
+                if (end < 0) {
+                    end = value.length();
+                }
+                writeVarInt(zigZag(Integer.parseInt(value.substring(start, end))));
+                start = end + 1;
+            }
+        } else if (value.length() > MAX_INTERNED_LENGTH) {
+            writeValueHeader(VALUE_STRING, STRING_LITERAL);
+            writeString(value);
+        } else {
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeValueHeader(VALUE_STRING, index.intValue() + STRING_FIRST_INDEX);
+            } else {
+                strings.put(value, Integer.valueOf(strings.size()));
+                writeValueHeader(VALUE_STRING, STRING_NEW);
+                writeString(value);
+            }
+        }
+    }
+
+    private void writeValueHeader(int kind, int payload) throws IOException {
+        writeVarLong(((payload & 0xFFFFFFFFL) << 2) | kind);
+    }
+
+    private void writeInternedString(String s) throws IOException {
+        if (s == null) {
+            writeVarInt(STRING_NULL);
+            return;
+        }
+        Integer index = strings.get(s);
+        if (index != null) {
+            writeVarInt(index.intValue() + STRING_FIRST_INDEX);
+        } else {
+            strings.put(s, Integer.valueOf(strings.size()));
+            writeVarInt(STRING_NEW);
+            writeString(s);
+        }
+    }
+
+    private void writeString(String s) throws IOException {
+        byte[] bytes = s.getBytes("UTF-8");
+        writeVarInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private void writeVarInt(int value) throws IOException {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        int len = 0;
+        while ((value & ~0x7FL) != 0) {
+            buffer[len++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[len++] = (byte) value;
+        out.write(buffer, 0, len);
+    }
+
+    private static boolean equal(String s1, String s2) {
+        return s1 == null ? s2 == null : s1.equals(s2);
+    }
+
+    /**
+     * Indicates whether a string is a single integer in the form Integer.toString() produces,
+     * so that it can be restored exactly from its binary representation.
+     */
+    private static boolean isInteger(String s, int start, int end) {
+        int len = end - start;
+        if (len == 0 || len > 10) {
+            return false;
+        }
+        int i = start;
+        if (s.charAt(i) == '-') {
+            i++;
+            if (i == end || s.charAt(i) == '0') {
+                return false;
+            }
+        }
+        if (s.charAt(i) == '0') {
+            return i + 1 == end;
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            char ch = s.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+            value = value * 10 + (ch - '0');
+        }
+        return value <= Integer.MAX_VALUE;
+    }
+
+    /** Indicates whether a string is a list of integers separated by single spaces. */
+    private static boolean isIntegerList(String s) {
+        int start = 0;
+        int end;
+        do {
+            end = s.indexOf(' ', start);
+            if (!isInteger(s, start, end < 0 ? s.length() : end)) {
+                return false;
+            }
+            start = end + 1;
+        } while (end >= 0);
+        return true;
+    }
+
+    /** The element or attribute names that have been written so far. */
+    private static final class NameTable {
+
+        private final Map<String, List<Name>> names = new java.util.HashMap<String, List<Name>>();
+
+        private final boolean withType;
+
+        private int size;
+
+        private NameTable(boolean withType) {
+            this.withType = withType;
+        }
+    }
+
+    /** An element or attribute name that has been written before. */
+    private static final class Name {
+
+        private final String uri;
+
+        private final String localName;
+
+        private final String type;
+
+        private final int index;
+
+        private Name(String uri, String localName, String type, int index) {
+            this.uri = uri;
+            this.localName = localName;
+            this.type = type;
+            this.index = index;
+        }
+    }
+}
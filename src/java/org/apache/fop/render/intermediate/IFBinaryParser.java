@@ -0,0 +1,340 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.render.intermediate;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+import org.apache.commons.io.IOUtils;
+
+import org.apache.fop.apps.FOUserAgent;
+
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.CHARACTERS;
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.END_DOCUMENT;
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.END_ELEMENT;
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.END_PREFIX_MAPPING;
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.IGNORABLE_WHITESPACE;
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.MAGIC;
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.PROCESSING_INSTRUCTION;
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.START_DOCUMENT;
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.START_ELEMENT;
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.START_PREFIX_MAPPING;
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.STRING_FIRST_INDEX;
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.STRING_LITERAL;
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.STRING_NEW;
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.STRING_NULL;
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.VALUE_INT;
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.VALUE_INT_LIST;
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.VALUE_STRING;
+import static org.apache.fop.render.intermediate.IFBinaryEncoder.VERSION;
+
+/**
+ * Reads intermediate format documents written by {@link IFBinaryEncoder} (for example through
+ * {@link IFBinarySerializer}) and replays them to an {@link IFDocumentHandler}, or as SAX
+ * events to any ContentHandler, e.g. to convert them back to IF XML. When replaying to an
+ * IFDocumentHandler, coordinates, sizes and dx adjustments are passed on to the painter as
+ * they were decoded, without being turned into strings and parsed again.
+ */
+public class IFBinaryParser {
+
+    /**
+     * Indicates whether a file holds an intermediate format document in the binary encoding.
+     * @param file the file
+     * @return true if the file starts like a binary IF document
+     * @throws IOException if an I/O error occurs
+     */
+    public static boolean isBinaryIF(File file) throws IOException {
+        DataInputStream in = new DataInputStream(new FileInputStream(file));
+        try {
+            byte[] header = new byte[MAGIC.length];
+            in.readFully(header);
+            return Arrays.equals(MAGIC, header);
+        } catch (EOFException eofe) {
+            return false;
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+    }
+
+    /**
+     * Parses a binary intermediate format document and paints it.
+     * @param in the input stream to read the binary IF document from
+     * @param documentHandler the intermediate format document handler used to process the IF events
+     * @param userAgent the user agent
+     * @throws IOException if an I/O error occurs or the input is not binary IF
+     * @throws IFException if an IF-related error occurs inside the target document handler
+     */
+    public void parse(InputStream in, IFDocumentHandler documentHandler, FOUserAgent userAgent)
+            throws IOException, IFException {
+        ContentHandler handler = new IFParser().getContentHandler(documentHandler, userAgent);
+        try {
+            replay(in, handler);
+        } catch (SAXException se) {
+            //Unpack original IFException if applicable
+            if (se.getCause() instanceof IFException) {
+                throw (IFException)se.getCause();
+            }
+            throw new IFException("SAX error while replaying binary IF", se);
+        }
+    }
+
+    /**
+     * Reads a binary intermediate format document and sends it as SAX events to a
+     * ContentHandler. The events are the same that were recorded when the document was written.
+     * @param in the input stream to read the binary IF document from
+     * @param handler the ContentHandler to receive the SAX events
+     * @throws IOException if an I/O error occurs or the input is not binary IF
+     * @throws SAXException if the ContentHandler reports an error
+     */
+    public void replay(InputStream in, ContentHandler handler) throws IOException, SAXException {
+        new Decoder(in).replay(handler);
+    }
+
+    /** Decodes one binary IF document. */
+    private static final class Decoder {
+
+        private final InputStream in;
+
+        // read through an unsynchronized buffer: most reads are of single bytes
+        private final byte[] input = new byte[8192];
+
+        private int pos;
+
+        private int limit;
+
+        private final List<String> strings = new java.util.ArrayList<String>();
+
+        private final List<String[]> elementNames = new java.util.ArrayList<String[]>();
+
+        private final List<String[]> attributeNames = new java.util.ArrayList<String[]>();
+
+        private final List<String[]> openElements = new java.util.ArrayList<String[]>();
+
+        private final IFBinaryAttributes atts = new IFBinaryAttributes();
+
+        private byte[] buffer = new byte[256];
+
+        private Decoder(InputStream in) {
+            this.in = in;
+        }
+
+        private void replay(ContentHandler handler) throws IOException, SAXException {
+            byte[] header = new byte[MAGIC.length];
+            readFully(header, header.length);
+            if (!Arrays.equals(MAGIC, header)) {
+                throw new IOException("Not a binary intermediate format document");
+            }
+            int version = readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported binary intermediate format version: "
+                        + version);
+            }
+            while (true) {
+                int event = read();
+                switch (event) {
+                case START_DOCUMENT:
+                    handler.startDocument();
+                    break;
+                case END_DOCUMENT:
+                    handler.endDocument();
+                    return;
+                case START_PREFIX_MAPPING:
+                    String prefix = readInternedString();
+                    handler.startPrefixMapping(prefix, readInternedString());
+                    break;
+                case END_PREFIX_MAPPING:
+                    handler.endPrefixMapping(readInternedString());
+                    break;
+                case START_ELEMENT:
+                    startElement(handler);
+                    break;
+                case END_ELEMENT:
+                    String[] name = openElements.remove(openElements.size() - 1);
+                    handler.endElement(name[0], name[1], name[2]);
+                    break;
+                case CHARACTERS:
+                    char[] chars = readString().toCharArray();
+                    handler.characters(chars, 0, chars.length);
+                    break;
+                case IGNORABLE_WHITESPACE:
+                    chars = readString().toCharArray();
+                    handler.ignorableWhitespace(chars, 0, chars.length);
+                    break;
+                case PROCESSING_INSTRUCTION:
+                    String target = readInternedString();
+                    handler.processingInstruction(target, readInternedString());
+                    break;
+                case -1:
+                    throw new EOFException("Unexpected end of binary intermediate format");
+                default:
+                    throw new IOException("Corrupt binary intermediate format: event " + event);
+                }
+            }
+        }
+
+        private void startElement(ContentHandler handler) throws IOException, SAXException {
+            String[] name = readName(elementNames, false);
+            atts.clear();
+            for (int i = 0, c = readVarInt(); i < c; i++) {
+                readAttribute(readName(attributeNames, true));
+            }
+            openElements.add(name);
+            handler.startElement(name[0], name[1], name[2], atts);
+        }
+
+        /** Reads a name, returned as an array of URI, local name, qualified name and type. */
+        private String[] readName(List<String[]> names, boolean withType) throws IOException {
+            int ref = readVarInt();
+            if (ref > 0) {
+                return names.get(ref - 1);
+            }
+            String uri = readInternedString();
+            String localName = readInternedString();
+            String qName = readInternedString();
+            String[] name = new String[] {uri, localName, qName,
+                    withType ? readInternedString() : null};
+            names.add(name);
+            return name;
+        }
+
+        /** Reads an attribute value, keeping integers as such. */
+        private void readAttribute(String[] name) throws IOException {
+            long header = readVarLong();
+            int payload = (int) (header >>> 2);
+            switch ((int) (header & 3)) {
+            case VALUE_INT:
+                atts.addInt(name[0], name[1], name[2], name[3], unZigZag(payload));
+                break;
+            case VALUE_INT_LIST:
+                int[] values = new int[payload];
+                for (int i = 0; i < payload; i++) {
+                    values[i] = unZigZag(readVarInt());
+                }
+                atts.addIntList(name[0], name[1], name[2], name[3], values);
+                break;
+            case VALUE_STRING:
+                atts.addAttribute(name[0], name[1], name[2], name[3],
+                        readInternedString(payload));
+                break;
+            default:
+                throw new IOException("Corrupt binary intermediate format: value " + header);
+            }
+        }
+
+        private String readInternedString() throws IOException {
+            return readInternedString(readVarInt());
+        }
+
+        private String readInternedString(int ref) throws IOException {
+            switch (ref) {
+            case STRING_NULL:
+                return null;
+            case STRING_NEW:
+                String s = readString();
+                strings.add(s);
+                return s;
+            case STRING_LITERAL:
+                return readString();
+            default:
+                return strings.get(ref - STRING_FIRST_INDEX);
+            }
+        }
+
+        private String readString() throws IOException {
+            int len = readVarInt();
+            if (limit - pos >= len) {
+                String s = new String(input, pos, len, "UTF-8");
+                pos += len;
+                return s;
+            }
+            if (buffer.length < len) {
+                buffer = new byte[Math.max(len, buffer.length * 2)];
+            }
+            readFully(buffer, len);
+            return new String(buffer, 0, len, "UTF-8");
+        }
+
+        private static int unZigZag(int value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private int readVarInt() throws IOException {
+            return (int) readVarLong();
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Corrupt binary intermediate format: malformed number");
+        }
+
+        private int read() throws IOException {
+            if (pos == limit && !fill()) {
+                return -1;
+            }
+            return input[pos++] & 0xFF;
+        }
+
+        private int readUnsignedByte() throws IOException {
+            if (pos == limit && !fill()) {
+                throw new EOFException("Unexpected end of binary intermediate format");
+            }
+            return input[pos++] & 0xFF;
+        }
+
+        private void readFully(byte[] b, int len) throws IOException {
+            int off = 0;
+            while (off < len) {
+                if (pos == limit && !fill()) {
+                    throw new EOFException("Unexpected end of binary intermediate format");
+                }
+                int count = Math.min(len - off, limit - pos);
+                System.arraycopy(input, pos, b, off, count);
+                pos += count;
+                off += count;
+            }
+        }
+
+        private boolean fill() throws IOException {
+            int count = in.read(input);
+            if (count <= 0) {
+                return false;
+            }
+            pos = 0;
+            limit = count;
+            return true;
+        }
+    }
+}
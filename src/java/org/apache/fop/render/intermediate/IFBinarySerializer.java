@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.render.intermediate;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+
+import javax.xml.transform.Result;
+import javax.xml.transform.stream.StreamResult;
+
+import org.xml.sax.ContentHandler;
+
+import org.apache.fop.apps.MimeConstants;
+
+/**
+ * IFDocumentHandler implementation that writes the intermediate format in the compact binary
+ * encoding of {@link IFBinaryEncoder} rather than as XML. The content is the same as with
+ * {@link IFSerializer}; binary IF documents are read back with {@link IFBinaryParser}.
+ */
+public class IFBinarySerializer extends IFSerializer {
+
+    /**
+     * Main constructor.
+     * @param context the intermediate format context
+     */
+    public IFBinarySerializer(IFContext context) {
+        super(context);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getMimeType() {
+        return MimeConstants.MIME_FOP_IF_BINARY;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected ContentHandler createContentHandler(Result result) throws IFException {
+        if (result instanceof StreamResult) {
+            StreamResult streamResult = (StreamResult)result;
+            OutputStream out = streamResult.getOutputStream();
+            if (out != null) {
+                return new IFBinaryEncoder(new BufferedOutputStream(out), false);
+            }
+            if (streamResult.getSystemId() != null) {
+                try {
+                    out = new FileOutputStream(toFile(streamResult.getSystemId()));
+                } catch (IOException ioe) {
+                    throw new IFException("Error while setting up the binary IF output", ioe);
+                }
+                return new IFBinaryEncoder(new BufferedOutputStream(out), true);
+            }
+        }
+        throw new IFException("The binary intermediate format can only be written to a"
+                + " StreamResult with an OutputStream or a file system ID");
+    }
+
+    private static File toFile(String systemId) {
+        try {
+            URI uri = new URI(systemId);
+            if ("file".equals(uri.getScheme())) {
+                return new File(uri);
+            }
+        } catch (URISyntaxException e) {
+            //not a URI, take it as a file name
+        }
+        return new File(systemId);
+    }
+}
@@ -163,6 +163,10 @@ public class IFParser implements IFConstants {
         private Map<String, StructureTreeElement> structureTreeElements
                 = new HashMap<String, StructureTreeElement>();
 
+        // a document usually has few distinct border specifications, each used many times
+        private final Map<String, BorderProps> parsedBorderProps
+                = new HashMap<String, BorderProps>();
+
         private class StructureTreeHandler extends DefaultHandler {
 
             protected final StructureTreeEventHandler structureTreeEventHandler;
@@ -357,7 +361,11 @@ public class IFParser implements IFConstants {
 
         private boolean startIFElement(String localName, Attributes attributes)
                 throws SAXException {
-            lastAttributes = new AttributesImpl(attributes);
+            if (attributes instanceof IFBinaryAttributes) {
+                lastAttributes = new IFBinaryAttributes((IFBinaryAttributes) attributes);
+            } else {
+                lastAttributes = new AttributesImpl(attributes);
+            }
             ElementHandler elementHandler = elementHandlers.get(localName);
             content.setLength(0);
             ignoreCharacters = true;
@@ -511,11 +519,11 @@ public class IFParser implements IFConstants {
         private class PageHandler extends AbstractElementHandler {
 
             public void startElement(Attributes attributes) throws IFException {
-                int index = Integer.parseInt(attributes.getValue("index"));
+                int index = getInt(attributes, "index");
                 String name = attributes.getValue("name");
                 String pageMasterName = attributes.getValue("page-master-name");
-                int width = Integer.parseInt(attributes.getValue("width"));
-                int height = Integer.parseInt(attributes.getValue("height"));
+                int width = getInt(attributes, "width");
+                int height = getInt(attributes, "height");
                 Map<QName, String> foreignAttributes = getForeignAttributes(lastAttributes);
                 establishForeignAttributes(foreignAttributes);
                 documentHandler.startPage(index, name, pageMasterName,
@@ -574,8 +582,8 @@ public class IFParser implements IFConstants {
                 String transform = attributes.getValue("transform");
                 AffineTransform[] transforms
                     = AffineTransformArrayParser.createAffineTransform(transform);
-                int width = Integer.parseInt(attributes.getValue("width"));
-                int height = Integer.parseInt(attributes.getValue("height"));
+                int width = getInt(attributes, "width");
+                int height = getInt(attributes, "height");
                 Rectangle clipRect = XMLUtil.getAttributeAsRectangle(attributes, "clip-rect");
                 painter.startViewport(transforms, new Dimension(width, height), clipRect);
             }
@@ -617,9 +625,9 @@ public class IFParser implements IFConstants {
             public void startElement(Attributes attributes) throws IFException {
                 String family = attributes.getValue("family");
                 String style = attributes.getValue("style");
-                Integer weight = XMLUtil.getAttributeAsInteger(attributes, "weight");
+                Integer weight = getInteger(attributes, "weight");
                 String variant = attributes.getValue("variant");
-                Integer size = XMLUtil.getAttributeAsInteger(attributes, "size");
+                Integer size = getInteger(attributes, "size");
                 Color color;
                 try {
                     color = getAttributeAsColor(attributes, "color");
@@ -634,13 +642,11 @@ public class IFParser implements IFConstants {
         private class TextHandler extends AbstractElementHandler {
 
             public void endElement() throws IFException {
-                int x = Integer.parseInt(lastAttributes.getValue("x"));
-                int y = Integer.parseInt(lastAttributes.getValue("y"));
-                String s = lastAttributes.getValue("letter-spacing");
-                int letterSpacing = (s != null ? Integer.parseInt(s) : 0);
-                s = lastAttributes.getValue("word-spacing");
-                int wordSpacing = (s != null ? Integer.parseInt(s) : 0);
-                int[] dx = XMLUtil.getAttributeAsIntArray(lastAttributes, "dx");
+                int x = getInt(lastAttributes, "x");
+                int y = getInt(lastAttributes, "y");
+                int letterSpacing = getInt(lastAttributes, "letter-spacing", 0);
+                int wordSpacing = getInt(lastAttributes, "word-spacing", 0);
+                int[] dx = getIntArray(lastAttributes, "dx");
                 int[][] dp = XMLUtil.getAttributeAsPositionAdjustments(lastAttributes, "dp");
                 // if only DX present, then convert DX to DP; otherwise use only DP,
                 // effectively ignoring DX
@@ -666,15 +672,15 @@ public class IFParser implements IFConstants {
         private class ClipRectHandler extends AbstractElementHandler {
 
             public void startElement(Attributes attributes) throws IFException {
-                int x = Integer.parseInt(attributes.getValue("x"));
-                int y = Integer.parseInt(attributes.getValue("y"));
-                int width = Integer.parseInt(attributes.getValue("width"));
-                int height = Integer.parseInt(attributes.getValue("height"));
+                int x = getInt(attributes, "x");
+                int y = getInt(attributes, "y");
+                int width = getInt(attributes, "width");
+                int height = getInt(attributes, "height");
                 BorderProps[] borders = new BorderProps[4];
                 for (int i = 0; i < 4; i++) {
                     String b = attributes.getValue(SIDES[i]);
                     if (b != null) {
-                        borders[i] = BorderProps.valueOf(userAgent, b);
+                        borders[i] = getBorderProps(b);
                     }
                 }
 
@@ -691,10 +697,10 @@ public class IFParser implements IFConstants {
         private class RectHandler extends AbstractElementHandler {
 
             public void startElement(Attributes attributes) throws IFException {
-                int x = Integer.parseInt(attributes.getValue("x"));
-                int y = Integer.parseInt(attributes.getValue("y"));
-                int width = Integer.parseInt(attributes.getValue("width"));
-                int height = Integer.parseInt(attributes.getValue("height"));
+                int x = getInt(attributes, "x");
+                int y = getInt(attributes, "y");
+                int width = getInt(attributes, "width");
+                int height = getInt(attributes, "height");
                 Color fillColor;
                 try {
                     fillColor = getAttributeAsColor(attributes, "fill");
@@ -710,7 +716,7 @@ public class IFParser implements IFConstants {
                 for (int i = 0; i < 4; i++) {
                     String b = attributes.getValue(SIDES[i]);
                     if (b != null) {
-                        borders[i] = BorderProps.valueOf(userAgent, b);
+                        borders[i] = getBorderProps(b);
                     }
                 }
 
@@ -728,11 +734,11 @@ public class IFParser implements IFConstants {
         private class LineHandler extends AbstractElementHandler {
 
             public void startElement(Attributes attributes) throws IFException {
-                int x1 = Integer.parseInt(attributes.getValue("x1"));
-                int y1 = Integer.parseInt(attributes.getValue("y1"));
-                int x2 = Integer.parseInt(attributes.getValue("x2"));
-                int y2 = Integer.parseInt(attributes.getValue("y2"));
-                int width = Integer.parseInt(attributes.getValue("stroke-width"));
+                int x1 = getInt(attributes, "x1");
+                int y1 = getInt(attributes, "y1");
+                int x2 = getInt(attributes, "x2");
+                int y2 = getInt(attributes, "y2");
+                int width = getInt(attributes, "stroke-width");
                 Color color;
                 try {
                     color = getAttributeAsColor(attributes, "color");
@@ -750,15 +756,15 @@ public class IFParser implements IFConstants {
         private class BorderRectHandler extends AbstractElementHandler {
 
             public void startElement(Attributes attributes) throws IFException {
-                int x = Integer.parseInt(attributes.getValue("x"));
-                int y = Integer.parseInt(attributes.getValue("y"));
-                int width = Integer.parseInt(attributes.getValue("width"));
-                int height = Integer.parseInt(attributes.getValue("height"));
+                int x = getInt(attributes, "x");
+                int y = getInt(attributes, "y");
+                int width = getInt(attributes, "width");
+                int height = getInt(attributes, "height");
                 BorderProps[] borders = new BorderProps[4];
                 for (int i = 0; i < 4; i++) {
                     String b = attributes.getValue(SIDES[i]);
                     if (b != null) {
-                        borders[i] = BorderProps.valueOf(userAgent, b);
+                        borders[i] = getBorderProps(b);
                     }
                 }
                 Color backgroundColor;
@@ -782,10 +788,10 @@ public class IFParser implements IFConstants {
             }
 
             public void endElement() throws IFException {
-                int x = Integer.parseInt(lastAttributes.getValue("x"));
-                int y = Integer.parseInt(lastAttributes.getValue("y"));
-                int width = Integer.parseInt(lastAttributes.getValue("width"));
-                int height = Integer.parseInt(lastAttributes.getValue("height"));
+                int x = getInt(lastAttributes, "x");
+                int y = getInt(lastAttributes, "y");
+                int width = getInt(lastAttributes, "width");
+                int height = getInt(lastAttributes, "height");
                 Map<QName, String> foreignAttributes = getForeignAttributes(lastAttributes);
                 establishForeignAttributes(foreignAttributes);
                 establishStructureTreeElement(lastAttributes);
@@ -828,6 +834,41 @@ public class IFParser implements IFConstants {
             }
         }
 
+        private static int getInt(Attributes attributes, String name) {
+            if (attributes instanceof IFBinaryAttributes) {
+                return ((IFBinaryAttributes) attributes).getInt(name);
+            }
+            return Integer.parseInt(attributes.getValue(name));
+        }
+
+        private static int getInt(Attributes attributes, String name, int defaultValue) {
+            Integer value = getInteger(attributes, name);
+            return value != null ? value.intValue() : defaultValue;
+        }
+
+        private static Integer getInteger(Attributes attributes, String name) {
+            if (attributes instanceof IFBinaryAttributes) {
+                return ((IFBinaryAttributes) attributes).getInteger(name);
+            }
+            return XMLUtil.getAttributeAsInteger(attributes, name);
+        }
+
+        private static int[] getIntArray(Attributes attributes, String name) {
+            if (attributes instanceof IFBinaryAttributes) {
+                return ((IFBinaryAttributes) attributes).getIntArray(name);
+            }
+            return XMLUtil.getAttributeAsIntArray(attributes, name);
+        }
+
+        private BorderProps getBorderProps(String value) {
+            BorderProps borderProps = parsedBorderProps.get(value);
+            if (borderProps == null) {
+                borderProps = BorderProps.valueOf(userAgent, value);
+                parsedBorderProps.put(value, borderProps);
+            }
+            return borderProps;
+        }
+
         private Color getAttributeAsColor(Attributes attributes, String name)
                     throws PropertyException {
             String s = attributes.getValue(name);
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.render.intermediate.util;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Paint;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.w3c.dom.Document;
+
+import org.apache.fop.render.intermediate.IFContext;
+import org.apache.fop.render.intermediate.IFException;
+import org.apache.fop.render.intermediate.IFPainter;
+import org.apache.fop.render.intermediate.IFUtil;
+import org.apache.fop.traits.BorderProps;
+import org.apache.fop.traits.RuleStyle;
+
+/**
+ * An {@link IFPainter} that records the painting calls for a page so they can be replayed
+ * later against another painter, possibly on a different thread. The foreign attributes in
+ * effect for each call are recorded as well and are restored on the replay context.
+ * <p>
+ * {@link #isBackgroundRequired(BorderProps, BorderProps, BorderProps, BorderProps)} has to be
+ * answered while recording, so this class can only stand in for painters that always require
+ * the background to be painted.</p>
+ */
+public class IFPainterRecorder implements IFPainter {
+
+    private final IFContext context;
+
+    private final List<PainterCall> calls = new ArrayList<PainterCall>();
+
+    /**
+     * Creates a new recorder.
+     * @param context the context the painting calls are issued in
+     */
+    public IFPainterRecorder(IFContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Replays the recorded painting calls.
+     * @param painter the painter to paint on
+     * @param replayContext the context used by the painter
+     * @throws IFException if an error occurs while painting
+     */
+    public void replay(IFPainter painter, IFContext replayContext) throws IFException {
+        for (PainterCall call : calls) {
+            replayContext.setForeignAttributes(call.foreignAttributes);
+            call.paint(painter);
+        }
+        replayContext.resetForeignAttributes();
+    }
+
+    /**
+     * Returns the number of recorded painting calls.
+     * @return the number of calls
+     */
+    public int size() {
+        return calls.size();
+    }
+
+    private void record(PainterCall call) {
+        calls.add(call);
+    }
+
+    /** {@inheritDoc} */
+    public void startViewport(final AffineTransform transform, final Dimension size,
+            final Rectangle clipRect) throws IFException {
+        record(new PainterCall() {
+            void paint(IFPainter painter) throws IFException {
+                painter.startViewport(transform, size, clipRect);
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    public void startViewport(final AffineTransform[] transforms, final Dimension size,
+            final Rectangle clipRect) throws IFException {
+        record(new PainterCall() {
+            void paint(IFPainter painter) throws IFException {
+                painter.startViewport(transforms, size, clipRect);
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    public void endViewport() throws IFException {
+        record(new PainterCall() {
+            void paint(IFPainter painter) throws IFException {
+                painter.endViewport();
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    public void startGroup(final AffineTransform[] transforms, final String layer)
+            throws IFException {
+        record(new PainterCall() {
+            void paint(IFPainter painter) throws IFException {
+                painter.startGroup(transforms, layer);
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    public void startGroup(final AffineTransform transform, final String layer)
+            throws IFException {
+        record(new PainterCall() {
+            void paint(IFPainter painter) throws IFException {
+                painter.startGroup(transform, layer);
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    public void endGroup() throws IFException {
+        record(new PainterCall() {
+            void paint(IFPainter painter) throws IFException {
+                painter.endGroup();
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    public void setFont(final String family, final String style, final Integer weight,
+            final String variant, final Integer size, final Color color) throws IFException {
+        record(new PainterCall() {
+            void paint(IFPainter painter) throws IFException {
+                painter.setFont(family, style, weight, variant, size, color);
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    public void drawText(final int x, final int y, final int letterSpacing,
+            final int wordSpacing, int[][] dp, final String text) throws IFException {
+        //The IFRenderer reuses its adjustments buffer, so it has to be copied
+        final int[][] dpCopy = (dp != null ? IFUtil.copyDP(dp, 0, dp.length) : null);
+        record(new PainterCall() {
+            void paint(IFPainter painter) throws IFException {
+                painter.drawText(x, y, letterSpacing, wordSpacing, dpCopy, text);
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    public void clipRect(final Rectangle rect) throws IFException {
+        record(new PainterCall() {
+            void paint(IFPainter painter) throws IFException {
+                painter.clipRect(rect);
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    public void clipBackground(final Rectangle rect, final BorderProps bpsBefore,
+            final BorderProps bpsAfter, final BorderProps bpsStart, final BorderProps bpsEnd)
+            throws IFException {
+        record(new PainterCall() {
+            void paint(IFPainter painter) throws IFException {
+                painter.clipBackground(rect, bpsBefore, bpsAfter, bpsStart, bpsEnd);
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    public boolean isBackgroundRequired(BorderProps bpsBefore, BorderProps bpsAfter,
+            BorderProps bpsStart, BorderProps bpsEnd) {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    public void fillRect(final Rectangle rect, final Paint fill) throws IFException {
+        record(new PainterCall() {
+            void paint(IFPainter painter) throws IFException {
+                painter.fillRect(rect, fill);
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    public void drawBorderRect(final Rectangle rect, final BorderProps top,
+            final BorderProps bottom, final BorderProps left, final BorderProps right,
+            final Color innerBackgroundColor) throws IFException {
+        record(new PainterCall() {
+            void paint(IFPainter painter) throws IFException {
+                painter.drawBorderRect(rect, top, bottom, left, right, innerBackgroundColor);
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    public void drawLine(final Point start, final Point end, final int width, final Color color,
+            final RuleStyle style) throws IFException {
+        record(new PainterCall() {
+            void paint(IFPainter painter) throws IFException {
+                painter.drawLine(start, end, width, color, style);
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    public void drawImage(final String uri, final Rectangle rect) throws IFException {
+        record(new PainterCall() {
+            void paint(IFPainter painter) throws IFException {
+                painter.drawImage(uri, rect);
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    public void drawImage(final Document doc, final Rectangle rect) throws IFException {
+        record(new PainterCall() {
+            void paint(IFPainter painter) throws IFException {
+                painter.drawImage(doc, rect);
+            }
+        });
+    }
+
+    /** A recorded painting call. */
+    private abstract class PainterCall {
+
+        private final Map foreignAttributes = context.getForeignAttributes();
+
+        abstract void paint(IFPainter painter) throws IFException;
+    }
+}
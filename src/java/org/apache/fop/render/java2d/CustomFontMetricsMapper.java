@@ -121,7 +121,14 @@ public class CustomFontMetricsMapper extends Typeface implements FontMetricsMapp
     }
 
     /** {@inheritDoc} */
-    public final Font getFont(final int size) {
+    @Override
+    public void resetUsage() {
+        super.resetUsage();
+        typeface.resetUsage();
+    }
+
+    /** {@inheritDoc} */
+    public final synchronized Font getFont(final int size) {
         if (this.size == size) {
             return font;
         }
@@ -286,6 +286,7 @@ public class PDFDocumentHandler extends AbstractBinaryWritingIFDocumentHandler {
                 this.pdfDoc.addObject(annots);
             }
             this.pdfDoc.addObject(currentPage);
+            this.pdfDoc.notifyPageFinished(currentPage);
             this.generator.flushPDFDoc();
             this.generator = null;
         } catch (IOException ioe) {
@@ -55,11 +55,14 @@ import static org.apache.fop.render.pdf.PDFEncryptionOption.NO_PRINTHQ;
 import static org.apache.fop.render.pdf.PDFEncryptionOption.OWNER_PASSWORD;
 import static org.apache.fop.render.pdf.PDFEncryptionOption.USER_PASSWORD;
 import static org.apache.fop.render.pdf.PDFRendererOption.DISABLE_SRGB_COLORSPACE;
+import static org.apache.fop.render.pdf.PDFRendererOption.ENCODING_THREADS;
 import static org.apache.fop.render.pdf.PDFRendererOption.FILTER_LIST;
 import static org.apache.fop.render.pdf.PDFRendererOption.MERGE_FONTS;
+import static org.apache.fop.render.pdf.PDFRendererOption.OBJECT_STREAMS;
 import static org.apache.fop.render.pdf.PDFRendererOption.OUTPUT_PROFILE;
 import static org.apache.fop.render.pdf.PDFRendererOption.PDF_A_MODE;
 import static org.apache.fop.render.pdf.PDFRendererOption.PDF_X_MODE;
+import static org.apache.fop.render.pdf.PDFRendererOption.STREAMING;
 import static org.apache.fop.render.pdf.PDFRendererOption.VERSION;
 
 /**
@@ -137,6 +140,9 @@ public final class PDFRendererConfig implements RendererConfig {
                 parseAndPut(OUTPUT_PROFILE, cfg);
                 parseAndPut(DISABLE_SRGB_COLORSPACE, cfg);
                 parseAndPut(MERGE_FONTS, cfg);
+                parseAndPut(STREAMING, cfg);
+                parseAndPut(ENCODING_THREADS, cfg);
+                parseAndPut(OBJECT_STREAMS, cfg);
 
                 parseAndPut(VERSION, cfg);
             } catch (ConfigurationException e) {
@@ -72,6 +72,36 @@ public enum PDFRendererOption implements RendererConfigOption {
             return Boolean.valueOf(value);
         }
     },
+    /**
+     * Rendering Options key for streaming mode, in which the bookkeeping for each page is
+     * released as soon as the page has been written, default: false
+     */
+    STREAMING("streaming", false) {
+        @Override
+        Boolean deserialize(String value) {
+            return Boolean.valueOf(value);
+        }
+    },
+    /**
+     * Rendering Options key for the number of threads used to compress and encrypt PDF
+     * streams, default: 0 (streams are encoded on the rendering thread)
+     */
+    ENCODING_THREADS("encoding-threads", 0) {
+        @Override
+        Integer deserialize(String value) {
+            return Integer.valueOf(value);
+        }
+    },
+    /**
+     * Rendering Options key for packing all objects that are not streams into compressed
+     * object streams (PDF 1.5), default: false
+     */
+    OBJECT_STREAMS("object-streams", false) {
+        @Override
+        Boolean deserialize(String value) {
+            return Boolean.valueOf(value);
+        }
+    },
     /** Rendering Options key for the ICC profile for the output intent. */
     OUTPUT_PROFILE("output-profile") {
         @Override
@@ -30,11 +30,14 @@ import org.apache.fop.pdf.PDFXMode;
 import org.apache.fop.pdf.Version;
 
 import static org.apache.fop.render.pdf.PDFRendererOption.DISABLE_SRGB_COLORSPACE;
+import static org.apache.fop.render.pdf.PDFRendererOption.ENCODING_THREADS;
 import static org.apache.fop.render.pdf.PDFRendererOption.FILTER_LIST;
 import static org.apache.fop.render.pdf.PDFRendererOption.MERGE_FONTS;
+import static org.apache.fop.render.pdf.PDFRendererOption.OBJECT_STREAMS;
 import static org.apache.fop.render.pdf.PDFRendererOption.OUTPUT_PROFILE;
 import static org.apache.fop.render.pdf.PDFRendererOption.PDF_A_MODE;
 import static org.apache.fop.render.pdf.PDFRendererOption.PDF_X_MODE;
+import static org.apache.fop.render.pdf.PDFRendererOption.STREAMING;
 import static org.apache.fop.render.pdf.PDFRendererOption.VERSION;
 
 /**
@@ -125,4 +128,16 @@ public final class PDFRendererOptionsConfig {
     public Boolean getMergeFontsEnabled() {
         return (Boolean)properties.get(MERGE_FONTS);
     }
+
+    public Boolean getStreamingEnabled() {
+        return (Boolean) properties.get(STREAMING);
+    }
+
+    public Integer getEncodingThreads() {
+        return (Integer) properties.get(ENCODING_THREADS);
+    }
+
+    public Boolean getObjectStreamsEnabled() {
+        return (Boolean) properties.get(OBJECT_STREAMS);
+    }
 }
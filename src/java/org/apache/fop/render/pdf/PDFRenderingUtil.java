@@ -564,6 +564,8 @@ class PDFRenderingUtil {
         updateInfo();
         updatePDFProfiles();
         pdfDoc.setFilterMap(rendererConfig.getFilterMap());
+        pdfDoc.setStreamCacheFactory(userAgent.getStreamCacheFactory());
+        pdfDoc.setFontSubsetCache(userAgent.getFontManager().getFontSubsetCache());
         pdfDoc.outputHeader(out);
 
         //Setup encryption if necessary
@@ -588,6 +590,9 @@ class PDFRenderingUtil {
 
         this.pdfDoc.enableAccessibility(userAgent.isAccessibilityEnabled());
         pdfDoc.setMergeFontsEnabled(rendererConfig.getMergeFontsEnabled());
+        pdfDoc.setStreamingEnabled(rendererConfig.getStreamingEnabled());
+        pdfDoc.setStreamEncodingThreads(rendererConfig.getEncodingThreads());
+        pdfDoc.setObjectStreamsEnabled(rendererConfig.getObjectStreamsEnabled());
 
         return this.pdfDoc;
     }
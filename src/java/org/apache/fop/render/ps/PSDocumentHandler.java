@@ -24,14 +24,18 @@ import java.awt.geom.Dimension2D;
 import java.awt.geom.Rectangle2D;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.xml.transform.Source;
 
@@ -54,6 +58,7 @@ import org.apache.xmlgraphics.ps.dsc.events.DSCCommentBoundingBox;
 import org.apache.xmlgraphics.ps.dsc.events.DSCCommentHiResBoundingBox;
 
 import org.apache.fop.apps.MimeConstants;
+import org.apache.fop.fonts.Typeface;
 import org.apache.fop.render.intermediate.AbstractBinaryWritingIFDocumentHandler;
 import org.apache.fop.render.intermediate.IFContext;
 import org.apache.fop.render.intermediate.IFDocumentHandlerConfigurator;
@@ -103,6 +108,12 @@ public class PSDocumentHandler extends AbstractBinaryWritingIFDocumentHandler {
     /** This is a map of PSResource instances of all forms (key: uri) */
     private Map formResources;
 
+    /** Font keys of the fonts already defined when resources are written on first use */
+    private Set<String> streamedFonts;
+
+    /** Holds back the page content when resources are written on first use, null otherwise */
+    private PageContentBuffer pageContentBuffer;
+
     /** encapsulation of dictionary used in setpagedevice instruction **/
     private PSPageDeviceDictionary pageDeviceDictionary;
 
@@ -139,7 +150,7 @@ public class PSDocumentHandler extends AbstractBinaryWritingIFDocumentHandler {
 
     /** {@inheritDoc} */
     public IFDocumentHandlerConfigurator getConfigurator() {
-        return new PSRendererConfigurator(getUserAgent(), new PSRendererConfigParser());
+        return new PSRendererConfigurator(getUserAgent(), new PSRendererConfigParser(), psUtil);
     }
 
     PSRenderingUtil getPSUtil() {
@@ -152,9 +163,12 @@ public class PSDocumentHandler extends AbstractBinaryWritingIFDocumentHandler {
         this.fontResources = new FontResourceCache(getFontInfo());
         try {
             final OutputStream out;
-            if (psUtil.isOptimizeResources()) {
+            if (psUtil.isTwoPassGeneration()) {
                 tempURI = TEMP_URI_GENERATOR.generate();
                 out = new BufferedOutputStream(getUserAgent().getResourceResolver().getOutputStream(tempURI));
+            } else if (isStreamingResources()) {
+                this.pageContentBuffer = new PageContentBuffer(this.outputStream);
+                out = this.pageContentBuffer;
             } else {
                 out = this.outputStream;
             }
@@ -168,6 +182,7 @@ public class PSDocumentHandler extends AbstractBinaryWritingIFDocumentHandler {
             };
             this.gen.setPSLevel(psUtil.getLanguageLevel());
             this.currentPageNumber = 0;
+            this.streamedFonts = new java.util.HashSet<String>();
             this.documentBoundingBox = new Rectangle2D.Double();
 
             //Initial default page device dictionary settings
@@ -210,10 +225,13 @@ public class PSDocumentHandler extends AbstractBinaryWritingIFDocumentHandler {
         gen.writeDSCComment(DSCConstants.BEGIN_SETUP);
         PSRenderingUtil.writeSetupCodeList(gen, setupCodeList, "SetupCode");
         if (!psUtil.isOptimizeResources()) {
-            this.fontResources.addAll(PSFontUtils.writeFontDict(gen, fontInfo, eventProducer));
-        } else {
+            this.fontResources.addAll(PSFontUtils.writeFontDict(gen, fontInfo,
+                    fontInfo.getFonts(), true, eventProducer,
+                    getUserAgent().getFontManager().getFontSubsetCache()));
+        } else if (psUtil.isTwoPassGeneration()) {
             gen.commentln("%FOPFontSetup"); //Place-holder, will be replaced in the second pass
         }
+        //else: fonts are written as they are first used, see getPSResourceForFontKey()
         gen.writeDSCComment(DSCConstants.END_SETUP);
     }
 
@@ -239,7 +257,7 @@ public class PSDocumentHandler extends AbstractBinaryWritingIFDocumentHandler {
             gen.writeDSCComment(DSCConstants.EOF);
             gen.flush();
             log.debug("Rendering to PostScript complete.");
-            if (psUtil.isOptimizeResources()) {
+            if (psUtil.isTwoPassGeneration()) {
                 IOUtils.closeQuietly(gen.getOutputStream());
                 rewritePostScriptFile();
             }
@@ -417,6 +435,10 @@ public class PSDocumentHandler extends AbstractBinaryWritingIFDocumentHandler {
             }
             gen.concatMatrix(1, 0, 0, -1, 0, pageHeight);
 
+            if (this.pageContentBuffer != null) {
+                //Resources first used on this page are written here, ahead of its content
+                this.pageContentBuffer.startPageContent();
+            }
             gen.writeDSCComment(DSCConstants.END_PAGE_SETUP);
         } catch (IOException ioe) {
             throw new IFException("I/O error in endPageHeader()", ioe);
@@ -442,6 +464,9 @@ public class PSDocumentHandler extends AbstractBinaryWritingIFDocumentHandler {
     public void endPageContent() throws IFException {
         try {
             gen.showPage();
+            if (this.pageContentBuffer != null) {
+                this.pageContentBuffer.endPageContent();
+            }
         } catch (IOException ioe) {
             throw new IFException("I/O error in endPageContent()", ioe);
         }
@@ -548,17 +573,64 @@ public class PSDocumentHandler extends AbstractBinaryWritingIFDocumentHandler {
      * Returns the PSResource for the given font key.
      * @param key the font key ("F*")
      * @return the matching PSResource
+     * @throws IOException if the font has to be written and an I/O error occurs
      */
-    protected PSFontResource getPSResourceForFontKey(String key) {
+    protected PSFontResource getPSResourceForFontKey(String key) throws IOException {
+        if (isStreamingResources()) {
+            int pos = key.indexOf('_');
+            writeFontResource(pos > 0 ? key.substring(0, pos) : key);
+        }
         return this.fontResources.getFontResourceForFontKey(key);
     }
 
+    private boolean isStreamingResources() {
+        return psUtil.isOptimizeResources() && psUtil.isStreamResources();
+    }
+
+    /**
+     * Writes the definition of a font unless it has been written before. Used when resources
+     * are written as they are first used: the definition goes to the setup of the current page.
+     * All characters are encoded since later pages may use characters this page doesn't, and
+     * custom fonts are embedded in full for the same reason (see
+     * {@link PSRendererConfigurator}).
+     * @param key the font key ("F*")
+     * @throws IOException In case of an I/O error
+     */
+    private void writeFontResource(String key) throws IOException {
+        if (this.streamedFonts.add(key)) {
+            Map<String, Typeface> fonts = Collections.singletonMap(key,
+                    fontInfo.getFonts().get(key));
+            boolean inContent = this.pageContentBuffer.startResource();
+            try {
+                this.fontResources.addAll(PSFontUtils.writeFontDict(gen, fontInfo, fonts, true,
+                        eventProducer, getUserAgent().getFontManager().getFontSubsetCache()));
+            } finally {
+                this.pageContentBuffer.endResource(inContent);
+            }
+        }
+    }
+
+    /**
+     * Writes the definitions of all fonts that haven't been written yet. Used when resources
+     * are written as they are first used, ahead of content that selects fonts without going
+     * through {@link #getPSResourceForFontKey(String)}, such as SVG text.
+     * @throws IOException In case of an I/O error
+     */
+    void writeAllFontResources() throws IOException {
+        if (isStreamingResources()) {
+            for (String key : fontInfo.getFonts().keySet()) {
+                writeFontResource(key);
+            }
+        }
+    }
+
     /**
      * Returns a PSResource instance representing a image as a PostScript form.
      * @param uri the image URI
      * @return a PSResource instance
+     * @throws IOException if the form has to be written and an I/O error occurs
      */
-    protected PSResource getFormForImage(String uri) {
+    protected PSResource getFormForImage(String uri) throws IOException {
         if (uri == null || "".equals(uri)) {
             throw new IllegalArgumentException("uri must not be empty or null");
         }
@@ -567,12 +639,104 @@ public class PSDocumentHandler extends AbstractBinaryWritingIFDocumentHandler {
         }
         PSResource form = (PSResource)this.formResources.get(uri);
         if (form == null) {
-            form = new PSImageFormResource(this.formResources.size() + 1, uri);
-            this.formResources.put(uri, form);
+            PSImageFormResource imageForm
+                    = new PSImageFormResource(this.formResources.size() + 1, uri);
+            this.formResources.put(uri, imageForm);
+            if (isStreamingResources()) {
+                //Define the form in the page setup so this and all later pages can use it
+                boolean inContent = this.pageContentBuffer.startResource();
+                try {
+                    ResourceHandler.generateFormForImage(getUserAgent(), fontInfo, gen,
+                            imageForm, this);
+                } finally {
+                    this.pageContentBuffer.endResource(inContent);
+                }
+                gen.getResourceTracker().registerSuppliedResource(imageForm);
+            }
+            form = imageForm;
         }
         return form;
     }
 
+    /**
+     * Output stream used when resources are written on first use. Between the end of the page
+     * setup and the end of the page content, the content is held back so the resources the
+     * page turns out to use can be defined in its setup, outside of any text object or
+     * graphics state of the page content.
+     */
+    private static final class PageContentBuffer extends FilterOutputStream {
+
+        private ByteArrayOutputStream pageResources;
+        private ByteArrayOutputStream pageContent;
+        /** The buffer currently written to, null if writing through */
+        private ByteArrayOutputStream current;
+
+        private PageContentBuffer(OutputStream out) {
+            super(out);
+        }
+
+        /** Starts holding back the page content. */
+        void startPageContent() {
+            this.pageResources = new ByteArrayOutputStream();
+            this.pageContent = new ByteArrayOutputStream();
+            this.current = this.pageContent;
+        }
+
+        /**
+         * Redirects the output to the page setup while a resource is written.
+         * @return true if the page content was being held back
+         */
+        boolean startResource() {
+            if (this.current == this.pageContent && this.pageContent != null) {
+                this.current = this.pageResources;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Ends writing a resource.
+         * @param inContent the value returned by {@link #startResource()}
+         */
+        void endResource(boolean inContent) {
+            if (inContent) {
+                this.current = this.pageContent;
+            }
+        }
+
+        /**
+         * Writes the resources defined for the page, followed by the page content.
+         * @throws IOException In case of an I/O error
+         */
+        void endPageContent() throws IOException {
+            if (this.pageContent != null) {
+                this.current = null;
+                this.pageResources.writeTo(out);
+                this.pageContent.writeTo(out);
+                this.pageResources = null;
+                this.pageContent = null;
+            }
+        }
+
+        /** {@inheritDoc} */
+        public void write(int b) throws IOException {
+            if (this.current != null) {
+                this.current.write(b);
+            } else {
+                out.write(b);
+            }
+        }
+
+        /** {@inheritDoc} */
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (this.current != null) {
+                this.current.write(b, off, len);
+            } else {
+                out.write(b, off, len);
+            }
+        }
+    }
+
     private static final class PageDefinition {
         private Dimension2D dimensions;
         private boolean rotate;
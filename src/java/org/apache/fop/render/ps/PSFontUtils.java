@@ -28,7 +28,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.fontbox.cff.CFFStandardString;
@@ -47,6 +46,7 @@ import org.apache.fop.fonts.CustomFont;
 import org.apache.fop.fonts.EmbeddingMode;
 import org.apache.fop.fonts.Font;
 import org.apache.fop.fonts.FontInfo;
+import org.apache.fop.fonts.FontSubsetCache;
 import org.apache.fop.fonts.FontType;
 import org.apache.fop.fonts.LazyFont;
 import org.apache.fop.fonts.MultiByteFont;
@@ -58,12 +58,10 @@ import org.apache.fop.fonts.cff.CFFDataReader.DICTEntry;
 import org.apache.fop.fonts.truetype.FontFileReader;
 import org.apache.fop.fonts.truetype.OFFontLoader;
 import org.apache.fop.fonts.truetype.OTFFile;
-import org.apache.fop.fonts.truetype.OTFSubSetFile;
 import org.apache.fop.fonts.truetype.OpenFont.PostScriptVersion;
 import org.apache.fop.fonts.truetype.TTFFile;
 import org.apache.fop.fonts.truetype.TTFOutputStream;
 import org.apache.fop.fonts.truetype.TTFSubSetFile;
-import org.apache.fop.fonts.type1.Type1SubsetFile;
 import org.apache.fop.render.ps.fonts.PSTTFOutputStream;
 import org.apache.fop.util.HexEncoder;
 
@@ -127,19 +125,39 @@ public class PSFontUtils extends org.apache.xmlgraphics.ps.PSFontUtils {
      * @param fonts the set of fonts to work with
      * @param encodeAllCharacters true if all characters shall be encoded using additional,
      *           generated encodings.
+     * @param eventProducer the event producer
      * @return a Map of PSResource instances representing all defined fonts (key: font key)
      * @throws IOException in case of an I/O problem
      */
-    private static Map writeFontDict(PSGenerator gen, FontInfo fontInfo,
+    public static Map writeFontDict(PSGenerator gen, FontInfo fontInfo,
             Map<String, Typeface> fonts, boolean encodeAllCharacters, PSEventProducer eventProducer)
             throws IOException {
+        return writeFontDict(gen, fontInfo, fonts, encodeAllCharacters, eventProducer,
+                new FontSubsetCache(0));
+    }
+
+    /**
+     * Generates the PostScript code for the font dictionary.
+     * @param gen PostScript generator to use for output
+     * @param fontInfo available fonts
+     * @param fonts the set of fonts to work with
+     * @param encodeAllCharacters true if all characters shall be encoded using additional,
+     *           generated encodings.
+     * @param eventProducer the event producer
+     * @param subsetCache the cache to look up font subsets created for earlier documents
+     * @return a Map of PSResource instances representing all defined fonts (key: font key)
+     * @throws IOException in case of an I/O problem
+     */
+    public static Map writeFontDict(PSGenerator gen, FontInfo fontInfo,
+            Map<String, Typeface> fonts, boolean encodeAllCharacters, PSEventProducer eventProducer,
+            FontSubsetCache subsetCache) throws IOException {
         gen.commentln("%FOPBeginFontDict");
 
         Map fontResources = new HashMap();
         for (String key : fonts.keySet()) {
             Typeface tf = getTypeFace(fontInfo, fonts, key);
             PSResource fontRes = new PSResource(PSResource.TYPE_FONT, tf.getEmbedFontName());
-            PSFontResource fontResource = embedFont(gen, tf, fontRes, eventProducer);
+            PSFontResource fontResource = embedFont(gen, tf, fontRes, eventProducer, subsetCache);
             fontResources.put(key, fontResource);
 
             if (tf instanceof SingleByteFont) {
@@ -240,7 +258,7 @@ public class PSFontUtils extends org.apache.xmlgraphics.ps.PSFontUtils {
     }
 
     private static PSFontResource embedFont(PSGenerator gen, Typeface tf, PSResource fontRes,
-            PSEventProducer eventProducer) throws IOException {
+            PSEventProducer eventProducer, FontSubsetCache subsetCache) throws IOException {
         boolean embeddedFont = false;
         FontType fontType = tf.getFontType();
         PSFontResource fontResource = null;
@@ -257,7 +275,7 @@ public class PSFontUtils extends org.apache.xmlgraphics.ps.PSFontUtils {
                 if (fontType == FontType.TYPE0) {
                     if (((MultiByteFont)tf).isOTFFile()) {
                         checkPostScriptLevel3(gen, eventProducer, "OpenType CFF");
-                        embedType2CFF(gen, (MultiByteFont) tf, in);
+                        embedType2CFF(gen, (MultiByteFont) tf, subsetCache);
                     } else {
                         if (gen.embedIdentityH()) {
                             checkPostScriptLevel3(gen, eventProducer, "TrueType");
@@ -268,8 +286,8 @@ public class PSFontUtils extends org.apache.xmlgraphics.ps.PSFontUtils {
                             gen.includeProcsetCIDInitResource();
                         }
                         PSResource cidFontResource;
-                        cidFontResource = embedType2CIDFont(gen,
-                                (MultiByteFont) tf, in);
+                        cidFontResource = embedType2CIDFont(gen, (MultiByteFont) tf,
+                                subsetCache);
                         fontResource = PSFontResource.createFontResource(fontRes,
                                 gen.getProcsetCIDInitResource(), gen.getIdentityHCMapResource(),
                                 cidFontResource);
@@ -277,10 +295,10 @@ public class PSFontUtils extends org.apache.xmlgraphics.ps.PSFontUtils {
                 }
                 gen.writeDSCComment(DSCConstants.BEGIN_RESOURCE, fontRes);
                 if (fontType == FontType.TYPE1) {
-                    embedType1Font(gen, (SingleByteFont) tf, in);
+                    embedType1Font(gen, (SingleByteFont) tf, in, subsetCache);
                     fontResource = PSFontResource.createFontResource(fontRes);
                 } else if (fontType == FontType.TRUETYPE) {
-                    embedTrueTypeFont(gen, (SingleByteFont) tf, in);
+                    embedTrueTypeFont(gen, (SingleByteFont) tf);
                     fontResource = PSFontResource.createFontResource(fontRes);
                 } else {
                    composeType0Font(gen, (MultiByteFont) tf, in);
@@ -317,16 +335,12 @@ public class PSFontUtils extends org.apache.xmlgraphics.ps.PSFontUtils {
     }
 
     private static void embedType1Font(PSGenerator gen, SingleByteFont font,
-            InputStream fontStream) throws IOException {
+            InputStream fontStream, FontSubsetCache subsetCache) throws IOException {
         if (font.getEmbeddingMode() == EmbeddingMode.AUTO) {
             font.setEmbeddingMode(EmbeddingMode.FULL);
         }
-        byte[] fullFont = IOUtils.toByteArray(fontStream);
-        fontStream = new ByteArrayInputStream(fullFont);
-        boolean embed = true;
         if (font.getEmbeddingMode() == EmbeddingMode.SUBSET) {
-            Type1SubsetFile subset = new Type1SubsetFile();
-            byte[] byteSubset = subset.createSubset(fontStream, font);
+            byte[] byteSubset = subsetCache.getType1Subset(font, fontStream);
             fontStream = new ByteArrayInputStream(byteSubset);
         }
         embedType1Font(gen, fontStream);
@@ -382,14 +396,14 @@ public class PSFontUtils extends org.apache.xmlgraphics.ps.PSFontUtils {
     }
 
     private static void embedTrueTypeFont(PSGenerator gen,
-            SingleByteFont font, InputStream fontStream) throws IOException {
+            SingleByteFont font) throws IOException {
         /* See Adobe Technical Note #5012, "The Type 42 Font Format Specification" */
         gen.commentln("%!PS-TrueTypeFont-65536-65536-1"); // TODO TrueType & font versions
         gen.writeln("11 dict begin");
         if (font.getEmbeddingMode() == EmbeddingMode.AUTO) {
             font.setEmbeddingMode(EmbeddingMode.SUBSET);
         }
-        FontFileReader reader = new FontFileReader(fontStream);
+        FontFileReader reader = font.getFontFileReader();
         TTFFile ttfFile = new TTFFile();
         ttfFile.readFont(reader, font.getFullName());
         createType42DictionaryEntries(gen, font, font.getCMap(), ttfFile);
@@ -513,8 +527,8 @@ public class PSFontUtils extends org.apache.xmlgraphics.ps.PSFontUtils {
     }
 
     private static void embedType2CFF(PSGenerator gen,
-            MultiByteFont font, InputStream fontStream) throws IOException {
-        FontFileReader reader = new FontFileReader(fontStream);
+            MultiByteFont font, FontSubsetCache subsetCache) throws IOException {
+        FontFileReader reader = font.getFontFileReader();
         String header = OFFontLoader.readHeader(reader);
         String psName;
         CFFDataReader cffReader = new CFFDataReader(reader);
@@ -549,9 +563,7 @@ public class PSFontUtils extends org.apache.xmlgraphics.ps.PSFontUtils {
             bytes = OTFFile.getCFFData(reader);
         } else {
             psName = font.getEmbedFontName();
-            OTFSubSetFile otfFile = new OTFSubSetFile();
-            otfFile.readFont(reader, psName, header, font);
-            bytes = otfFile.getFontSubset();
+            bytes = subsetCache.getCFFSubset(font, reader, header, psName);
         }
 
         gen.writeln("%!PS-Adobe-3.0 Resource-FontSet");
@@ -603,7 +615,7 @@ public class PSFontUtils extends org.apache.xmlgraphics.ps.PSFontUtils {
     }
 
     private static PSResource embedType2CIDFont(PSGenerator gen,
-            MultiByteFont font, InputStream fontStream) throws IOException {
+            MultiByteFont font, FontSubsetCache subsetCache) throws IOException {
         assert font.getCIDType() == CIDFontType.CIDTYPE2;
 
         String psName = font.getEmbedFontName();
@@ -688,14 +700,14 @@ public class PSFontUtils extends org.apache.xmlgraphics.ps.PSFontUtils {
             gen.write(gid);
         }
         gen.writeln(">] def");
-        FontFileReader reader = new FontFileReader(fontStream);
+        FontFileReader reader = font.getFontFileReader();
         String header = OFFontLoader.readHeader(reader);
 
         TTFFile ttfFile;
         if (font.getEmbeddingMode() != EmbeddingMode.FULL) {
             ttfFile = new TTFSubSetFile();
-            //Change the TTFFile to have the abstract method for TTFSubSetFile
-            ((TTFSubSetFile)ttfFile).readFont(reader, font.getTTCName(), header, font.getUsedGlyphs());
+            ((TTFSubSetFile) ttfFile).readSubset(
+                    subsetCache.getTrueTypeSubset(font, reader, header, true));
         } else {
             ttfFile = new TTFFile();
             ttfFile.readFont(reader, font.getTTCName());
@@ -40,6 +40,7 @@ import org.apache.xmlgraphics.image.loader.ImageSessionContext;
 import org.apache.xmlgraphics.ps.PSGenerator;
 import org.apache.xmlgraphics.ps.PSResource;
 
+import org.apache.fop.apps.MimeConstants;
 import org.apache.fop.fonts.EmbeddingMode;
 import org.apache.fop.fonts.Font;
 import org.apache.fop.fonts.FontTriplet;
@@ -156,6 +157,10 @@ public class PSPainter extends AbstractIFPainter<PSDocumentHandler> {
     /** {@inheritDoc} */
     protected void drawImageUsingImageHandler(ImageInfo info, Rectangle rect)
             throws ImageException, IOException {
+        if (MimeConstants.MIME_SVG.equals(info.getMimeType())) {
+            //SVG text selects fonts on its own
+            getDocumentHandler().writeAllFontResources();
+        }
         if (!getDocumentHandler().getPSUtil().isOptimizeResources()
                 || PSImageUtils.isImageInlined(info,
                         (PSRenderingContext)createRenderingContext())) {
@@ -184,6 +189,8 @@ public class PSPainter extends AbstractIFPainter<PSDocumentHandler> {
     public void drawImage(Document doc, Rectangle rect) throws IFException {
         try {
             endTextObject();
+            //Foreign objects, SVG in particular, may select fonts on their own
+            getDocumentHandler().writeAllFontResources();
         } catch (IOException ioe) {
             throw new IFException("I/O error in drawImage()", ioe);
         }
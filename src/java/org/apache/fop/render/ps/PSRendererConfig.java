@@ -41,6 +41,7 @@ import static org.apache.fop.render.ps.PSRendererOption.LANGUAGE_LEVEL;
 import static org.apache.fop.render.ps.PSRendererOption.OPTIMIZE_RESOURCES;
 import static org.apache.fop.render.ps.PSRendererOption.RENDERING_MODE;
 import static org.apache.fop.render.ps.PSRendererOption.SAFE_SET_PAGE_DEVICE;
+import static org.apache.fop.render.ps.PSRendererOption.STREAM_RESOURCES;
 
 /**
  * The PostScript renderer configuration data object.
@@ -72,6 +73,10 @@ public final class PSRendererConfig implements RendererConfig {
         return (Boolean) params.get(OPTIMIZE_RESOURCES);
     }
 
+    public Boolean isStreamResources() {
+        return (Boolean) params.get(STREAM_RESOURCES);
+    }
+
     public Boolean isSafeSetPageDevice() {
         return (Boolean) params.get(SAFE_SET_PAGE_DEVICE);
     }
@@ -120,6 +125,7 @@ public final class PSRendererConfig implements RendererConfig {
                         cfg.getChild(LANGUAGE_LEVEL.getName())
                            .getValueAsInteger((Integer) LANGUAGE_LEVEL.getDefaultValue()));
                 setBoolConfigParam(cfg, OPTIMIZE_RESOURCES);
+                setBoolConfigParam(cfg, STREAM_RESOURCES);
                 setBoolConfigParam(cfg, SAFE_SET_PAGE_DEVICE);
                 setBoolConfigParam(cfg, DSC_COMPLIANT);
                 Configuration child = cfg.getChild("rendering");
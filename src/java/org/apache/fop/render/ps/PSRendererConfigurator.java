@@ -19,8 +19,14 @@
 
 package org.apache.fop.render.ps;
 
+import java.util.List;
+
 import org.apache.fop.apps.FOPException;
 import org.apache.fop.apps.FOUserAgent;
+import org.apache.fop.apps.io.InternalResourceResolver;
+import org.apache.fop.fonts.EmbedFontInfo;
+import org.apache.fop.fonts.EmbeddingMode;
+import org.apache.fop.fonts.FontCollection;
 import org.apache.fop.render.DefaultRendererConfigurator;
 import org.apache.fop.render.RendererConfig.RendererConfigParser;
 import org.apache.fop.render.intermediate.IFDocumentHandler;
@@ -31,12 +37,27 @@ import org.apache.fop.render.intermediate.IFDocumentHandler;
  */
 public class PSRendererConfigurator extends DefaultRendererConfigurator {
 
+    private final PSRenderingUtil psUtil;
+
     /**
      * Default constructor
      * @param userAgent user agent
      */
     public PSRendererConfigurator(FOUserAgent userAgent, RendererConfigParser rendererConfigParser) {
+        this(userAgent, rendererConfigParser, null);
+    }
+
+    /**
+     * Creates a configurator for the given rendering options. Fonts are set up for these
+     * options, so they must be configured before the fonts are.
+     * @param userAgent user agent
+     * @param rendererConfigParser the renderer configuration parser
+     * @param psUtil the rendering options of the document handler, or null
+     */
+    PSRendererConfigurator(FOUserAgent userAgent, RendererConfigParser rendererConfigParser,
+            PSRenderingUtil psUtil) {
         super(userAgent, rendererConfigParser);
+        this.psUtil = psUtil;
     }
 
     private void configure(PSRenderingUtil psUtil, PSRendererConfig psConfig) {
@@ -49,6 +70,9 @@ public class PSRendererConfigurator extends DefaultRendererConfigurator {
         if (psConfig.isOptimizeResources() != null) {
             psUtil.setOptimizeResources(psConfig.isOptimizeResources());
         }
+        if (psConfig.isStreamResources() != null) {
+            psUtil.setStreamResources(psConfig.isStreamResources());
+        }
         if (psConfig.isSafeSetPageDevice() != null) {
             psUtil.setSafeSetPageDevice(psConfig.isSafeSetPageDevice());
         }
@@ -69,4 +93,35 @@ public class PSRendererConfigurator extends DefaultRendererConfigurator {
             configure(psUtil, psConfig);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     * When resources are written as they are first used, a font is defined before the pages
+     * that follow have been laid out, so the custom fonts are embedded in full rather than
+     * subset.
+     */
+    @Override
+    protected FontCollection createCollectionFromFontList(InternalResourceResolver resolver,
+            List<EmbedFontInfo> fontList) {
+        if (psUtil != null && psUtil.isOptimizeResources() && psUtil.isStreamResources()) {
+            List<EmbedFontInfo> fullFontList = new java.util.ArrayList<EmbedFontInfo>();
+            for (EmbedFontInfo fontInfo : fontList) {
+                fullFontList.add(toFullEmbedding(fontInfo));
+            }
+            fontList = fullFontList;
+        }
+        return super.createCollectionFromFontList(resolver, fontList);
+    }
+
+    private static EmbedFontInfo toFullEmbedding(EmbedFontInfo fontInfo) {
+        if (fontInfo.getEmbeddingMode() == EmbeddingMode.FULL) {
+            return fontInfo;
+        }
+        EmbedFontInfo full = new EmbedFontInfo(fontInfo.getFontUris(), fontInfo.getKerning(),
+                fontInfo.getAdvanced(), fontInfo.getFontTriplets(), fontInfo.getSubFontName(),
+                fontInfo.getEncodingMode(), EmbeddingMode.FULL);
+        full.setPostScriptName(fontInfo.getPostScriptName());
+        full.setEmbedded(fontInfo.isEmbedded());
+        return full;
+    }
 }
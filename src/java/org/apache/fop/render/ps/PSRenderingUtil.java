@@ -36,6 +36,7 @@ import org.apache.fop.render.ps.extensions.PSSetupCode;
 import static org.apache.fop.render.ps.PSRendererOption.AUTO_ROTATE_LANDSCAPE;
 import static org.apache.fop.render.ps.PSRendererOption.LANGUAGE_LEVEL;
 import static org.apache.fop.render.ps.PSRendererOption.OPTIMIZE_RESOURCES;
+import static org.apache.fop.render.ps.PSRendererOption.STREAM_RESOURCES;
 
 /**
  * Utility class which enables all sorts of features that are not directly connected to the
@@ -60,6 +61,9 @@ public class PSRenderingUtil {
     /** Determines whether the PS file is generated in two passes to minimize file size */
     private boolean optimizeResources;
 
+    /** Determines whether optimized resources are written on first use, in a single pass */
+    private boolean streamResources;
+
     /**
      * Determines whether the generated PostScript code is optimized for minimum file size
      * of best quality.
@@ -86,6 +90,10 @@ public class PSRenderingUtil {
         if (obj != null) {
             setOptimizeResources(booleanValueOf(obj));
         }
+        obj = userAgent.getRendererOptions().get(STREAM_RESOURCES.getName());
+        if (obj != null) {
+            setStreamResources(booleanValueOf(obj));
+        }
     }
 
     private boolean booleanValueOf(Object obj) {
@@ -298,6 +306,35 @@ public class PSRenderingUtil {
         return optimizeResources;
     }
 
+    /**
+     * Controls whether optimized resources are written in a single pass. Each font and image
+     * form is then defined right before it is first used, so no temporary file has to be
+     * written and rescanned. Fonts are embedded in full rather than subset, and resources
+     * defined on a page are reused by the pages that follow it. Only applies if resource
+     * optimization is enabled.
+     * @param value true to write resources in a single pass
+     */
+    public void setStreamResources(boolean value) {
+        this.streamResources = value;
+    }
+
+    /**
+     * Indicates whether optimized resources are written in a single pass.
+     * @return true if resources are written as they are first used
+     */
+    public boolean isStreamResources() {
+        return streamResources;
+    }
+
+    /**
+     * Indicates whether the PostScript file is generated in two passes, i.e. whether it
+     * is written to a temporary file that is rewritten with all used resources at the end.
+     * @return true if a second pass is needed
+     */
+    public boolean isTwoPassGeneration() {
+        return optimizeResources && !streamResources;
+    }
+
     /**
      * Sets the rendering mode.
      * @param renderingMode the rendering mode
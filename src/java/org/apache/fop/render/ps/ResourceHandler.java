@@ -225,7 +225,8 @@ public class ResourceHandler implements DSCParserConstants, PSSupportedFlavors {
         if (fontSetupPlaceholder == null) {
             throw new DSCException("Didn't find %FOPFontSetup comment in stream");
         }
-        PSFontUtils.writeFontDict(gen, fontInfo, fontInfo.getUsedFonts(), eventProducer);
+        PSFontUtils.writeFontDict(gen, fontInfo, fontInfo.getUsedFonts(), false, eventProducer,
+                userAgent.getFontManager().getFontSubsetCache());
         generateForms(globalFormResources, gen);
 
         //Skip the prolog and to the first page
@@ -284,6 +285,20 @@ public class ResourceHandler implements DSCParserConstants, PSSupportedFlavors {
 
     private void generateFormForImage(PSGenerator gen, PSImageFormResource form)
                 throws IOException {
+        generateFormForImage(userAgent, fontInfo, gen, form, resTracker);
+    }
+
+    /**
+     * Generates the PostScript form for an image.
+     * @param userAgent the FO user agent
+     * @param fontInfo the font information
+     * @param gen the PostScript generator to write the form to
+     * @param form the form resource
+     * @param eventSource the source object for events reporting image errors
+     * @throws IOException In case of an I/O error
+     */
+    static void generateFormForImage(FOUserAgent userAgent, FontInfo fontInfo,
+            PSGenerator gen, PSImageFormResource form, Object eventSource) throws IOException {
         final String uri = form.getImageURI();
 
         ImageManager manager = userAgent.getImageManager();
@@ -327,7 +342,7 @@ public class ResourceHandler implements DSCParserConstants, PSSupportedFlavors {
         } catch (ImageException ie) {
             ResourceEventProducer eventProducer = ResourceEventProducer.Provider.get(
                     userAgent.getEventBroadcaster());
-            eventProducer.imageError(resTracker, (info != null ? info.toString() : uri),
+            eventProducer.imageError(eventSource, (info != null ? info.toString() : uri),
                     ie, null);
         }
     }
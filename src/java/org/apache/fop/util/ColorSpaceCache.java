@@ -43,6 +43,7 @@ public class ColorSpaceCache {
 
     private InternalResourceResolver resourceResolver;
     private Map<String, ColorSpace> colorSpaceMap = Collections.synchronizedMap(new HashMap<String, ColorSpace>());
+    private final ParsedColorCache parsedColorCache = new ParsedColorCache();
 
     /**
      * Default constructor
@@ -112,4 +113,12 @@ public class ColorSpaceCache {
         }
         return colorSpace;
     }
+
+    /**
+     * Returns the cache of colors that were parsed using the color spaces of this cache.
+     * @return the parsed color cache
+     */
+    ParsedColorCache getParsedColorCache() {
+        return parsedColorCache;
+    }
 }
@@ -61,22 +61,22 @@ public final class ColorUtil {
     public static final String SEPARATION_PSEUDO_PROFILE = "#Separation";
 
     /**
-     * Keeps all the predefined and parsed colors.
-     * <p>
-     * This map is used to predefine given colors, as well as speeding up
-     * parsing of already parsed colors.
+     * The predefined colors, keyed by lower-case name.
      * <p>
      * Important: The use of this color map assumes that all Color instances are immutable!
      */
-    private static Map<String, Color> colorMap;
+    private static final Map<String, Color> NAMED_COLORS
+            = Collections.unmodifiableMap(createNamedColorMap());
+
+    /**
+     * Speeds up parsing of already parsed colors that don't depend on an ICC profile. Colors
+     * using ICC profiles are kept by the {@link ColorSpaceCache} they were resolved with.
+     */
+    private static final ParsedColorCache PARSED_COLORS = new ParsedColorCache();
 
     /** Logger instance */
     private static final Log log = LogFactory.getLog(ColorUtil.class);
 
-    static {
-        initializeColorMap();
-    }
-
     /**
      * Private constructor since this is an utility class.
      */
@@ -115,7 +115,13 @@ public final class ColorUtil {
             return null;
         }
 
-        Color parsedColor = colorMap.get(value.toLowerCase());
+        ParsedColorCache parsedColors = getParsedColorCache(foUserAgent, value);
+        Color parsedColor = (parsedColors != null ? parsedColors.get(value) : null);
+        if (parsedColor != null) {
+            return parsedColor;
+        }
+
+        parsedColor = NAMED_COLORS.get(value.toLowerCase());
 
         if (parsedColor == null) {
             if (value.startsWith("#")) {
@@ -142,13 +148,30 @@ public final class ColorUtil {
             if (parsedColor == null) {
                 throw new PropertyException("Unknown Color: " + value);
             }
-
-            colorMap.put(value, parsedColor);
         }
 
+        if (parsedColors != null) {
+            parsedColors.put(value, parsedColor);
+        }
         return parsedColor;
     }
 
+    /**
+     * Returns the cache for a color string. Colors using ICC profiles are cached with the
+     * color space cache of the user agent, so they are resolved against the right profiles.
+     * @param foUserAgent the user agent, may be null
+     * @param value the color string
+     * @return the cache, or null if the color must not be cached
+     */
+    private static ParsedColorCache getParsedColorCache(FOUserAgent foUserAgent, String value) {
+        if (value.startsWith("fop-rgb-icc") || value.startsWith("fop-rgb-named-color")) {
+            ColorSpaceCache colorSpaceCache = (foUserAgent != null
+                    ? foUserAgent.getColorSpaceCache() : null);
+            return (colorSpaceCache != null ? colorSpaceCache.getParsedColorCache() : null);
+        }
+        return PARSED_COLORS;
+    }
+
     /**
      * Tries to parse a color given with the system-color() function.
      *
@@ -168,7 +191,7 @@ public final class ColorUtil {
             throw new PropertyException("Unknown color format: " + value
                     + ". Must be system-color(x)");
         }
-        return colorMap.get(value);
+        return NAMED_COLORS.get(value);
     }
 
     /**
@@ -782,10 +805,10 @@ public final class ColorUtil {
     }
 
     /**
-     * Initializes the colorMap with some predefined values.
+     * Creates the map of the predefined colors.
      */
-    private static void initializeColorMap() {
-        colorMap = Collections.synchronizedMap(new java.util.HashMap<String, Color>());
+    private static Map<String, Color> createNamedColorMap() {
+        Map<String, Color> colorMap = new java.util.HashMap<String, Color>();
 
         colorMap.put("aliceblue", createColor(240, 248, 255));
         colorMap.put("antiquewhite", createColor(250, 235, 215));
@@ -936,6 +959,7 @@ public final class ColorUtil {
         colorMap.put("yellow", createColor(255, 255, 0));
         colorMap.put("yellowgreen", createColor(154, 205, 50));
         colorMap.put("transparent", new ColorWithAlternatives(0, 0, 0, 0, null));
+        return colorMap;
     }
 
     /**
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+/* $Id$ */
+
+package org.apache.fop.util;
+
+import java.awt.Color;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A thread-safe cache of colors parsed from strings, bounded by the number of entries. Lookups
+ * don't lock. When the cache is full, an arbitrary older entry is dropped for each new one, so
+ * documents generating many distinct color values don't make it grow without bounds.
+ * <p>
+ * Important: the cache assumes that all Color instances are immutable!
+ */
+final class ParsedColorCache {
+
+    /** the default maximum number of colors in a cache */
+    static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final ConcurrentMap<String, Color> colors = new ConcurrentHashMap<String, Color>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final int maxSize;
+
+    /**
+     * Creates a cache with the default size limit.
+     */
+    ParsedColorCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a cache.
+     * @param maxSize the maximum number of colors in the cache
+     */
+    ParsedColorCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the color parsed earlier from the given string.
+     * @param value the color string
+     * @return the color, or null if the string is not in the cache
+     */
+    Color get(String value) {
+        return colors.get(value);
+    }
+
+    /**
+     * Adds a parsed color to the cache.
+     * @param value the color string
+     * @param color the color parsed from the string
+     */
+    void put(String value, Color color) {
+        if (colors.putIfAbsent(value, color) == null && size.incrementAndGet() > maxSize) {
+            Iterator<String> iter = colors.keySet().iterator();
+            while (size.get() > maxSize && iter.hasNext()) {
+                String key = iter.next();
+                if (!key.equals(value) && colors.remove(key) != null) {
+                    size.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of colors in the cache.
+     * @return the number of colors
+     */
+    int size() {
+        return size.get();
+    }
+}
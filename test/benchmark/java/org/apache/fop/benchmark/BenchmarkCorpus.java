@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.benchmark;
+
+/**
+ * The documents the benchmarks are run against. Each one is generated on the fly so the
+ * corpus stays small in the repository while still stressing a distinct part of FOP.
+ * Image references are resolved against the FOP base directory, which is the working
+ * directory of the forked benchmark VM.
+ */
+public enum BenchmarkCorpus {
+
+    /** Many long justified paragraphs, dominated by line breaking and page breaking. */
+    LONG_TEXT {
+        void appendContent(StringBuilder fo) {
+            for (int i = 0; i < 400; i++) {
+                fo.append("<fo:block text-align=\"justify\" space-after=\"6pt\">");
+                for (int j = 0; j < 8; j++) {
+                    fo.append(LOREM);
+                }
+                fo.append("</fo:block>");
+            }
+        }
+    },
+
+    /** A table with a repeated header and footer spanning many pages. */
+    BIG_TABLE {
+        void appendContent(StringBuilder fo) {
+            fo.append("<fo:table table-layout=\"fixed\" width=\"100%\" border-collapse=\"separate\">");
+            for (int c = 0; c < 6; c++) {
+                fo.append("<fo:table-column column-width=\"proportional-column-width(1)\"/>");
+            }
+            fo.append("<fo:table-header><fo:table-row>");
+            for (int c = 0; c < 6; c++) {
+                fo.append("<fo:table-cell border=\"1pt solid black\"><fo:block font-weight=\"bold\">"
+                        + "Column " + c + "</fo:block></fo:table-cell>");
+            }
+            fo.append("</fo:table-row></fo:table-header>");
+            fo.append("<fo:table-footer><fo:table-row><fo:table-cell number-columns-spanned=\"6\">"
+                    + "<fo:block>Continued</fo:block></fo:table-cell></fo:table-row></fo:table-footer>");
+            fo.append("<fo:table-body>");
+            for (int r = 0; r < 3000; r++) {
+                fo.append("<fo:table-row>");
+                for (int c = 0; c < 6; c++) {
+                    fo.append("<fo:table-cell border=\"0.5pt solid gray\" padding=\"1pt\"><fo:block>"
+                            + "Cell " + r + "/" + c + "</fo:block></fo:table-cell>");
+                }
+                fo.append("</fo:table-row>");
+            }
+            fo.append("</fo:table-body></fo:table>");
+        }
+    },
+
+    /** Mixed Arabic, Hebrew, Devanagari and Latin text, exercising bidi and script processing. */
+    COMPLEX_SCRIPTS {
+        void appendContent(StringBuilder fo) {
+            for (int i = 0; i < 300; i++) {
+                fo.append("<fo:block>");
+                fo.append("السلام عليكم ");
+                fo.append("Latin text ").append(i).append(' ');
+                fo.append("שלום עולם ");
+                fo.append("नमस्ते दुनिया ");
+                fo.append("</fo:block>");
+                fo.append("<fo:block writing-mode=\"rl-tb\" text-align=\"start\">");
+                for (int j = 0; j < 10; j++) {
+                    fo.append("مرحبا بالعالم ");
+                }
+                fo.append("</fo:block>");
+            }
+        }
+    },
+
+    /** Many inline SVG drawings. */
+    SVG {
+        void appendContent(StringBuilder fo) {
+            for (int i = 0; i < 300; i++) {
+                fo.append("<fo:block><fo:instream-foreign-object>"
+                        + "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"200pt\" height=\"60pt\">");
+                for (int j = 0; j < 10; j++) {
+                    fo.append("<rect x=\"" + (j * 20) + "\" y=\"5\" width=\"15\" height=\"50\""
+                            + " fill=\"rgb(" + (j * 25) + ",100,200)\"/>");
+                }
+                fo.append("<path d=\"M0,30 C50,0 150,60 200,30\" stroke=\"black\" fill=\"none\"/>"
+                        + "<text x=\"5\" y=\"40\" font-size=\"12\">Drawing " + i + "</text>"
+                        + "</svg></fo:instream-foreign-object></fo:block>");
+            }
+        }
+    },
+
+    /** Many references to raster and vector images of various formats. */
+    IMAGES {
+        void appendContent(StringBuilder fo) {
+            for (int i = 0; i < 100; i++) {
+                fo.append("<fo:block>");
+                for (String image : IMAGE_FILES) {
+                    fo.append("<fo:external-graphic content-width=\"40pt\" src=\"" + IMAGE_DIR
+                            + image + "\"/>");
+                }
+                fo.append("</fo:block>");
+            }
+        }
+    };
+
+    private static final String LOREM = "Lorem ipsum dolor sit amet, consectetur adipiscing"
+            + " elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. ";
+
+    private static final String IMAGE_DIR = "test/resources/images/";
+
+    private static final String[] IMAGE_FILES = {"fop-logo-color-24bit.png",
+            "fop-logo-gray-8bit.png", "bgimg72dpi.jpg", "cmyk.jpg", "circles.svg"};
+
+    abstract void appendContent(StringBuilder fo);
+
+    /**
+     * Creates the XSL-FO document.
+     * @return the document as a string
+     */
+    public String createFO() {
+        StringBuilder fo = new StringBuilder();
+        fo.append("<fo:root xmlns:fo=\"http://www.w3.org/1999/XSL/Format\">"
+                + "<fo:layout-master-set>"
+                + "<fo:simple-page-master master-name=\"A4\" page-height=\"29.7cm\""
+                + " page-width=\"21cm\" margin=\"2cm\">"
+                + "<fo:region-body margin-top=\"1cm\"/>"
+                + "<fo:region-before extent=\"1cm\"/>"
+                + "</fo:simple-page-master>"
+                + "</fo:layout-master-set>"
+                + "<fo:page-sequence master-reference=\"A4\">"
+                + "<fo:static-content flow-name=\"xsl-region-before\">"
+                + "<fo:block text-align=\"end\">Page <fo:page-number/></fo:block>"
+                + "</fo:static-content>"
+                + "<fo:flow flow-name=\"xsl-region-body\">");
+        appendContent(fo);
+        fo.append("</fo:flow></fo:page-sequence></fo:root>");
+        return fo.toString();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.stream.StreamSource;
+
+import org.xml.sax.ContentHandler;
+
+import org.apache.commons.io.output.NullOutputStream;
+
+import org.apache.fop.apps.FOPException;
+import org.apache.fop.apps.FOUserAgent;
+import org.apache.fop.apps.Fop;
+import org.apache.fop.apps.FopFactory;
+import org.apache.fop.apps.MimeConstants;
+import org.apache.fop.events.Event;
+import org.apache.fop.events.EventListener;
+
+/**
+ * Helpers shared by the benchmarks.
+ */
+final class BenchmarkSupport {
+
+    private static final TransformerFactory TRANSFORMER_FACTORY = TransformerFactory.newInstance();
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Creates a FopFactory resolving relative URIs against the FOP base directory.
+     * @return a new factory
+     */
+    static FopFactory createFopFactory() {
+        return FopFactory.newInstance(new File(".").getAbsoluteFile().toURI());
+    }
+
+    /**
+     * Creates a user agent that ignores the events generated by the corpus (missing
+     * glyphs and the like), so logging does not distort the measurements.
+     * @param fopFactory the factory
+     * @return a new user agent
+     */
+    static FOUserAgent createUserAgent(FopFactory fopFactory) {
+        return ignoreEvents(fopFactory.newFOUserAgent());
+    }
+
+    /**
+     * Makes a user agent ignore the events generated by the corpus.
+     * @param userAgent the user agent
+     * @return the same user agent
+     */
+    static FOUserAgent ignoreEvents(FOUserAgent userAgent) {
+        userAgent.getEventBroadcaster().addEventListener(new EventListener() {
+            public void processEvent(Event event) {
+            }
+        });
+        return userAgent;
+    }
+
+    /**
+     * Returns the UTF-8 encoded form of a document.
+     * @param document the document
+     * @return the encoded document
+     */
+    static byte[] toBytes(String document) {
+        try {
+            return document.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Feeds an XML document to a content handler.
+     * @param document the encoded document
+     * @param handler the content handler receiving the SAX events
+     * @throws TransformerException if parsing fails
+     */
+    static void parse(byte[] document, ContentHandler handler) throws TransformerException {
+        Transformer transformer = TRANSFORMER_FACTORY.newTransformer();
+        Source src = new StreamSource(new ByteArrayInputStream(document));
+        Result res = new SAXResult(handler);
+        transformer.transform(src, res);
+    }
+
+    /**
+     * Renders an FO document.
+     * @param fopFactory the factory
+     * @param userAgent the user agent
+     * @param mime the output format
+     * @param fo the encoded FO document
+     * @param out the stream receiving the output
+     * @return the Fop instance, giving access to the formatting results
+     * @throws FOPException if FOP cannot be set up
+     * @throws TransformerException if rendering fails
+     */
+    static Fop render(FopFactory fopFactory, FOUserAgent userAgent, String mime, byte[] fo,
+            OutputStream out) throws FOPException, TransformerException {
+        Fop fop = fopFactory.newFop(mime, userAgent, out);
+        parse(fo, fop.getDefaultHandler());
+        return fop;
+    }
+
+    /**
+     * Lays out an FO document into the intermediate format.
+     * @param fopFactory the factory
+     * @param fo the encoded FO document
+     * @return the encoded intermediate format document
+     * @throws FOPException if FOP cannot be set up
+     * @throws TransformerException if rendering fails
+     */
+    static byte[] createIntermediateFormat(FopFactory fopFactory, byte[] fo)
+            throws FOPException, TransformerException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        render(fopFactory, createUserAgent(fopFactory), MimeConstants.MIME_FOP_IF, fo, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns a stream discarding everything written to it.
+     * @return the stream
+     */
+    static OutputStream nullOutputStream() {
+        return new NullOutputStream();
+    }
+}
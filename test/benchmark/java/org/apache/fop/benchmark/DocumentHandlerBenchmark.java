@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.fop.apps.FOUserAgent;
+import org.apache.fop.apps.FopFactory;
+import org.apache.fop.apps.MimeConstants;
+import org.apache.fop.render.intermediate.IFDocumentHandler;
+import org.apache.fop.render.intermediate.IFParser;
+import org.apache.fop.render.intermediate.IFUtil;
+
+/**
+ * Measures the output document handlers by replaying a pre-generated intermediate format
+ * document into each of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DocumentHandlerBenchmark {
+
+    @Param
+    private BenchmarkCorpus corpus;
+
+    @Param({MimeConstants.MIME_PDF, MimeConstants.MIME_POSTSCRIPT, MimeConstants.MIME_AFP,
+            MimeConstants.MIME_PCL})
+    private String mime;
+
+    private FopFactory fopFactory;
+
+    private byte[] intermediateFormat;
+
+    /**
+     * Lays out the document into the intermediate format once.
+     * @throws Exception if layout fails
+     */
+    @Setup
+    public void setUp() throws Exception {
+        fopFactory = BenchmarkSupport.createFopFactory();
+        intermediateFormat = BenchmarkSupport.createIntermediateFormat(fopFactory,
+                BenchmarkSupport.toBytes(corpus.createFO()));
+    }
+
+    /**
+     * Renders the intermediate format document to the output format.
+     * @return the document handler
+     * @throws Exception if rendering fails
+     */
+    @Benchmark
+    public IFDocumentHandler render() throws Exception {
+        FOUserAgent userAgent = BenchmarkSupport.createUserAgent(fopFactory);
+        IFDocumentHandler documentHandler = fopFactory.getRendererFactory()
+                .createDocumentHandler(userAgent, mime);
+        IFUtil.setupFonts(documentHandler);
+        documentHandler.setResult(new StreamResult(BenchmarkSupport.nullOutputStream()));
+        new IFParser().parse(new StreamSource(new ByteArrayInputStream(intermediateFormat)),
+                documentHandler, userAgent);
+        return documentHandler;
+    }
+}
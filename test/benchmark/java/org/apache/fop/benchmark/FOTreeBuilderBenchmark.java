@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.fop.apps.FOUserAgent;
+import org.apache.fop.apps.Fop;
+import org.apache.fop.apps.FopFactory;
+import org.apache.fop.apps.MimeConstants;
+import org.apache.fop.fo.FOEventHandler;
+
+/**
+ * Measures building the FO tree (FOTreeBuilder and property resolution) with no layout.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FOTreeBuilderBenchmark {
+
+    @Param
+    private BenchmarkCorpus corpus;
+
+    private FopFactory fopFactory;
+
+    private byte[] fo;
+
+    /** Generates the document and warms up the factory. */
+    @Setup
+    public void setUp() {
+        fopFactory = BenchmarkSupport.createFopFactory();
+        fo = BenchmarkSupport.toBytes(corpus.createFO());
+    }
+
+    /**
+     * Parses the document into an FO tree.
+     * @return the Fop instance, so the tree is not optimised away
+     * @throws Exception if parsing fails
+     */
+    @Benchmark
+    public Fop buildFOTree() throws Exception {
+        FOUserAgent userAgent = BenchmarkSupport.createUserAgent(fopFactory);
+        userAgent.setFOEventHandlerOverride(new FOEventHandler(userAgent) { });
+        return BenchmarkSupport.render(fopFactory, userAgent, MimeConstants.MIME_PDF, fo,
+                BenchmarkSupport.nullOutputStream());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.fop.apps.FOUserAgent;
+import org.apache.fop.apps.FopFactory;
+import org.apache.fop.apps.MimeConstants;
+import org.apache.fop.render.intermediate.IFBinaryParser;
+import org.apache.fop.render.intermediate.IFContext;
+import org.apache.fop.render.intermediate.IFParser;
+import org.apache.fop.render.intermediate.IFSerializer;
+
+/**
+ * Measures the intermediate format round trip: IFParser feeding an IFSerializer, and the same
+ * with the document read from the binary encoding by IFBinaryParser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class IntermediateFormatBenchmark {
+
+    @Param
+    private BenchmarkCorpus corpus;
+
+    private FopFactory fopFactory;
+
+    private byte[] intermediateFormat;
+
+    private byte[] binaryIntermediateFormat;
+
+    /**
+     * Lays out the document into the intermediate format once, in both encodings.
+     * @throws Exception if layout fails
+     */
+    @Setup
+    public void setUp() throws Exception {
+        fopFactory = BenchmarkSupport.createFopFactory();
+        byte[] fo = BenchmarkSupport.toBytes(corpus.createFO());
+        intermediateFormat = BenchmarkSupport.createIntermediateFormat(fopFactory, fo);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BenchmarkSupport.render(fopFactory, BenchmarkSupport.createUserAgent(fopFactory),
+                MimeConstants.MIME_FOP_IF_BINARY, fo, out);
+        binaryIntermediateFormat = out.toByteArray();
+    }
+
+    /**
+     * Parses the intermediate format and serializes it again.
+     * @return the serializer
+     * @throws Exception if parsing or serializing fails
+     */
+    @Benchmark
+    public IFSerializer roundTrip() throws Exception {
+        FOUserAgent userAgent = BenchmarkSupport.createUserAgent(fopFactory);
+        IFSerializer serializer = new IFSerializer(new IFContext(userAgent));
+        serializer.setResult(new StreamResult(BenchmarkSupport.nullOutputStream()));
+        new IFParser().parse(new StreamSource(new ByteArrayInputStream(intermediateFormat)),
+                serializer, userAgent);
+        return serializer;
+    }
+
+    /**
+     * Reads the binary intermediate format and serializes it as XML.
+     * @return the serializer
+     * @throws Exception if parsing or serializing fails
+     */
+    @Benchmark
+    public IFSerializer binaryRoundTrip() throws Exception {
+        FOUserAgent userAgent = BenchmarkSupport.createUserAgent(fopFactory);
+        IFSerializer serializer = new IFSerializer(new IFContext(userAgent));
+        serializer.setResult(new StreamResult(BenchmarkSupport.nullOutputStream()));
+        new IFBinaryParser().parse(new ByteArrayInputStream(binaryIntermediateFormat),
+                serializer, userAgent);
+        return serializer;
+    }
+}
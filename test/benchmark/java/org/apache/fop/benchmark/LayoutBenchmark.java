@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.benchmark;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.fop.apps.FOPException;
+import org.apache.fop.apps.FOUserAgent;
+import org.apache.fop.apps.FopFactory;
+import org.apache.fop.apps.FormattingResults;
+import org.apache.fop.apps.MimeConstants;
+import org.apache.fop.area.AreaTreeHandler;
+import org.apache.fop.area.AreaTreeModel;
+import org.apache.fop.render.intermediate.IFUtil;
+
+/**
+ * Measures layout: building the FO tree plus line breaking (LineLayoutManager) and page
+ * breaking (PageBreakingAlgorithm). Fonts are those of the PDF output, but the pages are
+ * kept in a plain {@link AreaTreeModel} and never rendered. Subtract the
+ * {@link FOTreeBuilderBenchmark} score to isolate the breaking algorithms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LayoutBenchmark {
+
+    @Param
+    private BenchmarkCorpus corpus;
+
+    private FopFactory fopFactory;
+
+    private byte[] fo;
+
+    /** Generates the document. */
+    @Setup
+    public void setUp() {
+        fopFactory = BenchmarkSupport.createFopFactory();
+        fo = BenchmarkSupport.toBytes(corpus.createFO());
+    }
+
+    /**
+     * Lays out the document.
+     * @return the formatting results
+     * @throws Exception if layout fails
+     */
+    @Benchmark
+    public FormattingResults layout() throws Exception {
+        FOUserAgent userAgent = BenchmarkSupport.createUserAgent(fopFactory);
+        OutputStream out = BenchmarkSupport.nullOutputStream();
+        userAgent.setFOEventHandlerOverride(new LayoutOnlyAreaTreeHandler(userAgent, out));
+        return BenchmarkSupport.render(fopFactory, userAgent, MimeConstants.MIME_PDF, fo, out)
+                .getResults();
+    }
+
+    private static final class LayoutOnlyAreaTreeHandler extends AreaTreeHandler {
+
+        LayoutOnlyAreaTreeHandler(FOUserAgent userAgent, OutputStream out) throws FOPException {
+            super(userAgent, MimeConstants.MIME_PDF, out);
+        }
+
+        @Override
+        protected void setupModel(FOUserAgent userAgent, String outputFormat, OutputStream out)
+                throws FOPException {
+            // same fonts as the real output format, but no renderer
+            IFUtil.setupFonts(userAgent.getRendererFactory().createDocumentHandler(
+                    userAgent, outputFormat), fontInfo);
+            this.model = new AreaTreeModel();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+/* $Id$ */
+
+package org.apache.fop.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.avalon.framework.configuration.Configuration;
+import org.apache.avalon.framework.configuration.DefaultConfigurationBuilder;
+
+import org.apache.fop.apps.FOUserAgent;
+import org.apache.fop.apps.Fop;
+import org.apache.fop.apps.FopFactory;
+import org.apache.fop.apps.FopFactoryBuilder;
+import org.apache.fop.apps.MimeConstants;
+import org.apache.fop.apps.RenderingSession;
+
+/**
+ * Measures the latency of rendering a small one-page document (a receipt), comparing user agents
+ * created by the factory for each document with user agents created by a
+ * {@link RenderingSession} that keeps the font setup between documents. The factory is
+ * configured with a TrueType font, like most installations producing such documents.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RenderingSessionBenchmark {
+
+    private static final String FONT_CONFIG = "<fonts><font kerning=\"yes\""
+            + " embed-url=\"test/resources/fonts/ttf/DejaVuLGCSerif.ttf\">"
+            + "<font-triplet name=\"Receipt\" style=\"normal\" weight=\"normal\"/>"
+            + "<font-triplet name=\"Receipt\" style=\"normal\" weight=\"bold\"/>"
+            + "</font></fonts>";
+
+    @Param({"false", "true"})
+    private boolean session;
+
+    @Param({MimeConstants.MIME_PDF, MimeConstants.MIME_POSTSCRIPT})
+    private String mime;
+
+    private FopFactory fopFactory;
+
+    private RenderingSession renderingSession;
+
+    private byte[] fo;
+
+    private static String createConfiguration() {
+        StringBuilder cfg = new StringBuilder("<fop version=\"1.0\"><renderers>");
+        String[] mimes = {MimeConstants.MIME_PDF, MimeConstants.MIME_POSTSCRIPT};
+        for (int i = 0; i < mimes.length; i++) {
+            cfg.append("<renderer mime=\"").append(mimes[i]).append("\">")
+                    .append(FONT_CONFIG).append("</renderer>");
+        }
+        return cfg.append("</renderers></fop>").toString();
+    }
+
+    private static String createReceipt() {
+        StringBuilder fo = new StringBuilder("<fo:root xmlns:fo=\"http://www.w3.org/1999/XSL/Format\">"
+                + "<fo:layout-master-set>"
+                + "<fo:simple-page-master master-name=\"receipt\" page-width=\"80mm\""
+                + " page-height=\"200mm\"><fo:region-body margin=\"5mm\"/></fo:simple-page-master>"
+                + "</fo:layout-master-set>"
+                + "<fo:page-sequence master-reference=\"receipt\">"
+                + "<fo:flow flow-name=\"xsl-region-body\" font-family=\"Receipt\" font-size=\"9pt\">"
+                + "<fo:block font-weight=\"bold\" font-size=\"14pt\">Store 0042</fo:block>");
+        for (int i = 0; i < 15; i++) {
+            fo.append("<fo:block text-align-last=\"justify\">Item ").append(i)
+                    .append("<fo:leader leader-pattern=\"dots\"/>").append(i * 3).append(".99</fo:block>");
+        }
+        fo.append("<fo:block font-weight=\"bold\" text-align=\"end\">Total 123.45</fo:block>"
+                + "</fo:flow></fo:page-sequence></fo:root>");
+        return fo.toString();
+    }
+
+    /**
+     * Sets up the factory and, for the session variant, the rendering session.
+     * @throws Exception if the configuration cannot be parsed
+     */
+    @Setup
+    public void setUp() throws Exception {
+        Configuration cfg = new DefaultConfigurationBuilder().build(
+                new ByteArrayInputStream(BenchmarkSupport.toBytes(createConfiguration())));
+        fopFactory = new FopFactoryBuilder(new File(".").getAbsoluteFile().toURI())
+                .setConfiguration(cfg).build();
+        renderingSession = fopFactory.newRenderingSession();
+        renderingSession.prepare(mime);
+        fo = BenchmarkSupport.toBytes(createReceipt());
+    }
+
+    /**
+     * Renders one receipt.
+     * @return the Fop instance
+     * @throws Exception if rendering fails
+     */
+    @Benchmark
+    public Fop render() throws Exception {
+        FOUserAgent userAgent = BenchmarkSupport.ignoreEvents(session
+                ? renderingSession.newFOUserAgent()
+                : fopFactory.newFOUserAgent());
+        Fop fop = userAgent.newFop(mime, BenchmarkSupport.nullOutputStream());
+        BenchmarkSupport.parse(fo, fop.getDefaultHandler());
+        return fop;
+    }
+}
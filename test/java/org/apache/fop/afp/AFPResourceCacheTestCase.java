@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.afp;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.fop.afp.ioca.ImageContent;
+
+/**
+ * Test case for {@link AFPResourceCache}.
+ */
+public class AFPResourceCacheTestCase {
+
+    private static AFPImageObjectInfo createImage(int size) {
+        AFPImageObjectInfo imageObjectInfo = new AFPImageObjectInfo();
+        imageObjectInfo.setData(new byte[size]);
+        imageObjectInfo.setMimeType("image/x-afp+fs11");
+        imageObjectInfo.setBitsPerPixel(8);
+        imageObjectInfo.setCompression(ImageContent.COMPID_JPEG);
+        imageObjectInfo.setCreatePageSegment(true);
+        return imageObjectInfo;
+    }
+
+    /**
+     * Tests that the encoded data and encoding parameters are restored from the cache.
+     */
+    @Test
+    public void testRestoreImage() {
+        AFPResourceCache cache = new AFPResourceCache();
+        AFPImageObjectInfo encoded = createImage(100);
+        cache.putImage("logo", encoded);
+        assertEquals(100, cache.getSize());
+
+        AFPImageObjectInfo restored = new AFPImageObjectInfo();
+        assertFalse(cache.restoreImage("signature", restored));
+        assertNull(restored.getData());
+
+        assertTrue(cache.restoreImage("logo", restored));
+        assertSame(encoded.getData(), restored.getData());
+        assertEquals("image/x-afp+fs11", restored.getMimeType());
+        assertEquals(8, restored.getBitsPerPixel());
+        assertEquals(ImageContent.COMPID_JPEG, restored.getCompression());
+        assertTrue(restored.isCreatePageSegment());
+    }
+
+    /**
+     * Tests that the least recently used images are evicted when the cache is full.
+     */
+    @Test
+    public void testEviction() {
+        AFPResourceCache cache = new AFPResourceCache(250);
+        cache.putImage("a", createImage(100));
+        cache.putImage("b", createImage(100));
+        AFPImageObjectInfo restored = new AFPImageObjectInfo();
+        assertTrue(cache.restoreImage("a", restored));
+        cache.putImage("c", createImage(100));
+        assertEquals(200, cache.getSize());
+        assertTrue(cache.restoreImage("a", restored));
+        assertFalse(cache.restoreImage("b", restored));
+        assertTrue(cache.restoreImage("c", restored));
+
+        cache.putImage("d", createImage(300));
+        assertFalse(cache.restoreImage("d", restored));
+
+        cache.setMaximumSize(0);
+        assertEquals(0, cache.getSize());
+        cache.putImage("e", createImage(1));
+        assertFalse(cache.restoreImage("e", restored));
+    }
+}
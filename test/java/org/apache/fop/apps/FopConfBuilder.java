@@ -185,6 +185,16 @@ public class FopConfBuilder implements FontConfigurator<FopConfBuilder> {
         return createElement("prefer-renderer", String.valueOf(value));
     }
 
+    /**
+     * Set the &lt;font-subset-supersets&gt; tag within the fop.xconf.
+     *
+     * @param value true to allow font subsets with additional glyphs to be reused
+     * @return <b>this</b>
+     */
+    public FopConfBuilder setFontSubsetSupersets(boolean value) {
+        return createElement("font-subset-supersets", String.valueOf(value));
+    }
+
     /**
      * Set the &lt;default-page-settings&gt; tag within the fop.xconf.
      *
@@ -200,6 +210,19 @@ public class FopConfBuilder implements FontConfigurator<FopConfBuilder> {
         return this;
     }
 
+    /**
+     * Set the &lt;stream-cache&gt; tag within the fop.xconf.
+     *
+     * @param threshold the size above which stream data is moved to a temporary file
+     * @return <b>this</b>
+     */
+    public FopConfBuilder setStreamCacheThreshold(int threshold) {
+        Element el = fopConfDOM.createElement("stream-cache");
+        el.setAttribute("threshold", String.valueOf(threshold));
+        root.appendChild(el);
+        return this;
+    }
+
     /**
      * Sets whether the fonts cache is used or not.
      *
@@ -123,6 +123,12 @@ public class FopConfParserTestCase {
         assertEquals("67.89", factory.getPageWidth());
     }
 
+    @Test
+    public void testStreamCacheThreshold() {
+        builder.setStreamCacheThreshold(65536);
+        assertEquals(65536, buildFactory().getStreamCacheFactory().getFileThreshold());
+    }
+
     @Test
     public void testPreferRenderer() {
         builder.setPreferRenderer(true);
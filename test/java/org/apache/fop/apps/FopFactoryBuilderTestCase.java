@@ -279,6 +279,16 @@ public class FopFactoryBuilderTestCase {
         });
     }
 
+    @Test
+    public void testGetSetStreamCacheThreshold() {
+        runSetterTest(new Runnable() {
+            public void run() {
+                defaultBuilder.setStreamCacheThreshold(0);
+                assertEquals(0, buildFopFactory().getStreamCacheFactory().getFileThreshold());
+            }
+        });
+    }
+
     private void runSetterTest(Runnable setterTest) {
         setterTest.run();
         try {
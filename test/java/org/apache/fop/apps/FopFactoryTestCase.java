@@ -20,16 +20,26 @@
 package org.apache.fop.apps;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Test;
 import org.xml.sax.SAXException;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.apache.fop.config.BaseConstructiveUserConfigTest;
+import org.apache.fop.fonts.EmbedFontInfo;
+import org.apache.fop.fonts.FontConfig;
+import org.apache.fop.fonts.FontConfigurator;
 import org.apache.fop.render.RendererConfig.RendererConfigParser;
 import org.apache.fop.render.pdf.PDFRendererConfig;
 
@@ -63,4 +73,27 @@ public class FopFactoryTestCase extends BaseConstructiveUserConfigTest {
             fail(e.getMessage());
         }
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRendererFontListIsCached() throws Exception {
+        convertFO();
+        FontConfigurator<EmbedFontInfo> fontConfigurator = mock(FontConfigurator.class);
+        List<EmbedFontInfo> fontList = fopFactory.getRendererFontList(MimeConstants.MIME_PDF, null,
+                fontConfigurator);
+        assertEquals(1, fontList.size());
+        convertFO();
+        assertSame(fontList, fopFactory.getRendererFontList(MimeConstants.MIME_PDF, null,
+                fontConfigurator));
+        verify(fontConfigurator, never()).configure(any(FontConfig.class));
+
+        FontConfig fontConfig = mock(FontConfig.class);
+        List<EmbedFontInfo> emptyList = Collections.emptyList();
+        when(fontConfigurator.configure(fontConfig)).thenReturn(emptyList);
+        assertSame(emptyList, fopFactory.getRendererFontList(MimeConstants.MIME_AFP, fontConfig,
+                fontConfigurator));
+        assertSame(emptyList, fopFactory.getRendererFontList(MimeConstants.MIME_AFP, fontConfig,
+                fontConfigurator));
+        verify(fontConfigurator, times(1)).configure(fontConfig);
+    }
 }
@@ -132,6 +132,10 @@ public final class MutableConfig implements FopFactoryConfig {
         return delegate.getHyphenationPatternNames();
     }
 
+    public int getStreamCacheThreshold() {
+        return delegate.getStreamCacheThreshold();
+    }
+
     public FallbackResolver getFallbackResolver() {
         return delegate.getFallbackResolver();
     }
@@ -26,6 +26,7 @@ import static org.apache.fop.render.ps.PSRendererOption.DSC_COMPLIANT;
 import static org.apache.fop.render.ps.PSRendererOption.LANGUAGE_LEVEL;
 import static org.apache.fop.render.ps.PSRendererOption.OPTIMIZE_RESOURCES;
 import static org.apache.fop.render.ps.PSRendererOption.SAFE_SET_PAGE_DEVICE;
+import static org.apache.fop.render.ps.PSRendererOption.STREAM_RESOURCES;
 
 /**
  * A fop conf builder specific to a particular renderer for Postscript.
@@ -60,4 +61,9 @@ public final class PSRendererConfBuilder extends RendererConfBuilder {
         createTextElement(OPTIMIZE_RESOURCES, String.valueOf(value));
         return this;
     }
+
+    public PSRendererConfBuilder setStreamResources(boolean value) {
+        createTextElement(STREAM_RESOURCES, String.valueOf(value));
+        return this;
+    }
 }
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+/* $Id$ */
+
+package org.apache.fop.apps;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.Date;
+
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.stream.StreamSource;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.fop.fonts.FontInfo;
+import org.apache.fop.fonts.LazyFont;
+import org.apache.fop.fonts.MultiByteFont;
+import org.apache.fop.fonts.Typeface;
+
+/**
+ * Tests {@link RenderingSession} and {@link RenderingSessionPool}.
+ */
+public class RenderingSessionTestCase {
+
+    private static final String FO = "<fo:root xmlns:fo=\"http://www.w3.org/1999/XSL/Format\">"
+            + "<fo:layout-master-set>"
+            + "<fo:simple-page-master master-name=\"page\" page-height=\"200pt\" page-width=\"200pt\">"
+            + "<fo:region-body/>"
+            + "</fo:simple-page-master>"
+            + "</fo:layout-master-set>"
+            + "<fo:page-sequence master-reference=\"page\">"
+            + "<fo:flow flow-name=\"xsl-region-body\">"
+            + "<fo:block font-family=\"serif\">Total</fo:block>"
+            + "<fo:block font-family=\"sans-serif\" font-weight=\"bold\">42.00</fo:block>"
+            + "</fo:flow>"
+            + "</fo:page-sequence>"
+            + "</fo:root>";
+
+    private FopFactory fopFactory = FopFactory.newInstance(new File(".").toURI());
+
+    private byte[] render(FOUserAgent userAgent) throws Exception {
+        return render(userAgent, FO);
+    }
+
+    private byte[] render(FOUserAgent userAgent, String fo) throws Exception {
+        userAgent.setCreationDate(new Date(0));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Fop fop = userAgent.newFop(MimeConstants.MIME_POSTSCRIPT, out);
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        Source src = new StreamSource(new StringReader(fo));
+        Result res = new SAXResult(fop.getDefaultHandler());
+        transformer.transform(src, res);
+        assertEquals(1, fop.getResults().getPageCount());
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testUserAgents() {
+        RenderingSession session = fopFactory.newRenderingSession();
+        assertSame(fopFactory, session.getFopFactory());
+        assertSame(session, session.newFOUserAgent().getRenderingSession());
+        assertNull(fopFactory.newFOUserAgent().getRenderingSession());
+    }
+
+    @Test
+    public void testFontSetupIsKept() throws Exception {
+        RenderingSession session = fopFactory.newRenderingSession();
+        assertNull(session.getFontInfo(MimeConstants.MIME_POSTSCRIPT));
+        session.prepare(MimeConstants.MIME_POSTSCRIPT);
+        FontInfo fontInfo = session.getFontInfo(MimeConstants.MIME_POSTSCRIPT);
+        assertNotNull(fontInfo);
+
+        render(session.newFOUserAgent());
+        render(session.newFOUserAgent());
+        assertSame(fontInfo, session.getFontInfo(MimeConstants.MIME_POSTSCRIPT));
+        assertNull(session.getFontInfo(MimeConstants.MIME_PDF));
+
+        session.reset();
+        assertNull(session.getFontInfo(MimeConstants.MIME_POSTSCRIPT));
+        render(session.newFOUserAgent());
+        assertNotSame(fontInfo, session.getFontInfo(MimeConstants.MIME_POSTSCRIPT));
+    }
+
+    @Test
+    public void testSessionFontsAreShared() throws Exception {
+        RenderingSession session = fopFactory.newRenderingSession();
+        session.prepare(MimeConstants.MIME_POSTSCRIPT);
+        FontInfo sessionFontInfo = session.getFontInfo(MimeConstants.MIME_POSTSCRIPT);
+        FontInfo fontInfo = new FontInfo();
+        fontInfo.addFonts(sessionFontInfo);
+        assertEquals(sessionFontInfo.getFontTriplets(), fontInfo.getFontTriplets());
+        for (String key : sessionFontInfo.getFonts().keySet()) {
+            assertSame(sessionFontInfo.getFonts().get(key), fontInfo.getFonts().get(key));
+        }
+        assertEquals(0, fontInfo.getUsedFonts().size());
+    }
+
+    @Test
+    public void testOutputIsUnchanged() throws Exception {
+        byte[] expected = render(fopFactory.newFOUserAgent());
+        RenderingSession session = fopFactory.newRenderingSession();
+        assertArrayEquals(expected, render(session.newFOUserAgent()));
+        assertArrayEquals(expected, render(session.newFOUserAgent()));
+    }
+
+    @Test
+    public void testSubsetOnlyHasGlyphsOfCurrentDocument() throws Exception {
+        InputStream conf = new FopConfBuilder()
+                .setFontBaseURI("test/resources/fonts/ttf/")
+                .startRendererConfig(PSRendererConfBuilder.class)
+                    .startFontsConfig()
+                        .startFont(null, "DejaVuLGCSerif.ttf")
+                            .addTriplet("DejaVu LGC Serif", "normal", "normal")
+                        .endFont()
+                    .endFontConfig()
+                .endRendererConfig().build();
+        FopFactory factory = new FopConfParser(conf, new File(".").toURI())
+                .getFopFactoryBuilder().build();
+        String first = FO.replace("42.00", "").replace("font-family=\"serif\"",
+                "font-family=\"DejaVu LGC Serif\"");
+        String second = FO.replace("Total", "").replace("font-family=\"sans-serif\"",
+                "font-family=\"DejaVu LGC Serif\"").replace(" font-weight=\"bold\"", "");
+
+        RenderingSession session = factory.newRenderingSession();
+        render(session.newFOUserAgent(), first);
+        byte[] output = render(session.newFOUserAgent(), second);
+        assertArrayEquals(render(factory.newFOUserAgent(), second), output);
+
+        MultiByteFont font = null;
+        for (Typeface typeface
+                : session.getFontInfo(MimeConstants.MIME_POSTSCRIPT).getFonts().values()) {
+            if (typeface instanceof LazyFont
+                    && ((LazyFont) typeface).getRealFont() instanceof MultiByteFont) {
+                font = (MultiByteFont) ((LazyFont) typeface).getRealFont();
+            }
+        }
+        assertNotNull(font);
+        String chars = new String(font.getCIDSet().getChars());
+        for (char c : "Total".toCharArray()) {
+            assertEquals(-1, chars.indexOf(c));
+        }
+        for (char c : "42.0".toCharArray()) {
+            assertTrue(chars.indexOf(c) >= 0);
+        }
+    }
+
+    @Test
+    public void testPool() {
+        RenderingSessionPool pool = new RenderingSessionPool(fopFactory, 1);
+        RenderingSession first = pool.acquire();
+        RenderingSession second = pool.acquire();
+        assertNotSame(first, second);
+        pool.release(first);
+        pool.release(second);
+        assertSame(first, pool.acquire());
+        assertNotSame(second, pool.acquire());
+        pool.release(first);
+        pool.clear();
+        assertNotSame(first, pool.acquire());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testForeignSessionIsRejected() {
+        RenderingSessionPool pool = new RenderingSessionPool(fopFactory, 1);
+        pool.release(FopFactory.newInstance(new File(".").toURI()).newRenderingSession());
+    }
+}
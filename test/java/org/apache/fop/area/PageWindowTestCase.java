@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.area;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.StringReader;
+
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.stream.StreamSource;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.fop.apps.FOUserAgent;
+import org.apache.fop.apps.Fop;
+import org.apache.fop.apps.FopFactory;
+import org.apache.fop.apps.MimeConstants;
+
+/**
+ * Checks that bounding the number of pending pages kept in memory does not change the
+ * area tree.
+ */
+public class PageWindowTestCase {
+
+    private static final String FO_START = "<fo:root xmlns:fo=\"http://www.w3.org/1999/XSL/Format\">"
+            + "<fo:layout-master-set>"
+            + "<fo:simple-page-master master-name=\"page\" page-height=\"100pt\" page-width=\"200pt\">"
+            + "<fo:region-body/>"
+            + "</fo:simple-page-master>"
+            + "</fo:layout-master-set>";
+
+    private FopFactory fopFactory = FopFactory.newInstance(new File(".").toURI());
+
+    private static String createFO(int sequences) {
+        StringBuilder fo = new StringBuilder(FO_START);
+        for (int i = 0; i < sequences; i++) {
+            fo.append("<fo:page-sequence master-reference=\"page\" id=\"s" + i + "\">"
+                    + "<fo:flow flow-name=\"xsl-region-body\">");
+            for (int j = 0; j < 10; j++) {
+                // forward references keep the pages pending until the next page-sequence
+                fo.append("<fo:block id=\"b" + i + "_" + j + "\">Block " + j + " refers to page "
+                        + "<fo:page-number-citation ref-id=\"b" + ((i + 1) % sequences) + "_" + j
+                        + "\"/> of <fo:page-number-citation-last ref-id=\"s" + i + "\"/>"
+                        + "</fo:block>");
+            }
+            fo.append("</fo:flow></fo:page-sequence>");
+        }
+        return fo.append("</fo:root>").toString();
+    }
+
+    private String render(String fo, boolean conserveMemory, int pageWindowSize) throws Exception {
+        FOUserAgent userAgent = fopFactory.newFOUserAgent();
+        userAgent.setConserveMemoryPolicy(conserveMemory);
+        userAgent.setPageWindowSize(pageWindowSize);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Fop fop = fopFactory.newFop(MimeConstants.MIME_FOP_AREA_TREE, userAgent, out);
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        Source src = new StreamSource(new StringReader(fo));
+        Result res = new SAXResult(fop.getDefaultHandler());
+        transformer.transform(src, res);
+        assertTrue(fop.getResults().getPageCount() > 4);
+        return out.toString("UTF-8");
+    }
+
+    @Test
+    public void testBoundedPageWindow() throws Exception {
+        String fo = createFO(3);
+        String expected = render(fo, false, -1);
+        assertEquals(expected, render(fo, false, 0));
+        assertEquals(expected, render(fo, false, 1));
+        assertEquals(expected, render(fo, false, 3));
+        assertEquals(expected, render(fo, false, 1000));
+    }
+
+    @Test
+    public void testConserveMemoryPolicy() throws Exception {
+        String fo = createFO(3);
+        assertEquals(render(fo, false, -1), render(fo, true, -1));
+    }
+}
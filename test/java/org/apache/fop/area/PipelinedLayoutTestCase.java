@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.area;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.StringReader;
+
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.stream.StreamSource;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.fop.apps.FOUserAgent;
+import org.apache.fop.apps.Fop;
+import org.apache.fop.apps.FopFactory;
+import org.apache.fop.apps.FormattingResults;
+import org.apache.fop.apps.MimeConstants;
+
+/**
+ * Checks that pipelining parsing and layout produces the same area tree as
+ * laying out all page-sequences on the parsing thread.
+ */
+public class PipelinedLayoutTestCase {
+
+    private static final String FO_START = "<fo:root xmlns:fo=\"http://www.w3.org/1999/XSL/Format\">"
+            + "<fo:layout-master-set>"
+            + "<fo:simple-page-master master-name=\"page\" page-height=\"100pt\" page-width=\"200pt\">"
+            + "<fo:region-body margin-bottom=\"20pt\"/><fo:region-after extent=\"20pt\"/>"
+            + "</fo:simple-page-master>"
+            + "</fo:layout-master-set>";
+
+    private FopFactory fopFactory = FopFactory.newInstance(new File(".").toURI());
+
+    private static String createFO(int sequences, boolean markers) {
+        StringBuilder fo = new StringBuilder(FO_START);
+        for (int i = 0; i < sequences; i++) {
+            fo.append("<fo:page-sequence master-reference=\"page\" force-page-count=\"even\"");
+            if (i == 2) {
+                fo.append(" initial-page-number=\"10\"");
+            }
+            fo.append(">");
+            if (markers) {
+                fo.append("<fo:static-content flow-name=\"xsl-region-after\"><fo:block>"
+                        + "<fo:retrieve-marker retrieve-class-name=\"m\"/></fo:block>"
+                        + "</fo:static-content>");
+            }
+            fo.append("<fo:flow flow-name=\"xsl-region-body\">");
+            for (int j = 0; j < 10; j++) {
+                fo.append("<fo:block id=\"b" + i + "_" + j + "\">");
+                if (markers) {
+                    fo.append("<fo:marker marker-class-name=\"m\">" + i + "/" + j + "</fo:marker>");
+                }
+                fo.append("Block " + j + " of sequence " + i + " refers to page "
+                        + "<fo:page-number-citation ref-id=\"b" + ((i + 1) % sequences) + "_" + j
+                        + "\"/></fo:block>");
+            }
+            fo.append("</fo:flow></fo:page-sequence>");
+        }
+        return fo.append("</fo:root>").toString();
+    }
+
+    private String render(String fo, boolean pipelined, FormattingResults[] results)
+            throws Exception {
+        FOUserAgent userAgent = fopFactory.newFOUserAgent();
+        userAgent.setPipelinedLayout(pipelined);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Fop fop = fopFactory.newFop(MimeConstants.MIME_FOP_AREA_TREE, userAgent, out);
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        Source src = new StreamSource(new StringReader(fo));
+        Result res = new SAXResult(fop.getDefaultHandler());
+        transformer.transform(src, res);
+        results[0] = fop.getResults();
+        return out.toString("UTF-8");
+    }
+
+    private void assertSameLayout(String fo) throws Exception {
+        FormattingResults[] expectedResults = new FormattingResults[1];
+        FormattingResults[] actualResults = new FormattingResults[1];
+        String expected = render(fo, false, expectedResults);
+        String actual = render(fo, true, actualResults);
+        assertTrue(expectedResults[0].getPageCount() > 4);
+        assertEquals(expectedResults[0].getPageCount(), actualResults[0].getPageCount());
+        assertEquals(expectedResults[0].getPageSequences().size(),
+                actualResults[0].getPageSequences().size());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testPipelinedLayout() throws Exception {
+        assertSameLayout(createFO(4, false));
+    }
+
+    @Test
+    public void testPipelinedLayoutWithMarkers() throws Exception {
+        assertSameLayout(createFO(4, true));
+    }
+}
@@ -19,14 +19,25 @@
 
 package org.apache.fop.events;
 
+import java.io.File;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeFalse;
+
+import org.apache.commons.logging.LogFactory;
 
+import org.apache.fop.apps.FOUserAgent;
+import org.apache.fop.apps.FopFactory;
 import org.apache.fop.events.model.EventSeverity;
 
 public class BasicEventTestCase {
@@ -88,6 +99,57 @@ public class BasicEventTestCase {
         broadcaster.broadcastEvent(ev);
     }
 
+    @Test
+    public void testEventProducerWithoutListeners() throws Exception {
+        EventBroadcaster broadcaster = new DefaultEventBroadcaster();
+        TestEventProducer producer = TestEventProducer.Provider.get(broadcaster);
+        assertSame(producer, TestEventProducer.Provider.get(broadcaster));
+
+        //Dropped, nobody is listening
+        producer.complain(this, "I'm tired", 23);
+
+        MyEventListener listener = new MyEventListener();
+        broadcaster.addEventListener(listener);
+        producer.enjoy(this, "Life");
+        assertNotNull(listener.event);
+        assertEquals("org.apache.fop.events.TestEventProducer.enjoy",
+                listener.event.getEventID());
+        assertEquals(EventSeverity.INFO, listener.event.getSeverity());
+        assertEquals("Life", listener.event.getParam("what"));
+
+        //A second broadcaster gets its own producer
+        EventBroadcaster other = new DefaultEventBroadcaster();
+        assertNotSame(producer, TestEventProducer.Provider.get(other));
+    }
+
+    @Test
+    public void testUserAgentSkipsEventsThatWouldNotBeLogged() throws Exception {
+        Logger logger = Logger.getLogger(FOUserAgent.class.getName());
+        Level level = logger.getLevel();
+        logger.setLevel(Level.WARNING);
+        try {
+            assumeFalse(LogFactory.getLog(FOUserAgent.class).isInfoEnabled());
+            FopFactory fopFactory = FopFactory.newInstance(new File(".").toURI());
+
+            EventBroadcaster broadcaster = fopFactory.newFOUserAgent().getEventBroadcaster();
+            TestEventProducer producer = TestEventProducer.Provider.get(broadcaster);
+            //Not created: the first event would have installed the logging listener
+            producer.enjoy(this, "Life");
+            assertFalse(broadcaster.hasEventListeners());
+            producer.complain(this, "I'm tired", 23);
+            assertTrue(broadcaster.hasEventListeners());
+
+            //Events still reach listeners registered by the client
+            broadcaster = fopFactory.newFOUserAgent().getEventBroadcaster();
+            MyEventListener listener = new MyEventListener();
+            broadcaster.addEventListener(listener);
+            TestEventProducer.Provider.get(broadcaster).enjoy(this, "Life");
+            assertNotNull(listener.event);
+        } finally {
+            logger.setLevel(level);
+        }
+    }
+
     private class MyEventListener implements EventListener {
 
         private Event event;
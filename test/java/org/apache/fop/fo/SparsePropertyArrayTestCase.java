@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.fo;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.apache.fop.fo.properties.NumberProperty;
+import org.apache.fop.fo.properties.Property;
+
+/**
+ * Tests {@link SparsePropertyArray}.
+ */
+public class SparsePropertyArrayTestCase {
+
+    @Test
+    public void testGetAndPut() {
+        SparsePropertyArray array = new SparsePropertyArray(8);
+        assertNull(array.get(Constants.PR_FONT_SIZE));
+        Property size = NumberProperty.getInstance(12);
+        array.put(Constants.PR_FONT_SIZE, size);
+        assertSame(size, array.get(Constants.PR_FONT_SIZE));
+        assertNull(array.get(Constants.PR_FONT_SIZE + 8));
+
+        Property otherSize = NumberProperty.getInstance(10);
+        array.put(Constants.PR_FONT_SIZE, otherSize);
+        assertSame(otherSize, array.get(Constants.PR_FONT_SIZE));
+        assertEquals(1, array.size());
+    }
+
+    @Test
+    public void testAllProperties() {
+        SparsePropertyArray array = new SparsePropertyArray(8);
+        // every other property first, then the rest, so that the probe sequences interleave
+        for (int propId = 1; propId <= Constants.PROPERTY_COUNT; propId += 2) {
+            array.put(propId, NumberProperty.getInstance(propId));
+        }
+        for (int propId = 2; propId <= Constants.PROPERTY_COUNT; propId += 2) {
+            assertNull(array.get(propId));
+            array.put(propId, NumberProperty.getInstance(propId));
+        }
+        assertEquals(Constants.PROPERTY_COUNT, array.size());
+        for (int propId = 1; propId <= Constants.PROPERTY_COUNT; propId++) {
+            assertEquals(propId, array.get(propId).getNumeric().getValue());
+        }
+    }
+}
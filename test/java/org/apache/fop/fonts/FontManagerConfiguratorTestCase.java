@@ -28,6 +28,8 @@ import org.junit.Test;
 import org.xml.sax.SAXException;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import org.apache.fop.apps.FOPException;
 import org.apache.fop.apps.FopConfBuilder;
@@ -114,4 +116,11 @@ public class FontManagerConfiguratorTestCase {
         FontManager fontManager = setBaseAndGetManager(absoluteBase);
         assertEquals(URI.create(absoluteBase), fontManager.getResourceResolver().getBaseURI());
     }
+
+    @Test
+    public void fontSubsetSupersets() {
+        assertFalse(getManager().getFontSubsetCache().isSupersetsEnabled());
+        builder.setFontSubsetSupersets(true);
+        assertTrue(getManager().getFontSubsetCache().isSupersetsEnabled());
+    }
 }
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.fonts;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.net.URI;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+
+import org.apache.xmlgraphics.io.Resource;
+import org.apache.xmlgraphics.io.ResourceResolver;
+
+import org.apache.fop.apps.io.InternalResourceResolver;
+import org.apache.fop.apps.io.ResourceResolverFactory;
+
+public class FontMetricsCacheTestCase {
+
+    private InternalResourceResolver resolver =
+            ResourceResolverFactory.createDefaultInternalResourceResolver(new File(".").toURI());
+
+    private File cacheDir;
+
+    private FontMetricsCache cache;
+
+    @Before
+    public void setUp() throws IOException {
+        cacheDir = File.createTempFile("fop-metrics", "");
+        cacheDir.delete();
+        cache = new FontMetricsCache(cacheDir);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(cacheDir);
+    }
+
+    private CustomFont load(File file, boolean useKerning, boolean useAdvanced)
+            throws IOException {
+        return cache.loadFont(new FontUris(file.toURI(), null), "", true, EmbeddingMode.AUTO,
+                EncodingMode.AUTO, useKerning, useAdvanced, resolver);
+    }
+
+    private static int countEntries(File dir) {
+        String[] names = dir.list();
+        return names == null ? 0 : names.length;
+    }
+
+    @Test
+    public void testTrueTypeFontRestoredFromCache() throws IOException {
+        File file = new File("test/resources/fonts/ttf/DejaVuLGCSerif.ttf");
+        MultiByteFont parsed = (MultiByteFont) load(file, true, true);
+        assertEquals(1, countEntries(cacheDir));
+        MultiByteFont cached = (MultiByteFont) load(file, true, true);
+        assertNotSame(parsed, cached);
+        assertEquals(1, countEntries(cacheDir));
+
+        assertEquals(parsed.getFontName(), cached.getFontName());
+        assertEquals(parsed.getFamilyNames(), cached.getFamilyNames());
+        assertSame(parsed.getFontType(), cached.getFontType());
+        assertSame(parsed.getCIDType(), cached.getCIDType());
+        assertArrayEquals(parsed.getWidths(), cached.getWidths());
+        assertEquals(parsed.getKerningInfo(), cached.getKerningInfo());
+        assertEquals(parsed.getAscender(), cached.getAscender());
+        for (char c = 0x20; c < 0x7F; c++) {
+            assertEquals(parsed.mapChar(c), cached.mapChar(c));
+        }
+        assertEquals(parsed.performsSubstitution(), cached.performsSubstitution());
+        assertEquals(parsed.performsPositioning(), cached.performsPositioning());
+        assertNotNull(cached.getGPOS());
+
+        // the resource resolver is reattached, so the font can still be embedded
+        InputStream in = cached.getInputStream();
+        try {
+            assertEquals(file.length(), IOUtils.toByteArray(in).length);
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+    }
+
+    @Test
+    public void testOpenTypeFontRestoredFromCache() throws IOException {
+        File file = new File("test/resources/fonts/otf/SourceSansProBold.otf");
+        MultiByteFont parsed = (MultiByteFont) load(file, true, true);
+        MultiByteFont cached = (MultiByteFont) load(file, true, true);
+        assertNotSame(parsed, cached);
+        assertTrue(cached.isOTFFile());
+        assertSame(parsed.getCIDType(), cached.getCIDType());
+        assertArrayEquals(parsed.getWidths(), cached.getWidths());
+    }
+
+    @Test
+    public void testEntriesAreKeyedByLoadOptions() throws IOException {
+        File file = new File("test/resources/fonts/ttf/DejaVuLGCSerif.ttf");
+        load(file, true, true);
+        load(file, false, false);
+        assertEquals(2, countEntries(cacheDir));
+    }
+
+    @Test
+    public void testModifiedFontFileInvalidatesEntry() throws IOException {
+        File file = File.createTempFile("font", ".ttf");
+        try {
+            FileUtils.copyFile(new File("test/resources/fonts/ttf/DejaVuLGCSerif.ttf"), file);
+            CustomFont first = load(file, true, false);
+            assertTrue(file.setLastModified(file.lastModified() - 10000));
+            CustomFont second = load(file, true, false);
+            assertEquals(first.getFontName(), second.getFontName());
+            // the out-of-date entry was replaced
+            assertEquals(1, countEntries(cacheDir));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testOtherFormatVersionIsNotDeserialized() throws Exception {
+        File file = new File("test/resources/fonts/ttf/DejaVuLGCSerif.ttf");
+        load(file, true, true);
+        File entry = cacheDir.listFiles()[0];
+
+        // rewrite the entry with another format version but a matching key and font file
+        ObjectInputStream in = new ObjectInputStream(new FileInputStream(entry));
+        ObjectOutputStream out;
+        try {
+            assertEquals(FontMetricsCache.FORMAT_VERSION, in.readInt());
+            String key = in.readUTF();
+            long lastModified = in.readLong();
+            long length = in.readLong();
+            out = new ObjectOutputStream(new FileOutputStream(entry));
+            out.writeInt(FontMetricsCache.FORMAT_VERSION + 1);
+            out.writeUTF(key);
+            out.writeLong(lastModified);
+            out.writeLong(length);
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+        try {
+            out.writeObject(new DeserializationProbe());
+        } finally {
+            IOUtils.closeQuietly(out);
+        }
+
+        DeserializationProbe.deserialized = false;
+        assertNotNull(load(file, true, true));
+        assertFalse(DeserializationProbe.deserialized);
+        // the entry was replaced by one of the current version
+        in = new ObjectInputStream(new FileInputStream(entry));
+        try {
+            assertEquals(FontMetricsCache.FORMAT_VERSION, in.readInt());
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+    }
+
+    /** Records whether an instance has been deserialized. */
+    private static final class DeserializationProbe implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private static boolean deserialized;
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            deserialized = true;
+        }
+    }
+
+    @Test
+    public void testNotUsedWithCustomResolver() throws IOException {
+        ResourceResolver custom = new ResourceResolver() {
+            public Resource getResource(URI uri) throws IOException {
+                return new Resource(uri.toURL().openStream());
+            }
+
+            public OutputStream getOutputStream(URI uri) throws IOException {
+                throw new UnsupportedOperationException();
+            }
+        };
+        File file = new File("test/resources/fonts/ttf/DejaVuLGCSerif.ttf");
+        CustomFont font = cache.loadFont(new FontUris(file.toURI(), null), "", true,
+                EmbeddingMode.AUTO, EncodingMode.AUTO, true, true,
+                ResourceResolverFactory.createInternalResourceResolver(new File(".").toURI(),
+                        custom));
+        assertNotNull(font);
+        assertEquals(0, countEntries(cacheDir));
+    }
+
+    @Test
+    public void testClear() throws IOException {
+        load(new File("test/resources/fonts/ttf/DejaVuLGCSerif.ttf"), true, true);
+        cache.clear();
+        assertEquals(0, countEntries(cacheDir));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+/* $Id$ */
+
+package org.apache.fop.fonts;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.apache.commons.io.FileUtils;
+
+import org.apache.fop.apps.io.InternalResourceResolver;
+import org.apache.fop.apps.io.ResourceResolverFactory;
+import org.apache.fop.fonts.truetype.FontFileReader;
+import org.apache.fop.fonts.truetype.OFFontLoader;
+
+/**
+ * Test case for {@link FontSubsetCache}.
+ */
+public class FontSubsetCacheTestCase {
+
+    private static final String TEXT = "The quick brown fox";
+
+    private static final File FONT_FILE = new File("test/resources/fonts/ttf/DejaVuLGCSerif.ttf");
+
+    private final InternalResourceResolver resourceResolver
+            = ResourceResolverFactory.createDefaultInternalResourceResolver(new File(".").toURI());
+
+    private MultiByteFont loadFont(String text) throws IOException {
+        return loadFont(FONT_FILE.toURI(), text);
+    }
+
+    private MultiByteFont loadFont(URI fontURI, String text) throws IOException {
+        OFFontLoader fontLoader = new OFFontLoader(fontURI, null, true,
+                EmbeddingMode.SUBSET, EncodingMode.CID, false, false, resourceResolver);
+        MultiByteFont font = (MultiByteFont) fontLoader.getFont();
+        for (int i = 0; i < text.length(); i++) {
+            font.mapChar(text.charAt(i));
+        }
+        return font;
+    }
+
+    private static byte[] getTrueTypeSubset(FontSubsetCache cache, MultiByteFont font,
+            boolean allowSuperset) throws IOException {
+        FontFileReader reader = font.getFontFileReader();
+        return cache.getTrueTypeSubset(font, reader, OFFontLoader.readHeader(reader),
+                allowSuperset);
+    }
+
+    @Test
+    public void testSameGlyphsShareSubset() throws IOException {
+        FontSubsetCache cache = new FontSubsetCache();
+        byte[] subset = getTrueTypeSubset(cache, loadFont(TEXT), false);
+        assertSame(subset, getTrueTypeSubset(cache, loadFont(TEXT), false));
+        assertNotSame(subset, getTrueTypeSubset(cache, loadFont("A different text"), false));
+    }
+
+    @Test
+    public void testDisabledCache() throws IOException {
+        FontSubsetCache cache = new FontSubsetCache(0);
+        byte[] subset = getTrueTypeSubset(cache, loadFont(TEXT), false);
+        byte[] again = getTrueTypeSubset(cache, loadFont(TEXT), false);
+        assertNotSame(subset, again);
+        assertArrayEquals(subset, again);
+    }
+
+    @Test
+    public void testSuperset() throws IOException {
+        FontSubsetCache cache = new FontSubsetCache();
+        cache.setSupersetsEnabled(true);
+        byte[] subset = getTrueTypeSubset(cache, loadFont(TEXT + "!"), false);
+        assertSame(subset, getTrueTypeSubset(cache, loadFont(TEXT), true));
+        assertNotSame(subset, getTrueTypeSubset(cache, loadFont(TEXT), false));
+        // the glyphs must be mapped to the same indexes as in the cached subset
+        assertNotSame(subset, getTrueTypeSubset(cache, loadFont("!" + TEXT), true));
+        // too many glyphs the document doesn't use
+        assertNotSame(subset, getTrueTypeSubset(cache, loadFont("The"), true));
+    }
+
+    @Test
+    public void testNoSupersetByDefault() throws IOException {
+        FontSubsetCache cache = new FontSubsetCache();
+        assertFalse(cache.isSupersetsEnabled());
+        byte[] subset = getTrueTypeSubset(cache, loadFont(TEXT + "!"), false);
+        assertNotSame(subset, getTrueTypeSubset(cache, loadFont(TEXT), true));
+    }
+
+    @Test
+    public void testSizeLimit() throws IOException {
+        FontSubsetCache cache = new FontSubsetCache(1);
+        byte[] subset = getTrueTypeSubset(cache, loadFont(TEXT), false);
+        assertNotSame(subset, getTrueTypeSubset(cache, loadFont(TEXT), false));
+    }
+
+    @Test
+    public void testReplacedFontFileIsSubsettedAgain() throws IOException {
+        File fontFile = File.createTempFile("fop-subset", ".ttf");
+        try {
+            FileUtils.copyFile(FONT_FILE, fontFile);
+            FontSubsetCache cache = new FontSubsetCache();
+            byte[] subset = getTrueTypeSubset(cache, loadFont(fontFile.toURI(), TEXT), false);
+            assertSame(subset, getTrueTypeSubset(cache, loadFont(fontFile.toURI(), TEXT), false));
+            // same URI, but a different file
+            FileUtils.copyFile(FONT_FILE, fontFile);
+            fontFile.setLastModified(fontFile.lastModified() - 60000);
+            assertNotSame(subset,
+                    getTrueTypeSubset(cache, loadFont(fontFile.toURI(), TEXT), false));
+        } finally {
+            fontFile.delete();
+        }
+    }
+}
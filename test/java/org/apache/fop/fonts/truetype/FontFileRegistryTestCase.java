@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+/* $Id$ */
+
+package org.apache.fop.fonts.truetype;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.apache.commons.io.IOUtils;
+
+import org.apache.xmlgraphics.io.Resource;
+import org.apache.xmlgraphics.io.ResourceResolver;
+
+import org.apache.fop.apps.io.InternalResourceResolver;
+import org.apache.fop.apps.io.ResourceResolverFactory;
+
+/**
+ * Test case for {@link FontFileRegistry}.
+ */
+public class FontFileRegistryTestCase {
+
+    private final File fontFile = new File("test/resources/fonts/ttf/DejaVuLGCSerif.ttf");
+
+    private final InternalResourceResolver resourceResolver
+            = ResourceResolverFactory.createDefaultInternalResourceResolver(new File(".").toURI());
+
+    @After
+    public void tearDown() {
+        FontFileRegistry.clear();
+    }
+
+    @Test
+    public void testMappedFileMatchesStream() throws IOException {
+        FontFileReader mapped = FontFileRegistry.getReader(resourceResolver, fontFile.toURI());
+        InputStream in = new FileInputStream(fontFile);
+        try {
+            FontFileReader streamed = new FontFileReader(in);
+            assertEquals(streamed.getFileSize(), mapped.getFileSize());
+            assertArrayEquals(streamed.getAllBytes(), mapped.getAllBytes());
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+    }
+
+    @Test
+    public void testRelativeURI() throws IOException {
+        FontFileReader reader = FontFileRegistry.getReader(resourceResolver,
+                URI.create("test/resources/fonts/ttf/DejaVuLGCSerif.ttf"));
+        assertEquals(fontFile.length(), reader.getFileSize());
+    }
+
+    @Test
+    public void testCustomResolverIsNotBypassed() throws IOException {
+        final File otherFile = new File("test/resources/fonts/ttf/DroidSansMono.ttf");
+        ResourceResolver custom = new ResourceResolver() {
+            public Resource getResource(URI uri) throws IOException {
+                // serves another font than the one in the file the URI refers to
+                return new Resource(new FileInputStream(otherFile));
+            }
+
+            public OutputStream getOutputStream(URI uri) throws IOException {
+                throw new UnsupportedOperationException();
+            }
+        };
+        InternalResourceResolver customResolver = ResourceResolverFactory
+                .createInternalResourceResolver(new File(".").toURI(), custom);
+        FontFileReader reader = FontFileRegistry.getReader(customResolver, fontFile.toURI());
+        assertEquals(otherFile.length(), reader.getFileSize());
+    }
+
+    @Test
+    public void testReadersHaveTheirOwnPosition() throws IOException {
+        FontFileReader first = FontFileRegistry.getReader(resourceResolver, fontFile.toURI());
+        FontFileReader second = FontFileRegistry.getReader(resourceResolver, fontFile.toURI());
+        first.seekSet(4);
+        int numTables = first.readTTFUShort();
+        assertEquals(0, second.getCurrentPos());
+        second.seekSet(4);
+        assertEquals(numTables, second.readTTFUShort());
+    }
+
+    @Test
+    public void testSubsetWithCompositeGlyphs() throws IOException {
+        // the accented Latin glyphs in this range are composite glyphs
+        byte[] expected;
+        InputStream in = new FileInputStream(fontFile);
+        try {
+            expected = createSubset(new FontFileReader(in));
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+        byte[] first = createSubset(FontFileRegistry.getReader(resourceResolver, fontFile.toURI()));
+        assertArrayEquals(expected, first);
+        // the indices of composed glyphs must not have been re-mapped in the shared mapping
+        byte[] second = createSubset(FontFileRegistry.getReader(resourceResolver, fontFile.toURI()));
+        assertArrayEquals(expected, second);
+        in = new FileInputStream(fontFile);
+        try {
+            assertArrayEquals(IOUtils.toByteArray(in), FontFileRegistry.getReader(resourceResolver,
+                    fontFile.toURI()).getAllBytes());
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+    }
+
+    private byte[] createSubset(FontFileReader reader) throws IOException {
+        Map<Integer, Integer> glyphs = new HashMap<Integer, Integer>();
+        for (int i = 0; i < 400; i++) {
+            glyphs.put(i, i);
+        }
+        TTFSubSetFile subset = new TTFSubSetFile();
+        subset.readFont(reader, null, OFFontLoader.readHeader(reader), glyphs);
+        return subset.getFontSubset();
+    }
+}
@@ -20,6 +20,7 @@
 package org.apache.fop.fonts.truetype;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
@@ -27,8 +28,13 @@ import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import org.apache.xmlgraphics.ps.PSGenerator;
+
+import org.apache.fop.render.ps.fonts.PSTTFOutputStream;
+
 /**
  * This class tests TTFSubSetFile
  * TODO: Test with more than just a single font
@@ -76,4 +82,24 @@ public class TTFSubSetFileTestCase extends TTFFileTestCase {
         assertEquals(dejavuTTFFile.convertTTFUnit2PDFUnit(-1576), dejavuTTFFile.getFontBBox()[0]);
         assertEquals(dejavuTTFFile.getFullName(), "DejaVu LGC Serif");
     }
+
+    /**
+     * Test readSubset(byte[]) - a subset read back from its bytes must stream exactly like the
+     * subset it was created from.
+     * @throws IOException exception
+     */
+    @Test
+    public void testReadSubset() throws IOException {
+        TTFSubSetFile reread = new TTFSubSetFile();
+        reread.readSubset(subset);
+        assertArrayEquals(stream(ttfSubset), stream(reread));
+    }
+
+    private static byte[] stream(TTFSubSetFile ttfFile) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PSGenerator gen = new PSGenerator(out);
+        ttfFile.stream(new PSTTFOutputStream(gen));
+        gen.flush();
+        return out.toByteArray();
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.hyphenation;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.fop.apps.FopFactory;
+
+/**
+ * Tests for {@link HyphenationTreeCache}.
+ */
+public class HyphenationTreeCacheTestCase {
+
+    @Test
+    public void testConcurrentLoadsReadTreeOnce() throws Exception {
+        final HyphenationTreeCache cache = new HyphenationTreeCache();
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final Callable<HyphenationPatterns> loader = new Callable<HyphenationPatterns>() {
+            public HyphenationPatterns call() throws Exception {
+                loads.incrementAndGet();
+                Thread.sleep(50);
+                return new HyphenationTree();
+            }
+        };
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<HyphenationPatterns>> lookups = Collections.nCopies(threads,
+                    (Callable<HyphenationPatterns>) new Callable<HyphenationPatterns>() {
+                        public HyphenationPatterns call() throws Exception {
+                            start.await();
+                            return cache.getHyphenationTree("de", loader);
+                        }
+                    });
+            List<Future<HyphenationPatterns>> results
+                    = new java.util.ArrayList<Future<HyphenationPatterns>>();
+            for (Callable<HyphenationPatterns> lookup : lookups) {
+                results.add(executor.submit(lookup));
+            }
+            start.countDown();
+            HyphenationPatterns hTree = results.get(0).get();
+            assertNotNull(hTree);
+            for (Future<HyphenationPatterns> result : results) {
+                assertSame(hTree, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, loads.get());
+        assertNotNull(cache.getHyphenationTree("de"));
+        assertNotNull(cache.getHyphenationTree("de", "CH"));
+    }
+
+    @Test
+    public void testUnavailableTreeIsNotCached() {
+        HyphenationTreeCache cache = new HyphenationTreeCache();
+        Callable<HyphenationPatterns> loader = new Callable<HyphenationPatterns>() {
+            public HyphenationPatterns call() {
+                return null;
+            }
+        };
+        assertNull(cache.getHyphenationTree("xx", loader));
+        assertNull(cache.getHyphenationTree("xx"));
+        assertFalse(cache.isMissing("xx"));
+        cache.noteMissing("xx");
+        assertTrue(cache.isMissing("xx"));
+    }
+
+    @Test
+    public void testCacheKeyIncludesUserPatterns() {
+        assertEquals("en_US", HyphenationTreeCache.constructCacheKey("en", "US", null));
+        assertEquals("en", HyphenationTreeCache.constructCacheKey("en", "none",
+                Collections.singletonMap("de", "german")));
+        assertEquals("en_US|us-patterns", HyphenationTreeCache.constructCacheKey("en", "US",
+                Collections.singletonMap("en-US", "us-patterns")));
+    }
+
+    @Test
+    public void testPreloadHyphenationPatterns() throws IOException {
+        File dir = File.createTempFile("fop-hyph", "");
+        dir.delete();
+        dir.mkdir();
+        File patterns = new File(dir, "qq.xml");
+        try {
+            OutputStream out = new FileOutputStream(patterns);
+            try {
+                out.write(("<hyphenation-info><hyphen-min before=\"1\" after=\"1\"/>"
+                        + "<classes>aA bB</classes><patterns>a1b</patterns></hyphenation-info>")
+                        .getBytes("US-ASCII"));
+            } finally {
+                out.close();
+            }
+            FopFactory fopFactory = FopFactory.newInstance(dir.toURI());
+            assertEquals(2, fopFactory.preloadHyphenationPatterns("qq", "qq-QQ", "qz"));
+            HyphenationTreeCache cache = Hyphenator.getHyphenationTreeCache();
+            HyphenationPatterns hTree = cache.getHyphenationTree("qq");
+            assertNotNull(hTree);
+            assertSame(hTree, cache.getHyphenationTree("qq", "QQ"));
+            assertTrue(cache.isMissing("qz"));
+            assertSame(hTree, Hyphenator.getHyphenationTree("qq", null, null, null));
+        } finally {
+            patterns.delete();
+            dir.delete();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.hyphenation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.xml.sax.InputSource;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.fop.apps.io.ResourceResolverFactory;
+
+/**
+ * Tests that {@link MappedHyphenationTree} hyphenates exactly like the
+ * {@link HyphenationTree} it was written from.
+ */
+public class MappedHyphenationTreeTestCase {
+
+    private static final String PATTERNS = "<hyphenation-info>"
+            + "<hyphen-min before=\"2\" after=\"2\"/>"
+            + "<classes>aA bB cC dD eE fF gG hH iI jJ kK lL mM nN oO pP qQ rR sS tT uU vV wW"
+            + " xX yY zZ</classes>"
+            + "<exceptions>ta-ble hy<hyphen pre=\"k\" no=\"c\"/>phen</exceptions>"
+            + "<patterns>a1b .ab3c 2bc1 c5d 8e9f ba1 1na n2ta 1ti 2tion .re1 1ing"
+            + " ab1le 1ple 3men men3t o1p y1ph 1ca er1 1la 7st 1sta 4sk 1ty</patterns>"
+            + "</hyphenation-info>";
+
+    private static final String[] WORDS = {"abcdef", "reabcde", "banana", "nation", "rating",
+        "table", "capable", "complement", "typhoon", "Statement", "caterpillar",
+        "BANANAS", "don't-stop", "abc", "xy", "masking", "mentality", "papaya", "hyphen",
+        "ape-like", "a", "stable"};
+
+    private HyphenationTree tree;
+
+    private byte[] compact;
+
+    @Before
+    public void setUp() throws Exception {
+        tree = new HyphenationTree();
+        tree.loadPatterns(new InputSource(new StringReader(PATTERNS)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MappedHyphenationTree.write(tree, out);
+        compact = out.toByteArray();
+    }
+
+    private static void assertSameHyphenation(HyphenationPatterns expected,
+            HyphenationPatterns actual) {
+        for (String word : WORDS) {
+            for (int min = 1; min <= 3; min++) {
+                Hyphenation exp = expected.hyphenate(word, min, min);
+                Hyphenation act = actual.hyphenate(word, min, min);
+                if (exp == null) {
+                    assertNull(word, act);
+                } else {
+                    assertEquals(word, exp.toString(), act.toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testBuffer() throws IOException {
+        MappedHyphenationTree mapped = new MappedHyphenationTree(ByteBuffer.wrap(compact));
+        assertSameHyphenation(tree, mapped);
+        assertEquals(tree.size(), mapped.size());
+        for (String pattern : new String[] {"ab", ".abc", "efg", "sta", "nta", "xyz"}) {
+            assertEquals(pattern, tree.findPattern(pattern), mapped.findPattern(pattern));
+        }
+        assertEquals("ta-ble", mapped.hyphenate("table", 1, 1).toString());
+    }
+
+    @Test
+    public void testMappedFileAndStream() throws IOException {
+        File file = File.createTempFile("fop-hyph", ".hyp");
+        try {
+            OutputStream out = new FileOutputStream(file);
+            try {
+                out.write(compact);
+            } finally {
+                out.close();
+            }
+            assertSameHyphenation(tree, MappedHyphenationTree.map(file));
+        } finally {
+            file.delete();
+        }
+        assertSameHyphenation(tree, MappedHyphenationTree.load(new ByteArrayInputStream(compact)));
+    }
+
+    @Test
+    public void testHyphenatorReadsBothFormats() throws IOException {
+        File dir = File.createTempFile("fop-hyph", "");
+        dir.delete();
+        dir.mkdir();
+        File xml = new File(dir, "test.xml");
+        File hyp = new File(dir, "test.hyp");
+        try {
+            OutputStream out = new FileOutputStream(xml);
+            try {
+                out.write(PATTERNS.getBytes("UTF-8"));
+            } finally {
+                out.close();
+            }
+            SerializeHyphPattern serializer = new SerializeHyphPattern();
+            serializer.setCompactFormat(true);
+            serializer.serializeDir(dir, dir);
+            HyphenationPatterns loaded = Hyphenator.getUserHyphenationTree("test",
+                    ResourceResolverFactory.createDefaultInternalResourceResolver(dir.toURI()));
+            assertTrue(loaded instanceof MappedHyphenationTree);
+            assertSameHyphenation(tree, loaded);
+
+            hyp.delete();
+            serializer.setCompactFormat(false);
+            serializer.serializeDir(dir, dir);
+            loaded = Hyphenator.getUserHyphenationTree("test",
+                    ResourceResolverFactory.createDefaultInternalResourceResolver(dir.toURI()));
+            assertTrue(loaded instanceof HyphenationTree);
+            assertSameHyphenation(tree, loaded);
+        } finally {
+            xml.delete();
+            hyp.delete();
+            dir.delete();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidData() throws IOException {
+        new MappedHyphenationTree(ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}));
+    }
+}
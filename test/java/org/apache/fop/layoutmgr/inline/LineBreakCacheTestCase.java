@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.layoutmgr.inline;
+
+import java.io.File;
+import java.io.StringReader;
+import java.util.List;
+
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.stream.StreamSource;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.commons.io.output.NullOutputStream;
+
+import org.apache.fop.apps.Fop;
+import org.apache.fop.apps.FopFactory;
+import org.apache.fop.apps.MimeConstants;
+import org.apache.fop.fo.Constants;
+import org.apache.fop.layoutmgr.ElementListObserver;
+import org.apache.fop.layoutmgr.inline.LineLayoutManager.LineBreakingKey;
+import org.apache.fop.layoutmgr.inline.LineLayoutManager.Paragraph;
+
+/**
+ * Tests the reuse of the line breaks found for a paragraph.
+ */
+public class LineBreakCacheTestCase {
+
+    private static final int IPD = 300000;
+
+    @Test
+    public void testHitOnSameConditions() {
+        Paragraph par = createParagraph();
+        LineLayoutPossibilities llPoss = new LineLayoutPossibilities();
+        par.addLineBreaks(createKey(IPD, Constants.EN_JUSTIFY), llPoss);
+        LineBreakingKey key = createKey(IPD, Constants.EN_JUSTIFY);
+        assertEquals(createKey(IPD, Constants.EN_JUSTIFY).hashCode(), key.hashCode());
+        assertSame(llPoss, par.getLineBreaks(key));
+    }
+
+    @Test
+    public void testMissOnChangedIPD() {
+        Paragraph par = createParagraph();
+        par.addLineBreaks(createKey(IPD, Constants.EN_JUSTIFY), new LineLayoutPossibilities());
+        assertNull(par.getLineBreaks(createKey(IPD + 1000, Constants.EN_JUSTIFY)));
+    }
+
+    @Test
+    public void testMissOnChangedAlignment() {
+        Paragraph par = createParagraph();
+        par.addLineBreaks(createKey(IPD, Constants.EN_JUSTIFY), new LineLayoutPossibilities());
+        assertNull(par.getLineBreaks(createKey(IPD, Constants.EN_START)));
+    }
+
+    @Test
+    public void testMissOnOtherConditions() {
+        LineBreakingKey key = createKey(IPD, Constants.EN_START);
+        assertFalse(key.equals(new LineBreakingKey(IPD, Constants.EN_START, 1, true, true, 10)));
+        assertFalse(key.equals(new LineBreakingKey(IPD, Constants.EN_START, 0, false, true, 10)));
+        assertFalse(key.equals(new LineBreakingKey(IPD, Constants.EN_START, 0, true, false, 10)));
+        assertFalse(key.equals(new LineBreakingKey(IPD, Constants.EN_START, 0, true, true, 11)));
+    }
+
+    @Test
+    public void testMissAfterClear() {
+        Paragraph par = createParagraph();
+        par.addLineBreaks(createKey(IPD, Constants.EN_START), new LineLayoutPossibilities());
+        par.clearLineBreaks();
+        assertNull(par.getLineBreaks(createKey(IPD, Constants.EN_START)));
+    }
+
+    /**
+     * Checks that the line breaks are reused when the layout is restarted after a change of
+     * IPD, and only then.
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testReuseOnLayoutRestart() throws Exception {
+        assertTrue(countReusedLineBreaks(createDocument("400pt", "600pt")) > 0);
+        assertEquals(0, countReusedLineBreaks(createDocument("400pt", "400pt")));
+    }
+
+    private static Paragraph createParagraph() {
+        return new Paragraph(null, Constants.EN_START, Constants.EN_START, 0, 0);
+    }
+
+    private static LineBreakingKey createKey(int ipd, int alignment) {
+        return new LineBreakingKey(ipd, alignment, 0, true, true, 10);
+    }
+
+    private int countReusedLineBreaks(String fo) throws Exception {
+        final int[] count = new int[1];
+        ElementListObserver.Observer observer = new ElementListObserver.Observer() {
+            public void observe(List elementList, String category, String id) {
+                if ("line-reused".equals(category)) {
+                    count[0]++;
+                }
+            }
+        };
+        ElementListObserver.addObserver(observer);
+        try {
+            FopFactory fopFactory = FopFactory.newInstance(new File(".").toURI());
+            Fop fop = fopFactory.newFop(MimeConstants.MIME_FOP_AREA_TREE,
+                    fopFactory.newFOUserAgent(), new NullOutputStream());
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            Source src = new StreamSource(new StringReader(fo));
+            Result res = new SAXResult(fop.getDefaultHandler());
+            transformer.transform(src, res);
+        } finally {
+            ElementListObserver.removeObserver(observer);
+        }
+        return count[0];
+    }
+
+    private static String createDocument(String firstPageWidth, String otherPageWidth) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<fo:root xmlns:fo=\"http://www.w3.org/1999/XSL/Format\">"
+                + "<fo:layout-master-set>"
+                + "<fo:simple-page-master master-name=\"first\" page-height=\"200pt\""
+                + " page-width=\"" + firstPageWidth + "\" margin=\"50pt\"><fo:region-body/>"
+                + "</fo:simple-page-master>"
+                + "<fo:simple-page-master master-name=\"other\" page-height=\"200pt\""
+                + " page-width=\"" + otherPageWidth + "\" margin=\"50pt\"><fo:region-body/>"
+                + "</fo:simple-page-master>"
+                + "<fo:page-sequence-master master-name=\"pages\">"
+                + "<fo:single-page-master-reference master-reference=\"first\"/>"
+                + "<fo:repeatable-page-master-reference master-reference=\"other\"/>"
+                + "</fo:page-sequence-master></fo:layout-master-set>"
+                + "<fo:page-sequence master-reference=\"pages\">"
+                + "<fo:flow flow-name=\"xsl-region-body\">");
+        sb.append("<fo:block widows=\"1\" orphans=\"1\"><fo:list-block>");
+        for (int i = 0; i < 5; i++) {
+            sb.append("<fo:list-item><fo:list-item-label end-indent=\"label-end()\">"
+                    + "<fo:block>(a)</fo:block></fo:list-item-label>"
+                    + "<fo:list-item-body start-indent=\"body-start()\"><fo:block>"
+                    + "In olden times when wishing still helped one, there lived a king whose"
+                    + " daughters were all beautiful, but the youngest was so beautiful that the"
+                    + " sun itself, which has seen so much, was astonished whenever it shone in"
+                    + " her face.</fo:block></fo:list-item-body></fo:list-item>");
+        }
+        sb.append("</fo:list-block></fo:block>");
+        sb.append("</fo:flow></fo:page-sequence></fo:root>");
+        return sb.toString();
+    }
+}
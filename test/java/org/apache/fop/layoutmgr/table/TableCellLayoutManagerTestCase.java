@@ -23,12 +23,14 @@ import java.awt.Color;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.apache.fop.fo.flow.table.PrimaryGridUnit;
 import org.apache.fop.fo.flow.table.Table;
+import org.apache.fop.fo.flow.table.TableBody;
 import org.apache.fop.fo.flow.table.TableCell;
 import org.apache.fop.fo.flow.table.TableColumn;
 import org.apache.fop.fo.flow.table.TableHeader;
@@ -36,6 +38,8 @@ import org.apache.fop.fo.flow.table.TableRow;
 import org.apache.fop.fo.properties.CommonBorderPaddingBackground;
 import org.apache.fop.fo.properties.CommonBorderPaddingBackground.BorderInfo;
 import org.apache.fop.fo.properties.CondLengthProperty;
+import org.apache.fop.layoutmgr.BlockLayoutManager;
+import org.apache.fop.layoutmgr.FlowLayoutManager;
 import org.apache.fop.layoutmgr.LayoutContext;
 import org.apache.fop.layoutmgr.PageSequenceLayoutManager;
 import org.apache.fop.layoutmgr.PositionIterator;
@@ -113,4 +117,53 @@ public class TableCellLayoutManagerTestCase {
         // check the TCLM was not added again
         verify(tlm).saveTableHeaderTableCellLayoutManagers(tclm);
     }
+
+    // this test checks that the content of a body cell is released once the areas for its last
+    // part have been added
+    @Test
+    public void testReleaseAfterLastPart() {
+        LayoutContext lc = LayoutContext.newInstance();
+        CommonBorderPaddingBackground cbpb = mock(CommonBorderPaddingBackground.class);
+        CondLengthProperty clp = mock(CondLengthProperty.class);
+        when(clp.getLengthValue()).thenReturn(0);
+        BorderInfo bi = BorderInfo.getInstance(0, clp, Color.BLACK, clp, clp);
+        TableColumn tcol = mock(TableColumn.class);
+        when(tcol.getCommonBorderPaddingBackground()).thenReturn(cbpb);
+        Table t = mock(Table.class);
+        when(t.getColumn(0)).thenReturn(tcol);
+        TableBody tb = mock(TableBody.class);
+        when(tb.getCommonBorderPaddingBackground()).thenReturn(cbpb);
+        TableRow tr = mock(TableRow.class);
+        when(tr.getParent()).thenReturn(tb);
+        TableCell tc = mock(TableCell.class);
+        when(tc.getTable()).thenReturn(t);
+        when(tc.getId()).thenReturn("cellId");
+        when(tc.getCommonBorderPaddingBackground()).thenReturn(cbpb);
+        when(tc.getParent()).thenReturn(tr);
+        PrimaryGridUnit pgu = mock(PrimaryGridUnit.class);
+        when(pgu.getCell()).thenReturn(tc);
+        when(pgu.getColIndex()).thenReturn(0);
+        when(pgu.getBorderBefore(0)).thenReturn(bi);
+        when(pgu.getBorderAfter(0)).thenReturn(bi);
+        when(pgu.getBorderEnd()).thenReturn(bi);
+        when(pgu.getBorderStart()).thenReturn(bi);
+        when(pgu.getTablePart()).thenReturn(tb);
+        PageSequenceLayoutManager pslm = mock(PageSequenceLayoutManager.class);
+        FlowLayoutManager flm = mock(FlowLayoutManager.class);
+        TableLayoutManager tlm = mock(TableLayoutManager.class);
+        when(tlm.getPSLM()).thenReturn(pslm);
+        when(tlm.getParent()).thenReturn(flm);
+        PositionIterator pi = mock(PositionIterator.class);
+        RowPainter rp = mock(RowPainter.class);
+
+        TableCellLayoutManager tclm = new TableCellLayoutManager(tc, pgu);
+        tclm.addChildLM(mock(BlockLayoutManager.class));
+        tclm.setParent(tlm);
+        tclm.setLastTrait(true);
+        int[] n = {};
+        tclm.addAreas(pi, lc, n, 0, 0, 0, 0, true, true, rp, 0);
+        assertTrue(tclm.getChildLMs().isEmpty());
+        verify(pgu).setElements(null);
+        verify(tc).clearChildNodes();
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.pdf;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests {@link ObjectOffsetList}.
+ */
+public class ObjectOffsetListTestCase {
+
+    @Test
+    public void offsetsAreStoredByObjectNumber() {
+        ObjectOffsetList offsets = new ObjectOffsetList();
+        offsets.setOffset(1, 15);
+        offsets.setOffset(2, 120);
+        assertEquals(2, offsets.size());
+        assertEquals(Long.valueOf(15), offsets.get(0));
+        assertEquals(Long.valueOf(120), offsets.get(1));
+    }
+
+    @Test
+    public void gapsAreNull() {
+        ObjectOffsetList offsets = new ObjectOffsetList();
+        offsets.setOffset(1, 15);
+        offsets.setOffset(4, 400);
+        assertEquals(4, offsets.size());
+        assertNull(offsets.get(1));
+        assertNull(offsets.get(2));
+        offsets.setOffset(3, 300);
+        assertEquals(Long.valueOf(300), offsets.get(2));
+        assertEquals(4, offsets.size());
+    }
+
+    @Test
+    public void listGrowsBeyondInitialCapacity() {
+        ObjectOffsetList offsets = new ObjectOffsetList();
+        int count = 100000;
+        for (int i = 1; i <= count; i++) {
+            offsets.setOffset(i, i * 10L);
+        }
+        assertEquals(count, offsets.size());
+        assertEquals(Long.valueOf(count * 10L), offsets.get(count - 1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfRange() {
+        new ObjectOffsetList().get(0);
+    }
+}
@@ -21,10 +21,15 @@ package org.apache.fop.pdf;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Test case for {@link PDFDocument}
@@ -59,4 +64,201 @@ public class PDFDocumentTestCase {
         PDFDocument.flushTextBuffer(textBuffer, out);
         assertEquals(fullString, out.toString());
     }
+
+    @Test
+    public void streamingModeReleasesFinishedPages() {
+        PDFDocument doc = new PDFDocument("test");
+        doc.setStreamingEnabled(true);
+        PDFResources resources = doc.getResources();
+        PDFPage page = doc.getFactory().makePage(resources, 0, 0, 0);
+        PDFGState gstate = new PDFGState();
+        doc.registerObject(gstate);
+        page.addGState(gstate);
+        assertTrue(resources.contexts.contains(page));
+
+        doc.notifyPageFinished(page);
+        assertFalse(resources.contexts.contains(page));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            resources.output(out);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        assertTrue(out.toString().contains("/ExtGState"));
+    }
+
+    @Test
+    public void pagesAreKeptWithoutStreamingMode() {
+        PDFDocument doc = new PDFDocument("test");
+        PDFResources resources = doc.getResources();
+        PDFPage page = doc.getFactory().makePage(resources, 0, 0, 0);
+        doc.notifyPageFinished(page);
+        assertTrue(resources.contexts.contains(page));
+    }
+
+    @Test
+    public void streamsEncodedInParallelKeepOffsetsCorrect() throws IOException {
+        PDFDocument doc = new PDFDocument("test");
+        doc.setStreamEncodingThreads(4);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        doc.outputHeader(out);
+        for (int i = 0; i < 50; i++) {
+            PDFStream stream = doc.getFactory().makeStream(PDFFilterList.CONTENT_FILTER, true);
+            for (int j = 0; j <= i; j++) {
+                stream.add("0 0 m " + j + " " + i + " l S\n");
+            }
+        }
+        doc.output(out);
+        doc.outputTrailer(out);
+
+        String pdf = new String(out.toByteArray(), "ISO-8859-1");
+        int xref = pdf.lastIndexOf("\nxref\n");
+        String[] lines = pdf.substring(xref + 1).split("\n");
+        int objectCount = Integer.parseInt(lines[1].split(" ")[1]);
+        for (int objnum = 1; objnum < objectCount; objnum++) {
+            String entry = lines[2 + objnum];
+            if (entry.endsWith("n")) {
+                int offset = Integer.parseInt(entry.substring(0, 10));
+                assertTrue(pdf.startsWith(objnum + " 0 obj", offset));
+            }
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void outputDoesNotWaitForUnfinishedEncoding() throws Exception {
+        PDFDocument doc = new PDFDocument("test");
+        doc.setStreamEncodingThreads(2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        doc.outputHeader(out);
+        final CountDownLatch encodingAllowed = new CountDownLatch(1);
+        PDFStream slow = new PDFStream() {
+            @Override
+            void encodeAhead() throws IOException {
+                try {
+                    encodingAllowed.await();
+                } catch (InterruptedException ie) {
+                    throw new IOException(ie.getMessage());
+                }
+                super.encodeAhead();
+            }
+        };
+        slow.setDocument(doc);
+        doc.registerObject(slow);
+        slow.add("0 0 m 10 10 l S\n");
+        String slowObject = slow.getObjectNumber() + " 0 obj";
+        doc.output(out);
+        assertFalse(new String(out.toByteArray(), "ISO-8859-1").contains(slowObject));
+
+        encodingAllowed.countDown();
+        doc.outputTrailer(out);
+        String pdf = new String(out.toByteArray(), "ISO-8859-1");
+        assertTrue(pdf.contains(slowObject));
+    }
+
+    @Test
+    public void streamEncodingThreadsReleasedWhenOutputFails() throws Exception {
+        PDFDocument doc = new PDFDocument("test");
+        doc.setStreamEncodingThreads(2);
+        for (int i = 0; i < 10; i++) {
+            PDFStream stream = doc.getFactory().makeStream(PDFFilterList.CONTENT_FILTER, true);
+            stream.add("0 0 m " + i + " 0 l S\n");
+        }
+        OutputStream failing = new OutputStream() {
+            public void write(int b) throws IOException {
+                throw new IOException("No space left on device");
+            }
+        };
+        try {
+            doc.output(failing);
+            fail("the output stream fails");
+        } catch (IOException ioe) {
+            //expected
+        }
+        //well before the idle threads would time out
+        long timeout = System.currentTimeMillis() + 5000;
+        while (hasStreamEncodingThreads() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertFalse(hasStreamEncodingThreads());
+    }
+
+    private static boolean hasStreamEncodingThreads() {
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("PDF stream encoder")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void objectStreamsHoldAllObjectsButStreams() throws IOException {
+        PDFDocument doc = new PDFDocument("test");
+        doc.setObjectStreamsEnabled(true);
+        assertTrue(doc.isObjectStreamsEnabled());
+        assertEquals(Version.V1_5, doc.getPDFVersion());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        doc.outputHeader(out);
+        PDFDictionary first = null;
+        for (int i = 0; i < 250; i++) {
+            PDFDictionary dict = new PDFDictionary();
+            dict.put("Index", i);
+            doc.registerObject(dict);
+            if (first == null) {
+                first = dict;
+            }
+        }
+        PDFStream stream = doc.getFactory().makeStream(PDFFilterList.CONTENT_FILTER, true);
+        stream.add("0 0 m 10 10 l S\n");
+        doc.output(out);
+        doc.outputTrailer(out);
+
+        String pdf = new String(out.toByteArray(), "ISO-8859-1");
+        assertFalse(pdf.contains("\n" + first.getObjectNumber() + " 0 obj"));
+        assertFalse(pdf.contains("\n" + doc.getRoot().getObjectNumber() + " 0 obj"));
+        assertTrue(pdf.contains("\n" + stream.getObjectNumber() + " 0 obj"));
+        assertTrue(pdf.contains("/Type /ObjStm"));
+        assertTrue(pdf.contains("/Type /XRef"));
+        assertFalse(pdf.contains("\nxref\n"));
+    }
+
+    @Test
+    public void objectStreamsNeedVersionChange() {
+        PDFDocument doc = new PDFDocument("test",
+                VersionController.getFixedVersionController(Version.V1_4));
+        doc.setObjectStreamsEnabled(true);
+        assertFalse(doc.isObjectStreamsEnabled());
+    }
+
+    @Test
+    public void objectStreamsAreIgnoredWithPDFA1() throws IOException {
+        PDFDocument doc = new PDFDocument("test");
+        doc.getProfile().setPDFAMode(PDFAMode.PDFA_1B);
+        doc.setObjectStreamsEnabled(true);
+        assertFalse(doc.isObjectStreamsEnabled());
+        assertEquals(Version.V1_4, doc.getPDFVersion());
+        //The version check at the trailer passes
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        doc.outputHeader(out);
+        doc.output(out);
+        doc.outputTrailer(out);
+    }
+
+    @Test
+    public void objectStreamsAreIgnoredWithPDFX() {
+        PDFDocument doc = new PDFDocument("test");
+        doc.getProfile().setPDFXMode(PDFXMode.PDFX_3_2003);
+        doc.setObjectStreamsEnabled(true);
+        assertFalse(doc.isObjectStreamsEnabled());
+        assertEquals(Version.V1_4, doc.getPDFVersion());
+    }
+
+    @Test
+    public void objectStreamsAreUsedWithPDFA2() {
+        PDFDocument doc = new PDFDocument("test");
+        doc.getProfile().setPDFAMode(PDFAMode.PDFA_2B);
+        doc.setObjectStreamsEnabled(true);
+        assertTrue(doc.isObjectStreamsEnabled());
+    }
 }
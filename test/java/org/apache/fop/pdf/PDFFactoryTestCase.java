@@ -19,12 +19,17 @@
 
 package org.apache.fop.pdf;
 
+import java.awt.geom.Rectangle2D;
 import java.io.File;
 import java.net.URI;
+import java.util.Collections;
 
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.apache.xmlgraphics.io.ResourceResolver;
 
@@ -75,4 +80,66 @@ public class PDFFactoryTestCase {
         PDFFont pdfArial = pdfFactory.makeFont("Arial", "Arial", "TTF", font, font);
         assertEquals("/EAAAAB+Arial", pdfArial.getBaseFont().toString());
     }
+
+    /**
+     * Tests that looking up a link compares it with a bounded number of registered links, no
+     * matter how many links the document already holds.
+     */
+    @Test
+    public void testLinkLookupScales() {
+        PDFDocument doc = new PDFDocument("Test");
+        PDFFactory pdfFactory = new PDFFactory(doc);
+        final int[] comparisons = new int[1];
+        final int linkCount = 100000;
+        for (int i = 0; i < linkCount; i++) {
+            PDFLink link = new PDFLink(new Rectangle2D.Float(10, i, 100, 12)) {
+                @Override
+                protected boolean contentEquals(PDFObject obj) {
+                    comparisons[0]++;
+                    return super.contentEquals(obj);
+                }
+            };
+            link.setAction(new PDFInternalLink("1 0 R /XYZ 0 " + i + " null"));
+            assertTrue(doc.findLink(link) == null);
+            doc.registerObject(link);
+        }
+        assertTrue("comparisons: " + comparisons[0], comparisons[0] < linkCount / 10);
+
+        PDFLink first = pdfFactory.makeLink(new Rectangle2D.Float(0, 0, 50, 10),
+                "http://xmlgraphics.apache.org/fop/", PDFLink.EXTERNAL, 0);
+        PDFLink second = pdfFactory.makeLink(new Rectangle2D.Float(0, 0, 50, 10),
+                "http://xmlgraphics.apache.org/fop/", PDFLink.EXTERNAL, 0);
+        assertSame(first, second);
+        PDFLink elsewhere = pdfFactory.makeLink(new Rectangle2D.Float(0, 20, 50, 10),
+                "http://xmlgraphics.apache.org/fop/", PDFLink.EXTERNAL, 0);
+        assertNotSame(first, elsewhere);
+    }
+
+    /**
+     * Tests that a GState is reused when it gives the wanted state on top of the current one.
+     */
+    @Test
+    public void testGStateReuse() {
+        PDFDocument doc = new PDFDocument("Test");
+        PDFFactory pdfFactory = new PDFFactory(doc);
+        PDFGState current = new PDFGState();
+        current.addValues(PDFGState.DEFAULT);
+        PDFGState gstate = pdfFactory.makeGState(
+                Collections.singletonMap(PDFGState.GSTATE_ALPHA_NONSTROKE, new Float(0.5f)),
+                current);
+        assertSame(gstate, pdfFactory.makeGState(
+                Collections.singletonMap(PDFGState.GSTATE_ALPHA_NONSTROKE, new Float(0.5f)),
+                current));
+        assertNotSame(gstate, pdfFactory.makeGState(
+                Collections.singletonMap(PDFGState.GSTATE_ALPHA_NONSTROKE, new Float(0.25f)),
+                current));
+
+        //the stroking alpha has to be reset as well, so the first GState doesn't fit
+        PDFGState translucent = new PDFGState();
+        translucent.addValues(PDFGState.DEFAULT);
+        translucent.setAlpha(0.5f, false);
+        assertNotSame(gstate, pdfFactory.makeGState(
+                Collections.singletonMap(PDFGState.GSTATE_ALPHA_NONSTROKE, new Float(0.5f)),
+                translucent));
+    }
 }
@@ -37,6 +37,8 @@ import org.junit.runners.Suite.SuiteClasses;
         AbstractPDFStreamTestCase.class,
         PDFDestsTestCase.class,
         PDFDocumentTestCase.class,
+        ObjectOffsetListTestCase.class,
+        SpillingStreamCacheTestCase.class,
         PDFNullTestCase.class,
         PDFNumsArrayTestCase.class,
         PDFRectangleTestCase.class,
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.pdf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link SpillingStreamCache}.
+ */
+public class SpillingStreamCacheTestCase {
+
+    @Test
+    public void smallDataStaysInMemory() throws IOException {
+        SpillingStreamCache cache = new SpillingStreamCache(16);
+        cache.write(new byte[] {1, 2, 3});
+        assertFalse(cache.isSpilled());
+        assertEquals(3, cache.getSize());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(3, cache.outputContents(out));
+        assertArrayEquals(new byte[] {1, 2, 3}, out.toByteArray());
+    }
+
+    @Test
+    public void dataIsMovedToFileAboveThreshold() throws IOException {
+        SpillingStreamCache cache = new SpillingStreamCache(16);
+        OutputStream stream = cache.getOutputStream();
+        byte[] expected = new byte[40];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (byte) i;
+            stream.write(expected[i]);
+        }
+        stream.flush();
+        assertTrue(cache.isSpilled());
+        assertEquals(40, cache.getSize());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cache.outputContents(out);
+        assertArrayEquals(expected, out.toByteArray());
+
+        cache.clear();
+        assertFalse(cache.isSpilled());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void factoryCreatesCacheForThreshold() throws IOException {
+        assertTrue(StreamCacheFactory.getInstance().createStreamCache()
+                instanceof InMemoryStreamCache);
+        assertTrue(StreamCacheFactory.getInstance(0).createStreamCache()
+                instanceof TempFileStreamCache);
+        StreamCacheFactory factory = StreamCacheFactory.getInstance(1024);
+        assertTrue(factory.createStreamCache() instanceof SpillingStreamCache);
+        assertTrue(factory.createStreamCache(4096) instanceof TempFileStreamCache);
+    }
+
+    @Test
+    public void pdfStreamUsesDocumentFactory() throws IOException {
+        PDFDocument doc = new PDFDocument("test");
+        doc.setStreamCacheFactory(StreamCacheFactory.getInstance(0));
+        PDFStream stream = doc.getFactory().makeStream(null, false);
+        stream.add("0 0 m 10 10 l S");
+        assertEquals(15, stream.getDataLength());
+        assertTrue(stream.data instanceof TempFileStreamCache);
+    }
+}
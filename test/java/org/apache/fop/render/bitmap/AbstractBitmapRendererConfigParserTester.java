@@ -122,4 +122,13 @@ public class AbstractBitmapRendererConfigParserTester
         parseConfig(createRenderer());
         assertEquals(BufferedImage.TYPE_INT_ARGB, (int) conf.getColorMode());
     }
+
+    @Test
+    public void testRenderingThreads() throws Exception {
+        parseConfig(createRenderer().setRenderingThreads(4));
+        assertEquals(4, (int) conf.getRenderingThreads());
+
+        parseConfig(createRenderer());
+        assertEquals(1, (int) conf.getRenderingThreads());
+    }
 }
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.render.bitmap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.stream.StreamSource;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.fop.apps.FOUserAgent;
+import org.apache.fop.apps.Fop;
+import org.apache.fop.apps.FopConfBuilder;
+import org.apache.fop.apps.FopConfParser;
+import org.apache.fop.apps.FopFactory;
+import org.apache.fop.apps.MimeConstants;
+import org.apache.fop.apps.TIFFRendererConfBuilder;
+import org.apache.fop.apps.io.InternalResourceResolver;
+import org.apache.fop.apps.io.ResourceResolverFactory;
+import org.apache.fop.fonts.CIDSet;
+import org.apache.fop.fonts.EmbeddingMode;
+import org.apache.fop.fonts.EncodingMode;
+import org.apache.fop.fonts.FontLoader;
+import org.apache.fop.fonts.FontUris;
+import org.apache.fop.fonts.MultiByteFont;
+
+/**
+ * Tests painting bitmap pages on several threads sharing the same fonts.
+ */
+public class MultiThreadedBitmapRenderingTestCase {
+
+    private static final String FONT_FILE = "test/resources/fonts/ttf/DejaVuLGCSerif.ttf";
+
+    private static final int THREADS = 4;
+
+    /**
+     * Maps the same characters on a shared font from several threads and checks that every
+     * character ends up with a single, consistent subset index.
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testConcurrentCharacterMapping() throws Exception {
+        InternalResourceResolver resolver = ResourceResolverFactory
+                .createDefaultInternalResourceResolver(new File(".").toURI());
+        final MultiByteFont font = (MultiByteFont) FontLoader.loadFont(
+                new FontUris(new File(FONT_FILE).toURI(), null), "", true,
+                EmbeddingMode.SUBSET, EncodingMode.CID, false, false, resolver);
+        final String chars = getTestCharacters();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<char[]>> results = new ArrayList<Future<char[]>>();
+            for (int t = 0; t < THREADS; t++) {
+                final int offset = t * chars.length() / THREADS;
+                results.add(executor.submit(new Callable<char[]>() {
+                    public char[] call() {
+                        //Each thread starts at a different character so the mappings race
+                        char[] mapped = new char[chars.length()];
+                        for (int i = 0; i < chars.length(); i++) {
+                            int index = (offset + i) % chars.length();
+                            mapped[index] = font.mapChar(chars.charAt(index));
+                        }
+                        return mapped;
+                    }
+                }));
+            }
+            char[] expected = results.get(0).get();
+            for (Future<char[]> result : results) {
+                assertArrayEquals(expected, result.get());
+            }
+            CIDSet cidSet = font.getCIDSet();
+            Set<Integer> selectors = new HashSet<Integer>();
+            for (int i = 0; i < expected.length; i++) {
+                selectors.add((int) expected[i]);
+                assertEquals(chars.charAt(i), cidSet.getUnicode(expected[i]));
+            }
+            assertEquals(chars.length(), selectors.size());
+            assertEquals(chars.length() + 1, cidSet.getNumberOfGlyphs());
+            assertTrue(!selectors.contains(0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String getTestCharacters() {
+        StringBuilder sb = new StringBuilder();
+        for (char c = 'A'; c <= 'Z'; c++) {
+            sb.append(c).append(Character.toLowerCase(c));
+        }
+        for (char c = 'À'; c <= 'ÿ'; c++) {
+            if (c != '×' && c != '÷') {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Renders a multi-page document with an embedded font on one and on several threads, and
+     * checks that the output is the same.
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testMultiThreadedOutputMatchesSingleThreaded() throws Exception {
+        String fo = createDocument(20);
+        byte[] singleThreaded = render(fo, 1);
+        byte[] multiThreaded = render(fo, THREADS);
+        assertTrue(singleThreaded.length > 0);
+        assertArrayEquals(singleThreaded, multiThreaded);
+    }
+
+    private byte[] render(String fo, int threads) throws Exception {
+        InputStream conf = new FopConfBuilder()
+                .setFontBaseURI("test/resources/fonts/ttf/")
+                .startRendererConfig(TIFFRendererConfBuilder.class)
+                    .setRenderingThreads(threads)
+                    .startFontsConfig()
+                        .startFont(null, "DejaVuLGCSerif.ttf")
+                            .addTriplet("DejaVu LGC Serif", "normal", "normal")
+                        .endFont()
+                    .endFontConfig()
+                .endRendererConfig().build();
+        FopFactory fopFactory = new FopConfParser(conf, new File(".").toURI())
+                .getFopFactoryBuilder().build();
+        FOUserAgent userAgent = fopFactory.newFOUserAgent();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Fop fop = fopFactory.newFop(MimeConstants.MIME_TIFF, userAgent, out);
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        Source src = new StreamSource(new StringReader(fo));
+        Result res = new SAXResult(fop.getDefaultHandler());
+        transformer.transform(src, res);
+        return out.toByteArray();
+    }
+
+    private static String createDocument(int pageCount) {
+        List<String> words = new ArrayList<String>();
+        String chars = getTestCharacters();
+        for (int i = 0; i + 5 <= chars.length(); i += 5) {
+            words.add(chars.substring(i, i + 5));
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("<fo:root xmlns:fo=\"http://www.w3.org/1999/XSL/Format\">"
+                + "<fo:layout-master-set>"
+                + "<fo:simple-page-master master-name=\"page\" page-width=\"3in\""
+                + " page-height=\"2in\" margin=\"0.2in\"><fo:region-body/>"
+                + "</fo:simple-page-master></fo:layout-master-set>"
+                + "<fo:page-sequence master-reference=\"page\">"
+                + "<fo:flow flow-name=\"xsl-region-body\" font-family=\"DejaVu LGC Serif\">");
+        for (int p = 0; p < pageCount; p++) {
+            //Vary the text per page so the pages map their characters in a different order
+            Collections.rotate(words, 3);
+            sb.append("<fo:block break-before=\"page\">");
+            for (String word : words) {
+                sb.append(word).append(' ');
+            }
+            sb.append("</fo:block>");
+        }
+        sb.append("</fo:flow></fo:page-sequence></fo:root>");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.render.intermediate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.fop.apps.FOUserAgent;
+import org.apache.fop.apps.FopFactory;
+
+/**
+ * Tests the binary intermediate format encoding of {@link IFBinaryEncoder} and
+ * {@link IFBinaryParser}.
+ */
+public class IFBinaryEncodingTestCase {
+
+    private static final String IF_DOCUMENT
+            = "<document xmlns=\"http://xmlgraphics.apache.org/fop/intermediate\""
+            + " xmlns:nav=\"http://xmlgraphics.apache.org/fop/intermediate/document-navigation\""
+            + " version=\"2.0\">"
+            + "<page-sequence xml:lang=\"en\"><page index=\"0\" name=\"1\" width=\"595275\""
+            + " height=\"841889\"><content>"
+            + "<font family=\"Helvetica\" style=\"normal\" weight=\"400\" size=\"12000\""
+            + " color=\"#000000\"/>"
+            + "<text x=\"-72000\" y=\"2147483647\" dx=\"0 -1 333 0\">Gr\u00FC\u00DFe \u20AC</text>"
+            + "<rect x=\"007\" y=\"-0\" width=\"2147483648\" height=\"1  2\" fill=\"#ff0000\"/>"
+            + "<rect x=\"0\" y=\"0\" width=\"10\" height=\"10\" fill=\"#ff0000\"/>"
+            + "<nav:link rect=\"0 0 10 10\"><nav:goto-uri uri=\"http://xmlgraphics.apache.org\"/>"
+            + "</nav:link>"
+            + "</content></page></page-sequence></document>";
+
+    private static String identity(String xml) throws Exception {
+        StringWriter writer = new StringWriter();
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.transform(new StreamSource(new StringReader(xml)), new StreamResult(writer));
+        return writer.toString();
+    }
+
+    private static byte[] encode(String xml) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.transform(new StreamSource(new StringReader(xml)),
+                new SAXResult(new IFBinaryEncoder(out, true)));
+        return out.toByteArray();
+    }
+
+    private static String decode(byte[] binary) throws Exception {
+        StringWriter writer = new StringWriter();
+        SAXTransformerFactory tFactory = (SAXTransformerFactory)TransformerFactory.newInstance();
+        TransformerHandler handler = tFactory.newTransformerHandler();
+        handler.setResult(new StreamResult(writer));
+        new IFBinaryParser().replay(new ByteArrayInputStream(binary), handler);
+        return writer.toString();
+    }
+
+    /**
+     * Tests that a document comes out of the binary encoding exactly as it went in, including
+     * attribute values that look like numbers but aren't written the way integers are.
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testRoundTrip() throws Exception {
+        byte[] binary = encode(IF_DOCUMENT);
+        assertEquals(identity(IF_DOCUMENT), decode(binary));
+    }
+
+    /**
+     * Tests that repeated names and attribute values are written only once.
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testRepeatedContentIsInterned() throws Exception {
+        StringBuilder sb = new StringBuilder("<content>");
+        for (int i = 0; i < 1000; i++) {
+            sb.append("<rect x=\"").append(i * 1000).append("\" y=\"0\" width=\"1000\"")
+                    .append(" height=\"1000\" fill=\"#ff0000\"/>");
+        }
+        sb.append("</content>");
+        String xml = sb.toString();
+        byte[] binary = encode(xml);
+        assertEquals(identity(xml), decode(binary));
+        assertTrue("binary IF is " + binary.length + " bytes for " + xml.length()
+                + " characters of XML", binary.length * 3 < xml.length());
+    }
+
+    /**
+     * Tests that painting from the binary encoding, which passes integers on without turning
+     * them into strings, gives the same result as painting from the XML.
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testParseMatchesXML() throws Exception {
+        String xml = IF_DOCUMENT.replace("<rect x=\"007\" y=\"-0\" width=\"2147483648\""
+                + " height=\"1  2\" fill=\"#ff0000\"/>", "<text x=\"5\" y=\"6\" dx=\"7\""
+                + " letter-spacing=\"-10\">a</text>");
+        FopFactory fopFactory = FopFactory.newInstance(new File(".").toURI());
+
+        FOUserAgent userAgent = fopFactory.newFOUserAgent();
+        IFSerializer fromXML = new IFSerializer(new IFContext(userAgent));
+        StringWriter expected = new StringWriter();
+        fromXML.setResult(new StreamResult(expected));
+        new IFParser().parse(new StreamSource(new StringReader(xml)), fromXML, userAgent);
+
+        userAgent = fopFactory.newFOUserAgent();
+        IFSerializer fromBinary = new IFSerializer(new IFContext(userAgent));
+        StringWriter actual = new StringWriter();
+        fromBinary.setResult(new StreamResult(actual));
+        new IFBinaryParser().parse(new ByteArrayInputStream(encode(xml)), fromBinary, userAgent);
+
+        assertTrue(expected.toString().contains("letter-spacing=\"-10\""));
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    /**
+     * Tests the decoded attribute values handed to the IF parser.
+     */
+    @Test
+    public void testBinaryAttributes() {
+        IFBinaryAttributes atts = new IFBinaryAttributes();
+        atts.addInt("", "x", "x", "CDATA", -5);
+        atts.addIntList("", "dx", "dx", "CDATA", new int[] {1, -2, 3});
+        atts.addAttribute("", "fill", "fill", "CDATA", "#ff0000");
+        atts.addInt("", "y", "y", "CDATA", 7);
+
+        IFBinaryAttributes copy = new IFBinaryAttributes(atts);
+        assertEquals(-5, copy.getInt("x"));
+        assertEquals(Integer.valueOf(7), copy.getInteger("y"));
+        assertNull(copy.getInteger("width"));
+        assertArrayEquals(new int[] {1, -2, 3}, copy.getIntArray("dx"));
+        assertArrayEquals(new int[] {7}, copy.getIntArray("y"));
+        assertNull(copy.getIntArray("dp"));
+
+        // the string values are created on demand
+        assertEquals("-5", atts.getValue("x"));
+        assertEquals("1 -2 3", atts.getValue("", "dx"));
+        assertEquals("#ff0000", atts.getValue(2));
+        assertEquals(-5, atts.getInt("x"));
+
+        atts.setValue(0, "12");
+        assertEquals(12, atts.getInt("x"));
+        atts.removeAttribute(1);
+        assertEquals("#ff0000", atts.getValue(1));
+        assertEquals(7, atts.getInt("y"));
+        atts.clear();
+        atts.addAttribute("", "x", "x", "CDATA", "3");
+        assertEquals(3, atts.getInt("x"));
+    }
+}
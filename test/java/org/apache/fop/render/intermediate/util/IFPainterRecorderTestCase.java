@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/* $Id$ */
+
+package org.apache.fop.render.intermediate.util;
+
+import java.awt.Color;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.apache.xmlgraphics.util.QName;
+
+import org.apache.fop.apps.FopFactory;
+import org.apache.fop.render.intermediate.IFContext;
+import org.apache.fop.render.intermediate.IFPainter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class IFPainterRecorderTestCase {
+
+    private final List<String> calls = new ArrayList<String>();
+
+    private final List<Object[]> arguments = new ArrayList<Object[]>();
+
+    private final List<Object> foreignValues = new ArrayList<Object>();
+
+    private static final QName FOREIGN = new QName("http://example.com", "ex:test");
+
+    private IFPainter createPainter(final IFContext context) {
+        return (IFPainter) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[] {IFPainter.class}, new InvocationHandler() {
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        calls.add(method.getName());
+                        arguments.add(args);
+                        foreignValues.add(context.getForeignAttribute(FOREIGN));
+                        return null;
+                    }
+                });
+    }
+
+    private IFContext createContext() {
+        return new IFContext(FopFactory.newInstance(new File(".").toURI())
+                .newFOUserAgent());
+    }
+
+    @Test
+    public void testReplay() throws Exception {
+        IFContext context = createContext();
+        IFPainterRecorder recorder = new IFPainterRecorder(context);
+        Rectangle rect = new Rectangle(0, 0, 1000, 2000);
+        recorder.startGroup(new AffineTransform(), null);
+        recorder.fillRect(rect, Color.RED);
+        Map<QName, Object> foreignAttributes = Collections.<QName, Object>singletonMap(
+                FOREIGN, "value");
+        context.setForeignAttributes(foreignAttributes);
+        recorder.drawImage("test.png", rect);
+        context.resetForeignAttributes();
+        recorder.endGroup();
+        assertEquals(4, recorder.size());
+        assertEquals(0, calls.size());
+
+        IFContext replayContext = createContext();
+        recorder.replay(createPainter(replayContext), replayContext);
+        assertEquals(4, calls.size());
+        assertEquals("startGroup", calls.get(0));
+        assertEquals("fillRect", calls.get(1));
+        assertSame(rect, arguments.get(1)[0]);
+        assertEquals(Color.RED, arguments.get(1)[1]);
+        assertEquals("drawImage", calls.get(2));
+        assertEquals("test.png", arguments.get(2)[0]);
+        assertEquals("endGroup", calls.get(3));
+        assertNull(foreignValues.get(1));
+        assertEquals("value", foreignValues.get(2));
+        assertNull(foreignValues.get(3));
+        assertNull(replayContext.getForeignAttribute(FOREIGN));
+    }
+
+    @Test
+    public void testTextAdjustmentsAreCopied() throws Exception {
+        IFContext context = createContext();
+        IFPainterRecorder recorder = new IFPainterRecorder(context);
+        int[][] dp = new int[][] {{0, 0, 100, 0}, null};
+        recorder.drawText(0, 0, 0, 0, dp, "ab");
+        dp[0][2] = 200;
+        dp[1] = new int[] {1, 1, 1, 1};
+
+        IFContext replayContext = createContext();
+        recorder.replay(createPainter(replayContext), replayContext);
+        int[][] replayed = (int[][]) arguments.get(0)[4];
+        assertArrayEquals(new int[] {0, 0, 100, 0}, replayed[0]);
+        assertNull(replayed[1]);
+    }
+}
@@ -117,7 +117,7 @@ public class PSPainterTestCase {
     }
 
     @Test
-    public void testDrawText() {
+    public void testDrawText() throws IOException {
         int fontSize = 12000;
         String fontName = "MockFont";
         PSGenerator psGenerator = mock(PSGenerator.class);
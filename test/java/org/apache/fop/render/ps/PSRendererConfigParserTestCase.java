@@ -85,4 +85,14 @@ public class PSRendererConfigParserTestCase
         parseConfig(createRenderer().setOptimizeResources(configuredVal));
         assertEquals(configuredVal, conf.isOptimizeResources());
     }
+
+    @Test
+    public void testStreamResources() throws Exception {
+        boolean defaultVal = false;
+        boolean configuredVal = !defaultVal;
+        parseConfig(createRenderer());
+        assertEquals(defaultVal, conf.isStreamResources());
+        parseConfig(createRenderer().setStreamResources(configuredVal));
+        assertEquals(configuredVal, conf.isStreamResources());
+    }
 }
@@ -87,6 +87,18 @@ public class PSRendererConfiguratorTestCase extends
         assertFalse(psUtil.isOptimizeResources());
     }
 
+    @Test
+    public void testStreamResources() throws Exception {
+        parseConfig(createBuilder().setStreamResources(true));
+        assertTrue(psUtil.isStreamResources());
+
+        parseConfig(createBuilder().setStreamResources(false));
+        assertFalse(psUtil.isStreamResources());
+
+        parseConfig(createBuilder());
+        assertFalse(psUtil.isStreamResources());
+    }
+
     @Test
     public void testSafeSetPageDevice() throws Exception {
         parseConfig(createBuilder().setSafeSetPageDevice(true));
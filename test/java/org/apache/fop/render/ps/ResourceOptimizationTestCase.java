@@ -19,12 +19,22 @@
 
 package org.apache.fop.render.ps;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.transform.Transformer;
+import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.stream.StreamSource;
 
 import org.junit.Test;
 
@@ -41,6 +51,7 @@ import org.apache.xmlgraphics.ps.dsc.DSCException;
 import org.apache.xmlgraphics.ps.dsc.DSCListener;
 import org.apache.xmlgraphics.ps.dsc.DSCParser;
 import org.apache.xmlgraphics.ps.dsc.DefaultNestedDocumentHandler;
+import org.apache.xmlgraphics.ps.dsc.events.AbstractResourceDSCComment;
 import org.apache.xmlgraphics.ps.dsc.events.AbstractResourcesDSCComment;
 import org.apache.xmlgraphics.ps.dsc.events.DSCAtend;
 import org.apache.xmlgraphics.ps.dsc.events.DSCCommentBeginDocument;
@@ -50,8 +61,19 @@ import org.apache.xmlgraphics.ps.dsc.events.DSCCommentEndOfFile;
 import org.apache.xmlgraphics.ps.dsc.events.DSCCommentIncludeResource;
 import org.apache.xmlgraphics.ps.dsc.events.DSCCommentPage;
 import org.apache.xmlgraphics.ps.dsc.events.DSCCommentPages;
+import org.apache.xmlgraphics.ps.dsc.events.DSCEvent;
 
 import org.apache.fop.apps.FOUserAgent;
+import org.apache.fop.apps.Fop;
+import org.apache.fop.apps.FopConfBuilder;
+import org.apache.fop.apps.FopConfParser;
+import org.apache.fop.apps.FopFactory;
+import org.apache.fop.apps.MimeConstants;
+import org.apache.fop.apps.PSRendererConfBuilder;
+import org.apache.fop.fonts.CMapSegment;
+import org.apache.fop.fonts.truetype.FontFileReader;
+import org.apache.fop.fonts.truetype.OFFontLoader;
+import org.apache.fop.fonts.truetype.TTFFile;
 import org.apache.fop.render.intermediate.IFContext;
 
 /**
@@ -78,6 +100,129 @@ public class ResourceOptimizationTestCase extends AbstractPostScriptTest {
         verifyPostScriptFile(outputFile);
     }
 
+    /**
+     * Tests that resources written on first use are defined in the setup of the page that
+     * first uses them, and never inside the page content.
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testStreamedResourcesInPageSetup() throws Exception {
+        FOUserAgent ua = fopFactory.newFOUserAgent();
+        PSDocumentHandler handler = new PSDocumentHandler(new IFContext(ua));
+        handler.getPSUtil().setOptimizeResources(true);
+        handler.getPSUtil().setStreamResources(true);
+        ua.setDocumentHandlerOverride(handler);
+
+        File outputFile = renderFile(ua, "ps-resources.fo",
+                "-if-stream-l" + handler.getPSUtil().getLanguageLevel());
+        InputStream in = new java.io.BufferedInputStream(new java.io.FileInputStream(outputFile));
+        try {
+            DSCParser parser = new DSCParser(in);
+            parser.setCheckEOF(false);
+            List<Set<PSResource>> pageSetupResources = new ArrayList<Set<PSResource>>();
+            Set<PSResource> currentSetup = null;
+            boolean inPageContent = false;
+            while (parser.hasNext()) {
+                DSCEvent event = parser.nextEvent();
+                if (!event.isDSCComment()) {
+                    continue;
+                }
+                String name = event.asDSCComment().getName();
+                if (DSCConstants.BEGIN_PAGE_SETUP.equals(name)) {
+                    currentSetup = new java.util.HashSet<PSResource>();
+                    pageSetupResources.add(currentSetup);
+                } else if (DSCConstants.END_PAGE_SETUP.equals(name)) {
+                    currentSetup = null;
+                    inPageContent = true;
+                } else if (DSCConstants.PAGE_TRAILER.equals(name)) {
+                    inPageContent = false;
+                } else if (DSCConstants.BEGIN_RESOURCE.equals(name)) {
+                    PSResource res = ((AbstractResourceDSCComment) event.asDSCComment())
+                            .getResource();
+                    assertFalse("Resource " + res + " defined in the page content",
+                            inPageContent);
+                    if (currentSetup != null) {
+                        currentSetup.add(res);
+                    }
+                    //Skip the resource body
+                    gotoDSCComment(parser, DSCConstants.END_RESOURCE);
+                }
+            }
+            assertEquals(2, pageSetupResources.size());
+            PSResource form1 = new PSResource(PSResource.TYPE_FORM, "FOPForm:1");
+            PSResource form2 = new PSResource(PSResource.TYPE_FORM, "FOPForm:2");
+            //Both forms are first used on page 1, and not defined again on page 2
+            assertTrue(pageSetupResources.get(0).contains(form1));
+            assertTrue(pageSetupResources.get(0).contains(form2));
+            assertFalse(pageSetupResources.get(1).contains(form1));
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+    }
+
+    /**
+     * Tests that a font written on first use is embedded in full, so it holds the glyphs
+     * that are first used by later page-sequences.
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testStreamedFontEmbeddedInFull() throws Exception {
+        char lateChar = '\u03A9';
+        InputStream conf = new FopConfBuilder()
+                .setFontBaseURI("test/resources/fonts/ttf/")
+                .startRendererConfig(PSRendererConfBuilder.class)
+                    .setOptimizeResources(true)
+                    .setStreamResources(true)
+                    .startFontsConfig()
+                        .startFont(null, "DejaVuLGCSerif.ttf")
+                            .addTriplet("DejaVu LGC Serif", "normal", "normal")
+                        .endFont()
+                    .endFontConfig()
+                .endRendererConfig().build();
+        FopFactory factory = new FopConfParser(conf, new File(".").toURI())
+                .getFopFactoryBuilder().build();
+        StringBuilder fo = new StringBuilder("<fo:root xmlns:fo=\"http://www.w3.org/1999/XSL/Format\">"
+                + "<fo:layout-master-set><fo:simple-page-master master-name=\"page\""
+                + " page-width=\"3in\" page-height=\"2in\"><fo:region-body/>"
+                + "</fo:simple-page-master></fo:layout-master-set>");
+        String[] texts = {"abc", "def", "xyz " + lateChar};
+        for (String text : texts) {
+            fo.append("<fo:page-sequence master-reference=\"page\">"
+                    + "<fo:flow flow-name=\"xsl-region-body\" font-family=\"DejaVu LGC Serif\">"
+                    + "<fo:block>" + text + "</fo:block></fo:flow></fo:page-sequence>");
+        }
+        fo.append("</fo:root>");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Fop fop = factory.newFop(MimeConstants.MIME_POSTSCRIPT, factory.newFOUserAgent(), out);
+        Transformer transformer = tFactory.newTransformer();
+        transformer.transform(new StreamSource(new StringReader(fo.toString())),
+                new SAXResult(fop.getDefaultHandler()));
+
+        Matcher matcher = Pattern.compile("/CIDCount (\\d+) def").matcher(out.toString("US-ASCII"));
+        assertTrue(matcher.find());
+        int cidCount = Integer.parseInt(matcher.group(1));
+        assertFalse("Font defined more than once", matcher.find());
+        //The glyph first used on the last page-sequence is in the font defined on the first page
+        assertTrue(cidCount > getGlyphIndex(lateChar));
+    }
+
+    private static int getGlyphIndex(char c) throws IOException {
+        InputStream in = new java.io.FileInputStream("test/resources/fonts/ttf/DejaVuLGCSerif.ttf");
+        try {
+            FontFileReader reader = new FontFileReader(in);
+            TTFFile ttfFile = new TTFFile();
+            ttfFile.readFont(reader, OFFontLoader.readHeader(reader));
+            for (CMapSegment segment : ttfFile.getCMaps()) {
+                if (c >= segment.getUnicodeStart() && c <= segment.getUnicodeEnd()) {
+                    return segment.getGlyphStartIndex() + c - segment.getUnicodeStart();
+                }
+            }
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+        throw new IllegalArgumentException("No glyph for " + c);
+    }
+
     private void verifyPostScriptFile(File psFile) throws IOException, DSCException {
         InputStream in = new java.io.FileInputStream(psFile);
         in = new java.io.BufferedInputStream(in);
@@ -29,6 +29,8 @@ import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.apache.xmlgraphics.java2d.color.ColorSpaces;
@@ -169,6 +171,28 @@ public class ColorUtilTestCase {
         assertEquals(new Color(1.0f, 0.5f, 0.0f), colFallback);
     }
 
+    /**
+     * Tests that colors using ICC profiles are cached per FopFactory.
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testRGBICCCaching() throws Exception {
+        URI sRGBLoc = new URI("src/java/org/apache/fop/pdf/sRGB%20Color%20Space%20Profile.icm");
+        String colSpec = "fop-rgb-icc(0.0,1.0,0.0,sRGBAlt,"
+            + "\"" + sRGBLoc.toASCIIString() + "\",0.0,1.0,0.0)";
+        FopFactory otherFactory = FopFactory.newInstance(new File(".").toURI());
+
+        Color col = ColorUtil.parseColorString(fopFactory.newFOUserAgent(), colSpec);
+        assertSame(col, ColorUtil.parseColorString(fopFactory.newFOUserAgent(), colSpec));
+        Color otherCol = ColorUtil.parseColorString(otherFactory.newFOUserAgent(), colSpec);
+        assertNotSame(col, otherCol);
+        assertEquals(otherFactory.getColorSpaceCache().get("sRGBAlt", sRGBLoc.toASCIIString(),
+                RenderingIntent.AUTO), otherCol.getColorSpace());
+
+        //without a user agent, the profile can't be resolved
+        assertEquals(new Color(0, 255, 0), ColorUtil.parseColorString(null, colSpec));
+    }
+
     /**
      * Tests the cmyk() function.
      * @throws Exception if an error occurs
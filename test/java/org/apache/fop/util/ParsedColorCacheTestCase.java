@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+/* $Id$ */
+
+package org.apache.fop.util;
+
+import java.awt.Color;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests {@link ParsedColorCache}.
+ */
+public class ParsedColorCacheTestCase {
+
+    @Test
+    public void testGetAndPut() {
+        ParsedColorCache cache = new ParsedColorCache();
+        Color color = new Color(1, 2, 3);
+        assertNull(cache.get("rgb(1,2,3)"));
+        cache.put("rgb(1,2,3)", color);
+        assertSame(color, cache.get("rgb(1,2,3)"));
+        cache.put("rgb(1,2,3)", new Color(1, 2, 3));
+        assertSame(color, cache.get("rgb(1,2,3)"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+        ParsedColorCache cache = new ParsedColorCache(10);
+        for (int i = 0; i < 100; i++) {
+            Color color = new Color(i, i, i);
+            cache.put("rgb(" + i + "," + i + "," + i + ")", color);
+            assertSame(color, cache.get("rgb(" + i + "," + i + "," + i + ")"));
+        }
+        assertEquals(10, cache.size());
+    }
+}